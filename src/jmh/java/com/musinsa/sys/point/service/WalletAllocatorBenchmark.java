@@ -0,0 +1,146 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WalletAllocator 차감 / 복원 마이크로벤치마크
+ * <p>
+ * - walletCount : 회원 1명이 보유한 wallet 수
+ * - shape
+ * FRESH       : 거의 사용하지 않은 wallet (wallet 당 잔여 금액이 커서 소수 wallet 만 차감)
+ * MOSTLY_USED : 대부분 사용된 wallet (wallet 당 잔여 금액이 작아 많은 wallet 에 걸쳐 분할 차감)
+ * - 1회 요청 금액은 사용 가능 잔액(취소는 사용 금액)의 30%
+ * - 측정 간 상태 변화를 없애기 위해 매 호출 전 변경된 wallet 의 usedAmount 를 원복
+ * ./gradlew jmh -PjmhArgs="WalletAllocator -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WalletAllocatorBenchmark {
+
+    private static final long MEMBER_ID = 1L;
+    private static final long ISSUED_AMOUNT = 1_000L;
+
+    public enum Shape {FRESH, MOSTLY_USED}
+
+    @Param({"1", "10", "1000", "50000"})
+    private int walletCount;
+
+    @Param({"FRESH", "MOSTLY_USED"})
+    private Shape shape;
+
+    private List<PointWallet> usableWallets;
+    private List<PointWallet> cancelWallets;
+    private long[] originalUsedAmounts;
+    private long useAmount;
+    private long cancelAmount;
+    private LocalDateTime now;
+
+    private List<PointWallet> lastTouched = List.of();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        now = LocalDateTime.now().withNano(0);
+
+        // 사용 대상 : 수기지급 → 만료일 오름차순 (findUsableWallets 정렬)
+        usableWallets = new ArrayList<>(walletCount);
+        // 취소 대상 : 만료일 내림차순, 10% 는 만료 wallet (findCancelWallets 정렬)
+        cancelWallets = new ArrayList<>(walletCount);
+        originalUsedAmounts = new long[walletCount * 2];
+
+        long usableTotal = 0;
+        long usedTotal = 0;
+        for (int i = 0; i < walletCount; i++) {
+            long used = shape == Shape.FRESH
+                    ? random.nextLong(0, ISSUED_AMOUNT / 10)
+                    : ISSUED_AMOUNT - random.nextLong(1, ISSUED_AMOUNT / 20);
+            PointWallet usable = wallet(i, used, Val.NORMAL, today.plusDays(1 + i),
+                    i < walletCount / 10 ? WalletSourceType.MANUAL : WalletSourceType.AUTOMATIC);
+            usableWallets.add(usable);
+            usableTotal += ISSUED_AMOUNT - used;
+
+            long usedForCancel = shape == Shape.FRESH
+                    ? random.nextLong(1, ISSUED_AMOUNT / 10)
+                    : ISSUED_AMOUNT - random.nextLong(0, ISSUED_AMOUNT / 20);
+            boolean expired = i % 10 == 9;
+            PointWallet cancel = wallet(walletCount + i, usedForCancel, expired ? Val.EXPIRED : Val.NORMAL,
+                    expired ? today.minusDays(i) : today.plusDays(walletCount - i), WalletSourceType.AUTOMATIC);
+            cancelWallets.add(cancel);
+            usedTotal += usedForCancel;
+        }
+
+        for (PointWallet wallet : usableWallets) {
+            originalUsedAmounts[wallet.getWalletId().intValue()] = wallet.getUsedAmount();
+        }
+        for (PointWallet wallet : cancelWallets) {
+            originalUsedAmounts[wallet.getWalletId().intValue()] = wallet.getUsedAmount();
+        }
+
+        useAmount = Math.max(1, usableTotal * 3 / 10);
+        cancelAmount = Math.max(1, usedTotal * 3 / 10);
+    }
+
+    /**
+     * 직전 호출에서 변경된 wallet 원복 (재적립 wallet 은 버림)
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        for (PointWallet wallet : lastTouched) {
+            if (wallet.getWalletId() != null) {
+                wallet.setUsedAmount(originalUsedAmounts[wallet.getWalletId().intValue()]);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<PointWallet> allocate() {
+        lastTouched = WalletAllocator.allocate(usableWallets, useAmount);
+        return lastTouched;
+    }
+
+    @Benchmark
+    public List<PointWallet> restore() {
+        lastTouched = WalletAllocator.restore(cancelWallets, cancelAmount, MEMBER_ID, now);
+        return lastTouched;
+    }
+
+    private PointWallet wallet(long walletId, long usedAmount, String walletStatus, LocalDate expireDate,
+                               WalletSourceType sourceType) {
+        return PointWallet.builder()
+                .walletId(walletId)
+                .memberId(MEMBER_ID)
+                .issuedAmount(ISSUED_AMOUNT)
+                .usedAmount(usedAmount)
+                .walletStatus(walletStatus)
+                .expireDate(expireDate)
+                .sourceType(sourceType)
+                .createdAt(now)
+                .build();
+    }
+}
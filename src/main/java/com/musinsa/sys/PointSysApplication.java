@@ -2,7 +2,9 @@ package com.musinsa.sys;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = "com.musinsa.sys")
 public class PointSysApplication {
 	public static void main(String[] args) {
@@ -0,0 +1,48 @@
+package com.musinsa.sys.common.component;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * 엔티티 ID 할당 (Hibernate 시퀀스 generator 공유)
+ * <p>
+ * - JDBC batch 로 직접 INSERT 하는 경로도 엔티티 저장과 같은 pooled optimizer 에서 ID 를 받아 ID 공간을 공유
+ * - 대부분 메모리에서 할당하고 allocationSize 개마다 시퀀스를 1회 조회
+ * - 트랜잭션 중이면 해당 트랜잭션 커넥션으로 조회 (커넥션 추가 사용 없음)
+ * - 시퀀스를 지원하지 않는 DB(MySQL) 는 Hibernate 가 같은 이름의 테이블(next_val)로 대체
+ */
+@Component
+public class EntityIdAllocator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final DataSource dataSource;
+
+    public EntityIdAllocator(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.dataSource = dataSource;
+    }
+
+    public long[] allocate(Class<?> entityClass, int count) {
+        IdentifierGenerator generator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass).getGenerator();
+
+        long[] ids = new long[count];
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (StatelessSession session = sessionFactory.withStatelessOptions().connection(connection).openStatelessSession()) {
+            for (int i = 0; i < count; i++) {
+                ids[i] = ((Number) generator.generate((SharedSessionContractImplementor) session, null)).longValue();
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        return ids;
+    }
+}
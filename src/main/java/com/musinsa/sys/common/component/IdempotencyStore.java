@@ -0,0 +1,311 @@
+package com.musinsa.sys.common.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.sys.common.dto.IdempotencyRecord;
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.common.repository.IdempotencyKeyRepository;
+import com.musinsa.sys.common.util.DateUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 2단 저장소
+ * <p>
+ * - 1차 : 노드 내 LRU (완료된 키만 보관, DB 조회 없이 응답)
+ * - 2차 : idempotency_key 테이블 (다른 노드 / 재기동 이후 재요청, 처리중 키 선점)
+ * - 같은 키에 다른 요청(요청 해시 불일치)은 MP017, 처리중인 키는 MP016
+ * - 응답 보관(완료)은 업무 변경과 같은 트랜잭션에서 기록 (커밋 후 노드 장애 / 보관 실패로 같은 키가 재실행되지 않음)
+ * : 필터가 선점한 키를 요청 스레드에 연결(bind)하고, PointFacade / PointLedgerEngine 이 업무 트랜잭션 안에서 completeInTransaction 호출
+ * - 반영(A) / 완료(C) 키는 처리중 시간 초과로 회수하지 않음
+ * - TTL 이 지난 키는 주기적으로 삭제
+ * - 조회 결과별 건수(point.idempotency.requests, result 태그)로 hit ratio 확인
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final ThreadLocal<Claim> CURRENT_CLAIM = new ThreadLocal<>();
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final long ttlHours;
+    private final long inProgressTimeoutSeconds;
+    private final Map<String, IdempotencyRecord> localCache;
+
+    private final Counter localHits;
+    private final Counter dbHits;
+    private final Counter misses;
+    private final Counter inProgress;
+    private final Counter conflicts;
+
+    public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${point.idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${point.idempotency.in-progress-timeout-seconds:60}") long inProgressTimeoutSeconds,
+                            @Value("${point.idempotency.cache.max-entries:10000}") int maxEntries) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.ttlHours = ttlHours;
+        this.inProgressTimeoutSeconds = inProgressTimeoutSeconds;
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.localHits = requestCounter(meterRegistry, "local_hit");
+        this.dbHits = requestCounter(meterRegistry, "db_hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.inProgress = requestCounter(meterRegistry, "in_progress");
+        this.conflicts = requestCounter(meterRegistry, "conflict");
+        meterRegistry.gauge("point.idempotency.local.size", localCache, cache -> {
+            synchronized (cache) {
+                return cache.size();
+            }
+        });
+    }
+
+    /**
+     * 키 선점 또는 이전 응답 조회
+     *
+     * @return 완료된 이전 응답 (재응답 대상), 새로 선점했으면 null
+     */
+    public IdempotencyRecord begin(String idemKey, String requestHash) {
+        LocalDateTime now = DateUtil.getLocalDateTimeWithNano();
+
+        IdempotencyRecord cached = getLocal(idemKey, now);
+        if (cached != null) {
+            verifySameRequest(cached, requestHash);
+            localHits.increment();
+            return cached;
+        }
+
+        // 만료 / 처리중 시간 초과 키를 회수한 경우 1회 재시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (idempotencyKeyRepository.claim(idemKey, requestHash, now, now.plusHours(ttlHours))) {
+                misses.increment();
+                return null;
+            }
+
+            Optional<IdempotencyRecord> found = idempotencyKeyRepository.findByKey(idemKey);
+            if (found.isEmpty()) continue; // 선점 실패 직후 해제된 경우
+
+            IdempotencyRecord record = found.get();
+            if (record.isExpired(now) || isAbandoned(record, now)) {
+                idempotencyKeyRepository.deleteIfUnchanged(record);
+                continue;
+            }
+
+            verifySameRequest(record, requestHash);
+            if (!record.isCompleted()) {
+                inProgress.increment();
+                throw new ServiceException(ProcessCode.MP016.getProcCd());
+            }
+
+            putLocal(record);
+            dbHits.increment();
+            return record;
+        }
+
+        inProgress.increment();
+        throw new ServiceException(ProcessCode.MP016.getProcCd());
+    }
+
+    /**
+     * 선점한 키를 현재 요청 스레드에 연결 (요청 종료 시 unbind)
+     */
+    public Claim bind(String idemKey, String requestHash) {
+        Claim claim = new Claim(idemKey, requestHash);
+        CURRENT_CLAIM.set(claim);
+        return claim;
+    }
+
+    public void unbind() {
+        CURRENT_CLAIM.remove();
+    }
+
+    /**
+     * 현재 요청 스레드에 연결된 키 (Idempotency-Key 가 없는 요청은 null)
+     */
+    public Claim currentClaim() {
+        return CURRENT_CLAIM.get();
+    }
+
+    /**
+     * 업무 트랜잭션 안에서 정상 응답(ProcessResult MP000) 보관
+     * <p>
+     * - 업무 변경과 함께 커밋되며, 롤백되면 키는 처리중(P) 그대로 남아 필터가 해제
+     * - 커밋 후 노드 LRU 에 보관
+     *
+     * @param claim null 이면 무시
+     */
+    public void completeInTransaction(Claim claim, Object result) {
+        if (claim == null) return;
+
+        String responseBody;
+        try {
+            responseBody = objectMapper.writeValueAsString(new ProcessResult<>(result, ProcessCode.MP000.getProcCd()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("idempotency response serialization failed : " + claim.getIdemKey(), e);
+        }
+        int httpStatus = HttpStatus.OK.value();
+        idempotencyKeyRepository.complete(claim.getIdemKey(), httpStatus, responseBody);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                claim.committed = true;
+                claim.completed = true;
+                LocalDateTime now = DateUtil.getLocalDateTimeWithNano();
+                putLocal(new IdempotencyRecord(claim.getIdemKey(), claim.getRequestHash(), IdempotencyRecord.COMPLETED,
+                        httpStatus, responseBody, now, now.plusHours(ttlHours)));
+            }
+        });
+    }
+
+    /**
+     * 업무 트랜잭션 안에서 반영(A) 표시 (여러 트랜잭션으로 나누어 커밋하는 대량 적립)
+     * <p>
+     * - 커밋 후에는 키를 해제 / 회수하지 않으며, 응답은 요청 종료 시 complete 로 보관
+     *
+     * @param claim null 이면 무시
+     */
+    public void markAppliedInTransaction(Claim claim) {
+        if (claim == null) return;
+
+        idempotencyKeyRepository.markApplied(claim.getIdemKey());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                claim.committed = true;
+            }
+        });
+    }
+
+    /**
+     * 처리 완료 → 응답 보관 (업무 트랜잭션 밖, 반영(A) 키의 응답 보관)
+     */
+    public void complete(String idemKey, String requestHash, int httpStatus, String responseBody) {
+        idempotencyKeyRepository.complete(idemKey, httpStatus, responseBody);
+
+        LocalDateTime now = DateUtil.getLocalDateTimeWithNano();
+        putLocal(new IdempotencyRecord(idemKey, requestHash, IdempotencyRecord.COMPLETED, httpStatus, responseBody,
+                now, now.plusHours(ttlHours)));
+    }
+
+    /**
+     * 처리 실패 → 선점 해제 (같은 키로 재시도 가능, 처리중(P) 키만 삭제)
+     */
+    public void release(String idemKey) {
+        idempotencyKeyRepository.release(idemKey);
+    }
+
+    @Scheduled(fixedDelayString = "${point.idempotency.cleanup-interval-ms:600000}")
+    public void deleteExpired() {
+        LocalDateTime now = DateUtil.getLocalDateTimeWithNano();
+        int deleted = idempotencyKeyRepository.deleteExpired(now);
+        synchronized (localCache) {
+            localCache.values().removeIf(record -> record.isExpired(now));
+        }
+        if (deleted > 0) {
+            log.info("idempotency keys expired : {}", deleted);
+        }
+    }
+
+    private void verifySameRequest(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            conflicts.increment();
+            throw new ServiceException(ProcessCode.MP017.getProcCd());
+        }
+    }
+
+    // 처리중 상태로 제한 시간을 넘긴 키 (처리 노드 장애 등, 업무 변경이 커밋되지 않은 키)
+    private boolean isAbandoned(IdempotencyRecord record, LocalDateTime now) {
+        return record.isInProgress() && record.getCreatedAt().plusSeconds(inProgressTimeoutSeconds).isBefore(now);
+    }
+
+    private IdempotencyRecord getLocal(String idemKey, LocalDateTime now) {
+        synchronized (localCache) {
+            IdempotencyRecord record = localCache.get(idemKey);
+            if (record != null && record.isExpired(now)) {
+                localCache.remove(idemKey);
+                return null;
+            }
+            return record;
+        }
+    }
+
+    private void putLocal(IdempotencyRecord record) {
+        synchronized (localCache) {
+            localCache.put(record.getIdemKey(), record);
+        }
+    }
+
+    /**
+     * 요청 스레드에 연결된 키
+     * <p>
+     * - committed : 업무 변경이 커밋됨 (해제 금지)
+     * - completed : 응답까지 업무 트랜잭션에서 보관됨 (필터의 complete 생략)
+     * - unresolved : 응답 대기를 중단해 커밋 여부를 알 수 없음 (해제 금지, 처리중 제한 시간 후 회수)
+     */
+    public static final class Claim {
+        private final String idemKey;
+        private final String requestHash;
+        private volatile boolean committed;
+        private volatile boolean completed;
+        private volatile boolean unresolved;
+
+        private Claim(String idemKey, String requestHash) {
+            this.idemKey = idemKey;
+            this.requestHash = requestHash;
+        }
+
+        public String getIdemKey() {
+            return idemKey;
+        }
+
+        public String getRequestHash() {
+            return requestHash;
+        }
+
+        public boolean isCommitted() {
+            return committed;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        public boolean isUnresolved() {
+            return unresolved;
+        }
+
+        public void markUnresolved() {
+            this.unresolved = true;
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("point.idempotency.requests")
+                .description("Idempotency-Key 요청 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.musinsa.sys.common.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업무 거절(ServiceException) 로그 (초당 건수 제한)
+ * <p>
+ * - 거절 1건당 한 줄 (procCd / method / uri), stack trace 없음
+ * - 초당 permits-per-second 건까지만 기록하고 나머지는 다음 구간 첫 로그에 생략 건수로 남김
+ * - 전체 거절 건수는 point.rejected 메트릭으로 확인
+ */
+@Slf4j
+@Component
+public class RejectionLogger {
+
+    private final int permitsPerSecond;
+    private final Clock clock;
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    @Autowired
+    public RejectionLogger(@Value("${point.rejection-log.permits-per-second:10}") int permitsPerSecond) {
+        this(permitsPerSecond, Clock.systemDefaultZone());
+    }
+
+    RejectionLogger(int permitsPerSecond, Clock clock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.clock = clock;
+    }
+
+    public void log(String procCd, String method, String uri) {
+        long current = clock.millis() / 1000;
+        long previous = window.get();
+        if (current != previous && window.compareAndSet(previous, current)) {
+            logged.set(0);
+            long skipped = suppressed.getAndSet(0);
+            if (skipped > 0) {
+                log.info("rejected logs suppressed={}", skipped);
+            }
+        }
+
+        if (logged.incrementAndGet() <= permitsPerSecond) {
+            log.info("rejected procCd={} method={} uri={}", procCd, method, uri);
+        } else {
+            suppressed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.musinsa.sys.common.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual Thread pinning 진단
+ * <p>
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독하여 threshold 이상 carrier thread 를 점유한 경우 기록
+ * - synchronized 블록 / native 호출 안에서 blocking(I/O, Lock 대기)이 일어나는 경로를 찾기 위한 용도
+ * - 발생 위치(상위 stack frame)를 로그로 남기고 jvm.virtual.pinned 카운터 증가
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final boolean enabled;
+    private final long thresholdMillis;
+    private final Counter pinned;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${point.virtual-thread.pinning-monitor.enabled:false}") boolean enabled,
+                                       @Value("${point.virtual-thread.pinning-monitor.threshold-ms:20}") long thresholdMillis) {
+        this.enabled = enabled;
+        this.thresholdMillis = thresholdMillis;
+        this.pinned = Counter.builder("jvm.virtual.pinned")
+                .description("threshold 이상 carrier thread 를 점유한 Virtual Thread pinning 건수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.startAsync();
+        log.info("virtual thread pinning monitor started (threshold {}ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        log.warn("virtual thread pinned {}ms\n{}", event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "    (no stack trace)";
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
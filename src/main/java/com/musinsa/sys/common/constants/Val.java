@@ -8,4 +8,5 @@ public class Val {
     public static String NORMAL = "00";
     public static String CANCEL = "10";
     public static String EXPIRED = "20";
+    public static String MERGED = "30";
 }
@@ -0,0 +1,36 @@
+package com.musinsa.sys.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DataSource 라우팅 지정
+ * <p>
+ * - 기본은 트랜잭션 readOnly 여부로 결정 (readOnly → replica, 그 외 / 트랜잭션 밖 → primary)
+ * - usePrimary 안에서 시작한 readOnly 트랜잭션도 primary 로 보냄 (read-your-writes)
+ * - 커넥션은 첫 SQL 실행 시점에 결정되므로 트랜잭션 시작 전에 호출해야 함
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.musinsa.sys.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외는 primary 커넥션을 반환
+ * <p>
+ * - 트랜잭션 매니저는 readOnly 표시 전에 커넥션을 요청하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (실제 커넥션은 첫 SQL 실행 시점에 결정)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentTarget();
+    }
+
+    public static Target currentTarget() {
+        if (!DataSourceRouting.isPrimaryForced() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
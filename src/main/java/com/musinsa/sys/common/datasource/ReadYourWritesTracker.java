@@ -0,0 +1,66 @@
+package com.musinsa.sys.common.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회원 단위 read-your-writes (replica 사용 시)
+ * <p>
+ * - 회원 거래 커밋 후 sticky-ms 동안 해당 회원의 조회는 primary 로 보내 replica 복제 지연으로 이전 값이 보이지 않도록 함
+ * - 노드 로컬 기록이므로 같은 회원의 요청이 다른 노드로 가면 적용되지 않음 (sticky-ms 는 replica 지연보다 길게)
+ * - 기록이 max-entries 에 도달하면 만료된 기록을 정리하고, 그래도 가득 차면 전체 비움
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final boolean enabled;
+    private final long stickyNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${point.datasource.replica.enabled:false}") boolean replicaEnabled,
+                                 @Value("${point.datasource.replica.sticky-ms:1000}") long stickyMillis,
+                                 @Value("${point.datasource.replica.sticky-max-entries:100000}") int maxEntries) {
+        this.enabled = replicaEnabled && stickyMillis > 0;
+        this.stickyNanos = stickyMillis * 1_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 회원 거래 커밋 후 호출
+     */
+    public void markWritten(Long memberId) {
+        if (!enabled) return;
+
+        long now = System.nanoTime();
+        if (stickyUntil.size() >= maxEntries) {
+            stickyUntil.values().removeIf(until -> until - now <= 0);
+            if (stickyUntil.size() >= maxEntries) {
+                stickyUntil.clear();
+            }
+        }
+        stickyUntil.put(memberId, now + stickyNanos);
+    }
+
+    /**
+     * 회원 조회 실행 (최근 쓰기가 있으면 primary 에서)
+     */
+    public <T> T read(Long memberId, Supplier<T> reader) {
+        if (!enabled) {
+            return reader.get();
+        }
+
+        Long until = stickyUntil.get(memberId);
+        if (until == null) {
+            return reader.get();
+        }
+        if (until - System.nanoTime() <= 0) {
+            stickyUntil.remove(memberId, until);
+            return reader.get();
+        }
+        return DataSourceRouting.usePrimary(reader);
+    }
+}
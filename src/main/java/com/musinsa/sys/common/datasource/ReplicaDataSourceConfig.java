@@ -0,0 +1,76 @@
+package com.musinsa.sys.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * primary / replica DataSource 라우팅 (point.datasource.replica.enabled=true 일 때만)
+ * <p>
+ * - primary : spring.datasource.* / spring.datasource.hikari.* 그대로 사용 (쓰기, 트랜잭션 밖 조회, 배치)
+ * - replica : point.datasource.replica.* / point.datasource.replica.hikari.* 로 별도 커넥션 풀 구성
+ * - @Transactional(readOnly = true) 경로만 replica 로 보내고, 두 풀은 각각 Bean 으로 등록되어 Hikari 메트릭 / 종료 처리됨
+ * - 로컬에서는 schema-locations 로 별도 H2 를 replica 로 초기화 (복제 없음 → replica 에는 이후 쓰기가 반영되지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "point.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("point.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${point.datasource.replica.url}") String url,
+                                              @Value("${point.datasource.replica.username:}") String username,
+                                              @Value("${point.datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    /**
+     * 라우팅 DataSource (JPA / JdbcTemplate / spring.sql.init 이 사용하는 기본 DataSource)
+     * <p>
+     * - replica 초기화 스크립트는 풀 설정이 바인딩된 뒤 실행
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 @Value("${point.datasource.replica.schema-locations:}") String[] schemaLocations) {
+        String[] locations = Arrays.stream(schemaLocations).map(String::trim).filter(location -> !location.isEmpty())
+                .toArray(String[]::new);
+        if (locations.length > 0) {
+            ResourceLoader resourceLoader = new DefaultResourceLoader();
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+            populator.setSqlScriptEncoding("UTF-8");
+            for (String location : locations) {
+                populator.addScript(resourceLoader.getResource(location));
+            }
+            DatabasePopulatorUtils.execute(populator, replicaDataSource);
+        }
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+}
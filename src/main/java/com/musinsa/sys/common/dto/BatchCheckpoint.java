@@ -0,0 +1,35 @@
+package com.musinsa.sys.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 배치 재시작 지점
+ * <p>
+ * - (lastKeyDate, lastKeyId) 이후부터 keyset 으로 이어서 처리
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCheckpoint {
+
+    public static final String RUNNING = "R";
+    public static final String COMPLETED = "C";
+
+    private String jobName;
+    private String runStatus;
+    private LocalDate lastKeyDate;
+    private Long lastKeyId;
+    private long processedCount;
+
+    public static BatchCheckpoint start(String jobName) {
+        return new BatchCheckpoint(jobName, RUNNING, null, null, 0L);
+    }
+
+    public boolean isRunning() {
+        return RUNNING.equals(runStatus);
+    }
+}
@@ -0,0 +1,44 @@
+package com.musinsa.sys.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록
+ * <p>
+ * - 처리중(P) : 최초 요청이 처리 중 (업무 변경 커밋 전)
+ * - 반영(A)   : 업무 변경 일부가 커밋되었고 응답은 아직 보관 전 (대량 적립 chunk 커밋), 회수하지 않음
+ * - 완료(C)   : 최초 요청의 응답(ProcessResult JSON)을 보관, 같은 키 재요청 시 그대로 응답
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public static final String IN_PROGRESS = "P";
+    public static final String APPLIED = "A";
+    public static final String COMPLETED = "C";
+
+    private String idemKey;
+    private String requestHash;
+    private String keyStatus;
+    private Integer httpStatus;
+    private String responseBody;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+
+    public boolean isInProgress() {
+        return IN_PROGRESS.equals(keyStatus);
+    }
+
+    public boolean isCompleted() {
+        return COMPLETED.equals(keyStatus);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
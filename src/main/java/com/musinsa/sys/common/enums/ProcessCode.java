@@ -19,6 +19,10 @@ public enum ProcessCode {
     MP011("fail", "MP011", "지급 유형 코드가 잘못되었습니다."),
     MP012("fail", "MP012", "취소할 거래가 없습니다."),
     MP013("fail", "MP013", "사용승인 금액보다 사용취소 금액이 더 큽니다."),
+    MP014("fail", "MP014", "포인트 정책 정보가 존재하지 않습니다."),
+    MP015("fail", "MP015", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    MP016("fail", "MP016", "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    MP017("fail", "MP017", "같은 Idempotency-Key 로 다른 요청이 전달되었습니다."),
     MP998("fail", "MP998", "요청 파라미터가 유효하지 않습니다."),
     MP999("fail", "MP999", "새로운 에러를 발견하셨어요. 고객센터로 연락해주세요"),
 
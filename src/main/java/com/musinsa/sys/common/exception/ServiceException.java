@@ -2,12 +2,19 @@ package com.musinsa.sys.common.exception;
 
 import lombok.Getter;
 
+/**
+ * 업무 거절 (결과 코드 procCd 로 응답)
+ * <p>
+ * - 정상 흐름의 일부이므로 stack trace 를 만들지 않음 (message = procCd)
+ * - 원인 예외가 있는 장애는 ServiceException 으로 감싸지 않고 그대로 전파
+ */
 @Getter
 public class ServiceException extends RuntimeException {
 
     private final String procCd;
 
     public ServiceException(String inProcCd) {
+        super(inProcCd, null, false, false);
         this.procCd = inProcCd;
     }
 }
@@ -0,0 +1,117 @@
+package com.musinsa.sys.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 커넥션 수 기준 동시 처리 제한
+ * <p>
+ * - Virtual Thread 모드에서는 요청 스레드 수 제한이 없어 커넥션 풀 대기(Hikari)로 몰리므로
+ * 커넥션 풀 크기만큼만 동시에 처리하고 나머지는 Semaphore 에서 대기 (커넥션 미점유)
+ * - 허용 수 = Hikari maximum-pool-size - reserved-connections
+ * (주문번호 임대 REQUIRES_NEW 트랜잭션, 만료 배치 등이 사용할 커넥션을 남겨둠)
+ * - 대기 시간 초과 시 MP015 (HTTP 503)
+ * - 수 분간 동기로 실행되는 배치 수동 실행(replay / 대사 / wallet 병합)은 제한 제외
+ * (실행 내내 허용 1개를 점유하면서 자체 worker 커넥션으로 제한 뒤 요청의 커넥션까지 가져가지 않도록, 배치 동시 실행은 각 job 이 막음)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> JOB_PATHS = List.of(
+            "/admin/point/replay",
+            "/admin/point/reconciliation",
+            "/admin/point/wallet-compaction");
+
+    private final boolean enabled;
+    private final long waitMillis;
+    private final int permits;
+    private final Semaphore semaphore;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${point.concurrency-limit.enabled:false}") boolean enabled,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                  @Value("${point.concurrency-limit.reserved-connections:2}") int reservedConnections,
+                                  @Value("${point.concurrency-limit.wait-ms:3000}") long waitMillis) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.waitMillis = waitMillis;
+        this.permits = Math.max(1, maximumPoolSize - reservedConnections);
+        this.semaphore = new Semaphore(permits, true);
+        this.rejected = Counter.builder("point.concurrency.rejected")
+                .description("동시 처리 제한 대기 시간 초과 건수")
+                .register(meterRegistry);
+        meterRegistry.gauge("point.concurrency.active", semaphore, s -> permits - s.availablePermits());
+        meterRegistry.gauge("point.concurrency.waiting", semaphore, Semaphore::getQueueLength);
+
+        if (enabled) {
+            log.info("concurrency limit enabled : {} permits (pool {}, reserved {})", permits, maximumPoolSize, reservedConnections);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !enabled || !(path.startsWith("/point/") || path.startsWith("/admin/")) || isJobPath(path);
+    }
+
+    private static boolean isJobPath(String path) {
+        for (String jobPath : JOB_PATHS) {
+            if (path.equals(jobPath) || path.startsWith(jobPath + "/")) return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), new ProcessResult<>(null, ProcessCode.MP015.getProcCd()));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.musinsa.sys.common.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.sys.common.component.IdempotencyStore;
+import com.musinsa.sys.common.dto.IdempotencyRecord;
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 포인트 변경 API Idempotency-Key 처리
+ * <p>
+ * - /point/** POST 요청에 Idempotency-Key 헤더가 있으면 적용 (헤더가 없으면 기존과 동일하게 처리)
+ * - 같은 키 재요청은 최초 응답(ProcessResult)을 그대로 응답하며 서비스(회원 Lock, 로그 기록)를 다시 타지 않음
+ * - 정상 처리(MP000)된 응답만 보관, 실패 시 키를 해제하여 같은 키로 재시도 가능
+ * - 응답은 업무 트랜잭션 안에서 보관 (IdempotencyStore.completeInTransaction), 업무 변경이 커밋된 키는 해제하지 않음
+ * - 여러 트랜잭션으로 커밋하는 대량 적립은 반영(A) 표시 후 요청 종료 시 응답 보관
+ * - 요청 해시 = method + URI + body (같은 키에 다른 요청이면 MP017)
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             ObjectMapper objectMapper,
+                             @Value("${point.idempotency.enabled:true}") boolean enabled) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/point/")
+                || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String idemKey = request.getHeader(HEADER).trim();
+        if (idemKey.isEmpty() || idemKey.length() > MAX_KEY_LENGTH) {
+            writeResult(response, HttpStatus.BAD_REQUEST, ProcessCode.MP998.getProcCd());
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String requestHash = hash(request, body);
+
+        IdempotencyRecord previous;
+        try {
+            previous = idempotencyStore.begin(idemKey, requestHash);
+        } catch (ServiceException e) {
+            writeResult(response, HttpStatus.CONFLICT, e.getProcCd());
+            return;
+        }
+
+        if (previous != null) {
+            response.setStatus(previous.getHttpStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.getOutputStream().write(previous.getResponseBody().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        IdempotencyStore.Claim claim = idempotencyStore.bind(idemKey, requestHash);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+
+            completed = claim.isCompleted();
+            String responseBody = new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+            if (!completed && responseWrapper.getStatus() == HttpStatus.OK.value() && isSuccess(responseBody)) {
+                completeApplied(claim, responseWrapper.getStatus(), responseBody);
+                completed = true;
+            }
+        } finally {
+            idempotencyStore.unbind();
+            // 업무 변경이 커밋되었거나 커밋 여부를 알 수 없는 키는 해제하지 않음 (재요청 시 재실행 방지)
+            if (!completed && !claim.isCommitted() && !claim.isUnresolved()) {
+                idempotencyStore.release(idemKey);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 업무 트랜잭션 밖에서 응답 보관 (반영(A) 키)
+     * <p>
+     * - 업무 변경은 이미 커밋되었으므로 보관에 실패해도 응답은 그대로 전달 (키는 반영 상태로 남아 재요청은 MP016)
+     */
+    private void completeApplied(IdempotencyStore.Claim claim, int httpStatus, String responseBody) {
+        try {
+            idempotencyStore.complete(claim.getIdemKey(), claim.getRequestHash(), httpStatus, responseBody);
+        } catch (RuntimeException e) {
+            if (!claim.isCommitted()) throw e;
+            log.error("idempotency response store failed after commit : {}", claim.getIdemKey(), e);
+        }
+    }
+
+    private boolean isSuccess(String responseBody) {
+        try {
+            JsonNode result = objectMapper.readTree(responseBody);
+            return ProcessCode.MP000.getProcCd().equals(result.path("rsltCd").asText());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void writeResult(HttpServletResponse response, HttpStatus status, String procCd) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ProcessResult<>(null, procCd));
+    }
+
+    private static String hash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 해시 계산을 위해 먼저 읽은 body 를 컨트롤러에 다시 제공
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 모두 읽어 두었으므로 바로 읽기 가능 / 읽기 완료를 차례로 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.musinsa.sys.common.handler;
 
+import com.musinsa.sys.common.component.RejectionLogger;
 import com.musinsa.sys.common.dto.ProcessResult;
 import com.musinsa.sys.common.enums.ProcessCode;
 import com.musinsa.sys.common.exception.ServiceException;
 import com.musinsa.sys.common.util.StringUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,8 +18,11 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final RejectionLogger rejectionLogger;
+
     //@Valid를 통해 발견된 MethodArgumentNotValidException 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProcessResult<?> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -29,10 +35,10 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>("리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
     }
 
-    // ServiceException 처리
+    // ServiceException 처리 (업무 거절 : stack trace 없이 초당 건수 제한 로그)
     @ExceptionHandler(ServiceException.class)
-    public ResponseEntity<?> handleException(ServiceException ex) {
-        log.info(StringUtil.getStackTraceToString(ex));
+    public ResponseEntity<?> handleException(ServiceException ex, HttpServletRequest request) {
+        rejectionLogger.log(ex.getProcCd(), request.getMethod(), request.getRequestURI());
         return new ResponseEntity<>(new ProcessResult<>(null, ex.getProcCd()), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -0,0 +1,62 @@
+package com.musinsa.sys.common.repository;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<BatchCheckpoint> findByJobName(String jobName) {
+        List<BatchCheckpoint> checkpoints = jdbcTemplate.query("""
+                        SELECT job_name, run_status, last_key_date, last_key_id, processed_count
+                        FROM batch_checkpoint
+                        WHERE job_name = ?
+                        """,
+                (rs, rowNum) -> {
+                    Date lastKeyDate = rs.getDate("last_key_date");
+                    long lastKeyId = rs.getLong("last_key_id");
+                    return new BatchCheckpoint(
+                            rs.getString("job_name"),
+                            rs.getString("run_status"),
+                            lastKeyDate == null ? null : lastKeyDate.toLocalDate(),
+                            rs.wasNull() ? null : lastKeyId,
+                            rs.getLong("processed_count"));
+                },
+                jobName);
+        return checkpoints.stream().findFirst();
+    }
+
+    public void save(BatchCheckpoint checkpoint) {
+        LocalDate lastKeyDate = checkpoint.getLastKeyDate();
+        Object[] params = {
+                checkpoint.getRunStatus(),
+                lastKeyDate == null ? null : Date.valueOf(lastKeyDate),
+                checkpoint.getLastKeyId(),
+                checkpoint.getProcessedCount(),
+                checkpoint.getJobName()
+        };
+
+        int updated = jdbcTemplate.update("""
+                UPDATE batch_checkpoint
+                SET run_status = ?, last_key_date = ?, last_key_id = ?, processed_count = ?, updated_at = CURRENT_TIMESTAMP
+                WHERE job_name = ?
+                """, params);
+
+        if (updated == 0) {
+            jdbcTemplate.update("""
+                    INSERT INTO batch_checkpoint (run_status, last_key_date, last_key_id, processed_count, updated_at, job_name)
+                    VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, ?)
+                    """, params);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.musinsa.sys.common.repository;
+
+import com.musinsa.sys.common.dto.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 저장소 (idempotency_key)
+ * <p>
+ * - 선점 / 해제 / 회수는 서비스 트랜잭션과 별개로 즉시 커밋 (다른 노드에서 바로 보이도록)
+ * - 완료 / 반영 표시는 호출한 업무 트랜잭션에 참여 (업무 변경과 함께 커밋 / 롤백)
+ * - 키 선점은 PK INSERT 성공 여부로 판단
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리중(P) 상태로 키 선점
+     *
+     * @return 선점 성공 여부 (이미 키가 있으면 false)
+     */
+    public boolean claim(String idemKey, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update("""
+                            INSERT INTO idempotency_key (idem_key, request_hash, key_status, created_at, expires_at)
+                            VALUES (?, ?, ?, ?, ?)
+                            """,
+                    idemKey, requestHash, IdempotencyRecord.IN_PROGRESS, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<IdempotencyRecord> findByKey(String idemKey) {
+        List<IdempotencyRecord> records = jdbcTemplate.query("""
+                        SELECT idem_key, request_hash, key_status, http_status, response_body, created_at, expires_at
+                        FROM idempotency_key
+                        WHERE idem_key = ?
+                        """,
+                (rs, rowNum) -> {
+                    int httpStatus = rs.getInt("http_status");
+                    return new IdempotencyRecord(
+                            rs.getString("idem_key"),
+                            rs.getString("request_hash"),
+                            rs.getString("key_status"),
+                            rs.wasNull() ? null : httpStatus,
+                            rs.getString("response_body"),
+                            rs.getTimestamp("created_at").toLocalDateTime(),
+                            rs.getTimestamp("expires_at").toLocalDateTime());
+                },
+                idemKey);
+        return records.stream().findFirst();
+    }
+
+    /**
+     * 완료(C) 처리 + 응답 보관
+     */
+    public void complete(String idemKey, int httpStatus, String responseBody) {
+        jdbcTemplate.update("""
+                        UPDATE idempotency_key
+                        SET key_status = ?, http_status = ?, response_body = ?
+                        WHERE idem_key = ?
+                        """,
+                IdempotencyRecord.COMPLETED, httpStatus, responseBody, idemKey);
+    }
+
+    /**
+     * 반영(A) 처리 (업무 변경 일부 커밋, 응답 보관 전)
+     */
+    public void markApplied(String idemKey) {
+        jdbcTemplate.update("UPDATE idempotency_key SET key_status = ? WHERE idem_key = ? AND key_status = ?",
+                IdempotencyRecord.APPLIED, idemKey, IdempotencyRecord.IN_PROGRESS);
+    }
+
+    /**
+     * 선점 해제 (처리 실패 시 같은 키로 재시도 가능하도록)
+     */
+    public void release(String idemKey) {
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE idem_key = ? AND key_status = ?",
+                idemKey, IdempotencyRecord.IN_PROGRESS);
+    }
+
+    /**
+     * 조회한 기록이 그대로일 때만 삭제 (만료 / 처리중 시간 초과 키 회수)
+     */
+    public boolean deleteIfUnchanged(IdempotencyRecord record) {
+        return jdbcTemplate.update("DELETE FROM idempotency_key WHERE idem_key = ? AND key_status = ? AND created_at = ?",
+                record.getIdemKey(), record.getKeyStatus(), Timestamp.valueOf(record.getCreatedAt())) > 0;
+    }
+
+    /**
+     * TTL 이 지난 키 삭제
+     *
+     * @return 삭제 건수
+     */
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update("DELETE FROM idempotency_key WHERE expires_at <= ?", Timestamp.valueOf(now));
+    }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 @Slf4j
@@ -13,6 +14,14 @@ public class DateUtil {
     public static LocalDateTime getLocalDateTimeWithNano() {
         return LocalDateTime.now().withNano(0);
     }
+
+    /**
+     * 마이크로초 단위 현재 시각 (point_log.created_at : 같은 회원 로그의 처리 순서 기준)
+     */
+    public static LocalDateTime getLocalDateTimeWithMicro() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     public static LocalDate resolveExpireDate(
             LocalDate expireDate,
             LocalDateTime logAt
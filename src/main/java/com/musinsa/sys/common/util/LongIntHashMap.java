@@ -0,0 +1,84 @@
+package com.musinsa.sys.common.util;
+
+import java.util.Arrays;
+
+/**
+ * long → int Open Addressing Hash Map (선형 탐사)
+ * <p>
+ * - Long / Integer boxing, Entry 객체 없이 배열 2개로 저장 (대량 재계산용 인덱스)
+ * - 키 0 은 빈 슬롯 표시로 사용하므로 저장 불가 (회원 / wallet ID 는 1 부터 시작)
+ * - 삭제 미지원, 스레드 안전하지 않음
+ */
+public final class LongIntHashMap {
+
+    public static final int NO_VALUE = -1;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int threshold;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * @return 없으면 NO_VALUE
+     */
+    public int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) return values[slot];
+            if (current == 0) return NO_VALUE;
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key == 0) throw new IllegalArgumentException("key 0 is reserved");
+
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                values[slot] = value;
+                return;
+            }
+            if (current == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size > threshold) rehash();
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) put(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
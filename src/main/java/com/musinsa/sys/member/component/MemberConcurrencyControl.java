@@ -0,0 +1,82 @@
+package com.musinsa.sys.member.component;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 회원 잔액 갱신 동시성 제어 방식
+ * <p>
+ * - pessimistic : 회원 Row Lock(SELECT FOR UPDATE) 으로 직렬화, 재시도 없음
+ * - optimistic  : Lock 없이 조회하고 커밋 시 member.version 비교, 충돌하면 트랜잭션 전체를 재시도
+ * - 모든 포인트 거래는 회원 잔액을 바꾸므로 version 이 증가하고, wallet 변경도 같은 트랜잭션에서 함께 롤백됨
+ * - 재시도 대기는 min(max-backoff, backoff * 2^(n-1)) 범위의 무작위 값 (full jitter)
+ */
+@Component
+public class MemberConcurrencyControl {
+
+    public enum Mode {
+        PESSIMISTIC,
+        OPTIMISTIC
+    }
+
+    private final Mode mode;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    public MemberConcurrencyControl(@Value("${point.member-concurrency.mode:pessimistic}") String mode,
+                                    @Value("${point.member-concurrency.max-attempts:5}") int maxAttempts,
+                                    @Value("${point.member-concurrency.backoff-ms:5}") long backoffMillis,
+                                    @Value("${point.member-concurrency.max-backoff-ms:100}") long maxBackoffMillis) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(1, backoffMillis);
+        this.maxBackoffMillis = Math.max(this.backoffMillis, maxBackoffMillis);
+    }
+
+    public boolean isOptimistic() {
+        return mode == Mode.OPTIMISTIC;
+    }
+
+    /**
+     * 낙관적 모드에서 충돌 시 action 재실행 (트랜잭션 밖에서 호출)
+     * <p>
+     * - 재시도 횟수를 모두 쓰면 MP015
+     *
+     * @param onRetry 재시도 직전마다 호출 (메트릭 기록용)
+     */
+    public <T> T executeWithRetry(Supplier<T> action, Runnable onRetry) {
+        if (!isOptimistic()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new ServiceException(ProcessCode.MP015.getProcCd());
+                }
+                onRetry.run();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(ProcessCode.MP015.getProcCd());
+        }
+    }
+}
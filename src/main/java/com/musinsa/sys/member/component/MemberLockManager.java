@@ -0,0 +1,76 @@
+package com.musinsa.sys.member.component;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 회원 단위 JVM 내부 Lock (Striped)
+ * <p>
+ * - 트랜잭션 시작 전에 획득하므로, 같은 회원의 요청은 DB 커넥션 없이 대기
+ * - 대기 시간 초과 시 MP015 로 즉시 실패 처리
+ * - 인스턴스 간 동시성은 여전히 findByMemberIdForUpdate(Row Lock)가 보장
+ */
+@Component
+public class MemberLockManager {
+
+    private final boolean enabled;
+    private final long waitMillis;
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+
+    public MemberLockManager(@Value("${point.member-lock.enabled:false}") boolean enabled,
+                             @Value("${point.member-lock.stripes:1024}") int stripes,
+                             @Value("${point.member-lock.wait-ms:3000}") long waitMillis) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.enabled = enabled;
+        this.waitMillis = waitMillis;
+        this.stripes = new ReentrantLock[size];
+        this.stripeMask = size - 1;
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 회원 Lock 을 잡은 상태로 action 실행
+     * <p>
+     * - 비활성화 상태면 Lock 없이 바로 실행
+     */
+    public <T> T executeWithLock(Long memberId, Supplier<T> action) {
+        if (!enabled || memberId == null) {
+            return action.get();
+        }
+
+        ReentrantLock lock = stripes[stripeIndex(memberId)];
+        try {
+            if (!lock.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceException(ProcessCode.MP015.getProcCd());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(ProcessCode.MP015.getProcCd());
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 연속된 회원 ID 가 인접 stripe 에 몰리지 않도록 해시를 섞는다
+    private int stripeIndex(long memberId) {
+        long hash = memberId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & stripeMask;
+    }
+}
@@ -28,6 +28,10 @@ public class Member {
     @Column(name = "created_at", nullable = false, length = 8)
     private String createdDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version; // 낙관적 모드 충돌 감지 (JDBC 로 잔액 / wallet 을 바꾸는 배치도 함께 증가)
+
     public void addPointBalance(long amount) { //포인트 추가
         this.pointBalance += amount;
     }
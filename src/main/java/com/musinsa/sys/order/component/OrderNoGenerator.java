@@ -1,43 +1,132 @@
 package com.musinsa.sys.order.component;
 
-import com.musinsa.sys.order.entity.OrderSequenceLog;
-import com.musinsa.sys.order.repository.OrderSequenceRepository;
+import com.musinsa.sys.order.dto.OrderSequenceBlock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 @Component
 public class OrderNoGenerator {
 
-    private final OrderSequenceRepository orderSeqRepository;
+    static final int MAX_SEQ = 9999;
+    private static final DateTimeFormatter ORDER_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
-    public OrderNoGenerator(OrderSequenceRepository orderSeqRepository) {
-        this.orderSeqRepository = orderSeqRepository;
+    private final OrderSequenceLeaser orderSequenceLeaser;
+    private final String nodeId;
+    private final int blockSize;
+    private final Clock clock;
+
+    // 임대 갱신(slow path)만 직렬화, 채번(fast path)은 AtomicInteger 로 처리
+    private final ReentrantLock leaseLock = new ReentrantLock();
+    private volatile Lease lease = Lease.EMPTY;
+
+    @Autowired
+    public OrderNoGenerator(OrderSequenceLeaser orderSequenceLeaser,
+                            @Value("${order.node-id:0}") int nodeId,
+                            @Value("${order.sequence.block-size:100}") int blockSize) {
+        this(orderSequenceLeaser, nodeId, blockSize, Clock.systemDefaultZone());
+    }
+
+    OrderNoGenerator(OrderSequenceLeaser orderSequenceLeaser, int nodeId, int blockSize, Clock clock) {
+        if (nodeId < 0 || nodeId > 99) {
+            throw new IllegalArgumentException("order.node-id must be between 0 and 99 : " + nodeId);
+        }
+        if (blockSize < 1 || blockSize > MAX_SEQ) {
+            throw new IllegalArgumentException("order.sequence.block-size must be between 1 and " + MAX_SEQ + " : " + blockSize);
+        }
+        this.orderSequenceLeaser = orderSequenceLeaser;
+        this.nodeId = String.format("%02d", nodeId);
+        this.blockSize = blockSize;
+        this.clock = clock;
     }
 
     /**
      * 주문번호 생성
-     * yyyyMMddHHmmss + 4자리 시퀀스
+     * yyyyMMddHHmmss + 2자리 노드ID + 4자리 시퀀스
+     * <p>
+     * - 임대받은 블록 안에서는 DB 접근 없이 채번
+     * - 초가 바뀌거나 블록을 모두 쓰면 새 블록을 임대
+     * - 해당 초의 시퀀스(9999)를 모두 소진하면 다음 초까지 대기
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public String generateOrderNo() {
+        while (true) {
+            String orderDateTime = currentOrderDateTime();
+            Lease current = lease;
 
-        LocalDateTime now = LocalDateTime.now().withNano(0);
+            if (current.orderDateTime.equals(orderDateTime)) {
+                int seq = current.next.getAndIncrement();
+                if (seq <= current.end) {
+                    return toOrderNo(orderDateTime, seq);
+                }
+            }
 
-        String orderDateTime = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+            renewLease(current, orderDateTime);
+        }
+    }
+
+    private void renewLease(Lease expired, String orderDateTime) {
+        leaseLock.lock();
+        try {
+            // 대기하는 동안 다른 스레드가 이미 갱신한 경우
+            if (lease != expired) return;
 
-        OrderSequenceLog orderSequenceLog = orderSeqRepository.findForUpdate(orderDateTime)
-                .orElseGet(() -> new OrderSequenceLog(orderDateTime));
+            OrderSequenceBlock block = orderSequenceLeaser.lease(orderDateTime + nodeId, blockSize, MAX_SEQ);
+            if (block == null) {
+                awaitNextSecond(orderDateTime);
+                return;
+            }
+            lease = new Lease(orderDateTime, block.getStart(), block.getEnd());
+        } finally {
+            leaseLock.unlock();
+        }
+    }
 
-        orderSequenceLog.increase();
+    private void awaitNextSecond(String exhaustedOrderDateTime) {
+        while (currentOrderDateTime().equals(exhaustedOrderDateTime)) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for next order second", e);
+            }
+        }
+    }
 
-        orderSeqRepository.save(orderSequenceLog);
+    private String currentOrderDateTime() {
+        return LocalDateTime.now(clock).format(ORDER_DATE_TIME_FORMAT);
+    }
 
-        return orderDateTime + String.format("%04d", orderSequenceLog.getSeq());
+    private String toOrderNo(String orderDateTime, int seq) {
+        StringBuilder orderNo = new StringBuilder(20)
+                .append(orderDateTime)
+                .append(nodeId);
+        if (seq < 1000) orderNo.append('0');
+        if (seq < 100) orderNo.append('0');
+        if (seq < 10) orderNo.append('0');
+        return orderNo.append(seq).toString();
     }
 
+    /**
+     * 현재 임대중인 시퀀스 블록
+     */
+    private static final class Lease {
+        static final Lease EMPTY = new Lease("", 1, 0);
+
+        final String orderDateTime;
+        final AtomicInteger next;
+        final int end;
+
+        Lease(String orderDateTime, int start, int end) {
+            this.orderDateTime = orderDateTime;
+            this.next = new AtomicInteger(start);
+            this.end = end;
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package com.musinsa.sys.order.dto;
+
+import lombok.Value;
+
+/**
+ * 임대받은 주문번호 시퀀스 블록 [start, end]
+ */
+@Value
+public class OrderSequenceBlock {
+    String leaseKey;
+    int start;
+    int end;
+}
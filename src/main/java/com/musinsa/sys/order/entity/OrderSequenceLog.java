@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 public class OrderSequenceLog {
 
     @Id
-    @Column(name = "order_date", length = 6)
+    @Column(name = "order_date", length = 16)
     private String orderDate;
 
     @Column(name = "seq", nullable = false)
@@ -27,9 +27,23 @@ public class OrderSequenceLog {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    public void increase() {
-        this.seq++;
+    /**
+     * 시퀀스 블록 임대
+     * <p>
+     * - 마지막 임대 시퀀스 다음부터 최대 blockSize 개를 임대
+     * - maxSeq 를 넘지 않으며, 더 이상 임대할 수 없으면 0 반환
+     *
+     * @return 임대한 블록의 시작 시퀀스 (임대 불가 시 0)
+     */
+    public int lease(int blockSize, int maxSeq) {
+        if (this.seq >= maxSeq) {
+            return 0;
+        }
+        int start = this.seq + 1;
+        this.seq = Math.min(this.seq + blockSize, maxSeq);
+        return start;
     }
+
     public OrderSequenceLog(String orderDate) {
         this.orderDate = orderDate;
         this.seq = 0000;
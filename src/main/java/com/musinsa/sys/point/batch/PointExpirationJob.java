@@ -0,0 +1,252 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import com.musinsa.sys.common.util.DateUtil;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.dto.ExpiringWallet;
+import com.musinsa.sys.point.dto.PointExpiryBucketDelta;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.enums.PointLogType;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointExpirationRepository;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 포인트 만료 배치
+ * <p>
+ * - expire_date 가 지난 정상 wallet 을 (expire_date, wallet_id) keyset 으로 chunk 조회
+ * - chunk 내 회원을 worker 수만큼 나누어 병렬 처리 (worker 마다 별도 트랜잭션)
+ * - 회원 Lock → wallet 재조회 → 만료 처리 → 만료 로그(EX) 기록 → 회원 잔액 / 만료일별 잔액 요약 일괄 차감
+ * - chunk 처리 후 batch_checkpoint 에 위치를 기록하여 재시작 시 이어서 처리
+ * - 실패한 worker 의 회원은 회원별 트랜잭션으로 다시 처리, 그래도 실패한 회원이 있으면
+ * 그 chunk 이전 위치에서 checkpoint 를 멈추고 진행 중(R)으로 남겨 다음 실행이 해당 위치부터 다시 조회
+ */
+@Slf4j
+@Component
+public class PointExpirationJob {
+
+    public static final String JOB_NAME = "POINT_EXPIRATION";
+
+    private final PointExpirationRepository pointExpirationRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int workers;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PointExpirationJob(PointExpirationRepository pointExpirationRepository,
+                              PointBatchRepository pointBatchRepository,
+                              BatchCheckpointRepository batchCheckpointRepository,
+                              PointExpiryBucketRepository pointExpiryBucketRepository,
+                              PointBalanceCache pointBalanceCache,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${point.expiration.enabled:true}") boolean enabled,
+                              @Value("${point.expiration.chunk-size:1000}") int chunkSize,
+                              @Value("${point.expiration.workers:4}") int workers) {
+        this.pointExpirationRepository = pointExpirationRepository;
+        this.pointBatchRepository = pointBatchRepository;
+        this.batchCheckpointRepository = batchCheckpointRepository;
+        this.pointExpiryBucketRepository = pointExpiryBucketRepository;
+        this.pointBalanceCache = pointBalanceCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+    }
+
+    @Scheduled(cron = "${point.expiration.cron:0 10 0 * * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        run(LocalDate.now());
+    }
+
+    /**
+     * today 이전에 만료된 wallet 전체 처리
+     *
+     * @return 이번 실행에서 조회한 만료 대상 wallet 수 (재시작 이전 처리분 포함)
+     */
+    public long run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("point expiration job is already running");
+            return 0;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            BatchCheckpoint checkpoint = batchCheckpointRepository.findByJobName(JOB_NAME)
+                    .filter(BatchCheckpoint::isRunning)
+                    .orElseGet(() -> BatchCheckpoint.start(JOB_NAME));
+
+            if (checkpoint.getLastKeyDate() != null) {
+                log.info("point expiration job resumes after ({}, {})", checkpoint.getLastKeyDate(), checkpoint.getLastKeyId());
+            }
+
+            LocalDate afterDate = checkpoint.getLastKeyDate();
+            Long afterWalletId = checkpoint.getLastKeyId();
+            Set<Long> failedMemberIds = new TreeSet<>();
+            while (true) {
+                List<ExpiringWallet> chunk = pointExpirationRepository.findExpiringWallets(
+                        today, afterDate, afterWalletId, chunkSize);
+                if (chunk.isEmpty()) break;
+
+                Set<Long> chunkFailedMemberIds = expireChunk(chunk, today, executor);
+                failedMemberIds.addAll(chunkFailedMemberIds);
+
+                ExpiringWallet last = chunk.get(chunk.size() - 1);
+                afterDate = last.getExpireDate();
+                afterWalletId = last.getWalletId();
+                // 실패 회원이 남은 chunk 이후로는 위치를 기록하지 않음 (다음 실행에서 다시 조회)
+                if (failedMemberIds.isEmpty()) {
+                    checkpoint.setLastKeyDate(afterDate);
+                    checkpoint.setLastKeyId(afterWalletId);
+                }
+                // 실패 회원의 wallet 은 정상(00) 상태로 남아 다음 실행에서 다시 조회되므로 그때 집계
+                // (만료된 wallet 은 재조회되지 않으므로 위치를 멈춘 chunk 도 나머지는 지금 집계)
+                long failedWallets = chunkFailedMemberIds.isEmpty() ? 0
+                        : chunk.stream().filter(wallet -> chunkFailedMemberIds.contains(wallet.getMemberId())).count();
+                checkpoint.setProcessedCount(checkpoint.getProcessedCount() + chunk.size() - failedWallets);
+                batchCheckpointRepository.save(checkpoint);
+            }
+
+            if (!failedMemberIds.isEmpty()) {
+                log.warn("point expiration job stopped with failed members {} : next run resumes after ({}, {})",
+                        failedMemberIds, checkpoint.getLastKeyDate(), checkpoint.getLastKeyId());
+                return checkpoint.getProcessedCount();
+            }
+
+            checkpoint.setRunStatus(BatchCheckpoint.COMPLETED);
+            batchCheckpointRepository.save(checkpoint);
+
+            log.info("point expiration job completed : {} wallets", checkpoint.getProcessedCount());
+            return checkpoint.getProcessedCount();
+        } finally {
+            executor.shutdown();
+            running.set(false);
+        }
+    }
+
+    /**
+     * chunk 를 회원 기준으로 나누어 worker 별 트랜잭션으로 처리
+     * <p>
+     * - 같은 회원은 항상 같은 worker 에 배정되므로 worker 간 Lock 경합 없음
+     * - 실패한 worker 의 회원은 회원별 트랜잭션으로 다시 처리 (한 회원의 실패가 같은 worker 의 다른 회원을 막지 않음)
+     *
+     * @return 다시 처리해도 실패한 회원 ID
+     */
+    private Set<Long> expireChunk(List<ExpiringWallet> chunk, LocalDate today, ExecutorService executor) {
+        Map<Integer, List<ExpiringWallet>> partitions = new HashMap<>();
+        for (ExpiringWallet wallet : chunk) {
+            int worker = (int) (wallet.getMemberId() % workers);
+            partitions.computeIfAbsent(worker, key -> new ArrayList<>()).add(wallet);
+        }
+
+        Map<List<ExpiringWallet>, Future<?>> futures = new LinkedHashMap<>();
+        for (List<ExpiringWallet> partition : partitions.values()) {
+            futures.put(partition, executor.submit(() ->
+                    transactionTemplate.executeWithoutResult(status -> expireWallets(partition, today))));
+        }
+
+        Map<Long, List<ExpiringWallet>> failedWallets = new TreeMap<>();
+        futures.forEach((partition, future) -> {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.warn("point expiration worker failed, retrying per member : {} wallets", partition.size(), e.getCause());
+                partition.forEach(wallet ->
+                        failedWallets.computeIfAbsent(wallet.getMemberId(), key -> new ArrayList<>()).add(wallet));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("point expiration job interrupted", e);
+            }
+        });
+
+        Set<Long> failedMemberIds = new TreeSet<>();
+        failedWallets.forEach((memberId, wallets) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> expireWallets(wallets, today));
+            } catch (RuntimeException e) {
+                log.error("point expiration failed : member {}", memberId, e);
+                failedMemberIds.add(memberId);
+            }
+        });
+        return failedMemberIds;
+    }
+
+    /**
+     * 회원 단위 만료 처리 (트랜잭션 내부)
+     */
+    private void expireWallets(List<ExpiringWallet> wallets, LocalDate today) {
+        TreeSet<Long> memberIds = new TreeSet<>();
+        List<Long> walletIds = new ArrayList<>();
+        for (ExpiringWallet wallet : wallets) {
+            memberIds.add(wallet.getMemberId());
+            walletIds.add(wallet.getWalletId());
+        }
+
+        // 회원 Lock (member_id 순) 후 wallet 재조회
+        pointBatchRepository.findBalancesForUpdate(memberIds);
+        List<ExpiringWallet> lockedWallets = pointExpirationRepository.findExpiringWalletsForUpdate(walletIds, today);
+        if (lockedWallets.isEmpty()) return;
+
+        Map<Long, Long> expiredAmounts = new LinkedHashMap<>();
+        List<Long> expireWalletIds = new ArrayList<>();
+        List<PointExpiryBucketDelta> bucketDeltas = new ArrayList<>();
+        for (ExpiringWallet wallet : lockedWallets) {
+            expireWalletIds.add(wallet.getWalletId());
+            if (wallet.getRemainAmount() > 0) {
+                expiredAmounts.merge(wallet.getMemberId(), wallet.getRemainAmount(), Long::sum);
+                bucketDeltas.add(new PointExpiryBucketDelta(wallet.getMemberId(), wallet.getExpireDate(), -wallet.getRemainAmount()));
+            }
+        }
+
+        pointExpirationRepository.expireWallets(expireWalletIds);
+
+        // 잔여 0 wallet 만 만료된 회원은 잔액 변경이 없으므로 version 만 증가
+        TreeSet<Long> statusOnlyMembers = new TreeSet<>();
+        lockedWallets.forEach(wallet -> statusOnlyMembers.add(wallet.getMemberId()));
+        statusOnlyMembers.removeAll(expiredAmounts.keySet());
+        pointBatchRepository.incrementVersions(statusOnlyMembers);
+        if (expiredAmounts.isEmpty()) return;
+
+        LocalDateTime logAt = DateUtil.getLocalDateTimeWithNano();
+        List<PointLog> expirationLogs = new ArrayList<>();
+        Map<Long, Long> balanceAmounts = new LinkedHashMap<>();
+        expiredAmounts.forEach((memberId, amount) -> {
+            expirationLogs.add(PointLog.from(memberId, amount, PointLogType.EXPIRATION.getCode(), logAt));
+            balanceAmounts.put(memberId, -amount);
+        });
+
+        pointBatchRepository.batchInsertLogs(expirationLogs);
+        pointBatchRepository.batchAddBalances(balanceAmounts);
+        pointExpiryBucketRepository.addRemainAmounts(bucketDeltas);
+        pointBalanceCache.evictAll(expiredAmounts.keySet());
+    }
+}
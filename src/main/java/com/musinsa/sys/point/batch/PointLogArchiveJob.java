@@ -0,0 +1,107 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import com.musinsa.sys.point.component.PointLogArchive;
+import com.musinsa.sys.point.repository.PointLogArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * point_log 월 단위 아카이브 배치
+ * <p>
+ * - 보관 기간(retention-months) 이전 월의 로그를 아카이브 파일로 옮기고 point_log 에서 삭제
+ * - 월마다 : 파일 기록(fsync) → 같은 트랜잭션에서 삭제 + batch_checkpoint 에 완료 월 기록
+ * - 파일 기록 후 삭제 전에 중단되면 재실행 시 같은 월을 다시 기록 (파일 교체)
+ * - 삭제는 파일에 기록한 log_id 기준 (log_id 는 노드별 pooled 할당이라 기록 중 추가된 로그가 더 작은 ID 일 수 있음)
+ * - 아카이브 이후 들어온 해당 월 주문의 취소 로그는 point_log 에 남으며 조회 시 합산
+ */
+@Slf4j
+@Component
+public class PointLogArchiveJob {
+
+    private final PointLogArchiveRepository pointLogArchiveRepository;
+    private final PointLogArchive pointLogArchive;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionMonths;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PointLogArchiveJob(PointLogArchiveRepository pointLogArchiveRepository,
+                              PointLogArchive pointLogArchive,
+                              BatchCheckpointRepository batchCheckpointRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${point.log-archive.enabled:false}") boolean enabled,
+                              @Value("${point.log-archive.retention-months:6}") int retentionMonths) {
+        this.pointLogArchiveRepository = pointLogArchiveRepository;
+        this.pointLogArchive = pointLogArchive;
+        this.batchCheckpointRepository = batchCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${point.log-archive.cron:0 30 1 1 * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        run(LocalDate.now());
+    }
+
+    /**
+     * today 기준 보관 기간 이전 월 전체 아카이브
+     *
+     * @return 아카이브한 로그 건수
+     */
+    public long run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("point log archive job is already running");
+            return 0;
+        }
+
+        try {
+            YearMonth boundary = YearMonth.from(today).minusMonths(retentionMonths);
+            BatchCheckpoint checkpoint = batchCheckpointRepository.findByJobName(PointLogArchive.JOB_NAME)
+                    .orElseGet(() -> BatchCheckpoint.start(PointLogArchive.JOB_NAME));
+
+            YearMonth month = checkpoint.getLastKeyDate() != null
+                    ? YearMonth.from(checkpoint.getLastKeyDate()).plusMonths(1)
+                    : pointLogArchiveRepository.findOldestMonth();
+
+            long archived = 0;
+            while (month != null && month.isBefore(boundary)) {
+                YearMonth target = month;
+                long[][] logIds = {new long[0]};
+                long written = pointLogArchive.write(target,
+                        consumer -> logIds[0] = pointLogArchiveRepository.streamMonth(target, consumer));
+
+                checkpoint.setLastKeyDate(target.atDay(1));
+                checkpoint.setProcessedCount(checkpoint.getProcessedCount() + written);
+                transactionTemplate.executeWithoutResult(status -> {
+                    int deleted = pointLogArchiveRepository.deleteByLogIds(logIds[0]);
+                    if (deleted != written) {
+                        throw new IllegalStateException("point log archive " + target + " wrote " + written + " but deleted " + deleted);
+                    }
+                    batchCheckpointRepository.save(checkpoint);
+                });
+                pointLogArchive.markArchivedThrough(target);
+
+                log.info("point log archived : {} ({} logs)", target, written);
+                archived += written;
+                month = month.plusMonths(1);
+            }
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+}
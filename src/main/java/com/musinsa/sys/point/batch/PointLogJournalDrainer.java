@@ -0,0 +1,131 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import com.musinsa.sys.point.component.PointLogJournal;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointLogJournalCommitRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 로그 저널 → point_log 적재
+ * <p>
+ * - 저널에서 fsync 되고 트랜잭션이 끝난 레코드를 batch-size 건씩 읽어 JDBC batch INSERT
+ * - 커밋 표시(point_log_journal_commit)가 있는 레코드만 INSERT, 없는 레코드는 롤백된 트랜잭션의 로그이므로 버림
+ * - INSERT, 커밋 표시 삭제, 마지막 seq(batch_checkpoint.last_key_id) 기록을 같은 트랜잭션으로 처리하여
+ * 재시작 시 checkpoint 이후 seq 부터 이어서 적재 (커밋 표시가 없는 seq 는 다시 INSERT 하지 않으므로 중복 / 누락 없음)
+ * - 노드마다 저널이 따로 있으므로 checkpoint 는 order.node-id 별로 관리
+ * - 적재가 끝난 segment 파일은 삭제
+ */
+@Slf4j
+@Component
+public class PointLogJournalDrainer {
+
+    public static final String JOB_NAME_PREFIX = "POINT_LOG_JOURNAL_";
+
+    private final PointLogJournal pointLogJournal;
+    private final PointBatchRepository pointBatchRepository;
+    private final PointLogJournalCommitRepository pointLogJournalCommitRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int nodeId;
+    private final String jobName;
+    private final int batchSize;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private BatchCheckpoint checkpoint;
+
+    public PointLogJournalDrainer(PointLogJournal pointLogJournal,
+                                  PointBatchRepository pointBatchRepository,
+                                  PointLogJournalCommitRepository pointLogJournalCommitRepository,
+                                  BatchCheckpointRepository batchCheckpointRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${order.node-id:0}") int nodeId,
+                                  @Value("${point.log-journal.drain-batch-size:1000}") int batchSize) {
+        this.pointLogJournal = pointLogJournal;
+        this.pointBatchRepository = pointBatchRepository;
+        this.pointLogJournalCommitRepository = pointLogJournalCommitRepository;
+        this.batchCheckpointRepository = batchCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId;
+        this.jobName = JOB_NAME_PREFIX + String.format("%02d", nodeId);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${point.log-journal.drain-interval-ms:200}")
+    public void scheduledDrain() {
+        if (!pointLogJournal.isEnabled()) return;
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("point log journal drain failed (checkpoint {})", checkpoint == null ? null : checkpoint.getLastKeyId(), e);
+        }
+    }
+
+    /**
+     * 현재 fsync 된 레코드까지 적재
+     *
+     * @return 처리한 레코드 수 (커밋 표시가 없어 버린 레코드 포함)
+     */
+    public long drain() {
+        drainLock.lock();
+        try {
+            if (checkpoint == null) {
+                checkpoint = batchCheckpointRepository.findByJobName(jobName)
+                        .orElseGet(() -> BatchCheckpoint.start(jobName));
+            }
+
+            long drained = 0;
+            long lastSeq = checkpoint.getLastKeyId() == null ? 0 : checkpoint.getLastKeyId();
+            while (true) {
+                List<PointLogJournal.Entry> entries = pointLogJournal.read(lastSeq, batchSize);
+                if (entries.isEmpty()) break;
+
+                long batchFirstSeq = entries.get(0).seq();
+                long batchLastSeq = entries.get(entries.size() - 1).seq();
+
+                BatchCheckpoint next = new BatchCheckpoint(jobName, BatchCheckpoint.RUNNING, null,
+                        batchLastSeq, checkpoint.getProcessedCount() + entries.size());
+                int discarded = transactionTemplate.execute(status -> {
+                    Set<Long> committed = pointLogJournalCommitRepository.findCommittedSeqs(nodeId, batchFirstSeq, batchLastSeq);
+                    List<PointLog> pointLogs = entries.stream()
+                            .filter(entry -> committed.contains(entry.seq()))
+                            .map(PointLogJournal.Entry::pointLog)
+                            .toList();
+                    if (!pointLogs.isEmpty()) {
+                        pointBatchRepository.batchInsertLogs(pointLogs);
+                        pointLogJournalCommitRepository.deleteRange(nodeId, batchFirstSeq, batchLastSeq);
+                    }
+                    batchCheckpointRepository.save(next);
+                    return entries.size() - pointLogs.size();
+                });
+                if (discarded > 0) {
+                    log.warn("point log journal {}..{} : {} records without commit mark discarded", batchFirstSeq, batchLastSeq, discarded);
+                }
+
+                checkpoint = next;
+                lastSeq = batchLastSeq;
+                drained += entries.size();
+            }
+
+            if (drained > 0) {
+                pointLogJournal.deleteThrough(lastSeq);
+            }
+            return drained;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.dto.PointReconciliationMismatch;
+import com.musinsa.sys.point.dto.PointReconciliationReport;
+import com.musinsa.sys.point.repository.PointReconciliationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회원 잔액 / wallet 대사 배치
+ * <p>
+ * - member.point_balance 와 정상 wallet 의 (issued_amount - used_amount) 합계 비교
+ * - member_id 범위를 ranges 개 구간으로 나누어 workers 개 스레드에서 구간별 merge-join
+ * - 불일치 후보는 회원 단위로 다시 조회하여 스캔 중 거래로 인한 일시적 차이를 제외
+ * - 불일치는 CSV 로 기록만 하고 보정하지 않음 (보정은 POST /admin/point/replay?apply=true)
+ */
+@Slf4j
+@Component
+public class PointReconciliationJob {
+
+    private static final int RECHECK_BATCH_SIZE = 1000;
+    private static final DateTimeFormatter REPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final PointReconciliationRepository pointReconciliationRepository;
+    private final boolean enabled;
+    private final int workers;
+    private final int ranges;
+    private final int fetchSize;
+    private final int maxReportMismatches;
+    private final Path reportDirectory;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PointReconciliationJob(PointReconciliationRepository pointReconciliationRepository,
+                                  @Value("${point.reconciliation.enabled:true}") boolean enabled,
+                                  @Value("${point.reconciliation.workers:4}") int workers,
+                                  @Value("${point.reconciliation.ranges:16}") int ranges,
+                                  @Value("${point.reconciliation.fetch-size:1000}") int fetchSize,
+                                  @Value("${point.reconciliation.max-report-mismatches:1000}") int maxReportMismatches,
+                                  @Value("${point.reconciliation.report-dir:./data/point-reconciliation}") String reportDirectory) {
+        this.pointReconciliationRepository = pointReconciliationRepository;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.ranges = ranges;
+        this.fetchSize = fetchSize;
+        this.maxReportMismatches = maxReportMismatches;
+        this.reportDirectory = Paths.get(reportDirectory);
+    }
+
+    @Scheduled(cron = "${point.reconciliation.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        run(1, Long.MAX_VALUE);
+    }
+
+    /**
+     * 회원 구간 [fromMemberId, toMemberId] 대사
+     */
+    public PointReconciliationReport run(long fromMemberId, long toMemberId) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("point reconciliation job is already running");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        PointReconciliationReport report = new PointReconciliationReport();
+        report.setFromMemberId(fromMemberId);
+        report.setToMemberId(toMemberId);
+
+        Path reportFile = reportDirectory.resolve("point-reconciliation-" + LocalDateTime.now().format(REPORT_FILE_TIME) + ".csv");
+        report.setReportFile(reportFile.toString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            Files.createDirectories(reportDirectory);
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write("member_id,point_balance,wallet_balance");
+                writer.newLine();
+
+                long[] memberIdRange = pointReconciliationRepository.findMemberIdRange(fromMemberId, toMemberId);
+                if (memberIdRange != null) {
+                    // 구간 경계는 member_id 기준 균등 분할 (AUTO_INCREMENT 로 촘촘하다고 가정)
+                    long first = memberIdRange[0];
+                    long last = memberIdRange[1];
+                    long rangeSize = Math.max(1, (last - first) / ranges + 1);
+
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (long rangeFrom = first; rangeFrom <= last; rangeFrom += rangeSize) {
+                        long from = rangeFrom;
+                        long to = Math.min(last, rangeFrom + rangeSize - 1);
+                        futures.add(executor.submit(() -> reconcileRange(from, to, report, writer)));
+                        report.setRangeCount(report.getRangeCount() + 1);
+                    }
+                    joinAll(futures);
+                }
+            }
+
+            report.setElapsedMillis(System.currentTimeMillis() - startedAt);
+            if (report.getMismatchCount() > 0) {
+                log.warn("point reconciliation found {} mismatches in {} members ({}ms) : {}",
+                        report.getMismatchCount(), report.getMemberCount(), report.getElapsedMillis(), reportFile);
+            } else {
+                log.info("point reconciliation completed : {} members, no mismatch ({}ms)",
+                        report.getMemberCount(), report.getElapsedMillis());
+            }
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write point reconciliation report : " + reportFile, e);
+        } finally {
+            executor.shutdown();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 구간 1개 merge-join 후 불일치 후보를 RECHECK_BATCH_SIZE 건씩 재확인
+     * <p>
+     * - 재확인은 커서를 닫은 뒤 수행 (구간 1개가 동시에 쓰는 커넥션은 최대 2개)
+     */
+    private void reconcileRange(long fromMemberId, long toMemberId, PointReconciliationReport report, BufferedWriter writer) {
+        List<PointReconciliationMismatch> candidates = new ArrayList<>();
+        long memberCount = pointReconciliationRepository.reconcile(fromMemberId, toMemberId, fetchSize, candidates::add);
+        addMemberCount(report, memberCount);
+
+        for (int i = 0; i < candidates.size(); i += RECHECK_BATCH_SIZE) {
+            recheck(candidates.subList(i, Math.min(i + RECHECK_BATCH_SIZE, candidates.size())), report, writer);
+        }
+    }
+
+    private void recheck(List<PointReconciliationMismatch> candidates, PointReconciliationReport report, BufferedWriter writer) {
+        if (candidates.isEmpty()) return;
+
+        List<PointReconciliationMismatch> confirmed = new ArrayList<>();
+        List<Long> memberIds = new ArrayList<>();
+        for (PointReconciliationMismatch candidate : candidates) {
+            // member 행이 없는 wallet 은 재확인 대상 아님
+            if (candidate.getPointBalance() == null) {
+                confirmed.add(candidate);
+            } else {
+                memberIds.add(candidate.getMemberId());
+            }
+        }
+        if (!memberIds.isEmpty()) {
+            confirmed.addAll(pointReconciliationRepository.recheck(memberIds));
+        }
+        record(report, writer, confirmed, candidates.size() - confirmed.size());
+    }
+
+    private synchronized void record(PointReconciliationReport report, BufferedWriter writer,
+                                     List<PointReconciliationMismatch> mismatches, long transientCount) {
+        try {
+            for (PointReconciliationMismatch mismatch : mismatches) {
+                if (report.getMismatches().size() < maxReportMismatches) report.getMismatches().add(mismatch);
+                writer.write(mismatch.toCsv());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write point reconciliation report : " + report.getReportFile(), e);
+        }
+        report.setMismatchCount(report.getMismatchCount() + mismatches.size());
+        report.setTransientCount(report.getTransientCount() + transientCount);
+    }
+
+    private synchronized void addMemberCount(PointReconciliationReport report, long memberCount) {
+        report.setMemberCount(report.getMemberCount() + memberCount);
+    }
+
+    private static void joinAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("point reconciliation range failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("point reconciliation interrupted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointLogArchive;
+import com.musinsa.sys.point.dto.PointReplayDiff;
+import com.musinsa.sys.point.dto.PointReplayLogChunk;
+import com.musinsa.sys.point.dto.PointReplayReport;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointLogJournalCommitRepository;
+import com.musinsa.sys.point.repository.PointReplayRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * point_log 재계산 (회원 잔액 / wallet 상태 복구)
+ * <p>
+ * - 로그 순서는 (created_at, log_id)
+ * : log_id 는 노드별 pooled 할당(저널 모드는 drain 시점 할당)이라 노드 간 시간 순서가 아님,
+ * created_at 은 회원 Lock 보유 중 마이크로초로 기록하므로 노드 간 시계 차이가 같은 회원의 연속 요청 간격보다 작아야 함
+ * - 아카이브 완료 월 파일을 오래된 월부터 먼저 읽고 이어서 point_log 를 keyset 으로 chunk 조회
+ * : 아카이브 파일은 주문번호 순이므로 월 단위로 메모리에서 정렬, 다음 월 이후에 처리된 로그(이전 월 주문의 취소)는 해당 월 / point_log 와 병합
+ * - chunk 를 member_id % workers 로 나누어 ForkJoinPool 에서 shard 별로 처리 (같은 회원은 항상 같은 shard)
+ * - 재계산 결과를 현재 member / point_wallet 과 비교하여 차이를 CSV 로 기록, apply 시 보정
+ * - member-partitions 로 회원을 N 개 구간으로 나누어 N 번 조회하면 상태 보관 메모리가 1/N
+ * - 보정은 로그 조회 전에 기록한 회원 version 이 그대로인 회원만 (재계산 중 바뀐 회원 제외)
+ * - 저널 모드에서 커밋 후 point_log 에 아직 없는 로그(커밋 표시)가 있으면 재계산 결과가 불완전하므로 보정하지 않음
+ */
+@Slf4j
+@Component
+public class PointReplayJob {
+
+    private static final int COMPARE_BATCH_SIZE = 1000;
+    private static final int APPLY_BATCH_SIZE = 500;
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Comparator<PointLog> LOG_ORDER =
+            Comparator.comparing(PointLog::getCreatedAt).thenComparing(PointLog::getLogId);
+    private static final DateTimeFormatter REPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final PointReplayRepository pointReplayRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final PointLogArchive pointLogArchive;
+    private final PointLogJournalCommitRepository pointLogJournalCommitRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+    private final int chunkSize;
+    private final int memberPartitions;
+    private final int maxReportDiffs;
+    private final Path reportDirectory;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PointReplayJob(PointReplayRepository pointReplayRepository,
+                          PointBatchRepository pointBatchRepository,
+                          PointLogArchive pointLogArchive,
+                          PointLogJournalCommitRepository pointLogJournalCommitRepository,
+                          PointBalanceCache pointBalanceCache,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${point.replay.workers:4}") int workers,
+                          @Value("${point.replay.chunk-size:10000}") int chunkSize,
+                          @Value("${point.replay.member-partitions:1}") int memberPartitions,
+                          @Value("${point.replay.max-report-diffs:1000}") int maxReportDiffs,
+                          @Value("${point.replay.report-dir:./data/point-replay}") String reportDirectory) {
+        this.pointReplayRepository = pointReplayRepository;
+        this.pointBatchRepository = pointBatchRepository;
+        this.pointLogArchive = pointLogArchive;
+        this.pointLogJournalCommitRepository = pointLogJournalCommitRepository;
+        this.pointBalanceCache = pointBalanceCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.memberPartitions = memberPartitions;
+        this.maxReportDiffs = maxReportDiffs;
+        this.reportDirectory = Paths.get(reportDirectory);
+    }
+
+    /**
+     * 회원 구간 [fromMemberId, toMemberId] 재계산
+     *
+     * @param apply true 이면 재계산 이후 바뀌지 않은 회원만 잔액 / wallet 보정 (비교 시점 값과 같은 행만 변경)
+     */
+    public PointReplayReport run(long fromMemberId, long toMemberId, boolean apply) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("point replay job is already running");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        PointReplayReport report = new PointReplayReport();
+        report.setFromMemberId(fromMemberId);
+        report.setToMemberId(toMemberId);
+
+        Path reportFile = reportDirectory.resolve("point-replay-" + LocalDateTime.now().format(REPORT_FILE_TIME) + ".csv");
+        report.setReportFile(reportFile.toString());
+
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        List<PointReplayShard.BalanceCorrection> balanceCorrections = new ArrayList<>();
+        List<PointReplayShard.WalletCorrection> walletCorrections = new ArrayList<>();
+        Map<Long, Long> correctionVersions = new HashMap<>();
+        boolean journalBacklog = false;
+        try {
+            Files.createDirectories(reportDirectory);
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write("type,member_id,wallet_id,expected,actual");
+                writer.newLine();
+
+                for (int partition = 0; partition < memberPartitions; partition++) {
+                    // 로그 조회 전 회원 version snapshot → 이후 커밋된 변경은 version 으로 감지
+                    Map<Long, Long> versions = apply
+                            ? pointReplayRepository.findVersions(fromMemberId, toMemberId, memberPartitions, partition)
+                            : Map.of();
+                    // snapshot 이전에 커밋되었지만 point_log 에 아직 없는 저널 로그
+                    if (apply && pointLogJournalCommitRepository.countPending() > 0) journalBacklog = true;
+
+                    PointReplayShard[] shards = replay(pool, report, partition);
+                    for (PointReplayShard shard : shards) {
+                        report.setMemberCount(report.getMemberCount() + shard.memberCount());
+                        report.setWalletCount(report.getWalletCount() + shard.walletCount());
+                        report.setLogCount(report.getLogCount() + shard.logCount());
+                        writeDiffs(writer, report, shard.historyDiffs());
+                    }
+
+                    for (PointReplayShard.Comparison comparison : compare(pool, shards, report, partition)) {
+                        writeDiffs(writer, report, comparison.diffs);
+                        report.setUnverifiableMemberCount(report.getUnverifiableMemberCount() + comparison.unverifiableMembers);
+                        balanceCorrections.addAll(comparison.balanceCorrections);
+                        walletCorrections.addAll(comparison.walletCorrections);
+                        comparison.balanceCorrections.forEach(correction ->
+                                correctionVersions.put(correction.memberId(), versions.get(correction.memberId())));
+                        comparison.walletCorrections.forEach(correction ->
+                                correctionVersions.put(correction.memberId(), versions.get(correction.memberId())));
+                    }
+                }
+            }
+
+            if (apply && journalBacklog) {
+                log.warn("point replay corrections skipped : point log journal has committed records not drained yet");
+                report.setSkippedCorrectionCount(balanceCorrections.size() + walletCorrections.size());
+            } else if (apply) {
+                applyCorrections(report, balanceCorrections, walletCorrections, correctionVersions);
+            }
+
+            report.setElapsedMillis(System.currentTimeMillis() - startedAt);
+            log.info("point replay completed : {} logs, {} members, {} balance diffs, {} wallet diffs, applied={} ({}ms)",
+                    report.getLogCount(), report.getMemberCount(), report.getBalanceDiffCount(),
+                    report.getWalletDiffCount(), report.isApplied(), report.getElapsedMillis());
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write point replay report : " + reportFile, e);
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 분할 구간 1개의 로그 재계산 (아카이브 월 → point_log)
+     */
+    private PointReplayShard[] replay(ForkJoinPool pool, PointReplayReport report, int partition) {
+        PointReplayShard[] shards = new PointReplayShard[workers];
+        for (int s = 0; s < workers; s++) {
+            shards[s] = new PointReplayShard();
+        }
+        ChunkDispatcher dispatcher = new ChunkDispatcher(pool, shards);
+        PointReplayLogChunk buffer = new PointReplayLogChunk(chunkSize);
+
+        List<PointLog> carried = replayArchive(dispatcher, buffer, report, partition);
+        int next = 0;
+
+        PointReplayLogChunk chunk = new PointReplayLogChunk(chunkSize);
+        LocalDateTime afterCreatedAt = FIRST_CREATED_AT;
+        long afterLogId = 0;
+
+        while (true) {
+            pointReplayRepository.fillChunk(chunk, afterCreatedAt, afterLogId,
+                    report.getFromMemberId(), report.getToMemberId(), memberPartitions, partition, chunkSize);
+            boolean last = !chunk.isFull();
+            if (!last) {
+                afterCreatedAt = chunk.lastCreatedAt();
+                afterLogId = chunk.lastLogId();
+            }
+
+            if (next < carried.size() && (last || compareKey(carried.get(next), chunk, chunk.size() - 1) < 0)) {
+                // 이월된 아카이브 로그와 (created_at, log_id) 순으로 병합
+                for (int i = 0; i < chunk.size(); i++) {
+                    while (next < carried.size() && compareKey(carried.get(next), chunk, i) < 0) {
+                        buffer.add(carried.get(next++));
+                        if (buffer.isFull()) dispatcher.apply(buffer);
+                    }
+                    buffer.add(chunk, i);
+                    if (buffer.isFull()) dispatcher.apply(buffer);
+                }
+                while (last && next < carried.size()) {
+                    buffer.add(carried.get(next++));
+                    if (buffer.isFull()) dispatcher.apply(buffer);
+                }
+                if (buffer.size() > 0) dispatcher.apply(buffer);
+            } else if (chunk.size() > 0) {
+                dispatcher.apply(chunk);
+            }
+
+            if (last) break;
+        }
+        return shards;
+    }
+
+    /**
+     * 아카이브 완료 월 파일을 오래된 월부터 (created_at, log_id) 순으로 처리
+     * <p>
+     * - 월 파일의 대상 회원 로그를 메모리에서 정렬 (파일은 주문번호 순)
+     * - 다음 월 이후에 처리된 로그는 이월하여 해당 월 로그와 함께 정렬
+     *
+     * @return 마지막 아카이브 월 이후에 처리된 이월 로그 ((created_at, log_id) 순, point_log 와 병합)
+     */
+    private List<PointLog> replayArchive(ChunkDispatcher dispatcher, PointReplayLogChunk buffer,
+                                         PointReplayReport report, int partition) {
+        List<PointLog> carried = new ArrayList<>();
+        for (YearMonth month : pointLogArchive.getArchivedMonths()) {
+            LocalDateTime nextMonth = month.plusMonths(1).atDay(1).atStartOfDay();
+            List<PointLog> window = new ArrayList<>();
+            List<PointLog> later = new ArrayList<>();
+            for (PointLog pointLog : carried) {
+                (pointLog.getCreatedAt().isBefore(nextMonth) ? window : later).add(pointLog);
+            }
+            pointLogArchive.scan(month, pointLog -> {
+                long memberId = pointLog.getMemberId();
+                if (memberId < report.getFromMemberId() || memberId > report.getToMemberId()
+                        || Math.floorMod(memberId, memberPartitions) != partition) return;
+                report.setArchivedLogCount(report.getArchivedLogCount() + 1);
+                (pointLog.getCreatedAt().isBefore(nextMonth) ? window : later).add(pointLog);
+            });
+
+            window.sort(LOG_ORDER);
+            for (PointLog pointLog : window) {
+                buffer.add(pointLog);
+                if (buffer.isFull()) dispatcher.apply(buffer);
+            }
+            if (buffer.size() > 0) dispatcher.apply(buffer);
+            carried = later;
+        }
+        carried.sort(LOG_ORDER);
+        return carried;
+    }
+
+    /**
+     * 현재 회원 잔액을 member_id 순으로 COMPARE_BATCH_SIZE 명씩 조회하고 그 구간의 wallet 을 함께 읽어 shard 별로 비교
+     * <p>
+     * - 로그가 없는 회원의 잔액 / wallet 도 비교 대상 (기대값 0)
+     */
+    private List<PointReplayShard.Comparison> compare(ForkJoinPool pool, PointReplayShard[] shards,
+                                                      PointReplayReport report, int partition) {
+        List<PointReplayShard.Comparison> comparisons = new ArrayList<>();
+        for (int s = 0; s < workers; s++) {
+            comparisons.add(new PointReplayShard.Comparison());
+        }
+
+        long afterMemberId = report.getFromMemberId() - 1;
+        while (true) {
+            Map<Long, Long> balances = pointReplayRepository.findBalances(
+                    afterMemberId, report.getToMemberId(), memberPartitions, partition, COMPARE_BATCH_SIZE);
+            if (balances.isEmpty()) break;
+
+            long firstMemberId = balances.keySet().iterator().next();
+            long lastMemberId = firstMemberId;
+            for (Long memberId : balances.keySet()) {
+                lastMemberId = memberId;
+            }
+            Map<Long, List<PointWallet>> walletsByMember = new HashMap<>();
+            for (PointWallet wallet : pointReplayRepository.findWallets(firstMemberId, lastMemberId)) {
+                walletsByMember.computeIfAbsent(wallet.getMemberId(), key -> new ArrayList<>()).add(wallet);
+            }
+
+            List<List<Long>> members = new ArrayList<>();
+            for (int s = 0; s < workers; s++) {
+                members.add(new ArrayList<>());
+            }
+            balances.keySet().forEach(memberId -> members.get(shardOf(memberId)).add(memberId));
+
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int s = 0; s < workers; s++) {
+                PointReplayShard shard = shards[s];
+                PointReplayShard.Comparison comparison = comparisons.get(s);
+                List<Long> shardMembers = members.get(s);
+                tasks.add(() -> {
+                    for (Long memberId : shardMembers) {
+                        shard.compare(memberId, balances.get(memberId),
+                                walletsByMember.getOrDefault(memberId, List.of()), comparison);
+                    }
+                    return null;
+                });
+            }
+            joinAll(pool.invokeAll(tasks));
+
+            if (balances.size() < COMPARE_BATCH_SIZE) break;
+            afterMemberId = lastMemberId;
+        }
+
+        for (int s = 0; s < workers; s++) {
+            shards[s].compareMissingMembers(comparisons.get(s));
+        }
+        return comparisons;
+    }
+
+    private static int compareKey(PointLog pointLog, PointReplayLogChunk chunk, int row) {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, pointLog.getCreatedAt().toInstant(ZoneOffset.UTC));
+        int compared = Long.compare(micros, chunk.createdMicros[row]);
+        return compared != 0 ? compared : Long.compare(pointLog.getLogId(), chunk.logIds[row]);
+    }
+
+    // 분할 구간 안에서는 member_id % partitions 가 같으므로 몫으로 shard 배정
+    private int shardOf(long memberId) {
+        return (int) ((memberId / memberPartitions) % workers);
+    }
+
+    /**
+     * 회원 APPLY_BATCH_SIZE 명 단위 트랜잭션으로 보정
+     * <p>
+     * - 회원 Lock(member_id 순) 후 version 이 로그 조회 전 snapshot 과 같은 회원만 보정 (재계산 이후 바뀐 회원 제외)
+     * - 비교 시점 값과 같은 행만 변경, 만료일별 잔액 요약 재계산
+     */
+    private void applyCorrections(PointReplayReport report,
+                                  List<PointReplayShard.BalanceCorrection> balanceCorrections,
+                                  List<PointReplayShard.WalletCorrection> walletCorrections,
+                                  Map<Long, Long> correctionVersions) {
+        long corrections = balanceCorrections.size() + walletCorrections.size();
+
+        Map<Long, MemberCorrections> byMember = new TreeMap<>();
+        balanceCorrections.forEach(correction ->
+                byMember.computeIfAbsent(correction.memberId(), key -> new MemberCorrections()).balance = correction);
+        walletCorrections.forEach(correction ->
+                byMember.computeIfAbsent(correction.memberId(), key -> new MemberCorrections()).wallets.add(correction));
+
+        List<Long> memberIds = new ArrayList<>(byMember.keySet());
+        long[] corrected = {0};
+        for (int from = 0; from < memberIds.size(); from += APPLY_BATCH_SIZE) {
+            List<Long> batch = memberIds.subList(from, Math.min(from + APPLY_BATCH_SIZE, memberIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                pointBatchRepository.findBalancesForUpdate(new TreeSet<>(batch));
+                Map<Long, Long> versions = pointReplayRepository.findVersions(batch);
+                List<Long> unchanged = new ArrayList<>();
+                for (Long memberId : batch) {
+                    Long snapshot = correctionVersions.get(memberId);
+                    if (snapshot == null || !snapshot.equals(versions.get(memberId))) continue;
+                    unchanged.add(memberId);
+
+                    MemberCorrections member = byMember.get(memberId);
+                    if (member.balance != null) {
+                        corrected[0] += pointReplayRepository.updateBalance(memberId, member.balance.expected(), member.balance.observed());
+                    }
+                    for (PointReplayShard.WalletCorrection wallet : member.wallets) {
+                        corrected[0] += pointReplayRepository.updateWallet(wallet.expected(), wallet.observed());
+                    }
+                }
+                if (unchanged.isEmpty()) return;
+                pointReplayRepository.rebuildExpiryBuckets(unchanged);
+                pointBatchRepository.incrementVersions(unchanged);
+                pointBalanceCache.evictAll(unchanged);
+            });
+        }
+
+        report.setApplied(true);
+        report.setCorrectedCount(corrected[0]);
+        report.setSkippedCorrectionCount(corrections - corrected[0]);
+    }
+
+    private void writeDiffs(BufferedWriter writer, PointReplayReport report, List<PointReplayDiff> diffs) throws IOException {
+        for (PointReplayDiff diff : diffs) {
+            switch (diff.getType()) {
+                case BALANCE -> report.setBalanceDiffCount(report.getBalanceDiffCount() + 1);
+                case WALLET_ISSUED, WALLET_USED, WALLET_STATUS -> report.setWalletDiffCount(report.getWalletDiffCount() + 1);
+                default -> report.setUnmatchedDiffCount(report.getUnmatchedDiffCount() + 1);
+            }
+            if (report.getDiffs().size() < maxReportDiffs) report.getDiffs().add(diff);
+            writer.write(diff.toCsv());
+            writer.newLine();
+        }
+    }
+
+    private static <T> List<T> joinAll(List<Future<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("point replay shard failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("point replay interrupted", e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * chunk 의 wallet 속성 / 사용 상세 조회 후 shard 별로 병렬 적용, 적용 후 chunk 비움
+     */
+    private final class ChunkDispatcher {
+        private final ForkJoinPool pool;
+        private final PointReplayShard[] shards;
+        private final int[][] rows = new int[workers][chunkSize];
+        private final int[] counts = new int[workers];
+
+        ChunkDispatcher(ForkJoinPool pool, PointReplayShard[] shards) {
+            this.pool = pool;
+            this.shards = shards;
+        }
+
+        void apply(PointReplayLogChunk chunk) {
+            pointReplayRepository.fillWalletAttributes(chunk);
+            pointReplayRepository.fillUseDetails(chunk);
+
+            // shard 별 행 번호 ((created_at, log_id) 순 유지)
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < chunk.size(); i++) {
+                int shard = shardOf(chunk.memberIds[i]);
+                rows[shard][counts[shard]++] = i;
+            }
+
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int s = 0; s < workers; s++) {
+                if (counts[s] == 0) continue;
+                PointReplayShard shard = shards[s];
+                int[] shardRows = rows[s];
+                int count = counts[s];
+                tasks.add(() -> {
+                    shard.apply(chunk, shardRows, count);
+                    return null;
+                });
+            }
+            joinAll(pool.invokeAll(tasks));
+            chunk.clear();
+        }
+    }
+
+    private static final class MemberCorrections {
+        PointReplayShard.BalanceCorrection balance;
+        final List<PointReplayShard.WalletCorrection> wallets = new ArrayList<>();
+    }
+}
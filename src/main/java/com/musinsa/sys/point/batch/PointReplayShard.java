@@ -0,0 +1,444 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.common.util.LongIntHashMap;
+import com.musinsa.sys.point.dto.PointReplayDiff;
+import com.musinsa.sys.point.dto.PointReplayLogChunk;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * point_log 재계산 shard (member_id % shard 수)
+ * <p>
+ * - 회원 / wallet 상태를 primitive 배열로 보관 (wallet 1건 약 54 byte, 회원 1건 약 45 byte)
+ * - 같은 회원의 로그는 항상 같은 shard 에서 (created_at, log_id) 순으로 처리되므로 shard 간 동기화 없음
+ * - 차감 / 복원 / 만료 규칙은 PointService, WalletAllocator, PointExpirationJob 과 동일
+ * - 사용 가능 wallet / 만료 대상 판단의 기준일은 로그의 created_at (처리 시점) 일자
+ * - wallet 병합(PointWalletCompactionJob)은 로그를 남기지 않으므로 병합 wallet 이 있는 회원은 wallet 비교 제외
+ */
+final class PointReplayShard {
+
+    private static final byte NORMAL = 0;
+    private static final byte CANCEL = 1;
+    private static final byte EXPIRED = 2;
+    private static final String[] STATUS_CODES = {Val.NORMAL, Val.CANCEL, Val.EXPIRED};
+    private static final int NONE = -1;
+    private static final int MAX_DAY = 0x3FFFFFFF;
+
+    // 회원 상태
+    private final LongIntHashMap memberIndex = new LongIntHashMap(1024);
+    private long[] memberIds = new long[1024];
+    private long[] balances = new long[1024];
+    private int[] firstWallets = new int[1024];
+    private int[] lastWallets = new int[1024];
+    private boolean[] unverifiable = new boolean[1024];
+    private boolean[] compared = new boolean[1024];
+    private int memberCount;
+
+    // wallet 상태 (재적립 wallet 은 DB wallet_id 를 모르므로 walletIds = 0)
+    private final LongIntHashMap walletIndex = new LongIntHashMap(4096);
+    private long[] walletIds = new long[4096];
+    private long[] issuedAmounts = new long[4096];
+    private long[] usedAmounts = new long[4096];
+    private int[] expireDays = new int[4096];
+    private byte[] statuses = new byte[4096];
+    private byte[] usePriorities = new byte[4096];
+    private int[] nextWallets = new int[4096];
+    private int walletCount;
+
+    // 일부만 취소된 주문의 사용 상세별 취소 가능 잔여 금액 (전액 취소되면 제거)
+    private final Map<String, long[]> cancelRemains = new HashMap<>();
+    private long[] sortKeys = new long[64];
+
+    private final List<PointReplayDiff> historyDiffs = new ArrayList<>();
+    private long logCount;
+
+    /**
+     * chunk 중 이 shard 에 배정된 로그 처리 (rows 는 (created_at, log_id) 순)
+     */
+    void apply(PointReplayLogChunk chunk, int[] rows, int count) {
+        for (int r = 0; r < count; r++) {
+            int i = rows[r];
+            int member = member(chunk.memberIds[i]);
+            long amount = chunk.amounts[i];
+
+            switch (chunk.logTypes[i]) {
+                case PointReplayLogChunk.SAVING_APPROVAL -> {
+                    balances[member] += amount;
+                    savingApproval(member, chunk.walletIds[i], amount, chunk.expireDays[i], chunk.usePriorities[i]);
+                }
+                case PointReplayLogChunk.SAVING_CANCEL -> {
+                    balances[member] -= amount;
+                    int wallet = chunk.walletIds[i] == 0 ? NONE : walletIndex.get(chunk.walletIds[i]);
+                    if (wallet == NONE) {
+                        unverifiable[member] = true;
+                    } else {
+                        statuses[wallet] = CANCEL;
+                    }
+                }
+                case PointReplayLogChunk.USE_APPROVAL -> {
+                    balances[member] -= amount;
+                    useApproval(member, amount, chunk.createdDays[i]);
+                }
+                case PointReplayLogChunk.USE_CANCEL -> {
+                    balances[member] += amount;
+                    PointReplayLogChunk.UseDetails details =
+                            chunk.orderNos[i] == null ? null : chunk.useDetails.get(chunk.orderNos[i]);
+                    if (details == null) {
+                        legacyUseCancel(member, amount, chunk.createdDays[i]);
+                    } else {
+                        useCancel(member, chunk.orderNos[i], details, amount, chunk.createdDays[i]);
+                    }
+                }
+                case PointReplayLogChunk.EXPIRATION -> {
+                    balances[member] -= amount;
+                    expire(member, amount, chunk.createdDays[i]);
+                }
+                default -> throw new IllegalStateException("unknown replay log type : " + chunk.logTypes[i]);
+            }
+            logCount++;
+        }
+    }
+
+    private void savingApproval(int member, long walletId, long amount, int expireDay, byte usePriority) {
+        if (walletId == 0) {
+            // wallet_id 기록 이전 적립 로그 → wallet 을 특정할 수 없음
+            unverifiable[member] = true;
+        } else if (expireDay < 0) {
+            historyDiffs.add(new PointReplayDiff(PointReplayDiff.Type.WALLET_MISSING, memberIds[member], walletId,
+                    String.valueOf(amount), null));
+            unverifiable[member] = true;
+        } else {
+            addWallet(member, walletId, amount, expireDay, usePriority);
+        }
+    }
+
+    /**
+     * 사용 차감 : 정상 + 잔여 > 0 + 만료일 >= 처리일 wallet 을 (수기지급 → 만료일 → 생성 순) 으로 차감
+     */
+    private void useApproval(int member, long amount, int today) {
+        int candidates = 0;
+        for (int w = firstWallets[member]; w != NONE; w = nextWallets[w]) {
+            if (statuses[w] == NORMAL && issuedAmounts[w] > usedAmounts[w] && expireDays[w] >= today) {
+                candidates = addSortKey(candidates, ((long) usePriorities[w] << 62) | ((long) expireDays[w] << 31) | w);
+            }
+        }
+        Arrays.sort(sortKeys, 0, candidates);
+
+        long remain = amount;
+        for (int c = 0; c < candidates && remain > 0; c++) {
+            int w = (int) (sortKeys[c] & Integer.MAX_VALUE);
+            long target = Math.min(issuedAmounts[w] - usedAmounts[w], remain);
+            usedAmounts[w] += target;
+            remain -= target;
+        }
+
+        if (remain > 0) {
+            historyDiffs.add(new PointReplayDiff(PointReplayDiff.Type.USE_SHORTAGE, memberIds[member], null,
+                    String.valueOf(amount), String.valueOf(amount - remain)));
+            unverifiable[member] = true;
+        }
+    }
+
+    /**
+     * 사용 취소 (wallet 단위 사용 상세) : 상세 순서(차감 역순)로 상세별 잔여 금액만큼 복원
+     */
+    private void useCancel(int member, String orderNo, PointReplayLogChunk.UseDetails details, long amount, int today) {
+        long[] remains = cancelRemains.computeIfAbsent(orderNo, key -> details.usedAmounts().clone());
+
+        long remainCancel = amount;
+        boolean exhausted = true;
+        for (int d = 0; d < remains.length; d++) {
+            if (remainCancel > 0 && remains[d] > 0) {
+                long target = Math.min(remains[d], remainCancel);
+                int wallet = walletIndex.get(details.walletIds()[d]);
+                if (wallet == LongIntHashMap.NO_VALUE) {
+                    unverifiable[member] = true;
+                } else {
+                    restore(member, wallet, target, today);
+                }
+                remains[d] -= target;
+                remainCancel -= target;
+            }
+            if (remains[d] > 0) exhausted = false;
+        }
+
+        if (exhausted) cancelRemains.remove(orderNo);
+        if (remainCancel > 0) {
+            historyDiffs.add(new PointReplayDiff(PointReplayDiff.Type.CANCEL_EXCEEDED, memberIds[member], null,
+                    String.valueOf(amount - remainCancel), String.valueOf(amount)));
+            unverifiable[member] = true;
+        }
+    }
+
+    /**
+     * 사용 취소 (wallet 단위 기록 이전 주문) : 사용 금액이 있는 정상 / 만료 wallet 을 만료일 역순으로 복원
+     */
+    private void legacyUseCancel(int member, long amount, int today) {
+        int candidates = 0;
+        for (int w = firstWallets[member]; w != NONE; w = nextWallets[w]) {
+            if ((statuses[w] == NORMAL || statuses[w] == EXPIRED) && usedAmounts[w] > 0) {
+                candidates = addSortKey(candidates, ((long) (MAX_DAY - expireDays[w]) << 31) | w);
+            }
+        }
+        Arrays.sort(sortKeys, 0, candidates);
+
+        long remain = amount;
+        for (int c = 0; c < candidates && remain > 0; c++) {
+            int w = (int) (sortKeys[c] & Integer.MAX_VALUE);
+            long target = Math.min(usedAmounts[w], remain);
+            restore(member, w, target, today);
+            remain -= target;
+        }
+    }
+
+    /**
+     * 정상 wallet 은 사용 금액 복원, 만료 wallet 은 처리일 + 1년 만료 재적립 wallet 생성
+     */
+    private void restore(int member, int wallet, long amount, int today) {
+        if (statuses[wallet] == EXPIRED) {
+            int expireDay = (int) LocalDate.ofEpochDay(today).plusYears(1).toEpochDay();
+            addWallet(member, 0, amount, expireDay, (byte) 1);
+        } else {
+            usedAmounts[wallet] -= amount;
+        }
+    }
+
+    /**
+     * 만료 : 처리일 이전 만료일의 정상 wallet 을 (만료일, 생성 순) 으로 만료 로그 금액만큼 만료
+     * <p>
+     * - 만료 배치는 chunk 마다 회원별 로그를 남기므로 한 번의 실행이 여러 로그로 나뉠 수 있음
+     */
+    private void expire(int member, long amount, int today) {
+        int candidates = 0;
+        for (int w = firstWallets[member]; w != NONE; w = nextWallets[w]) {
+            if (statuses[w] == NORMAL && expireDays[w] < today) {
+                candidates = addSortKey(candidates, ((long) expireDays[w] << 31) | w);
+            }
+        }
+        Arrays.sort(sortKeys, 0, candidates);
+
+        long expired = 0;
+        for (int c = 0; c < candidates; c++) {
+            int w = (int) (sortKeys[c] & Integer.MAX_VALUE);
+            long remain = issuedAmounts[w] - usedAmounts[w];
+            if (expired >= amount && remain > 0) break;
+            statuses[w] = EXPIRED;
+            expired += remain;
+        }
+
+        if (expired != amount) {
+            historyDiffs.add(new PointReplayDiff(PointReplayDiff.Type.EXPIRATION_AMOUNT, memberIds[member], null,
+                    String.valueOf(amount), String.valueOf(expired)));
+        }
+    }
+
+    /**
+     * 재계산 결과와 현재 회원 잔액 / wallet 비교 (회원 1명)
+     * <p>
+     * - 로그가 없는 회원은 잔액 0, wallet 없음이 기대값
+     *
+     * @param dbWallets 회원의 현재 wallet (wallet_id 순)
+     */
+    void compare(long memberId, long dbBalance, List<PointWallet> dbWallets, Comparison comparison) {
+        int member = memberIndex.get(memberId);
+        long balance = member == NONE ? 0 : balances[member];
+        if (dbBalance != balance) {
+            comparison.diffs.add(new PointReplayDiff(PointReplayDiff.Type.BALANCE, memberId, null,
+                    String.valueOf(balance), String.valueOf(dbBalance)));
+            comparison.balanceCorrections.add(new BalanceCorrection(memberId, balance, dbBalance));
+        }
+
+        if (member == NONE) {
+            dbWallets.forEach(wallet -> comparison.diffs.add(unlogged(wallet)));
+            return;
+        }
+        compared[member] = true;
+        // 병합된 wallet 이 있는 회원은 로그만으로 wallet 단위 차감 위치를 재현할 수 없으므로 잔액만 비교
+        if (unverifiable[member] || dbWallets.stream().anyMatch(wallet -> Val.MERGED.equals(wallet.getWalletStatus()))) {
+            comparison.unverifiableMembers++;
+            return;
+        }
+        compareWallets(member, dbWallets, comparison);
+    }
+
+    /**
+     * 로그는 있으나 member 테이블에 없는 회원
+     */
+    void compareMissingMembers(Comparison comparison) {
+        for (int member = 0; member < memberCount; member++) {
+            if (compared[member]) continue;
+            comparison.diffs.add(new PointReplayDiff(PointReplayDiff.Type.BALANCE, memberIds[member], null,
+                    String.valueOf(balances[member]), null));
+        }
+    }
+
+    /**
+     * wallet_id 가 있는 wallet 은 ID 로, 재적립 wallet 은 생성 순서로 매칭
+     */
+    private void compareWallets(int member, List<PointWallet> dbWallets, Comparison comparison) {
+        long memberId = memberIds[member];
+        Map<Long, PointWallet> dbById = new HashMap<>();
+        ArrayDeque<PointWallet> dbResavings = new ArrayDeque<>();
+        for (PointWallet wallet : dbWallets) {
+            if (wallet.getSourceType() == WalletSourceType.RESAVING) {
+                dbResavings.add(wallet);
+            } else {
+                dbById.put(wallet.getWalletId(), wallet);
+            }
+        }
+
+        for (int w = firstWallets[member]; w != NONE; w = nextWallets[w]) {
+            PointWallet dbWallet = walletIds[w] == 0 ? dbResavings.poll() : dbById.remove(walletIds[w]);
+            if (dbWallet == null) {
+                comparison.diffs.add(new PointReplayDiff(PointReplayDiff.Type.WALLET_MISSING, memberId,
+                        walletIds[w] == 0 ? null : walletIds[w], String.valueOf(issuedAmounts[w]), null));
+            } else {
+                compareWallet(w, dbWallet, comparison);
+            }
+        }
+
+        dbById.values().forEach(wallet -> comparison.diffs.add(unlogged(wallet)));
+        dbResavings.forEach(wallet -> comparison.diffs.add(unlogged(wallet)));
+    }
+
+    private void compareWallet(int w, PointWallet dbWallet, Comparison comparison) {
+        String status = STATUS_CODES[statuses[w]];
+        // 잔여 0 인 wallet 은 만료 로그 없이 만료 처리될 수 있으므로 만료일이 지났으면 만료 상태도 일치로 봄
+        if (statuses[w] == NORMAL && Val.EXPIRED.equals(dbWallet.getWalletStatus())
+                && issuedAmounts[w] == usedAmounts[w] && expireDays[w] < LocalDate.now().toEpochDay()) {
+            status = Val.EXPIRED;
+        }
+
+        boolean issuedDiff = dbWallet.getIssuedAmount() != issuedAmounts[w];
+        boolean usedDiff = dbWallet.getUsedAmount() != usedAmounts[w];
+        boolean statusDiff = !status.equals(dbWallet.getWalletStatus());
+        if (!issuedDiff && !usedDiff && !statusDiff) return;
+
+        long memberId = dbWallet.getMemberId();
+        long walletId = dbWallet.getWalletId();
+        if (issuedDiff) {
+            comparison.diffs.add(new PointReplayDiff(PointReplayDiff.Type.WALLET_ISSUED, memberId, walletId,
+                    String.valueOf(issuedAmounts[w]), dbWallet.getIssuedAmount().toString()));
+        }
+        if (usedDiff) {
+            comparison.diffs.add(new PointReplayDiff(PointReplayDiff.Type.WALLET_USED, memberId, walletId,
+                    String.valueOf(usedAmounts[w]), dbWallet.getUsedAmount().toString()));
+        }
+        if (statusDiff) {
+            comparison.diffs.add(new PointReplayDiff(PointReplayDiff.Type.WALLET_STATUS, memberId, walletId,
+                    status, dbWallet.getWalletStatus()));
+        }
+
+        PointWallet expected = PointWallet.builder()
+                .walletId(walletId)
+                .memberId(memberId)
+                .issuedAmount(issuedAmounts[w])
+                .usedAmount(usedAmounts[w])
+                .walletStatus(status)
+                .build();
+        comparison.walletCorrections.add(new WalletCorrection(memberId, expected, dbWallet));
+    }
+
+    private static PointReplayDiff unlogged(PointWallet wallet) {
+        return new PointReplayDiff(PointReplayDiff.Type.WALLET_UNLOGGED, wallet.getMemberId(), wallet.getWalletId(),
+                null, wallet.getIssuedAmount().toString());
+    }
+
+    private int member(long memberId) {
+        int member = memberIndex.get(memberId);
+        if (member != LongIntHashMap.NO_VALUE) return member;
+
+        if (memberCount == memberIds.length) {
+            int capacity = memberCount << 1;
+            memberIds = Arrays.copyOf(memberIds, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            firstWallets = Arrays.copyOf(firstWallets, capacity);
+            lastWallets = Arrays.copyOf(lastWallets, capacity);
+            unverifiable = Arrays.copyOf(unverifiable, capacity);
+            compared = Arrays.copyOf(compared, capacity);
+        }
+        member = memberCount++;
+        memberIds[member] = memberId;
+        firstWallets[member] = NONE;
+        lastWallets[member] = NONE;
+        memberIndex.put(memberId, member);
+        return member;
+    }
+
+    private void addWallet(int member, long walletId, long issuedAmount, int expireDay, byte usePriority) {
+        if (walletCount == walletIds.length) {
+            int capacity = walletCount << 1;
+            walletIds = Arrays.copyOf(walletIds, capacity);
+            issuedAmounts = Arrays.copyOf(issuedAmounts, capacity);
+            usedAmounts = Arrays.copyOf(usedAmounts, capacity);
+            expireDays = Arrays.copyOf(expireDays, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            usePriorities = Arrays.copyOf(usePriorities, capacity);
+            nextWallets = Arrays.copyOf(nextWallets, capacity);
+        }
+        int wallet = walletCount++;
+        walletIds[wallet] = walletId;
+        issuedAmounts[wallet] = issuedAmount;
+        usedAmounts[wallet] = 0;
+        expireDays[wallet] = expireDay;
+        statuses[wallet] = NORMAL;
+        usePriorities[wallet] = usePriority;
+        nextWallets[wallet] = NONE;
+        if (walletId != 0) walletIndex.put(walletId, wallet);
+
+        // 회원 wallet 목록은 생성 순 (= wallet_id 순)
+        if (lastWallets[member] == NONE) {
+            firstWallets[member] = wallet;
+        } else {
+            nextWallets[lastWallets[member]] = wallet;
+        }
+        lastWallets[member] = wallet;
+    }
+
+    private int addSortKey(int size, long key) {
+        if (size == sortKeys.length) sortKeys = Arrays.copyOf(sortKeys, size << 1);
+        sortKeys[size] = key;
+        return size + 1;
+    }
+
+    int memberCount() {
+        return memberCount;
+    }
+
+    int walletCount() {
+        return walletCount;
+    }
+
+    long logCount() {
+        return logCount;
+    }
+
+    List<PointReplayDiff> historyDiffs() {
+        return historyDiffs;
+    }
+
+    record BalanceCorrection(long memberId, long expected, long observed) {
+    }
+
+    record WalletCorrection(long memberId, PointWallet expected, PointWallet observed) {
+    }
+
+    /**
+     * shard 비교 결과 (shard 마다 1개)
+     */
+    static final class Comparison {
+        final List<PointReplayDiff> diffs = new ArrayList<>();
+        final List<BalanceCorrection> balanceCorrections = new ArrayList<>();
+        final List<WalletCorrection> walletCorrections = new ArrayList<>();
+        long unverifiableMembers;
+    }
+}
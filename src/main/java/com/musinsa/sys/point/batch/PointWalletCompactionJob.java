@@ -0,0 +1,206 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.common.util.DateUtil;
+import com.musinsa.sys.member.component.MemberLockManager;
+import com.musinsa.sys.point.dto.PointWalletCompactionReport;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointWalletCompactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자동지급 wallet 병합 배치
+ * <p>
+ * - 소액 자동지급(리뷰 / 출석 등)이 쌓인 회원은 사용할 때마다 wallet 수천 건을 조회 / 정렬하므로
+ * 미사용 자동지급 wallet 을 만료일별로 1개의 병합 wallet 으로 합침
+ * - 병합 대상 : 자동지급(AU) + 정상 + 미사용 + 만료일 >= 기준일 (사용 순서 / 만료일 / 만료일별 잔액 요약 / 회원 잔액 불변)
+ * - 원 wallet 은 병합 상태('30')로 남기고 point_wallet_merge 에 병합 wallet 을 기록 (감사 / 적립 취소 추적)
+ * - 같은 만료일의 병합 wallet 이 아직 미사용이면 새로 만들지 않고 그 wallet 에 합침 (병합 이력이 1단계로 유지)
+ * - 회원마다 chunk-size 건씩 별도 트랜잭션 : 회원 JVM Lock → 회원 Row Lock → wallet 재조회(FOR UPDATE) → 병합 → version 증가
+ */
+@Slf4j
+@Component
+public class PointWalletCompactionJob {
+
+    private final PointWalletCompactionRepository pointWalletCompactionRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final MemberLockManager memberLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int minWallets;
+    private final int chunkSize;
+    private final int memberPageSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PointWalletCompactionJob(PointWalletCompactionRepository pointWalletCompactionRepository,
+                                    PointBatchRepository pointBatchRepository,
+                                    MemberLockManager memberLockManager,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${point.wallet-compaction.enabled:true}") boolean enabled,
+                                    @Value("${point.wallet-compaction.min-wallets:100}") int minWallets,
+                                    @Value("${point.wallet-compaction.chunk-size:500}") int chunkSize,
+                                    @Value("${point.wallet-compaction.member-page-size:1000}") int memberPageSize) {
+        this.pointWalletCompactionRepository = pointWalletCompactionRepository;
+        this.pointBatchRepository = pointBatchRepository;
+        this.memberLockManager = memberLockManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minWallets = Math.max(2, minWallets);
+        this.chunkSize = Math.max(2, chunkSize);
+        this.memberPageSize = memberPageSize;
+    }
+
+    @Scheduled(cron = "${point.wallet-compaction.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        run(LocalDate.now());
+    }
+
+    /**
+     * 병합 대상 wallet 이 min-wallets 개 이상인 전체 회원 병합
+     */
+    public PointWalletCompactionReport run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("point wallet compaction job is already running");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        PointWalletCompactionReport report = new PointWalletCompactionReport();
+        try {
+            long afterMemberId = 0;
+            while (true) {
+                List<Long> memberIds = pointWalletCompactionRepository.findCandidateMembers(
+                        afterMemberId, today, minWallets, memberPageSize);
+                if (memberIds.isEmpty()) break;
+
+                for (Long memberId : memberIds) {
+                    compactMember(memberId, today, report);
+                }
+                afterMemberId = memberIds.get(memberIds.size() - 1);
+            }
+
+            report.setElapsedMillis(System.currentTimeMillis() - startedAt);
+            log.info("point wallet compaction completed : {} members, {} wallets merged into {} new wallets ({}ms)",
+                    report.getMemberCount(), report.getMergedWalletCount(), report.getCreatedWalletCount(),
+                    report.getElapsedMillis());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 회원 1명 병합 (chunk 마다 회원 Lock 을 다시 잡으므로 chunk 사이에 일반 거래가 끼어들 수 있음)
+     */
+    public void compactMember(long memberId, LocalDate today, PointWalletCompactionReport report) {
+        report.setMemberCount(report.getMemberCount() + 1);
+
+        PointWallet last = null;
+        while (true) {
+            PointWallet after = last;
+            List<PointWallet> chunk;
+            try {
+                chunk = memberLockManager.executeWithLock(memberId, () -> transactionTemplate.execute(status ->
+                        compactChunk(memberId, today, after, report)));
+            } catch (ServiceException e) {
+                log.warn("point wallet compaction skipped member {} : {}", memberId, e.getProcCd());
+                report.setFailedMemberCount(report.getFailedMemberCount() + 1);
+                return;
+            }
+            report.setChunkCount(report.getChunkCount() + 1);
+            if (chunk.size() < chunkSize) return;
+            last = chunk.get(chunk.size() - 1);
+        }
+    }
+
+    /**
+     * chunk 1개 병합 (트랜잭션 내부)
+     *
+     * @return 조회한 병합 대상 wallet (keyset 위치 계산용)
+     */
+    private List<PointWallet> compactChunk(long memberId, LocalDate today, PointWallet after,
+                                           PointWalletCompactionReport report) {
+        // 회원 Row Lock 후 wallet 재조회 (일반 거래와 같은 Lock 순서)
+        pointBatchRepository.findBalancesForUpdate(List.of(memberId));
+        List<PointWallet> chunk = pointWalletCompactionRepository.findFreshWalletsForUpdate(memberId, today,
+                after == null ? null : after.getExpireDate(), after == null ? null : after.getWalletId(), chunkSize);
+
+        Map<LocalDate, List<PointWallet>> groups = new LinkedHashMap<>();
+        for (PointWallet wallet : chunk) {
+            groups.computeIfAbsent(wallet.getExpireDate(), key -> new ArrayList<>()).add(wallet);
+        }
+        groups.values().removeIf(group -> group.size() < 2);
+        if (groups.isEmpty()) return chunk;
+
+        // 만료일별 병합 wallet : 미사용 병합 wallet 이 있으면 재사용, 없으면 신규 생성
+        List<Long> walletIds = new ArrayList<>();
+        groups.values().forEach(group -> group.forEach(wallet -> walletIds.add(wallet.getWalletId())));
+        Set<Long> mergedWalletIds = pointWalletCompactionRepository.findMergedWalletIds(walletIds);
+
+        LocalDateTime mergedAt = DateUtil.getLocalDateTimeWithNano();
+        List<PointWallet> targets = new ArrayList<>();
+        List<PointWallet> newWallets = new ArrayList<>();
+        for (List<PointWallet> group : groups.values()) {
+            PointWallet target = group.stream()
+                    .filter(wallet -> mergedWalletIds.contains(wallet.getWalletId()))
+                    .findFirst()
+                    .orElse(null);
+            if (target == null) {
+                target = PointWallet.builder()
+                        .memberId(memberId)
+                        .issuedAmount(0L)
+                        .usedAmount(0L)
+                        .walletStatus(group.get(0).getWalletStatus())
+                        .expireDate(group.get(0).getExpireDate())
+                        .sourceType(group.get(0).getSourceType())
+                        .createdAt(mergedAt)
+                        .build();
+                newWallets.add(target);
+            }
+            targets.add(target);
+        }
+        if (!newWallets.isEmpty()) {
+            pointBatchRepository.batchInsertWallets(newWallets);
+        }
+
+        Map<Long, List<PointWallet>> sources = new LinkedHashMap<>();
+        Map<Long, Long> remaps = new LinkedHashMap<>();
+        int index = 0;
+        for (List<PointWallet> group : groups.values()) {
+            long targetId = targets.get(index++).getWalletId();
+            List<PointWallet> groupSources = new ArrayList<>();
+            for (PointWallet wallet : group) {
+                if (wallet.getWalletId() == targetId) continue;
+                groupSources.add(wallet);
+                // 같은 만료일의 병합 wallet 이 둘 이상이면 나머지 병합 wallet 의 원 wallet 도 대상 wallet 으로 옮김
+                if (mergedWalletIds.contains(wallet.getWalletId())) remaps.put(wallet.getWalletId(), targetId);
+            }
+            sources.put(targetId, groupSources);
+        }
+        pointWalletCompactionRepository.remapMergedWallets(remaps);
+        pointWalletCompactionRepository.merge(sources, mergedAt);
+
+        // 잔액 변경은 없지만 낙관적 모드의 진행 중 거래가 병합 전 wallet 을 덮어쓰지 않도록 version 증가
+        pointBatchRepository.incrementVersions(List.of(memberId));
+
+        report.setMergedWalletCount(report.getMergedWalletCount() + sources.values().stream().mapToLong(List::size).sum());
+        report.setCreatedWalletCount(report.getCreatedWalletCount() + newWallets.size());
+        return chunk;
+    }
+}
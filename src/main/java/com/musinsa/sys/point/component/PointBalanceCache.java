@@ -0,0 +1,160 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.dto.PointBalanceResp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 회원 잔액 요약 Read-Through 캐시
+ * <p>
+ * - 조회 시 캐시에 없으면 loader(DB 조회) 결과를 저장
+ * - 포인트 변경 트랜잭션은 evict 를 호출하고, 실제 삭제는 커밋 이후에 수행
+ * - 조회 중 같은 회원이 변경되면 (stripe 별 변경 번호 비교) 조회 결과를 캐시에 남기지 않음
+ * - 일자가 바뀌면 (만료 예정 금액 기준일 변경) 다시 조회
+ * - evict 는 같은 노드의 변경만 알 수 있으므로 저장 후 ttl 이 지나면 다시 조회 (다른 노드 / 배치 변경의 반영 지연 상한)
+ * - 회원 ID 로 나눈 segment 별 LRU (access 순서) 로 max-entries 를 넘으면 오래 조회되지 않은 회원부터 제거
+ * - 캐시에는 값만 보관하고 조회마다 새 PointBalanceResp 를 반환 (호출자가 응답을 바꿔도 캐시 값은 그대로)
+ */
+@Component
+public class PointBalanceCache {
+
+    private static final int STRIPES = 1024;
+    private static final int SEGMENTS = 16;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    public PointBalanceCache(@Value("${point.balance.cache.enabled:true}") boolean enabled,
+                             @Value("${point.balance.cache.max-entries:100000}") int maxEntries,
+                             @Value("${point.balance.cache.ttl-ms:5000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        int segmentEntries = Math.max(1, (maxEntries + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentEntries);
+        }
+    }
+
+    public PointBalanceResp get(Long memberId, Supplier<PointBalanceResp> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        int stripe = stripeIndex(memberId);
+        Segment segment = segments[stripe & (SEGMENTS - 1)];
+        LocalDate today = LocalDate.now();
+        long now = System.nanoTime();
+        Entry cached = segment.get(memberId);
+        if (cached != null && cached.baseDate().equals(today) && now - cached.loadedAt() < ttlNanos) {
+            return cached.toResp();
+        }
+
+        long invalidation = invalidations.get(stripe);
+        PointBalanceResp balance = loader.get();
+
+        Entry entry = Entry.of(today, now, balance);
+        segment.put(memberId, entry);
+        // 조회 중 커밋된 변경이 있으면 방금 넣은 값은 오래된 값일 수 있으므로 제거
+        if (invalidations.get(stripe) != invalidation) {
+            segment.remove(memberId, entry);
+        }
+        return balance;
+    }
+
+    /**
+     * 회원 캐시 삭제 (트랜잭션 중이면 커밋 후 삭제)
+     */
+    public void evict(Long memberId) {
+        evictAll(List.of(memberId));
+    }
+
+    public void evictAll(Collection<Long> memberIds) {
+        if (!enabled || memberIds.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> targets = List.copyOf(memberIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(targets);
+                }
+            });
+        } else {
+            doEvict(memberIds);
+        }
+    }
+
+    private void doEvict(Collection<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            int stripe = stripeIndex(memberId);
+            invalidations.incrementAndGet(stripe);
+            segments[stripe & (SEGMENTS - 1)].remove(memberId);
+        }
+    }
+
+    private int stripeIndex(long memberId) {
+        long hash = memberId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (STRIPES - 1);
+    }
+
+    /**
+     * 회원 잔액 요약 값 (불변)
+     */
+    private record Entry(LocalDate baseDate, long loadedAt, Long memberId, Long availableAmount,
+                         Long expiringThisMonthAmount, LocalDate nextExpireDate, Long nextExpireAmount) {
+
+        static Entry of(LocalDate baseDate, long loadedAt, PointBalanceResp balance) {
+            return new Entry(baseDate, loadedAt, balance.getMemberId(), balance.getAvailableAmount(),
+                    balance.getExpiringThisMonthAmount(), balance.getNextExpireDate(), balance.getNextExpireAmount());
+        }
+
+        PointBalanceResp toResp() {
+            return new PointBalanceResp(memberId, availableAmount, expiringThisMonthAmount, nextExpireDate, nextExpireAmount);
+        }
+    }
+
+    /**
+     * access 순서 LRU (segment 단위 Lock)
+     */
+    private static final class Segment {
+        private final LinkedHashMap<Long, Entry> entries;
+
+        Segment(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Entry get(Long memberId) {
+            return entries.get(memberId);
+        }
+
+        synchronized void put(Long memberId, Entry entry) {
+            entries.put(memberId, entry);
+        }
+
+        synchronized void remove(Long memberId) {
+            entries.remove(memberId);
+        }
+
+        synchronized void remove(Long memberId, Entry entry) {
+            entries.remove(memberId, entry);
+        }
+    }
+}
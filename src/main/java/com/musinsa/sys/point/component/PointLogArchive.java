@@ -0,0 +1,359 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import com.musinsa.sys.point.entity.PointLog;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * point_log 월별 아카이브 파일 (로컬 디스크)
+ * <p>
+ * - 파일 1개 = 1개월 (point-log-yyyyMM.arc), order_no 순으로 정렬된 레코드를 block-size 건씩 Deflate 압축
+ * - 파일 끝에 block 별 (첫 order_no, offset, 길이) 인덱스를 두어 주문번호 조회 시 해당 block 만 읽음
+ * - 아카이브 완료 월은 batch_checkpoint(POINT_LOG_ARCHIVE) 기준이며, 파일이 있어도 완료 전이면 사용하지 않음
+ * - 재계산은 완료 월 파일 전체를 block 순서대로 읽음 (scan)
+ */
+@Slf4j
+@Component
+public class PointLogArchive {
+
+    public static final String JOB_NAME = "POINT_LOG_ARCHIVE";
+
+    // PLA2 : 레코드에 wallet_id 추가, PLA3 : created_at 마이크로초 추가 (PLA1 / PLA2 파일도 읽기 가능)
+    private static final int MAGIC_V1 = 0x504C4131; // "PLA1"
+    private static final int MAGIC_V2 = 0x504C4132; // "PLA2"
+    private static final int MAGIC = 0x504C4133; // "PLA3"
+    private static final String FILE_PREFIX = "point-log-";
+    private static final String FILE_SUFFIX = ".arc";
+
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final Path directory;
+    private final int blockSize;
+
+    private final Map<YearMonth, ArchiveIndex> indexes = new ConcurrentHashMap<>();
+    private volatile YearMonth archivedThrough;
+
+    public PointLogArchive(BatchCheckpointRepository batchCheckpointRepository,
+                           @Value("${point.log-archive.dir:./data/point-log-archive}") String directory,
+                           @Value("${point.log-archive.block-size:1024}") int blockSize) {
+        this.batchCheckpointRepository = batchCheckpointRepository;
+        this.directory = Paths.get(directory);
+        this.blockSize = blockSize;
+    }
+
+    @PostConstruct
+    public void refresh() {
+        archivedThrough = batchCheckpointRepository.findByJobName(JOB_NAME)
+                .map(BatchCheckpoint::getLastKeyDate)
+                .map(YearMonth::from)
+                .orElse(null);
+    }
+
+    /**
+     * 주문번호 앞 6자리(yyyyMM)로 월 계산, 형식이 다르면 null
+     */
+    public static YearMonth monthOf(String orderNo) {
+        if (orderNo == null || orderNo.length() < 6) return null;
+        try {
+            return YearMonth.of(Integer.parseInt(orderNo.substring(0, 4)), Integer.parseInt(orderNo.substring(4, 6)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public boolean isArchived(YearMonth month) {
+        YearMonth through = archivedThrough;
+        return month != null && through != null && !month.isAfter(through);
+    }
+
+    /**
+     * 아카이브 완료 월 (없으면 null)
+     */
+    public YearMonth getArchivedThrough() {
+        return archivedThrough;
+    }
+
+    public void markArchivedThrough(YearMonth month) {
+        archivedThrough = month;
+    }
+
+    /**
+     * 아카이브 완료 월 중 파일이 있는 월 (오래된 순)
+     */
+    public List<YearMonth> getArchivedMonths() {
+        YearMonth through = archivedThrough;
+        if (through == null || !Files.isDirectory(directory)) return List.of();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+                    .map(name -> name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()))
+                    .filter(key -> key.length() == 6 && key.chars().allMatch(Character::isDigit))
+                    .map(key -> YearMonth.of(Integer.parseInt(key.substring(0, 4)), Integer.parseInt(key.substring(4, 6))))
+                    .filter(month -> !month.isAfter(through))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to list point log archive : " + directory, e);
+        }
+    }
+
+    /**
+     * 월 아카이브 파일 전체를 기록 순서(order_no, created_at, log_id)로 전달 (파일이 없으면 전달 없음)
+     */
+    public void scan(YearMonth month, Consumer<PointLog> consumer) {
+        Path file = fileOf(month);
+        if (!Files.exists(file)) return;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ArchiveIndex index = indexes.computeIfAbsent(month, m -> readIndex(channel, file));
+            for (BlockIndex block : index.blocks()) {
+                readBlock(channel, block, index.version()).forEach(consumer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read point log archive : " + file, e);
+        }
+    }
+
+    /**
+     * 월 아카이브 파일 작성 (임시 파일 기록 + fsync 후 교체)
+     *
+     * @param source order_no, created_at, log_id 순으로 레코드를 전달하는 함수
+     * @return 기록 건수
+     */
+    public long write(YearMonth month, Consumer<Consumer<PointLog>> source) {
+        Path target = fileOf(month);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                BlockWriter writer = new BlockWriter(channel);
+                source.accept(writer::add);
+                writer.finish();
+                channel.force(true);
+                indexes.remove(month);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return writer.count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write point log archive : " + target, e);
+        }
+    }
+
+    /**
+     * 아카이브 파일에서 주문번호 로그 조회 (파일이 없으면 빈 목록)
+     */
+    public List<PointLog> findByOrderNo(YearMonth month, String orderNo) {
+        List<PointLog> found = new ArrayList<>();
+        Path file = fileOf(month);
+        if (!Files.exists(file)) return found;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ArchiveIndex index = indexes.computeIfAbsent(month, m -> readIndex(channel, file));
+            List<BlockIndex> blocks = index.blocks();
+
+            // orderNo 보다 작은 첫 key 를 가진 마지막 block 부터 (이전 block 에서 같은 주문이 시작될 수 있음)
+            int low = 0;
+            int high = blocks.size() - 1;
+            int start = 0;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (blocks.get(mid).firstKey.compareTo(orderNo) < 0) {
+                    start = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            for (int i = start; i < blocks.size() && blocks.get(i).firstKey.compareTo(orderNo) <= 0; i++) {
+                for (PointLog pointLog : readBlock(channel, blocks.get(i), index.version())) {
+                    if (orderNo.equals(pointLog.getOrderNo())) found.add(pointLog);
+                }
+            }
+            return found;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read point log archive : " + file, e);
+        }
+    }
+
+    private Path fileOf(YearMonth month) {
+        return directory.resolve(String.format("%s%04d%02d%s", FILE_PREFIX, month.getYear(), month.getMonthValue(), FILE_SUFFIX));
+    }
+
+    private static ArchiveIndex readIndex(FileChannel channel, Path file) {
+        try {
+            long size = channel.size();
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+            channel.read(trailer, size - trailer.capacity());
+            trailer.flip();
+            long indexOffset = trailer.getLong();
+            int magic = trailer.getInt();
+            if (magic != MAGIC && magic != MAGIC_V2 && magic != MAGIC_V1) {
+                throw new IOException("invalid point log archive : " + file);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) (size - trailer.capacity() - indexOffset));
+            channel.read(buffer, indexOffset);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+
+            int blocks = in.readInt();
+            List<BlockIndex> index = new ArrayList<>(blocks);
+            for (int i = 0; i < blocks; i++) {
+                index.add(new BlockIndex(in.readUTF(), in.readLong(), in.readInt()));
+            }
+            return new ArchiveIndex(magic, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<PointLog> readBlock(FileChannel channel, BlockIndex block, int version) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(block.length);
+        channel.read(buffer, block.offset);
+
+        List<PointLog> pointLogs = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(buffer.array())))) {
+            int records = in.readInt();
+            for (int i = 0; i < records; i++) {
+                PointLog pointLog = PointLog.builder()
+                        .logId(in.readLong())
+                        .memberId(in.readLong())
+                        .logType(in.readUTF())
+                        .logAt(LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC))
+                        .orderNo(in.readBoolean() ? in.readUTF() : null)
+                        .amount(in.readLong())
+                        .createdAt(LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC))
+                        .build();
+                if (version != MAGIC_V1) {
+                    long walletId = in.readLong();
+                    if (walletId >= 0) pointLog.setWalletId(walletId);
+                }
+                if (version == MAGIC) {
+                    pointLog.setCreatedAt(pointLog.getCreatedAt().withNano(in.readInt()));
+                }
+                pointLogs.add(pointLog);
+            }
+        }
+        return pointLogs;
+    }
+
+    private record BlockIndex(String firstKey, long offset, int length) {
+    }
+
+    private record ArchiveIndex(int version, List<BlockIndex> blocks) {
+    }
+
+    /**
+     * block-size 건씩 압축하여 기록, 마지막에 인덱스 + trailer 기록
+     */
+    private final class BlockWriter {
+
+        private final FileChannel channel;
+        private final List<BlockIndex> index = new ArrayList<>();
+        private final List<PointLog> pending = new ArrayList<>();
+        private long position;
+        private long count;
+        private String lastKey = "";
+
+        BlockWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            write(ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).flip());
+        }
+
+        void add(PointLog pointLog) {
+            String key = pointLog.getOrderNo() == null ? "" : pointLog.getOrderNo();
+            if (key.compareTo(lastKey) < 0) {
+                throw new IllegalArgumentException("point log archive requires order_no order : " + key + " < " + lastKey);
+            }
+            lastKey = key;
+            pending.add(pointLog);
+            count++;
+            if (pending.size() >= blockSize) flushBlock();
+        }
+
+        void finish() throws IOException {
+            flushBlock();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(index.size());
+            for (BlockIndex block : index) {
+                out.writeUTF(block.firstKey);
+                out.writeLong(block.offset);
+                out.writeInt(block.length);
+            }
+            long indexOffset = position;
+            write(ByteBuffer.wrap(bytes.toByteArray()));
+            write(ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(indexOffset).putInt(MAGIC).flip());
+        }
+
+        private void flushBlock() {
+            if (pending.isEmpty()) return;
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(
+                        new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED)))) {
+                    out.writeInt(pending.size());
+                    for (PointLog pointLog : pending) {
+                        out.writeLong(pointLog.getLogId());
+                        out.writeLong(pointLog.getMemberId());
+                        out.writeUTF(pointLog.getLogType());
+                        out.writeLong(pointLog.getLogAt().toEpochSecond(ZoneOffset.UTC));
+                        out.writeBoolean(pointLog.getOrderNo() != null);
+                        if (pointLog.getOrderNo() != null) out.writeUTF(pointLog.getOrderNo());
+                        out.writeLong(pointLog.getAmount());
+                        out.writeLong(pointLog.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                        out.writeLong(pointLog.getWalletId() == null ? -1 : pointLog.getWalletId());
+                        out.writeInt(pointLog.getCreatedAt().getNano());
+                    }
+                }
+
+                PointLog first = pending.get(0);
+                index.add(new BlockIndex(first.getOrderNo() == null ? "" : first.getOrderNo(), position, bytes.size()));
+                write(ByteBuffer.wrap(bytes.toByteArray()));
+                pending.clear();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+        }
+    }
+}
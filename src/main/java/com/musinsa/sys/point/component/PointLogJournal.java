@@ -0,0 +1,463 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.entity.PointLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 포인트 로그(point_log) 로컬 저널 (append-only, memory-mapped segment)
+ * <p>
+ * - 레코드 = [payload 길이][CRC32][seq][payload], seq 는 저널 전체에서 1부터 증가
+ * - segment 가 가득 차면 다음 segment 파일(point-log-{첫 seq}.seg)로 넘어감
+ * - fsync 는 group commit : 먼저 대기한 스레드가 그 시점까지 append 된 레코드를 한 번에 force
+ * - 기동 시 마지막 segment 를 검증(CRC / seq 연속성)하여 끝이 깨진 레코드부터 잘라냄
+ * - 저장된 레코드는 PointLogJournalDrainer 가 point_log 로 옮긴 뒤 segment 단위로 삭제
+ * - 커밋 전에 추가한 레코드(appendInFlight)는 트랜잭션이 끝날 때까지(completeInFlight) drainer 가 읽지 않음
+ */
+@Slf4j
+@Component
+public class PointLogJournal {
+
+    private static final String SEGMENT_PREFIX = "point-log-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    // payload 길이(4) + CRC32(4) + seq(8)
+    private static final int HEADER_BYTES = 16;
+    // memberId(8) + logType(2) + amount(8) + logAt(8) + createdAt(8 + 4) + orderNo 길이(2) + orderNo(최대 64) + walletId(8)
+    private static final int MAX_PAYLOAD_BYTES = 112;
+    // 다음 segment 로 넘어감 표시
+    private static final int NEXT_SEGMENT = -1;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // 커밋 / 롤백 결과가 아직 정해지지 않은 레코드 seq
+    private final ConcurrentSkipListSet<Long> inFlightSeqs = new ConcurrentSkipListSet<>();
+    private final Object appendLock = new Object();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ByteBuffer scratch = ByteBuffer.allocate(HEADER_BYTES + MAX_PAYLOAD_BYTES);
+    private final CRC32 crc32 = new CRC32();
+
+    private Segment active;
+    private long appendedSeq;
+    private volatile long durableSeq;
+
+    // drainer 이어 읽기 위치 (drainer 가 직렬로만 호출)
+    private ReadCursor readCursor;
+
+    public PointLogJournal(@Value("${point.log-journal.enabled:false}") boolean enabled,
+                           @Value("${point.log-journal.dir:./data/point-log-journal}") String directory,
+                           @Value("${point.log-journal.segment-size-mb:64}") int segmentSizeMb) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentSizeMb * 1024 * 1024;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) return;
+
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                                && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+
+            long lastSeq = 0;
+            for (Path file : files) {
+                Segment segment = Segment.map(file, firstSeqOf(file), segmentBytes);
+                segments.put(segment.firstSeq, segment);
+                lastSeq = Math.max(lastSeq, segment.firstSeq - 1);
+            }
+
+            if (segments.isEmpty()) {
+                active = newSegment(1);
+            } else {
+                active = segments.lastEntry().getValue();
+                lastSeq = recover(active);
+            }
+            appendedSeq = Math.max(lastSeq, active.firstSeq - 1);
+            durableSeq = appendedSeq;
+            log.info("point log journal opened : {} ({} segments, last seq {})", directory, segments.size(), appendedSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open point log journal : " + directory, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        syncLock.lock();
+        try {
+            synchronized (appendLock) {
+                for (Segment segment : segments.values()) {
+                    segment.close();
+                }
+                segments.clear();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 로그 추가 (fsync 전)
+     *
+     * @return 마지막으로 추가한 레코드의 seq (sync 대상)
+     */
+    public long append(List<PointLog> pointLogs) {
+        synchronized (appendLock) {
+            for (PointLog pointLog : pointLogs) {
+                long seq = appendedSeq + 1;
+                int recordBytes = encode(seq, pointLog);
+
+                if (active.writePosition + recordBytes + Integer.BYTES > segmentBytes) {
+                    roll(seq);
+                }
+                active.buffer.put(active.writePosition, scratch.array(), 0, recordBytes);
+                active.writePosition += recordBytes;
+                appendedSeq = seq;
+            }
+            return appendedSeq;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 전 로그 추가 (fsync 전)
+     * <p>
+     * - completeInFlight 호출 전까지 drainer 가 이 seq 부터는 읽지 않음 (커밋 표시가 보이기 전에 롤백으로 판단하지 않도록)
+     *
+     * @return 마지막으로 추가한 레코드의 seq (첫 seq = 반환값 - 건수 + 1)
+     */
+    public long appendInFlight(List<PointLog> pointLogs) {
+        synchronized (appendLock) {
+            long lastSeq = append(pointLogs);
+            for (long seq = lastSeq - pointLogs.size() + 1; seq <= lastSeq; seq++) {
+                inFlightSeqs.add(seq);
+            }
+            return lastSeq;
+        }
+    }
+
+    /**
+     * appendInFlight 레코드의 트랜잭션 종료 (커밋 / 롤백 무관)
+     */
+    public void completeInFlight(long firstSeq, long lastSeq) {
+        for (long seq = firstSeq; seq <= lastSeq; seq++) {
+            inFlightSeqs.remove(seq);
+        }
+    }
+
+    /**
+     * seq 까지 디스크에 기록될 때까지 대기 (group commit)
+     * <p>
+     * - Lock 을 기다리는 동안 앞선 스레드의 force 가 seq 를 포함하면 바로 반환
+     */
+    public void sync(long seq) {
+        if (durableSeq >= seq) return;
+
+        syncLock.lock();
+        try {
+            if (durableSeq >= seq) return;
+
+            long target;
+            Segment segment;
+            synchronized (appendLock) {
+                target = appendedSeq;
+                segment = active;
+            }
+            // 이전 segment 는 roll 시점에 이미 force 됨
+            segment.buffer.force();
+            durableSeq = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public long getDurableSeq() {
+        return durableSeq;
+    }
+
+    public long getAppendedSeq() {
+        synchronized (appendLock) {
+            return appendedSeq;
+        }
+    }
+
+    /**
+     * afterSeq 이후 디스크에 기록된 레코드를 최대 maxCount 건 조회
+     * <p>
+     * - 트랜잭션이 끝나지 않은 레코드가 있으면 그 앞까지만 조회
+     */
+    public List<Entry> read(long afterSeq, int maxCount) {
+        List<Entry> entries = new ArrayList<>();
+        long limitSeq = durableSeq;
+        Long oldestInFlight = inFlightSeqs.ceiling(Long.MIN_VALUE);
+        if (oldestInFlight != null) limitSeq = Math.min(limitSeq, oldestInFlight - 1);
+        if (afterSeq >= limitSeq) return entries;
+
+        ReadCursor cursor = readCursor != null && readCursor.seq == afterSeq ? readCursor : seek(afterSeq);
+        if (cursor == null) return entries;
+
+        Segment segment = cursor.segment;
+        int position = cursor.position;
+        long seq = cursor.seq;
+        byte[] record = new byte[HEADER_BYTES + MAX_PAYLOAD_BYTES];
+
+        while (entries.size() < maxCount && seq < limitSeq) {
+            int payloadBytes = position + Integer.BYTES > segmentBytes ? NEXT_SEGMENT : segment.buffer.getInt(position);
+            if (payloadBytes == NEXT_SEGMENT) {
+                Map.Entry<Long, Segment> next = segments.higherEntry(segment.firstSeq);
+                if (next == null) break;
+                segment = next.getValue();
+                position = 0;
+                continue;
+            }
+
+            PointLog pointLog = decode(segment.buffer, position, seq + 1, record);
+            if (pointLog == null) break;
+
+            seq++;
+            position += HEADER_BYTES + payloadBytes;
+            entries.add(new Entry(seq, pointLog));
+        }
+
+        readCursor = new ReadCursor(segment, position, seq);
+        return entries;
+    }
+
+    /**
+     * seq 까지 모두 옮겨진 segment 파일 삭제 (현재 쓰는 segment 제외)
+     */
+    public void deleteThrough(long seq) {
+        synchronized (appendLock) {
+            for (Map.Entry<Long, Segment> entry : segments.entrySet()) {
+                Segment segment = entry.getValue();
+                Long nextFirstSeq = segments.higherKey(entry.getKey());
+                if (segment == active || nextFirstSeq == null || nextFirstSeq - 1 > seq) break;
+
+                segments.remove(entry.getKey());
+                if (readCursor != null && readCursor.segment == segment) readCursor = null;
+                segment.close();
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    log.warn("failed to delete point log journal segment : {}", segment.path, e);
+                }
+            }
+        }
+    }
+
+    private void roll(long firstSeq) {
+        if (active.writePosition + Integer.BYTES <= segmentBytes) {
+            active.buffer.putInt(active.writePosition, NEXT_SEGMENT);
+        }
+        active.buffer.force();
+        active = newSegment(firstSeq);
+    }
+
+    private Segment newSegment(long firstSeq) {
+        try {
+            Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+            Segment segment = Segment.map(file, firstSeq, segmentBytes);
+            segments.put(firstSeq, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to create point log journal segment", e);
+        }
+    }
+
+    /**
+     * 마지막 segment 의 유효한 끝 위치를 찾고 이후 영역을 0 으로 초기화
+     *
+     * @return 마지막 유효 레코드 seq
+     */
+    private long recover(Segment segment) {
+        int position = 0;
+        long seq = segment.firstSeq - 1;
+        byte[] record = new byte[HEADER_BYTES + MAX_PAYLOAD_BYTES];
+
+        while (position + HEADER_BYTES <= segmentBytes) {
+            int payloadBytes = segment.buffer.getInt(position);
+            if (payloadBytes <= 0 || payloadBytes > MAX_PAYLOAD_BYTES
+                    || decode(segment.buffer, position, seq + 1, record) == null) {
+                break;
+            }
+            seq++;
+            position += HEADER_BYTES + payloadBytes;
+        }
+
+        for (int i = position; i < segmentBytes; i++) {
+            if (segment.buffer.get(i) != 0) {
+                log.warn("point log journal truncated at {} (last seq {})", position, seq);
+                segment.buffer.put(position, new byte[segmentBytes - position]);
+                segment.buffer.force();
+                break;
+            }
+        }
+        segment.writePosition = position;
+        return seq;
+    }
+
+    private int encode(long seq, PointLog pointLog) {
+        byte[] orderNo = pointLog.getOrderNo() == null ? null : pointLog.getOrderNo().getBytes(StandardCharsets.US_ASCII);
+        LocalDateTime createdAt = pointLog.getCreatedAt();
+
+        scratch.clear();
+        scratch.position(HEADER_BYTES);
+        scratch.putLong(pointLog.getMemberId());
+        scratch.put((byte) pointLog.getLogType().charAt(0));
+        scratch.put((byte) pointLog.getLogType().charAt(1));
+        scratch.putLong(pointLog.getAmount());
+        scratch.putLong(pointLog.getLogAt().toEpochSecond(ZoneOffset.UTC));
+        scratch.putLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        scratch.putInt(createdAt.getNano());
+        scratch.putShort((short) (orderNo == null ? -1 : orderNo.length));
+        if (orderNo != null) scratch.put(orderNo);
+        scratch.putLong(pointLog.getWalletId() == null ? -1 : pointLog.getWalletId());
+
+        int payloadBytes = scratch.position() - HEADER_BYTES;
+        scratch.putInt(0, payloadBytes);
+        scratch.putLong(8, seq);
+        crc32.reset();
+        crc32.update(scratch.array(), 8, 8 + payloadBytes);
+        scratch.putInt(4, (int) crc32.getValue());
+        return HEADER_BYTES + payloadBytes;
+    }
+
+    /**
+     * @return CRC / seq 가 맞지 않으면 null
+     */
+    private static PointLog decode(ByteBuffer buffer, int position, long expectedSeq, byte[] record) {
+        if (position + HEADER_BYTES > buffer.capacity()) return null;
+        int payloadBytes = buffer.getInt(position);
+        if (payloadBytes <= 0 || payloadBytes > MAX_PAYLOAD_BYTES || position + HEADER_BYTES + payloadBytes > buffer.capacity()) {
+            return null;
+        }
+
+        buffer.get(position, record, 0, HEADER_BYTES + payloadBytes);
+        ByteBuffer in = ByteBuffer.wrap(record, 0, HEADER_BYTES + payloadBytes);
+
+        CRC32 crc = new CRC32();
+        crc.update(record, 8, 8 + payloadBytes);
+        if (in.getInt(4) != (int) crc.getValue() || in.getLong(8) != expectedSeq) return null;
+
+        in.position(HEADER_BYTES);
+        long memberId = in.getLong();
+        String logType = new String(new byte[]{in.get(), in.get()}, StandardCharsets.US_ASCII);
+        long amount = in.getLong();
+        LocalDateTime logAt = LocalDateTime.ofEpochSecond(in.getLong(), 0, ZoneOffset.UTC);
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+        short orderNoBytes = in.getShort();
+        String orderNo = null;
+        if (orderNoBytes >= 0) {
+            orderNo = new String(record, in.position(), orderNoBytes, StandardCharsets.US_ASCII);
+            in.position(in.position() + orderNoBytes);
+        }
+        // wallet_id 는 payload 끝에 추가된 필드 (추가 이전 레코드는 없음)
+        Long walletId = null;
+        if (in.remaining() >= Long.BYTES) {
+            long value = in.getLong();
+            if (value >= 0) walletId = value;
+        }
+
+        return PointLog.builder()
+                .memberId(memberId)
+                .logType(logType)
+                .amount(amount)
+                .logAt(logAt)
+                .orderNo(orderNo)
+                .walletId(walletId)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private ReadCursor seek(long afterSeq) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(afterSeq + 1);
+        if (entry == null) entry = segments.firstEntry();
+        if (entry == null) return null;
+
+        Segment segment = entry.getValue();
+        int position = 0;
+        long seq = segment.firstSeq - 1;
+        while (seq < afterSeq) {
+            int payloadBytes = position + Integer.BYTES > segmentBytes ? 0 : segment.buffer.getInt(position);
+            if (payloadBytes <= 0) return null;
+            position += HEADER_BYTES + payloadBytes;
+            seq++;
+        }
+        return new ReadCursor(segment, position, seq);
+    }
+
+    private static long firstSeqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    public record Entry(long seq, PointLog pointLog) {
+    }
+
+    private record ReadCursor(Segment segment, int position, long seq) {
+    }
+
+    private static final class Segment {
+        final Path path;
+        final long firstSeq;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int writePosition;
+
+        private Segment(Path path, long firstSeq, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path path, long firstSeq, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, firstSeq, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("failed to close point log journal segment : {}", path, e);
+            }
+        }
+    }
+}
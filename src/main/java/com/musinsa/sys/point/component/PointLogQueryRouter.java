@@ -0,0 +1,66 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.repository.PointLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 주문번호 기준 point_log 조회 (DB / 아카이브 파일)
+ * <p>
+ * - 주문번호 앞 6자리(yyyyMM)가 아카이브 완료 월이면 아카이브 파일에서 조회
+ * - 아카이브 이후 추가된 취소 로그는 point_log 에 있으므로 취소 누적 금액은 DB + 아카이브 합산
+ * - 다른 노드에서 아카이브가 완료되어 DB 에 없을 수 있으므로, DB 조회 결과가 없으면 완료 월을 다시 읽어 확인
+ * - 아카이브된 로그는 Row Lock 대상이 아니며, 호출 측에서 잡은 회원 Row Lock 으로 직렬화
+ */
+@Component
+@RequiredArgsConstructor
+public class PointLogQueryRouter {
+
+    private final PointLogRepository pointLogRepository;
+    private final PointLogArchive pointLogArchive;
+
+    /**
+     * 주문번호 기준 사용 승인 로그 단건 조회 (DB 는 FOR UPDATE)
+     */
+    public PointLog findUseLogForUpdate(String orderNo, String logType) {
+        YearMonth month = PointLogArchive.monthOf(orderNo);
+        if (pointLogArchive.isArchived(month)) {
+            return findArchived(month, orderNo, logType);
+        }
+
+        PointLog pointLog = pointLogRepository.findUseLogsByOrderNoForUpdate(orderNo, logType);
+        if (pointLog == null && month != null) {
+            pointLogArchive.refresh();
+            if (pointLogArchive.isArchived(month)) {
+                return findArchived(month, orderNo, logType);
+            }
+        }
+        return pointLog;
+    }
+
+    /**
+     * 주문번호 기준 사용 취소 누적 금액 조회
+     */
+    public long getCanceledAmount(String orderNo, String cancelType) {
+        long canceledAmount = pointLogRepository.getCanceledAmount(orderNo, cancelType);
+
+        YearMonth month = PointLogArchive.monthOf(orderNo);
+        if (pointLogArchive.isArchived(month)) {
+            canceledAmount += pointLogArchive.findByOrderNo(month, orderNo).stream()
+                    .filter(pointLog -> cancelType.equals(pointLog.getLogType()))
+                    .mapToLong(PointLog::getAmount)
+                    .sum();
+        }
+        return canceledAmount;
+    }
+
+    private PointLog findArchived(YearMonth month, String orderNo, String logType) {
+        return pointLogArchive.findByOrderNo(month, orderNo).stream()
+                .filter(pointLog -> logType.equals(pointLog.getLogType()))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointLogJournalCommitRepository;
+import com.musinsa.sys.point.repository.PointLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 포인트 로그(point_log) 기록
+ * <p>
+ * - 기본 : 요청 트랜잭션 안에서 INSERT
+ * - 저널 모드(point.log-journal.enabled) : 커밋 직전(beforeCommit, 회원 Row Lock / JVM Lock 보유 중) 로컬 저널에 append + fsync,
+ * 같은 트랜잭션에서 커밋 표시(point_log_journal_commit)만 INSERT 하고 point_log INSERT 는 PointLogJournalDrainer 가 모아서 처리
+ * - 커밋된 업무 변경은 항상 fsync 된 저널 레코드 + 커밋 표시를 가짐 (커밋 후 종료되어도 로그 유실 없음)
+ * - fsync 후 트랜잭션이 롤백되면 커밋 표시도 롤백되므로 drainer 가 해당 레코드를 버림
+ * - 저널 기록 실패 시 같은 트랜잭션에서 point_log 를 바로 INSERT
+ */
+@Slf4j
+@Component
+public class PointLogWriter {
+
+    private final PointLogRepository pointLogRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final PointLogJournal pointLogJournal;
+    private final PointLogJournalCommitRepository pointLogJournalCommitRepository;
+    private final int nodeId;
+
+    public PointLogWriter(PointLogRepository pointLogRepository,
+                          PointBatchRepository pointBatchRepository,
+                          PointLogJournal pointLogJournal,
+                          PointLogJournalCommitRepository pointLogJournalCommitRepository,
+                          @Value("${order.node-id:0}") int nodeId) {
+        this.pointLogRepository = pointLogRepository;
+        this.pointBatchRepository = pointBatchRepository;
+        this.pointLogJournal = pointLogJournal;
+        this.pointLogJournalCommitRepository = pointLogJournalCommitRepository;
+        this.nodeId = nodeId;
+    }
+
+    public void write(PointLog pointLog) {
+        if (!pointLogJournal.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            pointLogRepository.save(pointLog);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long firstSeq;
+            private long lastSeq = -1;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                List<PointLog> pointLogs = List.of(pointLog);
+                try {
+                    lastSeq = pointLogJournal.appendInFlight(pointLogs);
+                    firstSeq = lastSeq - pointLogs.size() + 1;
+                    pointLogJournal.sync(lastSeq);
+                } catch (UncheckedIOException | IllegalStateException e) {
+                    log.error("point log journal append failed, inserting directly : member {}, type {}",
+                            pointLog.getMemberId(), pointLog.getLogType(), e);
+                    // 추가된 레코드는 커밋 표시가 없으므로 drainer 가 버림
+                    pointBatchRepository.batchInsertLogs(pointLogs);
+                    return;
+                }
+                pointLogJournalCommitRepository.insert(nodeId, firstSeq, lastSeq);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (lastSeq < 0) return;
+                pointLogJournal.completeInFlight(firstSeq, lastSeq);
+                if (status != STATUS_COMMITTED) {
+                    log.info("point log journal records {}..{} discarded (transaction not committed)", firstSeq, lastSeq);
+                }
+            }
+        });
+    }
+}
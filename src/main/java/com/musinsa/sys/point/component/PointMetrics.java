@@ -0,0 +1,161 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 포인트 처리 구간 메트릭
+ * <p>
+ * - point.operation : 적립 / 적립취소 / 사용 / 사용취소 처리 시간 (operation, result = ProcessCode)
+ * : 실제 발생한 (operation, result) 만 첫 기록 때 등록하고, percentile histogram 은 정상(MP000) 결과에만 게시
+ * - point.member.lock.wait : 회원 Row Lock(SELECT FOR UPDATE) 대기 시간 (낙관적 모드는 회원 조회 시간)
+ * - point.member.optimistic.retry : 낙관적 모드 version 충돌 재시도 건수
+ * - point.order-no.generate : 주문번호 채번 시간 (블록 임대 REQUIRES_NEW 포함)
+ * - point.use.wallets.loaded / touched : 사용 1건당 조회 / 차감 wallet 수
+ * - point.rejected : ServiceException 거절 건수 (code)
+ * - point.operation 외 Meter 는 생성 시점에 등록, point.operation 은 (operation, 코드 순번) 배열에 보관하여
+ * 기록 시에는 배열 / 코드 Map 조회만 하므로 요청마다 태그 / Meter 객체를 만들지 않음
+ */
+@Component
+public class PointMetrics {
+
+    public enum Operation {
+        SAVING_APPROVAL("saving"),
+        SAVING_CANCEL("saving_cancel"),
+        USE_APPROVAL("use"),
+        USE_CANCEL("use_cancel");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final ProcessCode[] PROCESS_CODES = ProcessCode.values();
+    private static final Map<String, ProcessCode> PROCESS_CODE_MAP = new HashMap<>();
+
+    static {
+        for (ProcessCode processCode : PROCESS_CODES) {
+            PROCESS_CODE_MAP.put(processCode.getProcCd(), processCode);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    // [operation.ordinal() * 코드 수 + processCode.ordinal()], 첫 기록 때 등록
+    private final AtomicReferenceArray<Timer> operationTimers =
+            new AtomicReferenceArray<>(Operation.values().length * PROCESS_CODES.length);
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    private final Counter rejectedUnknown;
+    private final Timer memberLockWait;
+    private final Counter optimisticRetry;
+    private final Timer orderNoGenerate;
+    private final DistributionSummary walletsLoaded;
+    private final DistributionSummary walletsTouched;
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        for (ProcessCode processCode : ProcessCode.values()) {
+            if (processCode == ProcessCode.MP000) continue;
+            rejectedCounters.put(processCode.getProcCd(), Counter.builder("point.rejected")
+                    .description("ServiceException 거절 건수")
+                    .tag("code", processCode.getProcCd())
+                    .register(meterRegistry));
+        }
+        rejectedUnknown = Counter.builder("point.rejected")
+                .description("ServiceException 거절 건수")
+                .tag("code", "unknown")
+                .register(meterRegistry);
+
+        memberLockWait = Timer.builder("point.member.lock.wait")
+                .description("회원 Row Lock (SELECT FOR UPDATE) 대기 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+        optimisticRetry = Counter.builder("point.member.optimistic.retry")
+                .description("낙관적 모드 회원 version 충돌 재시도 건수")
+                .register(meterRegistry);
+        orderNoGenerate = Timer.builder("point.order-no.generate")
+                .description("주문번호 채번 시간 (시퀀스 블록 임대 포함)")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry);
+        walletsLoaded = DistributionSummary.builder("point.use.wallets.loaded")
+                .description("사용 1건당 조회한 사용 가능 wallet 수")
+                .baseUnit("wallets")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry);
+        walletsTouched = DistributionSummary.builder("point.use.wallets.touched")
+                .description("사용 1건당 차감한 wallet 수")
+                .baseUnit("wallets")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 결과 기록
+     *
+     * @param procCd    처리 결과 코드 (ProcessCode 에 없는 코드는 MP999 로 기록)
+     * @param startedAt System.nanoTime() 시작 시각
+     */
+    public void recordOperation(Operation operation, String procCd, long startedAt) {
+        ProcessCode processCode = PROCESS_CODE_MAP.getOrDefault(procCd, ProcessCode.MP999);
+        int index = operation.ordinal() * PROCESS_CODES.length + processCode.ordinal();
+        Timer timer = operationTimers.get(index);
+        if (timer == null) {
+            // 동시에 등록해도 MeterRegistry 가 같은 Timer 를 반환
+            timer = operationTimer(operation, processCode);
+            operationTimers.set(index, timer);
+        }
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejected(String procCd) {
+        rejectedCounters.getOrDefault(procCd, rejectedUnknown).increment();
+    }
+
+    public void recordMemberLockWait(long startedAt) {
+        memberLockWait.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOptimisticRetry() {
+        optimisticRetry.increment();
+    }
+
+    public void recordOrderNoGenerate(long startedAt) {
+        orderNoGenerate.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUsedWallets(int loaded, int touched) {
+        walletsLoaded.record(loaded);
+        walletsTouched.record(touched);
+    }
+
+    private Timer operationTimer(Operation operation, ProcessCode processCode) {
+        Timer.Builder builder = Timer.builder("point.operation")
+                .description("포인트 처리 시간 (회원 JVM Lock 대기 포함)")
+                .tag("operation", operation.tag)
+                .tag("result", processCode.getProcCd());
+        if (processCode == ProcessCode.MP000) {
+            builder.publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10));
+        }
+        return builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.dto.PointPolicyRevision;
+import com.musinsa.sys.point.dto.PointPolicySnapshot;
+import com.musinsa.sys.point.entity.PointPolicy;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import com.musinsa.sys.point.repository.PointPolicyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 포인트 정책 인메모리 캐시
+ * <p>
+ * - 적립 시 회원 Row Lock 을 잡은 상태에서 정책 테이블을 조회하지 않도록
+ * 불변 스냅샷을 메모리에 보관
+ * - 정책 건수 / policy_version 합계가 바뀌면 전체 정책을 다시 읽어 스냅샷을 원자적으로 교체
+ * - 정책이 없으면 PointPolicySnapshot#get 에서 MP014 로 실패 처리
+ */
+@Slf4j
+@Component
+public class PointPolicyCache {
+
+    private final PointPolicyRepository pointPolicyRepository;
+    private final AtomicReference<PointPolicySnapshot> snapshot =
+            new AtomicReference<>(PointPolicySnapshot.EMPTY);
+
+    public PointPolicyCache(PointPolicyRepository pointPolicyRepository) {
+        this.pointPolicyRepository = pointPolicyRepository;
+    }
+
+    /**
+     * 정책 값 조회 (DB 조회 없음)
+     */
+    public long getValue(PointPolicyKey policyKey) {
+        return getSnapshot().get(policyKey);
+    }
+
+    /**
+     * 현재 스냅샷 조회
+     * <p>
+     * - 최초 호출 시에만 DB 에서 적재
+     */
+    public PointPolicySnapshot getSnapshot() {
+        PointPolicySnapshot current = snapshot.get();
+        if (current.isEmpty()) {
+            return refresh();
+        }
+        return current;
+    }
+
+    /**
+     * 정책 버전 변경 감지
+     * <p>
+     * - 정책 건수 / 버전 합계만 조회하고, 변경된 경우에만 전체 정책을 다시 적재
+     */
+    @Scheduled(
+            initialDelayString = "${point.policy.refresh-interval-ms:10000}",
+            fixedDelayString = "${point.policy.refresh-interval-ms:10000}"
+    )
+    public void refreshIfChanged() {
+        PointPolicyRevision revision = pointPolicyRepository.findRevision();
+        PointPolicySnapshot current = snapshot.get();
+        if (!current.isSameRevision(revision)) {
+            log.info("point policy changed : count {} -> {}, version {} -> {}",
+                    current.getPolicyCount(), revision.getPolicyCount(), current.getVersion(), revision.getVersionSum());
+            refresh();
+        }
+    }
+
+    /**
+     * 정책 전체 재적재 후 스냅샷 교체
+     * <p>
+     * - 건수 / 버전을 먼저 읽고 값을 나중에 읽으므로, 그 사이 변경이 있었다면
+     * 다음 refreshIfChanged 에서 다시 적재된다
+     */
+    public PointPolicySnapshot refresh() {
+        PointPolicyRevision revision = pointPolicyRepository.findRevision();
+
+        Map<PointPolicyKey, Long> values = new EnumMap<>(PointPolicyKey.class);
+        for (PointPolicy pointPolicy : pointPolicyRepository.findAll()) {
+            PointPolicyKey policyKey = Arrays.stream(PointPolicyKey.values())
+                    .filter(key -> key.name().equals(pointPolicy.getPolicyKey()))
+                    .findAny()
+                    .orElse(null);
+            if (policyKey == null) {
+                log.warn("unknown point policy key : {}", pointPolicy.getPolicyKey());
+                continue;
+            }
+            values.put(policyKey, pointPolicy.getPolicyValue());
+        }
+
+        PointPolicySnapshot loaded = new PointPolicySnapshot(revision.getVersionSum(), revision.getPolicyCount(), values, LocalDateTime.now());
+        snapshot.set(loaded);
+        return loaded;
+    }
+}
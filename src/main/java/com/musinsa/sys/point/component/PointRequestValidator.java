@@ -0,0 +1,62 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.common.util.DateUtil;
+import com.musinsa.sys.point.dto.PointPolicySnapshot;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 상태와 무관한 요청 검증 (트랜잭션 / 회원 Lock 이전 단계)
+ * <p>
+ * - 요청 값과 정책 캐시만 사용하므로 DB 커넥션을 사용하지 않음
+ * - 실패 요청은 회원 Lock 대기열 / 커넥션을 점유하지 않고 바로 거절
+ * - 보유 한도, 잔액처럼 회원 상태가 필요한 검증은 PointService 에서 Lock 이후 수행
+ */
+@Component
+public class PointRequestValidator {
+
+    private final PointPolicyCache pointPolicyCache;
+
+    public PointRequestValidator(PointPolicyCache pointPolicyCache) {
+        this.pointPolicyCache = pointPolicyCache;
+    }
+
+    /**
+     * 적립 승인 요청 검증 (실패 시 ServiceException)
+     */
+    public void validateSavingApproval(PointSavingApprovalReq req) {
+        String procCd = checkSavingApproval(req, pointPolicyCache.getSnapshot(), LocalDate.now());
+        if (procCd != null) {
+            throw new ServiceException(procCd);
+        }
+    }
+
+    /**
+     * 적립 승인 요청 검증 (1회 적립 금액, 만료일 범위)
+     *
+     * @return 실패 시 오류 코드, 정상이면 null
+     */
+    public String checkSavingApproval(PointSavingApprovalReq req, PointPolicySnapshot policy, LocalDate today) {
+        long amount = req.getAmount();
+        if (amount < policy.get(PointPolicyKey.POINT_SAVING_MIN)) {
+            return ProcessCode.MP002.getProcCd();   // 1원 이상 충전 가능
+        } else if (amount > policy.get(PointPolicyKey.POINT_SAVING_MAX)) {
+            return ProcessCode.MP003.getProcCd();   // 적립금액 범위 초과
+        }
+
+        // 만료일 미입력시 기본 1년, 최소 1일 이상 / 최대 5년 미만
+        LocalDate expireDate = DateUtil.resolveExpireDate(req.getExpireDate(), req.getLogAt());
+        if (expireDate.isBefore(today.plusDays(1))) {
+            return ProcessCode.MP004.getProcCd();
+        }
+        if (!expireDate.isBefore(today.plusYears(5))) {
+            return ProcessCode.MP005.getProcCd();
+        }
+        return null;
+    }
+}
@@ -3,9 +3,10 @@ package com.musinsa.sys.point.controller;
 import com.musinsa.sys.common.dto.ProcessResult;
 import com.musinsa.sys.common.enums.ProcessCode;
 import com.musinsa.sys.point.dto.*;
-import com.musinsa.sys.point.service.PointService;
+import com.musinsa.sys.point.service.PointFacade;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -14,36 +15,49 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("point")
 public class PointController {
-    private final PointService pointService;
+    private final PointFacade pointFacade;
 
-    public PointController(PointService pointService) {
-        this.pointService = pointService;
+    public PointController(PointFacade pointFacade) {
+        this.pointFacade = pointFacade;
+    }
+
+    @RequestMapping(method = RequestMethod.GET, value = "/balance/{memberId}", produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointBalanceResp> pointBalance(@PathVariable Long memberId) {
+        PointBalanceResp pointBalanceResp = pointFacade.getBalance(memberId);
+        return new ProcessResult<>(pointBalanceResp, ProcessCode.MP000.getProcCd());
     }
 
     @RequestMapping(method = RequestMethod.POST, value = "/saving/approval", produces = {MediaType.APPLICATION_JSON_VALUE})
     public ProcessResult<PointResp> pointSavingApproval(@Valid @RequestBody PointSavingApprovalReq pointSavingApprovalReq) {
-        PointResp pointResp = pointService.savingApproval(pointSavingApprovalReq);
+        PointResp pointResp = pointFacade.savingApproval(pointSavingApprovalReq);
         return new ProcessResult<>(pointResp, ProcessCode.MP000.getProcCd());
     }
 
+    @RequestMapping(method = RequestMethod.POST, value = "/saving/bulk-approval", produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointBulkSavingApprovalResp> pointBulkSavingApproval(@Valid @RequestBody PointBulkSavingApprovalReq pointBulkSavingApprovalReq) {
+
+        PointBulkSavingApprovalResp pointBulkSavingApprovalResp = pointFacade.bulkSavingApproval(pointBulkSavingApprovalReq);
+        return new ProcessResult<>(pointBulkSavingApprovalResp, ProcessCode.MP000.getProcCd());
+    }
+
     @RequestMapping(method = RequestMethod.POST, value = "/saving/cancel", produces = {MediaType.APPLICATION_JSON_VALUE})
     public ProcessResult<PointResp> pointSavingApproval(@Valid @RequestBody PointSavingCancelReq pointSavingCancelReq) {
 
-        PointResp pointResp = pointService.savingCancel(pointSavingCancelReq);
+        PointResp pointResp = pointFacade.savingCancel(pointSavingCancelReq);
         return new ProcessResult<>(pointResp, ProcessCode.MP000.getProcCd());
     }
 
     @RequestMapping(method = RequestMethod.POST, value = "/use/approval", produces = {MediaType.APPLICATION_JSON_VALUE})
     public ProcessResult<PointUseApprovalResp> pointUseApproval(@Valid @RequestBody PointUseApprovalReq pointUseApprovalReq) {
 
-        PointUseApprovalResp pointUseApprovalResp = pointService.useApproval(pointUseApprovalReq);
+        PointUseApprovalResp pointUseApprovalResp = pointFacade.useApproval(pointUseApprovalReq);
 
         return new ProcessResult<>(pointUseApprovalResp, ProcessCode.MP000.getProcCd());
     }
     @RequestMapping(method = RequestMethod.POST, value = "/use/cancel", produces = {MediaType.APPLICATION_JSON_VALUE})
     public ProcessResult<PointResp> pointUseCancel(@Valid @RequestBody PointUseCancelReq pointUseCancelReq) {
 
-        PointResp pointResp = pointService.useCancel(pointUseCancelReq);
+        PointResp pointResp = pointFacade.useCancel(pointUseCancelReq);
 
         return new ProcessResult<>(pointResp, ProcessCode.MP000.getProcCd());
     }
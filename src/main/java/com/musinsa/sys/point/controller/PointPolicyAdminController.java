@@ -0,0 +1,32 @@
+package com.musinsa.sys.point.controller;
+
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.point.component.PointPolicyCache;
+import com.musinsa.sys.point.dto.PointPolicySnapshot;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("admin/point/policy")
+public class PointPolicyAdminController {
+    private final PointPolicyCache pointPolicyCache;
+
+    public PointPolicyAdminController(PointPolicyCache pointPolicyCache) {
+        this.pointPolicyCache = pointPolicyCache;
+    }
+
+    // 현재 적용중인 정책 스냅샷 조회
+    @RequestMapping(method = RequestMethod.GET, produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointPolicySnapshot> getPolicySnapshot() {
+        return new ProcessResult<>(pointPolicyCache.getSnapshot(), ProcessCode.MP000.getProcCd());
+    }
+
+    // 버전 변경 여부와 관계없이 정책 즉시 재적재
+    @RequestMapping(method = RequestMethod.POST, value = "/refresh", produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointPolicySnapshot> refreshPolicySnapshot() {
+        return new ProcessResult<>(pointPolicyCache.refresh(), ProcessCode.MP000.getProcCd());
+    }
+}
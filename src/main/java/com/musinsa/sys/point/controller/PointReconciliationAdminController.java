@@ -0,0 +1,28 @@
+package com.musinsa.sys.point.controller;
+
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.point.batch.PointReconciliationJob;
+import com.musinsa.sys.point.dto.PointReconciliationReport;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("admin/point/reconciliation")
+public class PointReconciliationAdminController {
+    private final PointReconciliationJob pointReconciliationJob;
+
+    public PointReconciliationAdminController(PointReconciliationJob pointReconciliationJob) {
+        this.pointReconciliationJob = pointReconciliationJob;
+    }
+
+    // 회원 잔액 / wallet 대사 수동 실행 (불일치 기록만, 보정하지 않음)
+    @RequestMapping(method = RequestMethod.POST, produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointReconciliationReport> reconcile(@RequestParam(defaultValue = "1") long fromMemberId,
+                                                              @RequestParam(defaultValue = "9223372036854775807") long toMemberId) {
+        return new ProcessResult<>(pointReconciliationJob.run(fromMemberId, toMemberId), ProcessCode.MP000.getProcCd());
+    }
+}
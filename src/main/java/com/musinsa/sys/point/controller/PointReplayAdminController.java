@@ -0,0 +1,29 @@
+package com.musinsa.sys.point.controller;
+
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.point.batch.PointReplayJob;
+import com.musinsa.sys.point.dto.PointReplayReport;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("admin/point/replay")
+public class PointReplayAdminController {
+    private final PointReplayJob pointReplayJob;
+
+    public PointReplayAdminController(PointReplayJob pointReplayJob) {
+        this.pointReplayJob = pointReplayJob;
+    }
+
+    // point_log 기준 회원 잔액 / wallet 재계산 (apply=true 이면 차이 보정)
+    @RequestMapping(method = RequestMethod.POST, produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointReplayReport> replay(@RequestParam(defaultValue = "1") long fromMemberId,
+                                                   @RequestParam(defaultValue = "9223372036854775807") long toMemberId,
+                                                   @RequestParam(defaultValue = "false") boolean apply) {
+        return new ProcessResult<>(pointReplayJob.run(fromMemberId, toMemberId, apply), ProcessCode.MP000.getProcCd());
+    }
+}
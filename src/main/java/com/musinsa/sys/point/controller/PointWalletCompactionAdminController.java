@@ -0,0 +1,28 @@
+package com.musinsa.sys.point.controller;
+
+import com.musinsa.sys.common.dto.ProcessResult;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.point.batch.PointWalletCompactionJob;
+import com.musinsa.sys.point.dto.PointWalletCompactionReport;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("admin/point/wallet-compaction")
+public class PointWalletCompactionAdminController {
+    private final PointWalletCompactionJob pointWalletCompactionJob;
+
+    public PointWalletCompactionAdminController(PointWalletCompactionJob pointWalletCompactionJob) {
+        this.pointWalletCompactionJob = pointWalletCompactionJob;
+    }
+
+    // 미사용 자동지급 wallet 병합 수동 실행
+    @RequestMapping(method = RequestMethod.POST, produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ProcessResult<PointWalletCompactionReport> compact() {
+        return new ProcessResult<>(pointWalletCompactionJob.run(LocalDate.now()), ProcessCode.MP000.getProcCd());
+    }
+}
@@ -0,0 +1,16 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 만료 대상 wallet (엔티티 로딩 없이 필요한 컬럼만 조회)
+ */
+@Value
+public class ExpiringWallet {
+    Long walletId;
+    Long memberId;
+    LocalDate expireDate;
+    long remainAmount;
+}
@@ -0,0 +1,28 @@
+package com.musinsa.sys.point.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointBalanceResp {
+
+    private Long memberId;
+
+    // 사용 가능 포인트 (만료일이 지나지 않은 정상 wallet 잔여 합계)
+    private Long availableAmount;
+
+    // 이번 달 말일까지 만료 예정 포인트
+    private Long expiringThisMonthAmount;
+
+    // 가장 가까운 만료일 / 해당 일자 만료 예정 포인트
+    @JsonFormat(pattern = "yyyyMMdd")
+    private LocalDate nextExpireDate;
+
+    private Long nextExpireAmount;
+}
@@ -0,0 +1,15 @@
+package com.musinsa.sys.point.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+
+@Data
+public class PointBulkSavingApprovalReq {
+
+	@NotEmpty(message = "적립 대상을 입력하세요.")
+	private List<@Valid PointSavingApprovalReq> items;
+}
@@ -0,0 +1,22 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class PointBulkSavingApprovalResp {
+    private int totalCount;
+    private int successCount;
+    private int failCount;
+    private List<PointBulkSavingItemResp> items;
+
+    public PointBulkSavingApprovalResp(List<PointBulkSavingItemResp> items) {
+        this.items = items;
+        this.totalCount = items.size();
+        this.successCount = (int) items.stream().filter(PointBulkSavingItemResp::isSuccess).count();
+        this.failCount = this.totalCount - this.successCount;
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.sys.point.dto;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PointBulkSavingItemResp {
+    private int index;              // 요청 items 내 순번
+    private Long memberId;
+    private Long amount;
+    private String rsltCd;          // 결과코드
+    private String rsltMesg;        // 결과메시지
+
+    public PointBulkSavingItemResp(int index, Long memberId, Long amount, String inProcCd) {
+        ProcessCode processCode = ProcessCode.findByProcessCode(inProcCd);
+        this.index = index;
+        this.memberId = memberId;
+        this.amount = amount;
+        this.rsltCd = processCode.getProcCd();
+        this.rsltMesg = processCode.getRsltMesg();
+    }
+
+    public boolean isSuccess() {
+        return ProcessCode.MP000.getProcCd().equals(rsltCd);
+    }
+}
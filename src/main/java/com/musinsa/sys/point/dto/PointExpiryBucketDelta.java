@@ -0,0 +1,15 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 / 만료일별 잔여 포인트 증감분 (point_expiry_bucket 갱신 단위)
+ */
+@Value
+public class PointExpiryBucketDelta {
+    Long memberId;
+    LocalDate expireDate;
+    long amount;
+}
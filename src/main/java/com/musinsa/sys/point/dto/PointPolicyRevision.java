@@ -0,0 +1,14 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+/**
+ * 포인트 정책 변경 감지 값 (정책 건수, policy_version 합계)
+ * <p>
+ * - 한 정책 삭제와 다른 정책 버전 증가가 같은 주기에 일어나도 건수가 달라 변경으로 판단
+ */
+@Value
+public class PointPolicyRevision {
+    Long policyCount;
+    Long versionSum;
+}
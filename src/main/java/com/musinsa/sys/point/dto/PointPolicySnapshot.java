@@ -0,0 +1,60 @@
+package com.musinsa.sys.point.dto;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 포인트 정책 스냅샷 (불변)
+ * <p>
+ * - 특정 시점의 PointPolicyKey → 정책 값 전체를 한 번에 담는다
+ * - 갱신은 스냅샷 자체를 교체하는 방식으로만 이루어진다
+ */
+@Value
+public class PointPolicySnapshot {
+
+    public static final PointPolicySnapshot EMPTY =
+            new PointPolicySnapshot(-1L, 0L, new EnumMap<>(PointPolicyKey.class), null);
+
+    long version;
+    long policyCount;
+    Map<PointPolicyKey, Long> values;
+    LocalDateTime loadedAt;
+
+    public PointPolicySnapshot(long version, long policyCount, Map<PointPolicyKey, Long> values, LocalDateTime loadedAt) {
+        this.version = version;
+        this.policyCount = policyCount;
+        this.values = Collections.unmodifiableMap(new EnumMap<>(values));
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * 정책 값 조회
+     * <p>
+     * - 정책이 없으면 기본값으로 진행하지 않고 즉시 실패 처리 (fail closed)
+     */
+    public long get(PointPolicyKey policyKey) {
+        Long value = values.get(policyKey);
+        if (value == null) {
+            throw new ServiceException(ProcessCode.MP014.getProcCd());
+        }
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return version < 0;
+    }
+
+    /**
+     * 적재 시점과 정책 건수 / 버전 합계가 모두 같은지
+     */
+    public boolean isSameRevision(PointPolicyRevision revision) {
+        return version == revision.getVersionSum() && policyCount == revision.getPolicyCount();
+    }
+}
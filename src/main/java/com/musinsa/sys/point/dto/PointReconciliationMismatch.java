@@ -0,0 +1,20 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+/**
+ * 회원 잔액과 정상 wallet 잔여 합계 불일치 1건
+ * <p>
+ * - pointBalance 가 null 이면 member 행 없이 wallet 만 있는 회원
+ */
+@Value
+public class PointReconciliationMismatch {
+    long memberId;
+    Long pointBalance;
+    long walletBalance;
+
+    public String toCsv() {
+        return String.join(",", String.valueOf(memberId), pointBalance == null ? "" : pointBalance.toString(),
+                String.valueOf(walletBalance));
+    }
+}
@@ -0,0 +1,26 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 잔액 / wallet 대사 결과
+ * <p>
+ * - mismatches 는 앞에서부터 max-report-mismatches 건만 포함, 전체 목록은 reportFile(CSV)
+ */
+@Data
+@NoArgsConstructor
+public class PointReconciliationReport {
+    private long fromMemberId;
+    private long toMemberId;
+    private int rangeCount;
+    private long memberCount;
+    private long mismatchCount;         // 재확인 후에도 불일치
+    private long transientCount;        // 스캔 중 거래로 어긋났다가 재확인 시 일치
+    private String reportFile;
+    private long elapsedMillis;
+    private List<PointReconciliationMismatch> mismatches = new ArrayList<>();
+}
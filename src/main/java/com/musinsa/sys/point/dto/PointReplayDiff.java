@@ -0,0 +1,38 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+/**
+ * point_log 재계산 결과와 현재 데이터의 차이 1건
+ * <p>
+ * - walletId 는 wallet 항목일 때만 (재적립 wallet 이 DB 에 없으면 null)
+ */
+@Value
+public class PointReplayDiff {
+
+    public enum Type {
+        // 현재 데이터 불일치 (보정 대상)
+        BALANCE,
+        WALLET_ISSUED,
+        WALLET_USED,
+        WALLET_STATUS,
+        // wallet 매칭 불가 (보정 대상 아님)
+        WALLET_MISSING,
+        WALLET_UNLOGGED,
+        // 로그 이력 자체의 모순 (보정 대상 아님)
+        USE_SHORTAGE,
+        CANCEL_EXCEEDED,
+        EXPIRATION_AMOUNT
+    }
+
+    Type type;
+    long memberId;
+    Long walletId;
+    String expected;
+    String actual;
+
+    public String toCsv() {
+        return String.join(",", type.name(), String.valueOf(memberId), walletId == null ? "" : walletId.toString(),
+                expected == null ? "" : expected, actual == null ? "" : actual);
+    }
+}
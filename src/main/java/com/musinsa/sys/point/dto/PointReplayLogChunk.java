@@ -0,0 +1,140 @@
+package com.musinsa.sys.point.dto;
+
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.enums.PointLogType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * point_log 재계산용 chunk (컬럼 단위 primitive 배열)
+ * <p>
+ * - 로그마다 PointLog 엔티티 / boxing 객체를 만들지 않도록 chunk 크기만큼 배열을 한 번 할당하여 재사용
+ * - 적립승인 로그의 wallet 속성(만료일, 사용 우선순위), 사용취소 주문의 사용 상세는 chunk 단위로 미리 조회
+ * - 로그 순서 기준은 (created_at, log_id)
+ */
+public class PointReplayLogChunk {
+
+    public static final byte SAVING_APPROVAL = 1;
+    public static final byte SAVING_CANCEL = 2;
+    public static final byte USE_APPROVAL = 3;
+    public static final byte USE_CANCEL = 4;
+    public static final byte EXPIRATION = 5;
+
+    public final long[] logIds;
+    public final long[] memberIds;
+    public final byte[] logTypes;
+    public final long[] amounts;
+    // wallet_id 가 없으면 0
+    public final long[] walletIds;
+    public final String[] orderNos;
+    // created_at (처리 시점) 의 epoch day / epoch 마이크로초 (UTC 기준 환산)
+    public final int[] createdDays;
+    public final long[] createdMicros;
+
+    // 적립승인 wallet 속성 (조회 전 / 없으면 expireDay = -1)
+    public final int[] expireDays;
+    public final byte[] usePriorities;
+
+    // 사용취소 주문번호 → wallet 단위 사용 상세 (use_id 역순)
+    public final Map<String, UseDetails> useDetails = new HashMap<>();
+
+    private int size;
+
+    public PointReplayLogChunk(int capacity) {
+        logIds = new long[capacity];
+        memberIds = new long[capacity];
+        logTypes = new byte[capacity];
+        amounts = new long[capacity];
+        walletIds = new long[capacity];
+        orderNos = new String[capacity];
+        createdDays = new int[capacity];
+        createdMicros = new long[capacity];
+        expireDays = new int[capacity];
+        usePriorities = new byte[capacity];
+    }
+
+    public void add(long logId, long memberId, byte logType, long amount, long walletId, String orderNo, LocalDateTime createdAt) {
+        logIds[size] = logId;
+        memberIds[size] = memberId;
+        logTypes[size] = logType;
+        amounts[size] = amount;
+        walletIds[size] = walletId;
+        orderNos[size] = orderNo;
+        createdDays[size] = (int) createdAt.toLocalDate().toEpochDay();
+        createdMicros[size] = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant(ZoneOffset.UTC));
+        expireDays[size] = -1;
+        usePriorities[size] = 0;
+        size++;
+    }
+
+    /**
+     * 아카이브 파일 로그 추가
+     */
+    public void add(PointLog pointLog) {
+        add(pointLog.getLogId(), pointLog.getMemberId(), typeOf(pointLog.getLogType()), pointLog.getAmount(),
+                pointLog.getWalletId() == null ? 0 : pointLog.getWalletId(), pointLog.getOrderNo(), pointLog.getCreatedAt());
+    }
+
+    /**
+     * 다른 chunk 의 행 복사 (wallet 속성 / 사용 상세는 복사 후 다시 조회)
+     */
+    public void add(PointReplayLogChunk source, int row) {
+        logIds[size] = source.logIds[row];
+        memberIds[size] = source.memberIds[row];
+        logTypes[size] = source.logTypes[row];
+        amounts[size] = source.amounts[row];
+        walletIds[size] = source.walletIds[row];
+        orderNos[size] = source.orderNos[row];
+        createdDays[size] = source.createdDays[row];
+        createdMicros[size] = source.createdMicros[row];
+        expireDays[size] = -1;
+        usePriorities[size] = 0;
+        size++;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            orderNos[i] = null;
+        }
+        useDetails.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == logIds.length;
+    }
+
+    public long lastLogId() {
+        return logIds[size - 1];
+    }
+
+    public LocalDateTime lastCreatedAt() {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(createdMicros[size - 1], 1_000_000L),
+                (int) Math.floorMod(createdMicros[size - 1], 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    public static byte typeOf(String logType) {
+        return switch (PointLogType.from(logType)) {
+            case SAVING_APPROVAL -> SAVING_APPROVAL;
+            case SAVING_CANCEL -> SAVING_CANCEL;
+            case USE_APPROVAL -> USE_APPROVAL;
+            case USE_CANCEL -> USE_CANCEL;
+            case EXPIRATION -> EXPIRATION;
+        };
+    }
+
+    /**
+     * 주문의 wallet 단위 사용 상세 (차감 역순)
+     */
+    public record UseDetails(long[] walletIds, long[] usedAmounts) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * point_log 재계산 결과
+ * <p>
+ * - diffs 는 앞에서부터 max-report-diffs 건만 포함, 전체 목록은 reportFile(CSV)
+ */
+@Data
+@NoArgsConstructor
+public class PointReplayReport {
+    private long fromMemberId;
+    private long toMemberId;
+    private long logCount;
+    private long archivedLogCount;      // logCount 중 아카이브 파일에서 읽은 로그
+    private long memberCount;
+    private long walletCount;
+    private long balanceDiffCount;      // 회원 잔액 불일치
+    private long walletDiffCount;       // wallet 발급 / 사용 금액, 상태 불일치
+    private long unmatchedDiffCount;    // 로그와 wallet 매칭 불가 + 로그 이력 모순
+    private long unverifiableMemberCount; // wallet_id 없는 적립 로그 등으로 wallet 비교를 생략한 회원
+    private boolean applied;
+    private long correctedCount;        // 보정한 회원 잔액 + wallet 건수
+    private long skippedCorrectionCount; // 재계산 이후 회원이 바뀌었거나(version) 저널 미적재 로그가 있어 보정하지 않은 건수
+    private String reportFile;
+    private long elapsedMillis;
+    private List<PointReplayDiff> diffs = new ArrayList<>();
+}
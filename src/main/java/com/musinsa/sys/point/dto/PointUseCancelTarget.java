@@ -0,0 +1,17 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 사용 취소 1건이 복원할 사용 상세 1건과 그 wallet 상태 (SQL 경로의 사용 상세 + wallet 조회 결과)
+ */
+@Value
+public class PointUseCancelTarget {
+    Long useId;
+    Long walletId;
+    String walletStatus;
+    LocalDate expireDate;
+    long cancelableAmount;
+}
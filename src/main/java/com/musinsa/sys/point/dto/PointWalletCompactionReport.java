@@ -0,0 +1,18 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * wallet 병합 결과
+ */
+@Data
+@NoArgsConstructor
+public class PointWalletCompactionReport {
+    private long memberCount;           // 병합 대상 회원
+    private long chunkCount;            // 트랜잭션 수
+    private long mergedWalletCount;     // 병합 처리된 원 wallet ('30')
+    private long createdWalletCount;    // 새로 만든 병합 wallet
+    private long failedMemberCount;     // 회원 Lock 대기 초과 등으로 건너뛴 회원 (다음 실행에서 재처리)
+    private long elapsedMillis;
+}
@@ -0,0 +1,15 @@
+package com.musinsa.sys.point.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 사용 승인 1건이 wallet 1개에서 차감할 금액 (SQL 차감 경로의 window 함수 조회 결과)
+ */
+@Value
+public class PointWalletDeduction {
+    Long walletId;
+    LocalDate expireDate;
+    long amount;
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Entity(name = "point_log")
 public class PointLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_log_seq")
+    @SequenceGenerator(name = "point_log_seq", sequenceName = "point_log_seq", allocationSize = 50)
     @Column(name = "log_id")
     private Long logId;
 
@@ -29,9 +30,18 @@ public class PointLog {
     @Column(name = "order_no", length = 20)
     private String orderNo;
 
+    // 적립승인 / 적립취소 대상 wallet (그 외 거래는 null)
+    @Column(name = "wallet_id")
+    private Long walletId;
+
     @Column(name = "amount", nullable = false)
     private Long amount;
 
+    // 사용 상세 없는 사용승인의 취소 가능 잔여 금액 (취소 시 조건부 UPDATE 로만 차감, 그 외 null)
+    @Column(name = "cancelable_amount", insertable = false, updatable = false)
+    private Long cancelableAmount;
+
+    // 처리 시각 (마이크로초, 회원 Lock 보유 중 기록) : 로그 순서 기준은 (created_at, log_id), log_id 는 노드별 pooled 할당이라 시간 순서가 아님
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -41,7 +51,7 @@ public class PointLog {
                 .memberId(memberId)
                 .amount(amount)
                 .logAt(logAt)
-                .createdAt(DateUtil.getLocalDateTimeWithNano())
+                .createdAt(DateUtil.getLocalDateTimeWithMicro())
                 .build();
     }
 
@@ -20,4 +20,7 @@ public class PointPolicy {
 
     @Column(name = "description", length = 200)
     private String description;
+
+    @Column(name = "policy_version", nullable = false)
+    private Long policyVersion;
 }
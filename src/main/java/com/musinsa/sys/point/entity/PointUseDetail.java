@@ -18,16 +18,25 @@ import java.time.LocalDateTime;
 public class PointUseDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_use_detail_seq")
+    @SequenceGenerator(name = "point_use_detail_seq", sequenceName = "point_use_detail_seq", allocationSize = 50)
     @Column(name = "use_id")
     private Long useId;
 
     @Column(name = "order_no", nullable = false)
     private String orderNo;
 
+    // 차감한 wallet (wallet 단위 기록 이전 데이터는 null)
+    @Column(name = "wallet_id")
+    private Long walletId;
+
     @Column(name = "used_amount", nullable = false)
     private Long usedAmount;
 
+    // 사용 취소 가능 잔여 금액 (취소 시 차감)
+    @Column(name = "cancelable_amount", nullable = false)
+    private Long cancelableAmount;
+
     @Column(name = "created_at", length = 8, nullable = false)
     private LocalDateTime createdAt;
 
@@ -35,8 +44,22 @@ public class PointUseDetail {
         return PointUseDetail.builder()
                 .orderNo(pointLog.getOrderNo())
                 .usedAmount(pointLog.getAmount())
+                .cancelableAmount(0L)
                 .createdAt(DateUtil.getLocalDateTimeWithNano())
                 .build();
 
     }
+
+    /**
+     * 주문이 wallet 1개에서 차감한 금액 (wallet 단위 사용 상세)
+     */
+    public static PointUseDetail of(String orderNo, Long walletId, long usedAmount) {
+        return PointUseDetail.builder()
+                .orderNo(orderNo)
+                .walletId(walletId)
+                .usedAmount(usedAmount)
+                .cancelableAmount(usedAmount)
+                .createdAt(DateUtil.getLocalDateTimeWithNano())
+                .build();
+    }
 }
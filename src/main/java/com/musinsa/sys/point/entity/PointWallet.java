@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class PointWallet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_wallet_seq")
+    @SequenceGenerator(name = "point_wallet_seq", sequenceName = "point_wallet_seq", allocationSize = 50)
     @Column(name = "wallet_id")
     private Long walletId;
 
@@ -18,7 +18,8 @@ public enum PointLogType {
     SAVING_APPROVAL("SA"),
     SAVING_CANCEL("SC"),
     USE_APPROVAL("UA"),
-    USE_CANCEL("UC");
+    USE_CANCEL("UC"),
+    EXPIRATION("EX");
 
     private final String code;
 
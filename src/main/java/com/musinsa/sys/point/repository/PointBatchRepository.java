@@ -0,0 +1,170 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.common.component.EntityIdAllocator;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.entity.PointUseDetail;
+import com.musinsa.sys.point.entity.PointWallet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 처리용 JDBC Batch Repository
+ * <p>
+ * - 대량 적립 / 저널 적재 등 다건 처리 경로는 엔티티 변환 / 영속성 컨텍스트 없이 JDBC batch 로 직접 기록
+ * - ID 는 엔티티와 같은 시퀀스 generator 에서 미리 할당 (EntityIdAllocator)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBatchRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityIdAllocator entityIdAllocator;
+
+    /**
+     * 회원 일괄 조회 + Row Lock
+     * <p>
+     * - member_id 오름차순으로 Lock 을 잡아 동시 대량 처리 간 데드락 방지
+     *
+     * @return member_id → point_balance
+     */
+    public Map<Long, Long> findBalancesForUpdate(Collection<Long> memberIds) {
+        Map<Long, Long> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                        SELECT member_id, point_balance
+                        FROM member
+                        WHERE member_id IN (:memberIds)
+                        ORDER BY member_id
+                        FOR UPDATE
+                        """,
+                new MapSqlParameterSource("memberIds", memberIds),
+                rs -> {
+                    balances.put(rs.getLong("member_id"), rs.getLong("point_balance"));
+                });
+        return balances;
+    }
+
+    /**
+     * 로그 일괄 INSERT 후 할당된 log_id 를 각 로그에 설정
+     */
+    public void batchInsertLogs(List<PointLog> pointLogs) {
+        long[] logIds = entityIdAllocator.allocate(PointLog.class, pointLogs.size());
+        for (int i = 0; i < pointLogs.size(); i++) {
+            pointLogs.get(i).setLogId(logIds[i]);
+        }
+
+        MapSqlParameterSource[] params = pointLogs.stream()
+                .map(pointLog -> new MapSqlParameterSource()
+                        .addValue("logId", pointLog.getLogId())
+                        .addValue("memberId", pointLog.getMemberId())
+                        .addValue("logType", pointLog.getLogType())
+                        .addValue("logAt", pointLog.getLogAt())
+                        .addValue("orderNo", pointLog.getOrderNo())
+                        .addValue("walletId", pointLog.getWalletId())
+                        .addValue("amount", pointLog.getAmount())
+                        .addValue("createdAt", Timestamp.valueOf(pointLog.getCreatedAt())))
+                .toArray(MapSqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO point_log (log_id, member_id, log_type, log_at, order_no, wallet_id, amount, created_at)
+                VALUES (:logId, :memberId, :logType, :logAt, :orderNo, :walletId, :amount, :createdAt)
+                """, params);
+    }
+
+    /**
+     * wallet 일괄 INSERT 후 할당된 wallet_id 를 각 wallet 에 설정
+     * <p>
+     * - wallet_id 를 미리 할당받은 wallet(메모리 원장)은 그대로 INSERT
+     */
+    public void batchInsertWallets(List<PointWallet> pointWallets) {
+        List<PointWallet> unassigned = pointWallets.stream().filter(pointWallet -> pointWallet.getWalletId() == null).toList();
+        long[] walletIds = entityIdAllocator.allocate(PointWallet.class, unassigned.size());
+        for (int i = 0; i < unassigned.size(); i++) {
+            unassigned.get(i).setWalletId(walletIds[i]);
+        }
+
+        MapSqlParameterSource[] params = pointWallets.stream()
+                .map(pointWallet -> new MapSqlParameterSource()
+                        .addValue("walletId", pointWallet.getWalletId())
+                        .addValue("memberId", pointWallet.getMemberId())
+                        .addValue("issuedAmount", pointWallet.getIssuedAmount())
+                        .addValue("usedAmount", pointWallet.getUsedAmount())
+                        .addValue("walletStatus", pointWallet.getWalletStatus())
+                        .addValue("expireDate", Date.valueOf(pointWallet.getExpireDate()))
+                        .addValue("sourceType", pointWallet.getSourceType().getCode())
+                        .addValue("createdAt", Timestamp.valueOf(pointWallet.getCreatedAt())))
+                .toArray(MapSqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO point_wallet (wallet_id, member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (:walletId, :memberId, :issuedAmount, :usedAmount, :walletStatus, :expireDate, :sourceType, :createdAt)
+                """, params);
+    }
+
+    /**
+     * 사용 상세 일괄 INSERT 후 할당된 use_id 를 각 상세에 설정
+     */
+    public void batchInsertUseDetails(List<PointUseDetail> pointUseDetails) {
+        long[] useIds = entityIdAllocator.allocate(PointUseDetail.class, pointUseDetails.size());
+        for (int i = 0; i < pointUseDetails.size(); i++) {
+            pointUseDetails.get(i).setUseId(useIds[i]);
+        }
+
+        MapSqlParameterSource[] params = pointUseDetails.stream()
+                .map(pointUseDetail -> new MapSqlParameterSource()
+                        .addValue("useId", pointUseDetail.getUseId())
+                        .addValue("orderNo", pointUseDetail.getOrderNo())
+                        .addValue("walletId", pointUseDetail.getWalletId())
+                        .addValue("usedAmount", pointUseDetail.getUsedAmount())
+                        .addValue("cancelableAmount", pointUseDetail.getCancelableAmount())
+                        .addValue("createdAt", Timestamp.valueOf(pointUseDetail.getCreatedAt())))
+                .toArray(MapSqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO point_use_detail (use_id, order_no, wallet_id, used_amount, cancelable_amount, created_at)
+                VALUES (:useId, :orderNo, :walletId, :usedAmount, :cancelableAmount, :createdAt)
+                """, params);
+    }
+
+    /**
+     * 회원 잔액 일괄 증감 (version 증가)
+     *
+     * @param amounts member_id → 증감 금액
+     */
+    public void batchAddBalances(Map<Long, Long> amounts) {
+        MapSqlParameterSource[] params = amounts.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("memberId", entry.getKey())
+                        .addValue("amount", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE member
+                SET point_balance = point_balance + :amount,
+                    version = version + 1
+                WHERE member_id = :memberId
+                """, params);
+    }
+
+    /**
+     * 잔액 변경 없이 wallet 만 바꾼 회원의 version 증가
+     * <p>
+     * - 낙관적 모드에서 같은 회원의 진행 중 거래가 변경 전 wallet 으로 덮어쓰지 않도록 충돌을 알림
+     */
+    public void incrementVersions(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return;
+        namedParameterJdbcTemplate.update("""
+                UPDATE member
+                SET version = version + 1
+                WHERE member_id IN (:memberIds)
+                """, new MapSqlParameterSource("memberIds", memberIds));
+    }
+}
@@ -0,0 +1,97 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.point.dto.ExpiringWallet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 포인트 만료 배치용 JDBC Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointExpirationRepository {
+
+    private static final RowMapper<ExpiringWallet> EXPIRING_WALLET_ROW_MAPPER = (rs, rowNum) -> new ExpiringWallet(
+            rs.getLong("wallet_id"),
+            rs.getLong("member_id"),
+            rs.getDate("expire_date").toLocalDate(),
+            rs.getLong("remain_amount"));
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 만료 대상 wallet keyset 조회
+     * <p>
+     * - (expire_date, wallet_id) 순으로 afterDate/afterWalletId 이후 limit 건
+     * - afterDate 가 null 이면 처음부터 조회
+     */
+    public List<ExpiringWallet> findExpiringWallets(LocalDate today, LocalDate afterDate, Long afterWalletId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("walletStatus", Val.NORMAL)
+                .addValue("today", Date.valueOf(today))
+                .addValue("limit", limit);
+
+        String keyset = "";
+        if (afterDate != null) {
+            keyset = "AND expire_date >= :afterDate AND (expire_date > :afterDate OR wallet_id > :afterWalletId)";
+            params.addValue("afterDate", Date.valueOf(afterDate))
+                    .addValue("afterWalletId", afterWalletId);
+        }
+
+        return namedParameterJdbcTemplate.query("""
+                SELECT wallet_id, member_id, expire_date, issued_amount - used_amount AS remain_amount
+                FROM point_wallet
+                WHERE wallet_status = :walletStatus
+                  AND expire_date < :today
+                  %s
+                ORDER BY expire_date, wallet_id
+                LIMIT :limit
+                """.formatted(keyset), params, EXPIRING_WALLET_ROW_MAPPER);
+    }
+
+    /**
+     * 회원 Lock 획득 후 만료 대상 wallet 재조회 (FOR UPDATE)
+     * <p>
+     * - keyset 조회 이후 사용/취소로 바뀐 잔여 금액을 다시 확인
+     */
+    public List<ExpiringWallet> findExpiringWalletsForUpdate(Collection<Long> walletIds, LocalDate today) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT wallet_id, member_id, expire_date, issued_amount - used_amount AS remain_amount
+                        FROM point_wallet
+                        WHERE wallet_id IN (:walletIds)
+                          AND wallet_status = :walletStatus
+                          AND expire_date < :today
+                        FOR UPDATE
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("walletIds", walletIds)
+                        .addValue("walletStatus", Val.NORMAL)
+                        .addValue("today", Date.valueOf(today)),
+                EXPIRING_WALLET_ROW_MAPPER);
+    }
+
+    /**
+     * wallet 일괄 만료 처리 (wallet_status = '20')
+     */
+    public int expireWallets(Collection<Long> walletIds) {
+        return namedParameterJdbcTemplate.update("""
+                        UPDATE point_wallet
+                        SET wallet_status = :expired
+                        WHERE wallet_id IN (:walletIds)
+                          AND wallet_status = :walletStatus
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("expired", Val.EXPIRED)
+                        .addValue("walletIds", walletIds)
+                        .addValue("walletStatus", Val.NORMAL));
+    }
+}
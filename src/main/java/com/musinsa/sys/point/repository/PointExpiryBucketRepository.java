@@ -0,0 +1,88 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.point.dto.PointBalanceResp;
+import com.musinsa.sys.point.dto.PointExpiryBucketDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * 회원 / 만료일별 잔여 포인트 요약 (point_expiry_bucket)
+ * <p>
+ * - 정상 wallet 의 (issued_amount - used_amount) 를 (member_id, expire_date) 단위로 합산한 값
+ * - 적립 / 적립취소 / 사용 / 사용취소 / 만료 트랜잭션 안에서 증감분만 반영
+ * - 조회는 회원의 만료일 수만큼만 읽으므로 wallet 수와 무관
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointExpiryBucketRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 만료일별 잔여 포인트 증감
+     * <p>
+     * - (member_id, expire_date) 순으로 반영하여 동시 배치 간 데드락 방지
+     */
+    public void addRemainAmounts(Collection<PointExpiryBucketDelta> deltas) {
+        MapSqlParameterSource[] params = deltas.stream()
+                .filter(delta -> delta.getAmount() != 0)
+                .sorted(Comparator.comparing(PointExpiryBucketDelta::getMemberId)
+                        .thenComparing(PointExpiryBucketDelta::getExpireDate))
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("memberId", delta.getMemberId())
+                        .addValue("expireDate", Date.valueOf(delta.getExpireDate()))
+                        .addValue("amount", delta.getAmount()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length == 0) return;
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                VALUES (:memberId, :expireDate, :amount)
+                ON DUPLICATE KEY UPDATE remain_amount = remain_amount + :amount
+                """, params);
+    }
+
+    /**
+     * 잔액 / 만료 예정 요약 조회 (Lock 없음)
+     * <p>
+     * - 회원의 만료일 bucket 만 만료일 순으로 읽어 합산 (PK 범위 조회)
+     *
+     * @param today    기준일 (이 날짜 이후 만료분만 사용 가능)
+     * @param monthEnd 이번 달 말일
+     */
+    public PointBalanceResp findBalance(Long memberId, LocalDate today, LocalDate monthEnd) {
+        PointBalanceResp balance = new PointBalanceResp(memberId, 0L, 0L, null, 0L);
+        namedParameterJdbcTemplate.query("""
+                        SELECT expire_date, remain_amount
+                        FROM point_expiry_bucket
+                        WHERE member_id = :memberId
+                          AND expire_date >= :today
+                          AND remain_amount > 0
+                        ORDER BY expire_date
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("today", Date.valueOf(today)),
+                rs -> {
+                    LocalDate expireDate = rs.getDate("expire_date").toLocalDate();
+                    long remainAmount = rs.getLong("remain_amount");
+
+                    balance.setAvailableAmount(balance.getAvailableAmount() + remainAmount);
+                    if (!expireDate.isAfter(monthEnd)) {
+                        balance.setExpiringThisMonthAmount(balance.getExpiringThisMonthAmount() + remainAmount);
+                    }
+                    if (balance.getNextExpireDate() == null) {
+                        balance.setNextExpireDate(expireDate);
+                        balance.setNextExpireAmount(remainAmount);
+                    }
+                });
+        return balance;
+    }
+}
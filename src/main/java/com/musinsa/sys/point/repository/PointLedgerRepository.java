@@ -0,0 +1,162 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.point.entity.PointUseDetail;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 원장(PointLedgerEngine) 적재 / 기록용 JDBC Repository
+ * <p>
+ * - 적재 : Lock 없이 회원 잔액 / version, wallet, 주문 사용 상세 조회
+ * - 기록 : 회원 잔액은 적재 시점 version 과 같을 때만 갱신 (다른 경로의 변경 감지), wallet / 사용 상세는 최종 값으로 갱신
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 회원 잔액 / version 조회 (Lock 없음)
+     *
+     * @return member_id → {point_balance, version}
+     */
+    public Map<Long, long[]> findBalances(Collection<Long> memberIds) {
+        Map<Long, long[]> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                        SELECT member_id, point_balance, version
+                        FROM member
+                        WHERE member_id IN (:memberIds)
+                        """,
+                new MapSqlParameterSource("memberIds", memberIds),
+                rs -> {
+                    balances.put(rs.getLong("member_id"), new long[]{rs.getLong("point_balance"), rs.getLong("version")});
+                });
+        return balances;
+    }
+
+    /**
+     * 회원들의 wallet 전체 조회 (상태 무관, Lock 없음)
+     */
+    public List<PointWallet> findWallets(Collection<Long> memberIds) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT wallet_id, member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at
+                        FROM point_wallet
+                        WHERE member_id IN (:memberIds)
+                        ORDER BY wallet_id
+                        """,
+                new MapSqlParameterSource("memberIds", memberIds),
+                (rs, rowNum) -> PointWallet.builder()
+                        .walletId(rs.getLong("wallet_id"))
+                        .memberId(rs.getLong("member_id"))
+                        .issuedAmount(rs.getLong("issued_amount"))
+                        .usedAmount(rs.getLong("used_amount"))
+                        .walletStatus(rs.getString("wallet_status"))
+                        .expireDate(rs.getDate("expire_date").toLocalDate())
+                        .sourceType(WalletSourceType.from(rs.getString("source_type")))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .build());
+    }
+
+    /**
+     * 주문의 wallet 단위 사용 상세 조회 (차감 역순, Lock 없음)
+     * <p>
+     * - PointUseDetailRepository.findWalletDetailsForUpdate 와 같은 순서
+     */
+    public List<PointUseDetail> findWalletDetails(String orderNo) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT use_id, order_no, wallet_id, used_amount, cancelable_amount, created_at
+                        FROM point_use_detail
+                        WHERE order_no = :orderNo
+                          AND wallet_id IS NOT NULL
+                        ORDER BY use_id DESC
+                        """,
+                new MapSqlParameterSource("orderNo", orderNo),
+                (rs, rowNum) -> PointUseDetail.builder()
+                        .useId(rs.getLong("use_id"))
+                        .orderNo(rs.getString("order_no"))
+                        .walletId(rs.getLong("wallet_id"))
+                        .usedAmount(rs.getLong("used_amount"))
+                        .cancelableAmount(rs.getLong("cancelable_amount"))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .build());
+    }
+
+    /**
+     * 회원 잔액 갱신 (version 이 적재 시점과 같을 때만, version 증가)
+     *
+     * @param balances member_id → {point_balance, 적재 시점 version}
+     * @return version 이 달라 갱신되지 않은 회원 ID
+     */
+    public List<Long> updateBalances(Map<Long, long[]> balances) {
+        List<Long> memberIds = new ArrayList<>(balances.keySet());
+        MapSqlParameterSource[] params = memberIds.stream()
+                .map(memberId -> new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("balance", balances.get(memberId)[0])
+                        .addValue("version", balances.get(memberId)[1]))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length == 0) return List.of();
+
+        int[] updated = namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE member
+                SET point_balance = :balance,
+                    version = version + 1
+                WHERE member_id = :memberId
+                  AND version = :version
+                """, params);
+        List<Long> conflicts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) conflicts.add(memberIds.get(i));
+        }
+        return conflicts;
+    }
+
+    /**
+     * wallet 사용 금액 / 상태 갱신
+     */
+    public void updateWallets(Collection<PointWallet> wallets) {
+        MapSqlParameterSource[] params = wallets.stream()
+                .map(wallet -> new MapSqlParameterSource()
+                        .addValue("walletId", wallet.getWalletId())
+                        .addValue("usedAmount", wallet.getUsedAmount())
+                        .addValue("walletStatus", wallet.getWalletStatus()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length == 0) return;
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE point_wallet
+                SET used_amount = :usedAmount,
+                    wallet_status = :walletStatus
+                WHERE wallet_id = :walletId
+                """, params);
+    }
+
+    /**
+     * 사용 상세 취소 가능 잔여 금액 갱신
+     */
+    public void updateCancelableAmounts(Collection<PointUseDetail> details) {
+        MapSqlParameterSource[] params = details.stream()
+                .map(detail -> new MapSqlParameterSource()
+                        .addValue("useId", detail.getUseId())
+                        .addValue("cancelableAmount", detail.getCancelableAmount()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length == 0) return;
+
+        namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE point_use_detail
+                SET cancelable_amount = :cancelableAmount
+                WHERE use_id = :useId
+                """, params);
+    }
+}
@@ -0,0 +1,110 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.point.entity.PointLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * point_log 월 단위 아카이브용 JDBC Repository
+ * <p>
+ * - 월 구분 : 주문번호가 있으면 주문번호 앞 6자리(yyyyMM), 없으면(적립 / 만료 로그) created_at 기준
+ * - 주문번호 조건은 idx_point_log_order, created_at 조건은 idx_point_log_created 범위 조회로 처리
+ * - log_id 는 노드별 pooled 할당이라 시간 순서가 아니므로 삭제는 최대 log_id 가 아닌 기록한 log_id 목록 기준
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLogArchiveRepository {
+
+    // IN 절 1회당 최대 값 수
+    private static final int IN_BATCH_SIZE = 1000;
+
+    private static final String MONTH_CONDITION = """
+            ((order_no >= :fromOrderNo AND order_no < :toOrderNo)
+              OR (order_no IS NULL AND created_at >= :fromCreatedAt AND created_at < :toCreatedAt))
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 가장 오래된 로그의 월 (로그가 없으면 null)
+     */
+    public YearMonth findOldestMonth() {
+        Timestamp oldest = namedParameterJdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT MIN(created_at) FROM point_log", Timestamp.class);
+        return oldest == null ? null : YearMonth.from(oldest.toLocalDateTime());
+    }
+
+    /**
+     * 월 로그를 order_no, created_at, log_id 순으로 전달
+     *
+     * @return 전달한 로그의 log_id 목록
+     */
+    public long[] streamMonth(YearMonth month, Consumer<PointLog> consumer) {
+        LongStream.Builder logIds = LongStream.builder();
+        namedParameterJdbcTemplate.query("""
+                        SELECT log_id, member_id, log_type, log_at, order_no, wallet_id, amount, created_at
+                        FROM point_log
+                        WHERE %s
+                        ORDER BY order_no, created_at, log_id
+                        """.formatted(MONTH_CONDITION),
+                monthParams(month),
+                rs -> {
+                    long logId = rs.getLong("log_id");
+                    logIds.add(logId);
+                    consumer.accept(PointLog.builder()
+                            .logId(logId)
+                            .memberId(rs.getLong("member_id"))
+                            .logType(rs.getString("log_type"))
+                            .logAt(parseLogAt(rs.getString("log_at")))
+                            .orderNo(rs.getString("order_no"))
+                            .walletId(rs.getObject("wallet_id", Long.class))
+                            .amount(rs.getLong("amount"))
+                            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                            .build());
+                });
+        return logIds.build().toArray();
+    }
+
+    /**
+     * 아카이브한 로그 삭제 (기록 이후 추가된 로그는 log_id 가 더 작아도 남김)
+     *
+     * @return 삭제 건수
+     */
+    public int deleteByLogIds(long[] logIds) {
+        int deleted = 0;
+        for (int from = 0; from < logIds.length; from += IN_BATCH_SIZE) {
+            List<Long> batch = Arrays.stream(logIds, from, Math.min(from + IN_BATCH_SIZE, logIds.length)).boxed().toList();
+            deleted += namedParameterJdbcTemplate.update("DELETE FROM point_log WHERE log_id IN (:logIds)",
+                    new MapSqlParameterSource("logIds", batch));
+        }
+        return deleted;
+    }
+
+    private static MapSqlParameterSource monthParams(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        return new MapSqlParameterSource()
+                .addValue("fromOrderNo", orderNoPrefix(month))
+                .addValue("toOrderNo", orderNoPrefix(next))
+                .addValue("fromCreatedAt", Timestamp.valueOf(month.atDay(1).atStartOfDay()))
+                .addValue("toCreatedAt", Timestamp.valueOf(next.atDay(1).atStartOfDay()));
+    }
+
+    private static String orderNoPrefix(YearMonth month) {
+        return String.format("%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    // log_at 은 CHAR(20) 으로 'yyyy-MM-dd HH:mm:ss' / 'yyyy-MM-ddTHH:mm:ss' 형식이 섞여 있음
+    private static LocalDateTime parseLogAt(String logAt) {
+        return LocalDateTime.parse(logAt.trim().replace(' ', 'T'));
+    }
+}
@@ -0,0 +1,78 @@
+package com.musinsa.sys.point.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 포인트 로그 저널 커밋 표시 (point_log_journal_commit)
+ * <p>
+ * - PointLogWriter 가 저널 fsync 후 업무 트랜잭션 안에서 INSERT (업무 변경과 같이 커밋 / 롤백)
+ * - PointLogJournalDrainer 는 표시가 있는 레코드만 point_log 로 옮기고, 같은 트랜잭션에서 표시를 삭제 (seq 단위 멱등)
+ * - 표시가 남아 있으면 아직 point_log 에 없는 커밋된 로그가 있다는 뜻 (모든 노드 공통)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLogJournalCommitRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insert(int nodeId, long firstSeq, long lastSeq) {
+        MapSqlParameterSource[] params = new MapSqlParameterSource[(int) (lastSeq - firstSeq + 1)];
+        for (long seq = firstSeq; seq <= lastSeq; seq++) {
+            params[(int) (seq - firstSeq)] = new MapSqlParameterSource()
+                    .addValue("nodeId", nodeId)
+                    .addValue("journalSeq", seq);
+        }
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO point_log_journal_commit (node_id, journal_seq)
+                VALUES (:nodeId, :journalSeq)
+                """, params);
+    }
+
+    /**
+     * seq 범위 안에서 커밋 표시가 있는 seq 조회
+     */
+    public Set<Long> findCommittedSeqs(int nodeId, long firstSeq, long lastSeq) {
+        Set<Long> seqs = new HashSet<>();
+        namedParameterJdbcTemplate.query("""
+                        SELECT journal_seq
+                        FROM point_log_journal_commit
+                        WHERE node_id = :nodeId
+                          AND journal_seq BETWEEN :firstSeq AND :lastSeq
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("nodeId", nodeId)
+                        .addValue("firstSeq", firstSeq)
+                        .addValue("lastSeq", lastSeq),
+                rs -> {
+                    seqs.add(rs.getLong("journal_seq"));
+                });
+        return seqs;
+    }
+
+    public void deleteRange(int nodeId, long firstSeq, long lastSeq) {
+        namedParameterJdbcTemplate.update("""
+                        DELETE FROM point_log_journal_commit
+                        WHERE node_id = :nodeId
+                          AND journal_seq BETWEEN :firstSeq AND :lastSeq
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("nodeId", nodeId)
+                        .addValue("firstSeq", firstSeq)
+                        .addValue("lastSeq", lastSeq));
+    }
+
+    /**
+     * 아직 point_log 로 옮기지 않은 커밋된 저널 레코드 수 (모든 노드)
+     */
+    public long countPending() {
+        Long count = namedParameterJdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT COUNT(*) FROM point_log_journal_commit", Long.class);
+        return count == null ? 0 : count;
+    }
+}
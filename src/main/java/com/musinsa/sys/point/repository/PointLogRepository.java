@@ -6,6 +6,7 @@ import com.musinsa.sys.point.enums.PointLogType;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -50,6 +51,40 @@ public interface PointLogRepository extends JpaRepository<PointLog, Long> {
             @Param("orderNo") String orderNo,
             @Param("cancelType") String cancelType
     );
-}
 
+    /**
+     * 사용 승인 로그의 취소 가능 잔여 금액 초기화 (backfill 이전 로그, 아카이브된 로그는 0건)
+     */
+    @Modifying
+    @Query(
+            value = """
+            UPDATE point_log
+            SET cancelable_amount = :cancelableAmount
+            WHERE log_id = :logId
+              AND cancelable_amount IS NULL
+        """,
+            nativeQuery = true
+    )
+    int initCancelableAmount(
+            @Param("logId") Long logId,
+            @Param("cancelableAmount") long cancelableAmount
+    );
 
+    /**
+     * 사용 승인 로그의 취소 가능 잔여 금액 차감 (잔여 금액 부족 시 0건)
+     */
+    @Modifying
+    @Query(
+            value = """
+            UPDATE point_log
+            SET cancelable_amount = cancelable_amount - :cancelAmount
+            WHERE log_id = :logId
+              AND cancelable_amount >= :cancelAmount
+        """,
+            nativeQuery = true
+    )
+    int deductCancelableAmount(
+            @Param("logId") Long logId,
+            @Param("cancelAmount") long cancelAmount
+    );
+}
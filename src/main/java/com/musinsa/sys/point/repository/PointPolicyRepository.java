@@ -1,11 +1,21 @@
 package com.musinsa.sys.point.repository;
 
+import com.musinsa.sys.point.dto.PointPolicyRevision;
 import com.musinsa.sys.point.entity.PointPolicy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PointPolicyRepository extends JpaRepository<PointPolicy, String> {
     PointPolicy findByPolicyKey(String policyKey);
-}
 
+    /**
+     * 정책 건수 / 버전 합계 조회
+     * <p>
+     * - 정책 추가 / 삭제는 건수로, policy_version 증가는 합계로 드러나므로
+     * 캐시 스냅샷 갱신 여부 판단에 사용 (삭제와 버전 증가가 겹쳐 합계가 같아도 건수가 다름)
+     */
+    @Query("select new com.musinsa.sys.point.dto.PointPolicyRevision(count(p), coalesce(sum(p.policyVersion), 0L)) from PointPolicy p")
+    PointPolicyRevision findRevision();
+}
@@ -0,0 +1,173 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.point.dto.PointReconciliationMismatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 회원 잔액 / wallet 대사용 JDBC Repository
+ * <p>
+ * - member 와 정상 wallet 을 각각 member_id 순 forward-only 커서로 읽어 merge-join (엔티티 변환 없음)
+ * - 두 커서는 서로 다른 커넥션을 사용하므로 트랜잭션 밖에서 호출해야 함 (구간 1개당 커넥션 2개)
+ * - MySQL 에서 fetchSize 단위로 나누어 받으려면 URL 에 useCursorFetch=true 필요 (없으면 결과 전체를 메모리에 적재)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointReconciliationRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 대사 대상 member_id 범위 [min, max] (member / wallet 모두 없으면 null)
+     * <p>
+     * - member 행 없는 wallet 도 포함되도록 두 테이블의 범위를 합침
+     */
+    public long[] findMemberIdRange(long fromMemberId, long toMemberId) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT MIN(min_id) AS min_id, MAX(max_id) AS max_id
+                        FROM (SELECT MIN(member_id) AS min_id, MAX(member_id) AS max_id
+                              FROM member
+                              WHERE member_id BETWEEN :fromMemberId AND :toMemberId
+                              UNION ALL
+                              SELECT MIN(member_id), MAX(member_id)
+                              FROM point_wallet
+                              WHERE member_id BETWEEN :fromMemberId AND :toMemberId) ranges
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("fromMemberId", fromMemberId)
+                        .addValue("toMemberId", toMemberId),
+                rs -> {
+                    rs.next();
+                    long minId = rs.getLong("min_id");
+                    return rs.wasNull() ? null : new long[]{minId, rs.getLong("max_id")};
+                });
+    }
+
+    /**
+     * [fromMemberId, toMemberId] 구간의 point_balance 와 정상 wallet 잔여 합계를 merge-join 으로 비교
+     *
+     * @return 비교한 회원 수
+     */
+    public long reconcile(long fromMemberId, long toMemberId, int fetchSize,
+                          Consumer<PointReconciliationMismatch> consumer) {
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        PreparedStatementCreator members = cursor("""
+                SELECT member_id, point_balance
+                FROM member
+                WHERE member_id BETWEEN ? AND ?
+                ORDER BY member_id
+                """, fromMemberId, toMemberId, fetchSize);
+        // idx_point_wallet_usable (member_id, wallet_status, ...) 순서로 조회
+        PreparedStatementCreator wallets = cursor("""
+                SELECT member_id, issued_amount - used_amount AS remain_amount
+                FROM point_wallet
+                WHERE member_id BETWEEN ? AND ?
+                  AND wallet_status = '%s'
+                ORDER BY member_id
+                """.formatted(Val.NORMAL), fromMemberId, toMemberId, fetchSize);
+
+        Long memberCount = jdbcTemplate.query(members, (ResultSetExtractor<Long>) memberRs ->
+                jdbcTemplate.query(wallets, (ResultSetExtractor<Long>) walletRs -> merge(memberRs, walletRs, consumer)));
+        return memberCount == null ? 0 : memberCount;
+    }
+
+    /**
+     * 불일치 후보 재확인 : 회원별 잔액과 wallet 합계를 한 문장에서 다시 조회
+     * <p>
+     * - 스캔 중 거래가 있었던 회원은 두 커서의 조회 시점이 달라 일시적으로 어긋날 수 있음
+     *
+     * @return 재확인 후에도 불일치인 회원
+     */
+    public List<PointReconciliationMismatch> recheck(Collection<Long> memberIds) {
+        List<PointReconciliationMismatch> mismatches = new ArrayList<>();
+        namedParameterJdbcTemplate.query("""
+                        SELECT m.member_id, m.point_balance,
+                               COALESCE((SELECT SUM(w.issued_amount - w.used_amount)
+                                         FROM point_wallet w
+                                         WHERE w.member_id = m.member_id
+                                           AND w.wallet_status = :normal), 0) AS wallet_balance
+                        FROM member m
+                        WHERE m.member_id IN (:memberIds)
+                        ORDER BY m.member_id
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("normal", Val.NORMAL)
+                        .addValue("memberIds", memberIds),
+                rs -> {
+                    long pointBalance = rs.getLong("point_balance");
+                    long walletBalance = rs.getLong("wallet_balance");
+                    if (pointBalance != walletBalance) {
+                        mismatches.add(new PointReconciliationMismatch(rs.getLong("member_id"), pointBalance, walletBalance));
+                    }
+                });
+        return mismatches;
+    }
+
+    private static long merge(ResultSet memberRs, ResultSet walletRs,
+                              Consumer<PointReconciliationMismatch> consumer) throws SQLException {
+        long memberCount = 0;
+        boolean hasWallet = walletRs.next();
+        while (memberRs.next()) {
+            long memberId = memberRs.getLong(1);
+            long pointBalance = memberRs.getLong(2);
+
+            // member 행 없는 wallet
+            while (hasWallet && walletRs.getLong(1) < memberId) {
+                hasWallet = emitOrphan(walletRs, consumer);
+            }
+
+            long walletBalance = 0;
+            while (hasWallet && walletRs.getLong(1) == memberId) {
+                walletBalance += walletRs.getLong(2);
+                hasWallet = walletRs.next();
+            }
+
+            if (pointBalance != walletBalance) {
+                consumer.accept(new PointReconciliationMismatch(memberId, pointBalance, walletBalance));
+            }
+            memberCount++;
+        }
+
+        while (hasWallet) {
+            hasWallet = emitOrphan(walletRs, consumer);
+        }
+        return memberCount;
+    }
+
+    // 현재 행의 회원 wallet 을 모두 읽고 다음 행 존재 여부 반환
+    private static boolean emitOrphan(ResultSet walletRs, Consumer<PointReconciliationMismatch> consumer) throws SQLException {
+        long memberId = walletRs.getLong(1);
+        long walletBalance = 0;
+        boolean hasWallet = true;
+        while (hasWallet && walletRs.getLong(1) == memberId) {
+            walletBalance += walletRs.getLong(2);
+            hasWallet = walletRs.next();
+        }
+        consumer.accept(new PointReconciliationMismatch(memberId, null, walletBalance));
+        return hasWallet;
+    }
+
+    private static PreparedStatementCreator cursor(String sql, long fromMemberId, long toMemberId, int fetchSize) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, fromMemberId);
+            ps.setLong(2, toMemberId);
+            return ps;
+        };
+    }
+}
@@ -0,0 +1,338 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.point.dto.PointReplayLogChunk;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * point_log 기반 잔액 / wallet 재계산용 JDBC Repository
+ * <p>
+ * - 로그 순서는 (created_at, log_id) : created_at 은 회원 Lock 보유 중 기록한 마이크로초 시각,
+ * log_id 는 노드별 pooled 할당(저널 모드는 drain 시점 할당)이라 노드 간 시간 순서가 아니므로 같은 시각일 때만 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointReplayRepository {
+
+    // IN 절 1회당 최대 값 수
+    private static final int IN_BATCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * (created_at, log_id) 순 keyset 조회 (idx_point_log_created 범위 조회)
+     * <p>
+     * - (afterCreatedAt, afterLogId) 이후 로그 중 회원 구간 / 분할 조건에 맞는 로그를 chunk 크기만큼 채움
+     * - 상한 없이 조회 시점의 마지막 로그까지 읽음 (재계산 중 바뀐 회원은 보정 시 version 으로 제외)
+     * - 분할 조건 : MOD(member_id, partitions) = partition
+     */
+    public void fillChunk(PointReplayLogChunk chunk, LocalDateTime afterCreatedAt, long afterLogId,
+                          long fromMemberId, long toMemberId, int partitions, int partition, int limit) {
+        chunk.clear();
+        namedParameterJdbcTemplate.query("""
+                        SELECT log_id, member_id, log_type, order_no, wallet_id, amount, created_at
+                        FROM point_log
+                        WHERE created_at >= :afterCreatedAt
+                          AND (created_at > :afterCreatedAt OR log_id > :afterLogId)
+                          AND member_id BETWEEN :fromMemberId AND :toMemberId
+                          AND MOD(member_id, :partitions) = :partition
+                        ORDER BY created_at, log_id
+                        LIMIT :limit
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("afterCreatedAt", Timestamp.valueOf(afterCreatedAt))
+                        .addValue("afterLogId", afterLogId)
+                        .addValue("fromMemberId", fromMemberId)
+                        .addValue("toMemberId", toMemberId)
+                        .addValue("partitions", partitions)
+                        .addValue("partition", partition)
+                        .addValue("limit", limit),
+                rs -> {
+                    chunk.add(rs.getLong("log_id"),
+                            rs.getLong("member_id"),
+                            PointReplayLogChunk.typeOf(rs.getString("log_type")),
+                            rs.getLong("amount"),
+                            rs.getLong("wallet_id"),
+                            rs.getString("order_no"),
+                            rs.getTimestamp("created_at").toLocalDateTime());
+                });
+    }
+
+    /**
+     * chunk 내 적립승인 로그의 wallet 만료일 / 사용 우선순위 조회
+     * <p>
+     * - 만료일, 지급 출처는 생성 후 바뀌지 않는 값이므로 현재 wallet 에서 읽음
+     * - 적립 로그와 wallet 은 같은 순서로 생성되어 ID 가 모여 있으므로 PK 범위로 조회 (흩어져 있으면 IN 분할 조회)
+     * - wallet 이 없으면 expireDay = -1 유지
+     */
+    public void fillWalletAttributes(PointReplayLogChunk chunk) {
+        Set<Long> walletIds = new HashSet<>();
+        long minWalletId = Long.MAX_VALUE;
+        long maxWalletId = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.logTypes[i] == PointReplayLogChunk.SAVING_APPROVAL && chunk.walletIds[i] > 0) {
+                walletIds.add(chunk.walletIds[i]);
+                minWalletId = Math.min(minWalletId, chunk.walletIds[i]);
+                maxWalletId = Math.max(maxWalletId, chunk.walletIds[i]);
+            }
+        }
+        if (walletIds.isEmpty()) return;
+
+        Map<Long, long[]> attributes = new HashMap<>();
+        RowCallbackHandler collector = rs -> {
+            long walletId = rs.getLong("wallet_id");
+            if (walletIds.contains(walletId)) {
+                attributes.put(walletId, new long[]{rs.getDate("expire_date").toLocalDate().toEpochDay(), rs.getInt("use_priority")});
+            }
+        };
+
+        if (maxWalletId - minWalletId < 4L * walletIds.size()) {
+            namedParameterJdbcTemplate.query("""
+                            SELECT wallet_id, expire_date, use_priority
+                            FROM point_wallet
+                            WHERE wallet_id BETWEEN :minWalletId AND :maxWalletId
+                            """,
+                    new MapSqlParameterSource()
+                            .addValue("minWalletId", minWalletId)
+                            .addValue("maxWalletId", maxWalletId),
+                    collector);
+        } else {
+            for (List<Long> batch : partition(walletIds)) {
+                namedParameterJdbcTemplate.query("""
+                                SELECT wallet_id, expire_date, use_priority
+                                FROM point_wallet
+                                WHERE wallet_id IN (:walletIds)
+                                """,
+                        new MapSqlParameterSource("walletIds", batch), collector);
+            }
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.logTypes[i] != PointReplayLogChunk.SAVING_APPROVAL) continue;
+            long[] attribute = attributes.get(chunk.walletIds[i]);
+            if (attribute == null) continue;
+            chunk.expireDays[i] = (int) attribute[0];
+            chunk.usePriorities[i] = (byte) attribute[1];
+        }
+    }
+
+    /**
+     * chunk 내 사용취소 주문의 wallet 단위 사용 상세 조회 (use_id 역순 = 취소 순서)
+     * <p>
+     * - 상세의 used_amount (차감 시점 값) 만 사용, cancelable_amount 는 재계산 대상이므로 읽지 않음
+     */
+    public void fillUseDetails(PointReplayLogChunk chunk) {
+        Set<String> orderNos = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.logTypes[i] == PointReplayLogChunk.USE_CANCEL && chunk.orderNos[i] != null) {
+                orderNos.add(chunk.orderNos[i]);
+            }
+        }
+        if (orderNos.isEmpty()) return;
+
+        Map<String, List<long[]>> details = new HashMap<>();
+        for (List<String> batch : partition(orderNos)) {
+            namedParameterJdbcTemplate.query("""
+                            SELECT order_no, wallet_id, used_amount
+                            FROM point_use_detail
+                            WHERE order_no IN (:orderNos)
+                              AND wallet_id IS NOT NULL
+                            ORDER BY order_no, use_id DESC
+                            """,
+                    new MapSqlParameterSource("orderNos", batch),
+                    rs -> {
+                        details.computeIfAbsent(rs.getString("order_no"), key -> new ArrayList<>())
+                                .add(new long[]{rs.getLong("wallet_id"), rs.getLong("used_amount")});
+                    });
+        }
+
+        details.forEach((orderNo, rows) -> {
+            long[] walletIds = new long[rows.size()];
+            long[] usedAmounts = new long[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                walletIds[i] = rows.get(i)[0];
+                usedAmounts[i] = rows.get(i)[1];
+            }
+            chunk.useDetails.put(orderNo, new PointReplayLogChunk.UseDetails(walletIds, usedAmounts));
+        });
+    }
+
+    /**
+     * 회원 구간 / 분할 조건에 맞는 회원 잔액 keyset 조회 (member_id 순, Lock 없음)
+     *
+     * @return member_id → point_balance (member_id 순)
+     */
+    public Map<Long, Long> findBalances(long afterMemberId, long toMemberId, int partitions, int partition, int limit) {
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query("""
+                        SELECT member_id, point_balance
+                        FROM member
+                        WHERE member_id > :afterMemberId
+                          AND member_id <= :toMemberId
+                          AND MOD(member_id, :partitions) = :partition
+                        ORDER BY member_id
+                        LIMIT :limit
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("afterMemberId", afterMemberId)
+                        .addValue("toMemberId", toMemberId)
+                        .addValue("partitions", partitions)
+                        .addValue("partition", partition)
+                        .addValue("limit", limit),
+                rs -> {
+                    balances.put(rs.getLong("member_id"), rs.getLong("point_balance"));
+                });
+        return balances;
+    }
+
+    /**
+     * 회원 구간 / 분할 조건에 맞는 회원 version (재계산 시작 시점 snapshot, Lock 없음)
+     */
+    public Map<Long, Long> findVersions(long fromMemberId, long toMemberId, int partitions, int partition) {
+        Map<Long, Long> versions = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                        SELECT member_id, version
+                        FROM member
+                        WHERE member_id BETWEEN :fromMemberId AND :toMemberId
+                          AND MOD(member_id, :partitions) = :partition
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("fromMemberId", fromMemberId)
+                        .addValue("toMemberId", toMemberId)
+                        .addValue("partitions", partitions)
+                        .addValue("partition", partition),
+                rs -> {
+                    versions.put(rs.getLong("member_id"), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    /**
+     * 회원 version 조회 (보정 트랜잭션에서 회원 Lock 후)
+     */
+    public Map<Long, Long> findVersions(Collection<Long> memberIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (List<Long> batch : partition(memberIds)) {
+            namedParameterJdbcTemplate.query("SELECT member_id, version FROM member WHERE member_id IN (:memberIds)",
+                    new MapSqlParameterSource("memberIds", batch),
+                    rs -> {
+                        versions.put(rs.getLong("member_id"), rs.getLong("version"));
+                    });
+        }
+        return versions;
+    }
+
+    /**
+     * 회원 구간의 전체 wallet (member_id, wallet_id 순, idx_point_wallet_usable 의 member_id 범위 조회)
+     */
+    public List<PointWallet> findWallets(long fromMemberId, long toMemberId) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT wallet_id, member_id, issued_amount, used_amount, wallet_status, expire_date, source_type
+                        FROM point_wallet
+                        WHERE member_id BETWEEN :fromMemberId AND :toMemberId
+                        ORDER BY member_id, wallet_id
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("fromMemberId", fromMemberId)
+                        .addValue("toMemberId", toMemberId),
+                (rs, rowNum) -> PointWallet.builder()
+                        .walletId(rs.getLong("wallet_id"))
+                        .memberId(rs.getLong("member_id"))
+                        .issuedAmount(rs.getLong("issued_amount"))
+                        .usedAmount(rs.getLong("used_amount"))
+                        .walletStatus(rs.getString("wallet_status"))
+                        .expireDate(rs.getDate("expire_date").toLocalDate())
+                        .sourceType(WalletSourceType.from(rs.getString("source_type")))
+                        .build());
+    }
+
+    /**
+     * 회원 잔액 보정 (비교 시점 값에서 바뀌지 않은 경우만)
+     *
+     * @return 보정 건수 (0 이면 그 사이 변경됨)
+     */
+    public int updateBalance(long memberId, long expected, long observed) {
+        return namedParameterJdbcTemplate.update("""
+                        UPDATE member
+                        SET point_balance = :expected
+                        WHERE member_id = :memberId
+                          AND point_balance = :observed
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("expected", expected)
+                        .addValue("observed", observed));
+    }
+
+    /**
+     * wallet 보정 (비교 시점 값에서 바뀌지 않은 경우만)
+     *
+     * @return 보정 건수 (0 이면 그 사이 변경됨)
+     */
+    public int updateWallet(PointWallet expected, PointWallet observed) {
+        return namedParameterJdbcTemplate.update("""
+                        UPDATE point_wallet
+                        SET issued_amount = :issuedAmount,
+                            used_amount = :usedAmount,
+                            wallet_status = :walletStatus
+                        WHERE wallet_id = :walletId
+                          AND issued_amount = :observedIssuedAmount
+                          AND used_amount = :observedUsedAmount
+                          AND wallet_status = :observedWalletStatus
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("walletId", observed.getWalletId())
+                        .addValue("issuedAmount", expected.getIssuedAmount())
+                        .addValue("usedAmount", expected.getUsedAmount())
+                        .addValue("walletStatus", expected.getWalletStatus())
+                        .addValue("observedIssuedAmount", observed.getIssuedAmount())
+                        .addValue("observedUsedAmount", observed.getUsedAmount())
+                        .addValue("observedWalletStatus", observed.getWalletStatus()));
+    }
+
+    /**
+     * 회원의 만료일별 잔액 요약을 현재 wallet 기준으로 다시 계산
+     */
+    public void rebuildExpiryBuckets(Collection<Long> memberIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("memberIds", memberIds);
+        namedParameterJdbcTemplate.update("DELETE FROM point_expiry_bucket WHERE member_id IN (:memberIds)", params);
+        namedParameterJdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT member_id, expire_date, SUM(issued_amount - used_amount)
+                FROM point_wallet
+                WHERE member_id IN (:memberIds)
+                  AND wallet_status = '00'
+                GROUP BY member_id, expire_date
+                """, params);
+    }
+
+    private static <T> List<List<T>> partition(Collection<T> values) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>(IN_BATCH_SIZE);
+        for (T value : values) {
+            batch.add(value);
+            if (batch.size() == IN_BATCH_SIZE) {
+                batches.add(batch);
+                batch = new ArrayList<>(IN_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) batches.add(batch);
+        return batches;
+    }
+}
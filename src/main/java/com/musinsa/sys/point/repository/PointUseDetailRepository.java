@@ -2,10 +2,31 @@ package com.musinsa.sys.point.repository;
 
 import com.musinsa.sys.point.entity.PointUseDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PointUseDetailRepository extends JpaRepository<PointUseDetail, Long> {
 
+    /**
+     * 주문의 wallet 단위 사용 상세 조회 (차감 역순, FOR UPDATE)
+     * <p>
+     * - idx_point_use_detail_order 로 해당 주문 상세만 조회
+     * - wallet 단위 기록 이전 주문은 결과 없음
+     */
+    @Query(
+            value = """
+                    SELECT *
+                    FROM point_use_detail
+                    WHERE order_no = :orderNo
+                      AND wallet_id IS NOT NULL
+                    ORDER BY use_id DESC
+                    FOR UPDATE
+                    """,
+            nativeQuery = true
+    )
+    List<PointUseDetail> findWalletDetailsForUpdate(@Param("orderNo") String orderNo);
 }
-
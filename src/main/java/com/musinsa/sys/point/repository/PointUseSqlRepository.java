@@ -0,0 +1,203 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.point.dto.PointUseCancelTarget;
+import com.musinsa.sys.point.dto.PointWalletDeduction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 사용 승인 / 사용 취소 SQL 경로용 JDBC Repository (SqlPointUseStrategy)
+ * <p>
+ * - 회원 / wallet 엔티티를 조회하지 않고 조건부 UPDATE 로 차감 (영속성 컨텍스트 / dirty checking 없음)
+ * - 조건(잔액 / 잔여 금액)을 UPDATE 의 WHERE 에 두어 검증과 차감을 한 문장으로 처리, 반영 건수 0 이면 실패
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointUseSqlRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 회원 잔액 조건부 차감 (version 증가) + 회원 Row Lock
+     * <p>
+     * - 잔액이 amount 미만이거나 회원이 없으면 0
+     */
+    public int debitBalance(Long memberId, long amount) {
+        return namedParameterJdbcTemplate.update("""
+                        UPDATE member
+                        SET point_balance = point_balance - :amount,
+                            version = version + 1
+                        WHERE member_id = :memberId
+                          AND point_balance >= :amount
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("amount", amount));
+    }
+
+    /**
+     * 회원 잔액 가산 (version 증가) + 회원 Row Lock
+     * <p>
+     * - 회원이 없으면 0
+     */
+    public int creditBalance(Long memberId, long amount) {
+        return namedParameterJdbcTemplate.update("""
+                        UPDATE member
+                        SET point_balance = point_balance + :amount,
+                            version = version + 1
+                        WHERE member_id = :memberId
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("amount", amount));
+    }
+
+    /**
+     * 사용 금액을 충당할 wallet 별 차감 금액 조회 (window 함수 1회)
+     * <p>
+     * - 사용 가능 wallet 을 findUsableWalletsAfter 와 같은 순서(idx_point_wallet_usable)로 앞에서 window 건만 읽음
+     * (keyset 조건이 없으면 H2 가 idx_point_wallet_status_expire 로 회원 외 wallet 까지 읽으므로 USE INDEX 지정, MySQL 도 같은 문법)
+     * - 누적 잔여(running) 합계로 wallet 별 차감 금액 = MIN(잔여, amount - 이전 wallet 까지 누적) 계산
+     * - 이전 누적이 amount 이상인 wallet 은 제외
+     * - 차감 합계가 amount 미만이면 window 안의 wallet 으로 충당 불가 (반환 건수 < window 면 wallet 부족)
+     * - Lock 없이 조회 (회원 Row Lock 으로 직렬화, 차감은 deductWallets 의 조건부 UPDATE)
+     */
+    public List<PointWalletDeduction> findDeductions(Long memberId, long amount, int window) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT wallet_id,
+                               expire_date,
+                               LEAST(remain_amount, :amount - (running_amount - remain_amount)) AS deduct_amount
+                        FROM (SELECT wallet_id,
+                                     use_priority,
+                                     expire_date,
+                                     issued_amount - used_amount AS remain_amount,
+                                     SUM(issued_amount - used_amount)
+                                         OVER (ORDER BY use_priority, expire_date, wallet_id) AS running_amount
+                              FROM (SELECT wallet_id, use_priority, expire_date, issued_amount, used_amount
+                                    FROM point_wallet USE INDEX (idx_point_wallet_usable)
+                                    WHERE wallet_status = :walletStatus
+                                      AND issued_amount > used_amount
+                                      AND member_id = :memberId
+                                      AND expire_date >= CURRENT_DATE
+                                    ORDER BY member_id, wallet_status, use_priority, expire_date, wallet_id
+                                    LIMIT :window) usable) running
+                        WHERE running_amount - remain_amount < :amount
+                        ORDER BY use_priority, expire_date, wallet_id
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("walletStatus", Val.NORMAL)
+                        .addValue("amount", amount)
+                        .addValue("window", window),
+                (rs, rowNum) -> new PointWalletDeduction(
+                        rs.getLong("wallet_id"),
+                        rs.getDate("expire_date").toLocalDate(),
+                        rs.getLong("deduct_amount")));
+    }
+
+    /**
+     * wallet 조건부 차감 (UPDATE 1회)
+     * <p>
+     * - wallet 별 차감 금액을 CASE 로 전달, 정상 상태이고 잔여가 차감 금액 이상인 wallet 만 반영
+     *
+     * @return 반영 건수 (deductions 건수보다 적으면 조회 이후 wallet 이 바뀐 것)
+     */
+    public int deductWallets(List<PointWalletDeduction> deductions) {
+        Map<Long, Long> amounts = new LinkedHashMap<>();
+        deductions.forEach(deduction -> amounts.put(deduction.getWalletId(), deduction.getAmount()));
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("walletStatus", Val.NORMAL)
+                .addValue("walletIds", amounts.keySet());
+        String amountCase = amountCase("wallet_id", amounts, params);
+
+        return namedParameterJdbcTemplate.update("""
+                UPDATE point_wallet
+                SET used_amount = used_amount + %1$s
+                WHERE wallet_id IN (:walletIds)
+                  AND wallet_status = :walletStatus
+                  AND issued_amount - used_amount >= %1$s
+                """.formatted(amountCase), params);
+    }
+
+    /**
+     * 주문의 wallet 단위 사용 상세 + wallet 상태 조회 (차감 역순, FOR UPDATE)
+     * <p>
+     * - idx_point_use_detail_order 로 해당 주문 상세만 조회, wallet 단위 기록 이전 주문은 결과 없음
+     */
+    public List<PointUseCancelTarget> findCancelTargetsForUpdate(String orderNo) {
+        return namedParameterJdbcTemplate.query("""
+                        SELECT d.use_id, d.wallet_id, d.cancelable_amount, w.wallet_status, w.expire_date
+                        FROM point_use_detail d
+                        JOIN point_wallet w ON w.wallet_id = d.wallet_id
+                        WHERE d.order_no = :orderNo
+                        ORDER BY d.use_id DESC
+                        FOR UPDATE
+                        """,
+                new MapSqlParameterSource("orderNo", orderNo),
+                (rs, rowNum) -> new PointUseCancelTarget(
+                        rs.getLong("use_id"),
+                        rs.getLong("wallet_id"),
+                        rs.getString("wallet_status"),
+                        rs.getDate("expire_date").toLocalDate(),
+                        rs.getLong("cancelable_amount")));
+    }
+
+    /**
+     * 사용 상세 취소 가능 잔여 금액 조건부 차감 (UPDATE 1회)
+     *
+     * @param amounts use_id → 취소 금액
+     * @return 반영 건수 (amounts 건수보다 적으면 조회 이후 상세가 바뀐 것)
+     */
+    public int deductCancelableAmounts(Map<Long, Long> amounts) {
+        MapSqlParameterSource params = new MapSqlParameterSource("useIds", amounts.keySet());
+        String amountCase = amountCase("use_id", amounts, params);
+
+        return namedParameterJdbcTemplate.update("""
+                UPDATE point_use_detail
+                SET cancelable_amount = cancelable_amount - %1$s
+                WHERE use_id IN (:useIds)
+                  AND cancelable_amount >= %1$s
+                """.formatted(amountCase), params);
+    }
+
+    /**
+     * 만료되지 않은 wallet 의 사용 금액 조건부 복원 (UPDATE 1회)
+     *
+     * @param amounts wallet_id → 복원 금액
+     * @return 반영 건수 (amounts 건수보다 적으면 조회 이후 wallet 이 바뀐 것)
+     */
+    public int restoreWallets(Map<Long, Long> amounts) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("expiredStatus", Val.EXPIRED)
+                .addValue("walletIds", amounts.keySet());
+        String amountCase = amountCase("wallet_id", amounts, params);
+
+        return namedParameterJdbcTemplate.update("""
+                UPDATE point_wallet
+                SET used_amount = used_amount - %1$s
+                WHERE wallet_id IN (:walletIds)
+                  AND wallet_status <> :expiredStatus
+                  AND used_amount >= %1$s
+                """.formatted(amountCase), params);
+    }
+
+    // 행별 금액을 CASE 로 전달 (파라미터는 params 에 추가)
+    private static String amountCase(String column, Map<Long, Long> amounts, MapSqlParameterSource params) {
+        StringBuilder amountCase = new StringBuilder("CASE ").append(column);
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : amounts.entrySet()) {
+            amountCase.append(" WHEN :id").append(i).append(" THEN :amount").append(i);
+            params.addValue("id" + i, entry.getKey())
+                    .addValue("amount" + i, entry.getValue());
+            i++;
+        }
+        return amountCase.append(" END").toString();
+    }
+}
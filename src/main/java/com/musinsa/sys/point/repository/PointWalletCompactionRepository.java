@@ -0,0 +1,189 @@
+package com.musinsa.sys.point.repository;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * wallet 병합 배치용 JDBC Repository
+ * <p>
+ * - 병합 대상 : 자동지급(AU) + 정상 + 미사용(used_amount = 0) + 만료일 >= 기준일 wallet
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointWalletCompactionRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 병합 대상 wallet 이 minWallets 개 이상인 회원 keyset 조회 (member_id 순, idx_point_wallet_usable 범위 조회)
+     */
+    public List<Long> findCandidateMembers(long afterMemberId, LocalDate today, int minWallets, int limit) {
+        return namedParameterJdbcTemplate.queryForList("""
+                        SELECT member_id
+                        FROM point_wallet
+                        WHERE member_id > :afterMemberId
+                          AND wallet_status = :walletStatus
+                          AND source_type = :sourceType
+                          AND used_amount = 0
+                          AND expire_date >= :today
+                        GROUP BY member_id
+                        HAVING COUNT(*) >= :minWallets
+                        ORDER BY member_id
+                        LIMIT :limit
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("afterMemberId", afterMemberId)
+                        .addValue("walletStatus", Val.NORMAL)
+                        .addValue("sourceType", WalletSourceType.AUTOMATIC.getCode())
+                        .addValue("today", Date.valueOf(today))
+                        .addValue("minWallets", minWallets)
+                        .addValue("limit", limit),
+                Long.class);
+    }
+
+    /**
+     * 회원의 병합 대상 wallet keyset 조회 + Row Lock
+     * <p>
+     * - (expire_date, wallet_id) 순으로 afterDate/afterWalletId 이후 limit 건
+     * - afterDate 가 null 이면 처음부터 조회
+     */
+    public List<PointWallet> findFreshWalletsForUpdate(long memberId, LocalDate today,
+                                                       LocalDate afterDate, Long afterWalletId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("walletStatus", Val.NORMAL)
+                .addValue("sourceType", WalletSourceType.AUTOMATIC.getCode())
+                .addValue("today", Date.valueOf(today))
+                .addValue("limit", limit);
+
+        String keyset = "";
+        if (afterDate != null) {
+            keyset = "AND expire_date >= :afterDate AND (expire_date > :afterDate OR wallet_id > :afterWalletId)";
+            params.addValue("afterDate", Date.valueOf(afterDate))
+                    .addValue("afterWalletId", afterWalletId);
+        }
+
+        return namedParameterJdbcTemplate.query("""
+                SELECT wallet_id, issued_amount, expire_date
+                FROM point_wallet
+                WHERE member_id = :memberId
+                  AND wallet_status = :walletStatus
+                  AND source_type = :sourceType
+                  AND used_amount = 0
+                  AND expire_date >= :today
+                  %s
+                ORDER BY expire_date, wallet_id
+                LIMIT :limit
+                FOR UPDATE
+                """.formatted(keyset), params, (rs, rowNum) -> PointWallet.builder()
+                .walletId(rs.getLong("wallet_id"))
+                .memberId(memberId)
+                .issuedAmount(rs.getLong("issued_amount"))
+                .usedAmount(0L)
+                .walletStatus(Val.NORMAL)
+                .expireDate(rs.getDate("expire_date").toLocalDate())
+                .sourceType(WalletSourceType.AUTOMATIC)
+                .build());
+    }
+
+    /**
+     * walletIds 중 이미 병합 wallet 인 wallet_id
+     */
+    public Set<Long> findMergedWalletIds(Collection<Long> walletIds) {
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList("""
+                        SELECT DISTINCT merged_wallet_id
+                        FROM point_wallet_merge
+                        WHERE merged_wallet_id IN (:walletIds)
+                        """,
+                new MapSqlParameterSource("walletIds", walletIds), Long.class));
+    }
+
+    /**
+     * 원 wallet 이 병합된 wallet_id (병합 이력 없으면 null)
+     */
+    public Long findMergedWalletId(long sourceWalletId) {
+        List<Long> mergedWalletIds = namedParameterJdbcTemplate.queryForList("""
+                        SELECT merged_wallet_id
+                        FROM point_wallet_merge
+                        WHERE source_wallet_id = :sourceWalletId
+                        """,
+                new MapSqlParameterSource("sourceWalletId", sourceWalletId), Long.class);
+        return mergedWalletIds.isEmpty() ? null : mergedWalletIds.get(0);
+    }
+
+    /**
+     * 병합 wallet 이 다른 병합 wallet 에 합쳐질 때 기존 병합 이력의 병합 wallet 변경 (이력은 항상 1단계)
+     *
+     * @param remaps 기존 병합 wallet_id → 새 병합 wallet_id
+     */
+    public void remapMergedWallets(Map<Long, Long> remaps) {
+        if (remaps.isEmpty()) return;
+        namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE point_wallet_merge
+                SET merged_wallet_id = :mergedWalletId
+                WHERE merged_wallet_id = :sourceWalletId
+                """, remaps.entrySet().stream()
+                .map(remap -> new MapSqlParameterSource()
+                        .addValue("sourceWalletId", remap.getKey())
+                        .addValue("mergedWalletId", remap.getValue()))
+                .toArray(MapSqlParameterSource[]::new));
+    }
+
+    /**
+     * 원 wallet 병합 처리 (wallet_status = '30') + 병합 wallet 지급 금액 가산 + 병합 이력 기록
+     *
+     * @param sources 병합 wallet_id → 원 wallet 목록
+     */
+    public void merge(Map<Long, List<PointWallet>> sources, LocalDateTime mergedAt) {
+        List<MapSqlParameterSource> walletParams = new ArrayList<>();
+        List<MapSqlParameterSource> mergedParams = new ArrayList<>();
+        sources.forEach((mergedWalletId, wallets) -> {
+            long amount = 0;
+            for (PointWallet wallet : wallets) {
+                amount += wallet.getIssuedAmount();
+                walletParams.add(new MapSqlParameterSource()
+                        .addValue("sourceWalletId", wallet.getWalletId())
+                        .addValue("mergedWalletId", mergedWalletId)
+                        .addValue("memberId", wallet.getMemberId())
+                        .addValue("amount", wallet.getIssuedAmount())
+                        .addValue("createdAt", Timestamp.valueOf(mergedAt)));
+            }
+            mergedParams.add(new MapSqlParameterSource()
+                    .addValue("mergedWalletId", mergedWalletId)
+                    .addValue("amount", amount));
+        });
+        if (walletParams.isEmpty()) return;
+
+        MapSqlParameterSource[] walletBatch = walletParams.toArray(MapSqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE point_wallet
+                SET wallet_status = '%s'
+                WHERE wallet_id = :sourceWalletId
+                """.formatted(Val.MERGED), walletBatch);
+        namedParameterJdbcTemplate.batchUpdate("""
+                INSERT INTO point_wallet_merge (source_wallet_id, merged_wallet_id, member_id, amount, created_at)
+                VALUES (:sourceWalletId, :mergedWalletId, :memberId, :amount, :createdAt)
+                """, walletBatch);
+        namedParameterJdbcTemplate.batchUpdate("""
+                UPDATE point_wallet
+                SET issued_amount = issued_amount + :amount
+                WHERE wallet_id = :mergedWalletId
+                """, mergedParams.toArray(MapSqlParameterSource[]::new));
+    }
+}
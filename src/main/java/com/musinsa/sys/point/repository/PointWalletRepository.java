@@ -6,12 +6,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface PointWalletRepository extends JpaRepository<PointWallet, Long> {
     PointWallet findByMemberIdAndWalletId(Long memberId, Long walletId);
 
+    /**
+     * 사용 가능 wallet 조회
+     * <p>
+     * - use_priority : source_type = 'MA' 이면 0, 그 외 1 (생성 컬럼)
+     * - idx_point_wallet_usable 인덱스 순서 그대로 읽으므로 별도 정렬 없음
+     */
     @Query(
             value = """
                     SELECT *
@@ -19,14 +26,53 @@ public interface PointWalletRepository extends JpaRepository<PointWallet, Long>
                     WHERE wallet_status = '00'
                       AND issued_amount > used_amount
                       AND member_id = :memberId
+                      AND expire_date >= CURRENT_DATE
                     ORDER BY
-                      CASE WHEN source_type = 'MA' THEN 0 ELSE 1 END ASC,
-                      expire_date ASC
+                      use_priority ASC,
+                      expire_date ASC,
+                      wallet_id ASC
                     """,
             nativeQuery = true
     )
     List<PointWallet> findUsableWallets(@Param("memberId") Long memberId);
 
+    /**
+     * 사용 가능 wallet keyset 페이지 조회
+     * <p>
+     * - findUsableWallets 와 같은 순서로 (afterUsePriority, afterExpireDate, afterWalletId) 이후 limit 건
+     * - 첫 페이지는 afterUsePriority = -1
+     * - idx_point_wallet_usable 순서 그대로 읽다가 limit 건에서 중단 (회원의 wallet 전체를 읽지 않음)
+     * - 정렬에 등치 조건 컬럼(member_id, wallet_status)도 적어야 H2 가 인덱스 순서를 그대로 사용 (MySQL 은 결과 동일)
+     * - Lock 없이 조회 (같은 회원 거래는 회원 Row Lock 으로 직렬화, 실제 차감한 wallet 만 UPDATE 로 Lock)
+     */
+    @Query(
+            value = """
+                    SELECT *
+                    FROM point_wallet
+                    WHERE wallet_status = '00'
+                      AND issued_amount > used_amount
+                      AND member_id = :memberId
+                      AND expire_date >= CURRENT_DATE
+                      AND use_priority >= :afterUsePriority
+                      AND (use_priority > :afterUsePriority
+                        OR expire_date > :afterExpireDate
+                        OR (expire_date = :afterExpireDate AND wallet_id > :afterWalletId))
+                    ORDER BY
+                      member_id,
+                      wallet_status,
+                      use_priority ASC,
+                      expire_date ASC,
+                      wallet_id ASC
+                    LIMIT :limit
+                    """,
+            nativeQuery = true
+    )
+    List<PointWallet> findUsableWalletsAfter(@Param("memberId") Long memberId,
+                                             @Param("afterUsePriority") int afterUsePriority,
+                                             @Param("afterExpireDate") LocalDate afterExpireDate,
+                                             @Param("afterWalletId") long afterWalletId,
+                                             @Param("limit") int limit);
+
     @Query(
             value = """
                     SELECT *
@@ -0,0 +1,163 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.member.component.MemberConcurrencyControl;
+import com.musinsa.sys.member.entity.Member;
+import com.musinsa.sys.member.repository.MemberRepository;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointMetrics;
+import com.musinsa.sys.point.dto.PointExpiryBucketDelta;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.entity.PointUseDetail;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import com.musinsa.sys.point.repository.PointUseDetailRepository;
+import com.musinsa.sys.point.repository.PointWalletRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 사용 승인 차감 / 사용 취소 복원 : JPA 엔티티 경로 (point.use.mode=jpa)
+ * <p>
+ * - 회원을 SELECT FOR UPDATE(낙관적 모드는 Lock 없이)로 조회해 잔액 차감 / 가산
+ * - 사용 가능 wallet 을 keyset 페이지로 조회하고 WalletAllocator 로 차감, 커밋 시 변경된 wallet 만 UPDATE
+ * - 사용 취소는 주문의 사용 상세 / wallet 엔티티를 조회하고 WalletAllocator 로 복원
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaPointUseStrategy implements PointUseStrategy {
+
+    private static final int USABLE_WALLET_PAGE_SIZE = 8;
+    private static final int USABLE_WALLET_MAX_PAGE_SIZE = 512;
+
+    private final MemberRepository memberRepository;
+    private final MemberConcurrencyControl memberConcurrencyControl;
+    private final PointWalletRepository pointWalletRepository;
+    private final PointUseDetailRepository pointUseDetailRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointMetrics pointMetrics;
+
+    @Override
+    public void debitBalance(Long memberId, long amount) {
+        long startedAt = System.nanoTime();
+        // 낙관적 모드 : Lock 없이 조회, 커밋 시 version 비교 (충돌 재시도는 PointFacade)
+        Member member = memberConcurrencyControl.isOptimistic()
+                ? memberRepository.findById(memberId).orElse(null)
+                : memberRepository.findByMemberIdForUpdate(memberId);
+        pointMetrics.recordMemberLockWait(startedAt);
+        if (member == null) throw new ServiceException(ProcessCode.HB001.getProcCd());
+        if (member.getPointBalance() < amount) throw new ServiceException(ProcessCode.MP010.getProcCd());
+
+        member.subsPointBalance(amount);
+        memberRepository.save(member);
+    }
+
+    /**
+     * 정책:
+     * - 만료 임박 포인트 우선 사용 (FIFO)
+     * - 실제 사용 가능 금액 = issued - used - expired
+     * - 여러 wallet에 걸쳐 분할 차감 가능
+     * - 사용 가능 wallet 을 우선순위 순 keyset 페이지로 조회하고 사용 금액이 충당되면 조회 중단
+     * (페이지 크기는 USABLE_WALLET_PAGE_SIZE 부터 두 배씩, 최대 USABLE_WALLET_MAX_PAGE_SIZE)
+     */
+    @Override
+    public void deductWallets(PointLog pointLog) {
+        Long memberId = pointLog.getMemberId();
+
+        // 여러 wallet에 걸쳐 분할 차감 (부족 시 MP010), wallet 별 사용 상세 기록
+        Map<LocalDate, Long> remainDeltas = new HashMap<>();
+        List<PointUseDetail> pointUseDetails = new ArrayList<>();
+        List<PointWallet> touched = new ArrayList<>();
+        ObjLongConsumer<PointWallet> listener = (wallet, usedAmount) -> {
+            remainDeltas.merge(wallet.getExpireDate(), -usedAmount, Long::sum);
+            pointUseDetails.add(PointUseDetail.of(pointLog.getOrderNo(), wallet.getWalletId(), usedAmount));
+        };
+
+        long remainUseAmount = pointLog.getAmount();
+        int loaded = 0;
+        int pageSize = USABLE_WALLET_PAGE_SIZE;
+        PointWallet last = null;
+        while (remainUseAmount > 0) {
+            // 사용 가능한 wallet 페이지 조회 (수기지급 → 만료일 오름차순)
+            List<PointWallet> page = last == null
+                    ? pointWalletRepository.findUsableWalletsAfter(memberId, -1, LocalDate.EPOCH, 0, pageSize)
+                    : pointWalletRepository.findUsableWalletsAfter(memberId, usePriority(last), last.getExpireDate(),
+                    last.getWalletId(), pageSize);
+            loaded += page.size();
+
+            remainUseAmount = WalletAllocator.allocatePage(page, remainUseAmount, touched, listener);
+            if (remainUseAmount > 0 && page.size() < pageSize) {
+                throw new ServiceException(ProcessCode.MP010.getProcCd());
+            }
+            if (!page.isEmpty()) last = page.get(page.size() - 1);
+            pageSize = Math.min(pageSize * 2, USABLE_WALLET_MAX_PAGE_SIZE);
+        }
+        pointWalletRepository.saveAll(touched);
+
+        pointMetrics.recordUsedWallets(loaded, pointUseDetails.size());
+
+        // 만료일별 잔액 요약 반영 + 잔액 조회 캐시 삭제 (커밋 후)
+        List<PointExpiryBucketDelta> deltas = new ArrayList<>(remainDeltas.size());
+        remainDeltas.forEach((expireDate, amount) -> deltas.add(new PointExpiryBucketDelta(memberId, expireDate, amount)));
+        pointExpiryBucketRepository.addRemainAmounts(deltas);
+        pointBalanceCache.evict(memberId);
+
+        // 주문 / wallet 단위 사용 상세 기록 (사용 취소 시 해당 wallet 만 복원)
+        pointUseDetailRepository.saveAll(pointUseDetails);
+    }
+
+    @Override
+    public void creditBalance(Long memberId, long amount) {
+        long startedAt = System.nanoTime();
+        Member member = memberConcurrencyControl.isOptimistic()
+                ? memberRepository.findById(memberId).orElse(null)
+                : memberRepository.findByMemberIdForUpdate(memberId);
+        pointMetrics.recordMemberLockWait(startedAt);
+        if (member == null) throw new ServiceException(ProcessCode.HB001.getProcCd());
+
+        member.addPointBalance(amount);
+        memberRepository.save(member);
+    }
+
+    /**
+     * 주문이 차감한 wallet 만 조회하여 차감 역순으로 복원 / 만료분 재적립, 커밋 시 변경된 wallet / 상세만 UPDATE
+     */
+    @Override
+    public boolean restoreWallets(Long memberId, String orderNo, long cancelAmount) {
+        List<PointUseDetail> useDetails = pointUseDetailRepository.findWalletDetailsForUpdate(orderNo);
+        if (useDetails.isEmpty()) return false;
+
+        Map<LocalDate, Long> remainDeltas = new HashMap<>();
+        Map<Long, PointWallet> walletsById = new HashMap<>();
+        pointWalletRepository.findAllById(useDetails.stream().map(PointUseDetail::getWalletId).toList())
+                .forEach(wallet -> walletsById.put(wallet.getWalletId(), wallet));
+
+        pointWalletRepository.saveAll(
+                WalletAllocator.restore(useDetails, walletsById, cancelAmount, memberId, LocalDateTime.now(),
+                        (wallet, restoredAmount) -> remainDeltas.merge(wallet.getExpireDate(), restoredAmount, Long::sum)));
+        pointUseDetailRepository.saveAll(useDetails);
+
+        // 만료일별 잔액 요약 반영 (재적립 wallet 은 신규 만료일로 가산) + 잔액 조회 캐시 삭제 (커밋 후)
+        List<PointExpiryBucketDelta> deltas = new ArrayList<>(remainDeltas.size());
+        remainDeltas.forEach((expireDate, amount) -> deltas.add(new PointExpiryBucketDelta(memberId, expireDate, amount)));
+        pointExpiryBucketRepository.addRemainAmounts(deltas);
+        pointBalanceCache.evict(memberId);
+        return true;
+    }
+
+    // findUsableWalletsAfter keyset 의 use_priority (생성 컬럼과 같은 규칙)
+    private static int usePriority(PointWallet wallet) {
+        return wallet.getSourceType() == WalletSourceType.MANUAL ? 0 : 1;
+    }
+}
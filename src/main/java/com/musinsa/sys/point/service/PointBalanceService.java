@@ -0,0 +1,37 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.member.repository.MemberRepository;
+import com.musinsa.sys.point.dto.PointBalanceResp;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 포인트 잔액 / 만료 예정 조회
+ * <p>
+ * - point_expiry_bucket 요약만 조회 (wallet 전체 조회 없음)
+ * - 회원 Row Lock(findByMemberIdForUpdate) 을 잡지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class PointBalanceService {
+
+    private final MemberRepository memberRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+
+    @Transactional(readOnly = true)
+    public PointBalanceResp getBalance(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new ServiceException(ProcessCode.HB001.getProcCd());
+        }
+
+        LocalDate today = LocalDate.now();
+        return pointExpiryBucketRepository.findBalance(memberId, today, today.with(TemporalAdjusters.lastDayOfMonth()));
+    }
+}
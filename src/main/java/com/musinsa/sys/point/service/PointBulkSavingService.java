@@ -0,0 +1,204 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.component.IdempotencyStore;
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.common.util.DateUtil;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointPolicyCache;
+import com.musinsa.sys.point.component.PointRequestValidator;
+import com.musinsa.sys.point.dto.PointBulkSavingApprovalResp;
+import com.musinsa.sys.point.dto.PointBulkSavingItemResp;
+import com.musinsa.sys.point.dto.PointExpiryBucketDelta;
+import com.musinsa.sys.point.dto.PointPolicySnapshot;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.PointLogType;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 포인트 대량 적립 (캠페인 지급)
+ * <p>
+ * - 정책은 요청 단위로 1회만 조회
+ * - 회원ID 오름차순 정렬 후 chunk 단위로 트랜잭션 커밋
+ * - chunk 내 회원은 member_id 순서로 일괄 Lock → 데드락 방지
+ * - PointLog / PointWallet / 회원 잔액 / 만료일별 잔액 요약은 JDBC batch 로 기록
+ * - Idempotency-Key 요청은 적립이 있는 chunk 트랜잭션에서 키를 반영(A)으로 표시 (커밋 이후 키 해제 / 재실행 방지)
+ */
+@Slf4j
+@Service
+public class PointBulkSavingService {
+
+    private final PointPolicyCache pointPolicyCache;
+    private final PointRequestValidator pointRequestValidator;
+    private final PointBatchRepository pointBatchRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public PointBulkSavingService(PointPolicyCache pointPolicyCache,
+                                  PointRequestValidator pointRequestValidator,
+                                  PointBatchRepository pointBatchRepository,
+                                  PointExpiryBucketRepository pointExpiryBucketRepository,
+                                  PointBalanceCache pointBalanceCache,
+                                  IdempotencyStore idempotencyStore,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${point.bulk.chunk-size:500}") int chunkSize,
+                                  @Value("${point.bulk.max-items:100000}") int maxItems) {
+        this.pointPolicyCache = pointPolicyCache;
+        this.pointRequestValidator = pointRequestValidator;
+        this.pointBatchRepository = pointBatchRepository;
+        this.pointExpiryBucketRepository = pointExpiryBucketRepository;
+        this.pointBalanceCache = pointBalanceCache;
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 대량 적립 승인
+     *
+     * @return 요청 순번별 처리 결과
+     */
+    public PointBulkSavingApprovalResp savingApproval(List<PointSavingApprovalReq> items) {
+        if (items.size() > maxItems) {
+            throw new ServiceException(ProcessCode.MP998.getProcCd());
+        }
+
+        IdempotencyStore.Claim claim = idempotencyStore.currentClaim();
+        PointPolicySnapshot policy = pointPolicyCache.getSnapshot();
+        long maxBalance = policy.get(PointPolicyKey.POINT_BALANCE_MAX);
+
+        PointBulkSavingItemResp[] results = new PointBulkSavingItemResp[items.size()];
+        List<Integer> targets = new ArrayList<>();
+
+        // 1. 회원 상태와 무관한 검증 (금액, 만료일) 은 Lock 없이 먼저 처리
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < items.size(); i++) {
+            PointSavingApprovalReq item = items.get(i);
+            String procCd = pointRequestValidator.checkSavingApproval(item, policy, today);
+            if (procCd != null) {
+                results[i] = new PointBulkSavingItemResp(i, item.getMemberId(), item.getAmount(), procCd);
+            } else {
+                targets.add(i);
+            }
+        }
+
+        // 2. 회원ID 순 정렬 (같은 회원은 요청 순서 유지)
+        targets.sort(Comparator.comparing((Integer i) -> items.get(i).getMemberId()).thenComparing(i -> i));
+
+        // 3. chunk 단위 커밋 (같은 회원이 chunk 경계에서 나뉘지 않도록 분할)
+        int from = 0;
+        while (from < targets.size()) {
+            int to = Math.min(from + chunkSize, targets.size());
+            while (to < targets.size()
+                    && items.get(targets.get(to)).getMemberId().equals(items.get(targets.get(to - 1)).getMemberId())) {
+                to++;
+            }
+            List<Integer> chunk = targets.subList(from, to);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (writeChunk(items, chunk, maxBalance, results)) {
+                        idempotencyStore.markAppliedInTransaction(claim);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("bulk saving chunk failed : items {}~{}", from, to - 1, e);
+                for (Integer i : chunk) {
+                    PointSavingApprovalReq item = items.get(i);
+                    results[i] = new PointBulkSavingItemResp(i, item.getMemberId(), item.getAmount(), ProcessCode.MP999.getProcCd());
+                }
+            }
+            from = to;
+        }
+
+        return new PointBulkSavingApprovalResp(List.of(results));
+    }
+
+    /**
+     * chunk 1건 처리 (트랜잭션 내부)
+     *
+     * @return 적립 기록 여부
+     */
+    private boolean writeChunk(List<PointSavingApprovalReq> items, List<Integer> chunk, long maxBalance,
+                            PointBulkSavingItemResp[] results) {
+
+        TreeSet<Long> memberIds = new TreeSet<>();
+        for (Integer i : chunk) {
+            memberIds.add(items.get(i).getMemberId());
+        }
+
+        // 회원 일괄 조회 + Lock (member_id 순)
+        Map<Long, Long> balances = pointBatchRepository.findBalancesForUpdate(memberIds);
+
+        List<PointLog> pointLogs = new ArrayList<>();
+        List<PointWallet> pointWallets = new ArrayList<>();
+        List<PointExpiryBucketDelta> bucketDeltas = new ArrayList<>();
+        Map<Long, Long> addAmounts = new LinkedHashMap<>();
+
+        for (Integer i : chunk) {
+            PointSavingApprovalReq item = items.get(i);
+            Long memberId = item.getMemberId();
+            Long balance = balances.get(memberId);
+
+            String procCd;
+            if (balance == null) {
+                procCd = ProcessCode.HB001.getProcCd();
+            } else if (balance + item.getAmount() > maxBalance) {
+                procCd = ProcessCode.MP003.getProcCd(); // 보유한도 초과
+            } else {
+                balances.put(memberId, balance + item.getAmount());
+                addAmounts.merge(memberId, item.getAmount(), Long::sum);
+
+                pointLogs.add(PointLog.from(memberId, item.getAmount(), PointLogType.SAVING_APPROVAL.getCode(), item.getLogAt()));
+                LocalDate expireDate = DateUtil.resolveExpireDate(item.getExpireDate(), item.getLogAt());
+                pointWallets.add(PointWallet.builder()
+                        .memberId(memberId)
+                        .walletStatus(Val.NORMAL)
+                        .sourceType(item.getSourceType())
+                        .issuedAmount(item.getAmount())
+                        .usedAmount(0L)
+                        .expireDate(expireDate)
+                        .createdAt(DateUtil.getLocalDateTimeWithNano())
+                        .build());
+                bucketDeltas.add(new PointExpiryBucketDelta(memberId, expireDate, item.getAmount()));
+                procCd = ProcessCode.MP000.getProcCd();
+            }
+            results[i] = new PointBulkSavingItemResp(i, memberId, item.getAmount(), procCd);
+        }
+
+        if (pointLogs.isEmpty()) return false;
+
+        // wallet 먼저 기록하여 생성된 wallet_id 를 적립 로그에 남김 (pointLogs / pointWallets 는 같은 순서)
+        pointBatchRepository.batchInsertWallets(pointWallets);
+        for (int i = 0; i < pointLogs.size(); i++) {
+            pointLogs.get(i).setWalletId(pointWallets.get(i).getWalletId());
+        }
+        pointBatchRepository.batchInsertLogs(pointLogs);
+        pointBatchRepository.batchAddBalances(addAmounts);
+        pointExpiryBucketRepository.addRemainAmounts(bucketDeltas);
+        pointBalanceCache.evictAll(addAmounts.keySet());
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.component.IdempotencyStore;
+import com.musinsa.sys.common.datasource.ReadYourWritesTracker;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.member.component.MemberConcurrencyControl;
+import com.musinsa.sys.member.component.MemberLockManager;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointMetrics;
+import com.musinsa.sys.point.component.PointMetrics.Operation;
+import com.musinsa.sys.point.component.PointRequestValidator;
+import com.musinsa.sys.point.dto.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 포인트 요청 진입점 (트랜잭션 밖)
+ * <p>
+ * - PointService 트랜잭션이 시작되기 전에 처리해야 하는 작업을 담당
+ * - 회원 상태와 무관한 검증은 회원 Lock / 트랜잭션 전에 수행하여 실패 요청이 Lock 대기열과 커넥션을 점유하지 않음
+ * - 회원 단위 JVM Lock 획득 후 PointService 호출
+ * - 낙관적 모드에서 version 충돌 시 트랜잭션을 새로 시작하여 재시도
+ * - 메모리 원장 모드(point.ledger.enabled)는 JVM Lock / 재시도 없이 PointLedgerEngine 의 회원 shard 로 전달
+ * - Idempotency-Key 요청은 PointService 트랜잭션에 응답 보관을 함께 기록 (업무 변경과 같은 커밋)
+ * - 처리 시간 / 결과 코드 메트릭 기록 (JVM Lock 대기 포함)
+ */
+@Service
+@RequiredArgsConstructor
+public class PointFacade {
+
+    private final PointService pointService;
+    private final PointLedgerEngine pointLedgerEngine;
+    private final PointBulkSavingService pointBulkSavingService;
+    private final PointBalanceService pointBalanceService;
+    private final PointBalanceCache pointBalanceCache;
+    private final MemberLockManager memberLockManager;
+    private final MemberConcurrencyControl memberConcurrencyControl;
+    private final PointMetrics pointMetrics;
+    private final PointRequestValidator pointRequestValidator;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public PointResp savingApproval(PointSavingApprovalReq pointSavingApprovalReq) {
+        return execute(Operation.SAVING_APPROVAL, pointSavingApprovalReq.getMemberId(),
+                () -> pointRequestValidator.validateSavingApproval(pointSavingApprovalReq),
+                () -> pointService.savingApproval(pointSavingApprovalReq),
+                () -> pointLedgerEngine.savingApproval(pointSavingApprovalReq));
+    }
+
+    /**
+     * 대량 적립 승인
+     * <p>
+     * - chunk 단위로 회원 Row Lock 을 member_id 순서로 잡으므로 JVM Lock 은 사용하지 않음
+     */
+    public PointBulkSavingApprovalResp bulkSavingApproval(PointBulkSavingApprovalReq pointBulkSavingApprovalReq) {
+        return pointBulkSavingService.savingApproval(pointBulkSavingApprovalReq.getItems());
+    }
+
+    /**
+     * 잔액 / 만료 예정 조회
+     * <p>
+     * - 캐시 조회 후 없을 때만 트랜잭션(readOnly) 시작, 회원 Lock 없음
+     * - replica 사용 시 readOnly 트랜잭션은 replica 로, 최근 거래한 회원은 primary 로 조회
+     */
+    public PointBalanceResp getBalance(Long memberId) {
+        return readYourWritesTracker.read(memberId,
+                () -> pointBalanceCache.get(memberId, () -> pointBalanceService.getBalance(memberId)));
+    }
+
+    public PointResp savingCancel(PointSavingCancelReq pointSavingCancelReq) {
+        return execute(Operation.SAVING_CANCEL, pointSavingCancelReq.getMemberId(),
+                () -> pointService.savingCancel(pointSavingCancelReq),
+                () -> pointLedgerEngine.savingCancel(pointSavingCancelReq));
+    }
+
+    public PointUseApprovalResp useApproval(PointUseApprovalReq pointUseApprovalReq) {
+        return execute(Operation.USE_APPROVAL, pointUseApprovalReq.getMemberId(),
+                () -> pointService.useApproval(pointUseApprovalReq),
+                () -> pointLedgerEngine.useApproval(pointUseApprovalReq));
+    }
+
+    public PointResp useCancel(PointUseCancelReq pointUseCancelReq) {
+        return execute(Operation.USE_CANCEL, pointUseCancelReq.getMemberId(),
+                () -> pointService.useCancel(pointUseCancelReq),
+                () -> pointLedgerEngine.useCancel(pointUseCancelReq));
+    }
+
+    private <T> T execute(Operation operation, Long memberId, Supplier<T> action, Supplier<T> ledgerAction) {
+        return execute(operation, memberId, () -> {
+        }, action, ledgerAction);
+    }
+
+    /**
+     * 사전 검증 → 회원 Lock 획득 후 action 실행 + 처리 시간 기록
+     * <p>
+     * - 재시도 대기 중에는 JVM Lock 을 잡지 않음
+     * - 메모리 원장 모드는 ledgerAction 실행 (shard 스레드가 회원 단위로 직렬화)
+     * - ServiceException 은 결과 코드별 거절 건수도 함께 기록
+     */
+    private <T> T execute(Operation operation, Long memberId, Runnable validation, Supplier<T> action, Supplier<T> ledgerAction) {
+        long startedAt = System.nanoTime();
+        try {
+            validation.run();
+            T result = pointLedgerEngine.isEnabled()
+                    ? ledgerAction.get()
+                    : memberConcurrencyControl.executeWithRetry(
+                    () -> memberLockManager.executeWithLock(memberId, () -> withIdempotency(action)), pointMetrics::recordOptimisticRetry);
+            readYourWritesTracker.markWritten(memberId);
+            pointMetrics.recordOperation(operation, ProcessCode.MP000.getProcCd(), startedAt);
+            return result;
+        } catch (ServiceException e) {
+            pointMetrics.recordOperation(operation, e.getProcCd(), startedAt);
+            pointMetrics.recordRejected(e.getProcCd());
+            throw e;
+        } catch (RuntimeException e) {
+            pointMetrics.recordOperation(operation, ProcessCode.MP999.getProcCd(), startedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * Idempotency-Key 요청이면 action 과 응답 보관을 한 트랜잭션으로 실행 (PointService 트랜잭션이 참여)
+     */
+    private <T> T withIdempotency(Supplier<T> action) {
+        IdempotencyStore.Claim claim = idempotencyStore.currentClaim();
+        if (claim == null) return action.get();
+
+        return transactionTemplate.execute(status -> {
+            T result = action.get();
+            idempotencyStore.completeInTransaction(claim, result);
+            return result;
+        });
+    }
+}
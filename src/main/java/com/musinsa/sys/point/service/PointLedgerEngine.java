@@ -0,0 +1,486 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.component.EntityIdAllocator;
+import com.musinsa.sys.common.component.IdempotencyStore;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.member.component.MemberConcurrencyControl;
+import com.musinsa.sys.order.component.OrderNoGenerator;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointMetrics;
+import com.musinsa.sys.point.component.PointPolicyCache;
+import com.musinsa.sys.point.dto.PointResp;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointSavingCancelReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalResp;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import com.musinsa.sys.point.repository.PointLedgerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 shard 메모리 원장 (point.ledger.enabled)
+ * <p>
+ * - 적립 / 적립취소 / 사용 / 사용취소 요청을 명령으로 받아 member_id % shards 의 shard 큐(고정 크기 ring buffer)에 넣음
+ * - shard 마다 스레드 1개가 큐에서 최대 batch-size 건을 꺼내 메모리 상태에 순서대로 적용 (회원 Row Lock / JVM Lock 없음)
+ * - 적용 결과는 응답 전에 DB 트랜잭션 1회로 기록 (DB 가 write-ahead log 역할, 기록이 끝나야 응답)
+ * - 회원 상태는 첫 명령 때 member / point_wallet 에서 적재 (재기동 시에도 같은 방식으로 복원, 주문 사용 상세는 취소 시 조회)
+ * - 다른 경로(만료 / 병합 / 대량 적립 배치 등)의 변경은 member.version 으로 감지
+ * : 묶음마다 version 을 조회해 달라진 회원은 다시 적재하고, 기록 시 version 이 다르면 롤백 후 다시 적재해 재적용
+ * : 충돌이 max-attempts 번 반복된 회원의 명령만 MP015 로 제외하고 나머지 회원 명령은 다시 기록
+ * - 병합 wallet 적립 취소 / wallet 단위 사용 상세 이전 주문의 사용 취소는 shard 스레드에서 PointService 로 처리 후 회원 상태 재적재
+ * - Idempotency-Key 요청은 제출 스레드의 키를 명령에 담아 같은 기록 트랜잭션에서 응답 보관
+ * - 큐가 가득 차면 대기하지 않고 MP015, 응답은 submit-timeout-ms 까지만 대기 (초과 시 MP015)
+ * - shard 스레드의 예상하지 못한 오류(Error 포함)는 해당 묶음 명령을 실패 처리하고 계속 처리, 스레드 종료 시 큐에 남은 명령은 MP015
+ */
+@Slf4j
+@Component
+public class PointLedgerEngine {
+
+    private static final int WALLET_ID_BLOCK = 64;
+
+    private record Command(Long memberId, Object request, IdempotencyStore.Claim claim, CompletableFuture<Object> result) {
+    }
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long submitTimeoutMillis;
+    private final Worker[] workers;
+
+    private final PointService pointService;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointPolicyCache pointPolicyCache;
+    private final PointMetrics pointMetrics;
+    private final OrderNoGenerator orderNoGenerator;
+    private final EntityIdAllocator entityIdAllocator;
+    private final MemberConcurrencyControl memberConcurrencyControl;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile boolean running;
+
+    public PointLedgerEngine(@Value("${point.ledger.enabled:false}") boolean enabled,
+                             @Value("${point.ledger.shards:4}") int shards,
+                             @Value("${point.ledger.queue-capacity:4096}") int queueCapacity,
+                             @Value("${point.ledger.batch-size:128}") int batchSize,
+                             @Value("${point.ledger.max-members:100000}") int maxMembers,
+                             @Value("${point.ledger.max-attempts:3}") int maxAttempts,
+                             @Value("${point.ledger.submit-timeout-ms:10000}") long submitTimeoutMillis,
+                             PointService pointService,
+                             PointLedgerRepository pointLedgerRepository,
+                             PointBatchRepository pointBatchRepository,
+                             PointExpiryBucketRepository pointExpiryBucketRepository,
+                             PointBalanceCache pointBalanceCache,
+                             PointPolicyCache pointPolicyCache,
+                             PointMetrics pointMetrics,
+                             OrderNoGenerator orderNoGenerator,
+                             EntityIdAllocator entityIdAllocator,
+                             MemberConcurrencyControl memberConcurrencyControl,
+                             IdempotencyStore idempotencyStore,
+                             PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.submitTimeoutMillis = Math.max(1, submitTimeoutMillis);
+        this.pointService = pointService;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.pointBatchRepository = pointBatchRepository;
+        this.pointExpiryBucketRepository = pointExpiryBucketRepository;
+        this.pointBalanceCache = pointBalanceCache;
+        this.pointPolicyCache = pointPolicyCache;
+        this.pointMetrics = pointMetrics;
+        this.orderNoGenerator = orderNoGenerator;
+        this.entityIdAllocator = entityIdAllocator;
+        this.memberConcurrencyControl = memberConcurrencyControl;
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 묶음 안의 회원이 적용 도중 LRU 로 제거되지 않도록 max-members >= batch-size
+        int membersPerShard = Math.max(this.batchSize, maxMembers);
+        this.workers = new Worker[Math.max(1, shards)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(i, Math.max(this.batchSize, queueCapacity), membersPerShard);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        log.info("point ledger started : shards {}, batch size {}", workers.length, batchSize);
+    }
+
+    /**
+     * 큐에 남은 명령까지 처리한 뒤 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) return;
+        running = false;
+        for (Worker worker : workers) {
+            worker.thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PointResp savingApproval(PointSavingApprovalReq pointSavingApprovalReq) {
+        return submit(pointSavingApprovalReq.getMemberId(), pointSavingApprovalReq);
+    }
+
+    public PointResp savingCancel(PointSavingCancelReq pointSavingCancelReq) {
+        return submit(pointSavingCancelReq.getMemberId(), pointSavingCancelReq);
+    }
+
+    public PointUseApprovalResp useApproval(PointUseApprovalReq pointUseApprovalReq) {
+        return submit(pointUseApprovalReq.getMemberId(), pointUseApprovalReq);
+    }
+
+    public PointResp useCancel(PointUseCancelReq pointUseCancelReq) {
+        return submit(pointUseCancelReq.getMemberId(), pointUseCancelReq);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T submit(Long memberId, Object request) {
+        if (!running) throw new ServiceException(ProcessCode.MP015.getProcCd());
+
+        Worker worker = workers[(int) Math.floorMod(memberId, (long) workers.length)];
+        Command command = new Command(memberId, request, idempotencyStore.currentClaim(), new CompletableFuture<>());
+        if (worker.stopped || !worker.queue.offer(command)) {
+            throw new ServiceException(ProcessCode.MP015.getProcCd());
+        }
+        // 넣는 사이 shard 스레드가 종료됨
+        if (worker.stopped && worker.queue.remove(command)) {
+            throw new ServiceException(ProcessCode.MP015.getProcCd());
+        }
+
+        try {
+            return (T) command.result().get(submitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("point ledger command failed : member " + memberId, e.getCause());
+        } catch (TimeoutException e) {
+            throw abandon(worker, command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw abandon(worker, command);
+        }
+    }
+
+    /**
+     * 응답 대기 중단 → MP015
+     * <p>
+     * - 큐에 남은 명령은 꺼내서 적용하지 않음
+     * - shard 스레드가 이미 꺼낸 명령은 기록 여부를 알 수 없으므로 Idempotency-Key 를 해제하지 않음
+     * (기록되면 같은 키 재요청에 보관된 응답, 아니면 처리중 제한 시간 후 재처리)
+     */
+    private ServiceException abandon(Worker worker, Command command) {
+        if (!worker.queue.remove(command) && command.claim() != null) {
+            command.claim().markUnresolved();
+        }
+        log.warn("point ledger command abandoned after {} ms : member {}", submitTimeoutMillis, command.memberId());
+        return new ServiceException(ProcessCode.MP015.getProcCd());
+    }
+
+    /**
+     * shard 1개 = 큐 + 스레드 + 메모리 상태
+     */
+    private final class Worker {
+        private final ArrayBlockingQueue<Command> queue;
+        private final PointLedgerShard shard;
+        private final Thread thread;
+        private final long[] walletIds = new long[WALLET_ID_BLOCK];
+        private int nextWalletId = WALLET_ID_BLOCK;
+        private volatile boolean stopped;
+
+        private Worker(int index, int queueCapacity, int maxMembers) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.shard = new PointLedgerShard(maxMembers, this::nextWalletId, orderNoGenerator::generateOrderNo,
+                    () -> pointPolicyCache.getValue(PointPolicyKey.POINT_BALANCE_MAX), pointLedgerRepository::findWalletDetails);
+            this.thread = new Thread(this::run, "point-ledger-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        // 신규 wallet ID 는 시퀀스에서 WALLET_ID_BLOCK 개씩 미리 할당
+        private long nextWalletId() {
+            if (nextWalletId == WALLET_ID_BLOCK) {
+                System.arraycopy(entityIdAllocator.allocate(PointWallet.class, WALLET_ID_BLOCK), 0, walletIds, 0, WALLET_ID_BLOCK);
+                nextWalletId = 0;
+            }
+            return walletIds[nextWalletId++];
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(batchSize);
+            try {
+                while (running || !queue.isEmpty()) {
+                    try {
+                        Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                        if (first == null) continue;
+                        batch.add(first);
+                        queue.drainTo(batch, batchSize - 1);
+
+                        int from = 0;
+                        while (from < batch.size()) {
+                            from = processSegment(batch, from);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Throwable e) {
+                        // 적용 도중 멈춘 메모리 상태는 버리고 다음 명령 때 다시 적재 (이미 응답한 명령은 그대로)
+                        log.error("point ledger batch failed : {} commands", batch.size(), e);
+                        batch.forEach(command -> {
+                            shard.evict(command.memberId());
+                            command.result().completeExceptionally(e);
+                        });
+                    } finally {
+                        batch.clear();
+                    }
+                }
+            } finally {
+                stopped = true;
+                failRemaining();
+            }
+        }
+
+        /**
+         * 스레드 종료 시 큐에 남은 명령 → MP015 (응답 대기 스레드를 바로 해제)
+         */
+        private void failRemaining() {
+            List<Command> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (remaining.isEmpty()) return;
+
+            log.warn("point ledger shard stopped : {} queued commands failed", remaining.size());
+            remaining.forEach(command -> command.result().completeExceptionally(new ServiceException(ProcessCode.MP015.getProcCd())));
+        }
+
+        /**
+         * batch[from] 부터 PointService 위임 명령 전까지 적용 → 기록 → 응답
+         * <p>
+         * - 회원 version 충돌 : 충돌 회원을 다시 적재해 구간 전체 재적용, max-attempts 번 충돌한 회원의 명령만 MP015 로 제외
+         * - 그 밖의 동시성 오류 : 구간 전체 재적용, max-attempts 초과 시 구간 전체 MP015
+         *
+         * @return 다음에 처리할 위치
+         */
+        private int processSegment(List<Command> batch, int from) {
+            Map<Long, Integer> conflicts = new HashMap<>();
+            Set<Long> excluded = new HashSet<>();
+            for (int attempt = 1; ; ) {
+                refresh(batch, from);
+
+                PointLedgerShard.Changes changes = new PointLedgerShard.Changes();
+                Object[] outcomes = new Object[batch.size()];
+                int end = from;
+                boolean fallback = false;
+                for (; end < batch.size(); end++) {
+                    Command command = batch.get(end);
+                    if (excluded.contains(command.memberId())) {
+                        outcomes[end] = new ServiceException(ProcessCode.MP015.getProcCd());
+                        continue;
+                    }
+                    try {
+                        Object outcome = shard.apply(command.request(), changes);
+                        if (outcome == PointLedgerShard.FALLBACK) {
+                            fallback = true;
+                            break;
+                        }
+                        outcomes[end] = outcome;
+                    } catch (ServiceException e) {
+                        outcomes[end] = e;
+                    } catch (RuntimeException e) {
+                        // 적용 도중 실패 (wallet ID / 사용 상세 조회 등) → 이번 구간 상태를 버림
+                        changes.members.keySet().forEach(shard::evict);
+                        shard.evict(command.memberId());
+                        throw e;
+                    }
+                }
+
+                try {
+                    persist(changes, batch, from, end, outcomes);
+                } catch (MemberVersionConflictException e) {
+                    // 적용했던 메모리 상태는 롤백된 기록과 맞지 않으므로 구간 회원 모두 다시 적재
+                    changes.members.keySet().forEach(shard::evict);
+                    for (Long memberId : e.memberIds) {
+                        if (conflicts.merge(memberId, 1, Integer::sum) >= maxAttempts) {
+                            excluded.add(memberId);
+                            log.warn("point ledger member version conflicts exceeded : member {}", memberId);
+                        }
+                    }
+                    continue;
+                } catch (ConcurrencyFailureException e) {
+                    changes.members.keySet().forEach(shard::evict);
+                    if (attempt++ < maxAttempts) continue;
+                    complete(batch, from, end, outcomes, new ServiceException(ProcessCode.MP015.getProcCd()));
+                    return end;
+                } catch (RuntimeException e) {
+                    changes.members.keySet().forEach(shard::evict);
+                    log.error("point ledger persist failed : {} members", changes.members.size(), e);
+                    complete(batch, from, end, outcomes, e);
+                    return end;
+                }
+
+                complete(batch, from, end, outcomes, null);
+                if (!fallback) return end;
+
+                runFallback(batch.get(end));
+                return end + 1;
+            }
+        }
+
+        /**
+         * 구간 회원의 version 조회 → 미적재 / version 이 달라진 회원 적재, 없는 회원은 제거
+         */
+        private void refresh(List<Command> batch, int from) {
+            Set<Long> memberIds = new LinkedHashSet<>();
+            for (int i = from; i < batch.size(); i++) {
+                memberIds.add(batch.get(i).memberId());
+            }
+
+            Map<Long, long[]> balances = pointLedgerRepository.findBalances(memberIds);
+            List<Long> stale = new ArrayList<>();
+            for (Long memberId : memberIds) {
+                long[] balance = balances.get(memberId);
+                PointLedgerShard.Member member = shard.member(memberId);
+                if (balance == null) {
+                    shard.evict(memberId);
+                } else if (member == null || member.version != balance[1]) {
+                    stale.add(memberId);
+                }
+            }
+            if (stale.isEmpty()) return;
+
+            Map<Long, List<PointWallet>> wallets = pointLedgerRepository.findWallets(stale).stream()
+                    .collect(Collectors.groupingBy(PointWallet::getMemberId));
+            for (Long memberId : stale) {
+                long[] balance = balances.get(memberId);
+                shard.load(memberId, balance[0], balance[1], wallets.getOrDefault(memberId, List.of()));
+            }
+        }
+
+        /**
+         * 변경분 기록 (트랜잭션 1회)
+         * <p>
+         * - 회원 잔액을 먼저 version 조건으로 갱신하여 다른 경로와 충돌하면 나머지를 쓰기 전에 롤백
+         * - 정상 처리된 Idempotency-Key 명령의 응답도 같은 트랜잭션에서 보관
+         */
+        private void persist(PointLedgerShard.Changes changes, List<Command> batch, int from, int end, Object[] outcomes) {
+            if (changes.isEmpty()) return;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, long[]> balances = changes.members.values().stream()
+                        .collect(Collectors.toMap(member -> member.memberId, member -> new long[]{member.balance, member.version}));
+                List<Long> conflicts = pointLedgerRepository.updateBalances(balances);
+                if (!conflicts.isEmpty()) {
+                    throw new MemberVersionConflictException(conflicts);
+                }
+
+                if (!changes.newWallets.isEmpty()) {
+                    pointBatchRepository.batchInsertWallets(new ArrayList<>(changes.newWallets.values()));
+                }
+                pointLedgerRepository.updateWallets(changes.updatedWallets.values());
+                pointBatchRepository.batchInsertLogs(changes.logs);
+                if (!changes.newDetails.isEmpty()) {
+                    pointBatchRepository.batchInsertUseDetails(changes.newDetails);
+                }
+                pointLedgerRepository.updateCancelableAmounts(changes.updatedDetails.values());
+                pointExpiryBucketRepository.addRemainAmounts(changes.expiryBucketDeltas());
+
+                for (int i = from; i < end; i++) {
+                    if (!(outcomes[i] instanceof ServiceException)) {
+                        idempotencyStore.completeInTransaction(batch.get(i).claim(), outcomes[i]);
+                    }
+                }
+            });
+
+            for (PointLedgerShard.Member member : changes.members.values()) {
+                member.version++;
+                pointBalanceCache.evict(member.memberId);
+            }
+        }
+
+        /**
+         * @param failure null 이면 적용 결과 그대로, 아니면 처리된 명령을 failure 로 (업무 거절은 그대로)
+         */
+        private void complete(List<Command> batch, int from, int end, Object[] outcomes, RuntimeException failure) {
+            for (int i = from; i < end; i++) {
+                CompletableFuture<Object> result = batch.get(i).result();
+                if (outcomes[i] instanceof ServiceException rejected) {
+                    result.completeExceptionally(rejected);
+                } else if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(outcomes[i]);
+                }
+            }
+        }
+
+        /**
+         * PointService 로 처리 (회원 Row Lock) 후 회원 상태 재적재
+         */
+        private void runFallback(Command command) {
+            try {
+                command.result().complete(memberConcurrencyControl.executeWithRetry(() -> transactionTemplate.execute(status -> {
+                    Object result = switch (command.request()) {
+                        case PointSavingCancelReq req -> pointService.savingCancel(req);
+                        case PointUseCancelReq req -> pointService.useCancel(req);
+                        default -> throw new IllegalStateException("unsupported ledger fallback : " + command.request().getClass());
+                    };
+                    idempotencyStore.completeInTransaction(command.claim(), result);
+                    return result;
+                }), pointMetrics::recordOptimisticRetry));
+            } catch (RuntimeException e) {
+                command.result().completeExceptionally(e);
+            } finally {
+                shard.evict(command.memberId());
+            }
+        }
+    }
+
+    /**
+     * 기록 시 다른 경로가 회원 version 을 바꿈 (롤백)
+     */
+    private static final class MemberVersionConflictException extends ConcurrencyFailureException {
+        private final transient List<Long> memberIds;
+
+        private MemberVersionConflictException(List<Long> memberIds) {
+            super("point ledger member version changed : " + memberIds);
+            this.memberIds = memberIds;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.dto.PointExpiryBucketDelta;
+import com.musinsa.sys.point.dto.PointResp;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointSavingCancelReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalResp;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.entity.PointUseDetail;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.PointLogType;
+import com.musinsa.sys.point.enums.WalletSourceType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 원장 shard (PointLedgerEngine, member_id % shard 수)
+ * <p>
+ * - shard 전용 스레드 1개만 접근하므로 동기화 없음
+ * - 회원별 잔액 / version / wallet 전체를 보관, 사용 가능 wallet 은 (수기지급 → 만료일 → wallet_id) 순 TreeSet
+ * - 적립 / 적립취소 / 사용 / 사용취소 규칙은 PointService, WalletAllocator 와 동일 (PointLedgerEngineTest 에서 명령 단위 비교)
+ * - 명령은 검증을 모두 마친 뒤에만 상태를 바꾸므로 거절된 명령은 상태 변경 없음
+ * - 변경분은 Changes 에 모아 엔진이 DB 에 기록, 기록에 실패하면 엔진이 해당 회원 상태를 버리고 다시 적재
+ * - 보관 회원 수가 max-members 를 넘으면 가장 오래 사용하지 않은 회원부터 제거 (다음 명령에서 다시 적재)
+ */
+final class PointLedgerShard {
+
+    /**
+     * PointService 로 위임해야 하는 명령 (병합 wallet 적립 취소, wallet 단위 사용 상세 이전 주문의 사용 취소)
+     */
+    static final Object FALLBACK = new Object();
+
+    private static final Comparator<PointWallet> USE_ORDER = Comparator
+            .comparingInt((PointWallet wallet) -> wallet.getSourceType() == WalletSourceType.MANUAL ? 0 : 1)
+            .thenComparing(PointWallet::getExpireDate)
+            .thenComparing(PointWallet::getWalletId);
+
+    static final class Member {
+        final Long memberId;
+        long balance;
+        long version;
+        final Map<Long, PointWallet> wallets = new HashMap<>();
+        final TreeSet<PointWallet> usable = new TreeSet<>(USE_ORDER);
+
+        Member(Long memberId, long balance, long version) {
+            this.memberId = memberId;
+            this.balance = balance;
+            this.version = version;
+        }
+
+        void addWallet(PointWallet wallet) {
+            wallets.put(wallet.getWalletId(), wallet);
+            refreshUsable(wallet);
+        }
+
+        void refreshUsable(PointWallet wallet) {
+            if (Val.NORMAL.equals(wallet.getWalletStatus()) && wallet.getIssuedAmount() > wallet.getUsedAmount()) {
+                usable.add(wallet);
+            } else {
+                usable.remove(wallet);
+            }
+        }
+    }
+
+    /**
+     * 기록 단위(명령 묶음 1회)의 변경분
+     */
+    static final class Changes {
+        final Map<Long, Member> members = new LinkedHashMap<>();
+        final Map<Long, PointWallet> newWallets = new LinkedHashMap<>();
+        final Map<Long, PointWallet> updatedWallets = new LinkedHashMap<>();
+        final List<PointLog> logs = new ArrayList<>();
+        final List<PointUseDetail> newDetails = new ArrayList<>();
+        final Map<Long, PointUseDetail> updatedDetails = new LinkedHashMap<>();
+        final Map<LocalDate, Map<Long, Long>> bucketDeltas = new HashMap<>();
+        // 이번 묶음에서 생성 / 조회한 주문 사용 상세 (차감 역순), 기록 전 사용 취소에도 사용
+        final Map<String, List<PointUseDetail>> orders = new HashMap<>();
+
+        boolean isEmpty() {
+            return members.isEmpty();
+        }
+
+        List<PointExpiryBucketDelta> expiryBucketDeltas() {
+            List<PointExpiryBucketDelta> deltas = new ArrayList<>();
+            bucketDeltas.forEach((expireDate, amounts) -> amounts.forEach(
+                    (memberId, amount) -> deltas.add(new PointExpiryBucketDelta(memberId, expireDate, amount))));
+            return deltas;
+        }
+
+        private void touch(Member member) {
+            members.put(member.memberId, member);
+        }
+
+        private void updateWallet(PointWallet wallet) {
+            if (!newWallets.containsKey(wallet.getWalletId())) updatedWallets.put(wallet.getWalletId(), wallet);
+        }
+
+        private void addBucket(Long memberId, LocalDate expireDate, long amount) {
+            bucketDeltas.computeIfAbsent(expireDate, key -> new HashMap<>()).merge(memberId, amount, Long::sum);
+        }
+    }
+
+    private final LinkedHashMap<Long, Member> members;
+    private final LongSupplier walletIdSupplier;
+    private final Supplier<String> orderNoSupplier;
+    private final LongSupplier maxBalanceSupplier;
+    private final Function<String, List<PointUseDetail>> detailLoader;
+
+    PointLedgerShard(int maxMembers, LongSupplier walletIdSupplier, Supplier<String> orderNoSupplier,
+                     LongSupplier maxBalanceSupplier, Function<String, List<PointUseDetail>> detailLoader) {
+        this.members = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Member> eldest) {
+                return size() > maxMembers;
+            }
+        };
+        this.walletIdSupplier = walletIdSupplier;
+        this.orderNoSupplier = orderNoSupplier;
+        this.maxBalanceSupplier = maxBalanceSupplier;
+        this.detailLoader = detailLoader;
+    }
+
+    Member member(Long memberId) {
+        return members.get(memberId);
+    }
+
+    void load(Long memberId, long balance, long version, List<PointWallet> wallets) {
+        Member member = new Member(memberId, balance, version);
+        wallets.forEach(member::addWallet);
+        members.put(memberId, member);
+    }
+
+    void evict(Long memberId) {
+        members.remove(memberId);
+    }
+
+    /**
+     * 명령 적용
+     *
+     * @return 응답, 또는 PointService 로 위임할 명령이면 FALLBACK
+     * @throws ServiceException 업무 거절 (상태 변경 없음)
+     */
+    Object apply(Object request, Changes changes) {
+        return switch (request) {
+            case PointSavingApprovalReq req -> savingApproval(req, changes);
+            case PointSavingCancelReq req -> savingCancel(req, changes);
+            case PointUseApprovalReq req -> useApproval(req, changes);
+            case PointUseCancelReq req -> useCancel(req, changes);
+            default -> throw new IllegalArgumentException("unknown ledger command : " + request.getClass());
+        };
+    }
+
+    /**
+     * 적립 승인 : 보유 한도(MP003) 검증 → wallet 생성 → 잔액 증가
+     */
+    private PointResp savingApproval(PointSavingApprovalReq req, Changes changes) {
+        Member member = getMember(req.getMemberId());
+        long amount = req.getAmount();
+        if (member.balance + amount > maxBalanceSupplier.getAsLong()) {
+            throw new ServiceException(ProcessCode.MP003.getProcCd());
+        }
+
+        PointWallet wallet = PointWallet.from(member.memberId, req);
+        wallet.setWalletId(walletIdSupplier.getAsLong());
+        member.addWallet(wallet);
+        changes.newWallets.put(wallet.getWalletId(), wallet);
+
+        PointLog savingLog = PointLog.from(member.memberId, amount, PointLogType.SAVING_APPROVAL.getCode(), req.getLogAt());
+        savingLog.setWalletId(wallet.getWalletId());
+        changes.logs.add(savingLog);
+
+        member.balance += amount;
+        changes.addBucket(member.memberId, wallet.getExpireDate(), amount);
+        changes.touch(member);
+        return new PointResp(member.memberId, amount);
+    }
+
+    /**
+     * 적립 취소 : 잔액(MP010) / 대상 wallet(MP006, MP008, MP009) 검증 → wallet 취소 → 잔액 차감
+     */
+    private Object savingCancel(PointSavingCancelReq req, Changes changes) {
+        Member member = getMember(req.getMemberId());
+        long amount = req.getAmount();
+        if (member.balance < amount) {
+            throw new ServiceException(ProcessCode.MP010.getProcCd());
+        }
+
+        PointWallet wallet = member.wallets.get(req.getWalletId());
+        if (wallet == null) {
+            throw new ServiceException(ProcessCode.MP006.getProcCd());
+        } else if (wallet.getUsedAmount() > 0) {
+            throw new ServiceException(ProcessCode.MP008.getProcCd());
+        } else if (Val.MERGED.equals(wallet.getWalletStatus())) {
+            return FALLBACK;
+        } else if (!Val.NORMAL.equals(wallet.getWalletStatus())) {
+            throw new ServiceException(ProcessCode.MP009.getProcCd());
+        }
+
+        PointLog cancelLog = PointLog.from(member.memberId, amount, PointLogType.SAVING_CANCEL.getCode(), req.getLogAt());
+        cancelLog.setWalletId(wallet.getWalletId());
+        changes.logs.add(cancelLog);
+
+        member.balance -= amount;
+        wallet.setWalletStatus(Val.CANCEL);
+        member.refreshUsable(wallet);
+        changes.updateWallet(wallet);
+        changes.addBucket(member.memberId, wallet.getExpireDate(), -(wallet.getIssuedAmount() - wallet.getUsedAmount()));
+        changes.touch(member);
+        return new PointResp(member.memberId, amount);
+    }
+
+    /**
+     * 사용 승인 : 잔액(MP010) 검증 → 사용 가능 wallet 을 우선순위 순으로 차감 (부족 시 MP010) → 잔액 차감
+     */
+    private PointUseApprovalResp useApproval(PointUseApprovalReq req, Changes changes) {
+        Member member = getMember(req.getMemberId());
+        long amount = req.getAmount();
+        if (member.balance < amount) {
+            throw new ServiceException(ProcessCode.MP010.getProcCd());
+        }
+
+        // 차감 계획 (만료일 지난 wallet 제외)
+        LocalDate today = LocalDate.now();
+        List<PointWallet> targets = new ArrayList<>();
+        List<Long> targetAmounts = new ArrayList<>();
+        long remain = amount;
+        for (PointWallet wallet : member.usable) {
+            if (remain <= 0) break;
+            if (wallet.getExpireDate().isBefore(today)) continue;
+            long target = Math.min(wallet.getIssuedAmount() - wallet.getUsedAmount(), remain);
+            targets.add(wallet);
+            targetAmounts.add(target);
+            remain -= target;
+        }
+        if (remain > 0) {
+            throw new ServiceException(ProcessCode.MP010.getProcCd());
+        }
+
+        String orderNo = orderNoSupplier.get();
+        List<PointUseDetail> details = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            PointWallet wallet = targets.get(i);
+            long target = targetAmounts.get(i);
+            wallet.setUsedAmount(wallet.getUsedAmount() + target);
+            member.refreshUsable(wallet);
+            changes.updateWallet(wallet);
+            changes.addBucket(member.memberId, wallet.getExpireDate(), -target);
+
+            PointUseDetail detail = PointUseDetail.of(orderNo, wallet.getWalletId(), target);
+            changes.newDetails.add(detail);
+            details.addFirst(detail);
+        }
+        changes.orders.put(orderNo, details);
+
+        PointLog useLog = PointLog.from(member.memberId, amount, PointLogType.USE_APPROVAL.getCode(), req.getLogAt());
+        useLog.setOrderNo(orderNo);
+        changes.logs.add(useLog);
+
+        member.balance -= amount;
+        changes.touch(member);
+        return new PointUseApprovalResp(member.memberId, orderNo, amount);
+    }
+
+    /**
+     * 사용 취소 (wallet 단위 사용 상세) : 취소 가능 잔여(MP013) 검증 → 차감 역순 복원 / 만료분 재적립 → 잔액 복원
+     * <p>
+     * - 상세가 없는 주문(wallet 단위 기록 이전)은 FALLBACK
+     * - 다른 회원 wallet 을 차감한 주문은 MP006 (PointService 는 회원을 확인하지 않음)
+     */
+    private Object useCancel(PointUseCancelReq req, Changes changes) {
+        Member member = getMember(req.getMemberId());
+        String orderNo = req.getOrderNo();
+        long cancelAmount = req.getAmount();
+
+        List<PointUseDetail> details = changes.orders.get(orderNo);
+        if (details == null) {
+            details = detailLoader.apply(orderNo);
+            if (details.isEmpty()) return FALLBACK;
+            changes.orders.put(orderNo, details);
+        }
+
+        long cancelable = 0;
+        for (PointUseDetail detail : details) {
+            if (!member.wallets.containsKey(detail.getWalletId())) {
+                throw new ServiceException(ProcessCode.MP006.getProcCd());
+            }
+            cancelable += detail.getCancelableAmount();
+        }
+        if (cancelable < cancelAmount) {
+            throw new ServiceException(ProcessCode.MP013.getProcCd());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate resavingExpireDate = now.toLocalDate().plusYears(1);
+        long remain = cancelAmount;
+        for (PointUseDetail detail : details) {
+            if (remain <= 0) break;
+            long cancelableAmount = detail.getCancelableAmount();
+            if (cancelableAmount <= 0) continue;
+
+            PointWallet wallet = member.wallets.get(detail.getWalletId());
+            long target = Math.min(cancelableAmount, remain);
+            if (Val.EXPIRED.equals(wallet.getWalletStatus())) {
+                PointWallet resaved = PointWallet.builder()
+                        .walletId(walletIdSupplier.getAsLong())
+                        .memberId(member.memberId)
+                        .issuedAmount(target)
+                        .usedAmount(0L)
+                        .walletStatus(Val.NORMAL)
+                        .expireDate(resavingExpireDate)
+                        .sourceType(WalletSourceType.RESAVING)
+                        .createdAt(now)
+                        .build();
+                member.addWallet(resaved);
+                changes.newWallets.put(resaved.getWalletId(), resaved);
+                changes.addBucket(member.memberId, resaved.getExpireDate(), target);
+            } else {
+                wallet.setUsedAmount(wallet.getUsedAmount() - target);
+                member.refreshUsable(wallet);
+                changes.updateWallet(wallet);
+                changes.addBucket(member.memberId, wallet.getExpireDate(), target);
+            }
+
+            detail.setCancelableAmount(cancelableAmount - target);
+            if (detail.getUseId() != null) changes.updatedDetails.put(detail.getUseId(), detail);
+            remain -= target;
+        }
+
+        PointLog cancelLog = PointLog.from(member.memberId, cancelAmount, PointLogType.USE_CANCEL.getCode(), req.getLogAt());
+        cancelLog.setOrderNo(orderNo);
+        changes.logs.add(cancelLog);
+
+        member.balance += cancelAmount;
+        changes.touch(member);
+        return new PointResp(member.memberId, cancelAmount);
+    }
+
+    private Member getMember(Long memberId) {
+        Member member = members.get(memberId);
+        if (member == null) throw new ServiceException(ProcessCode.HB001.getProcCd());
+        return member;
+    }
+}
@@ -4,20 +4,23 @@ import com.musinsa.sys.common.constants.Val;
 import com.musinsa.sys.common.enums.ProcessCode;
 import com.musinsa.sys.common.exception.ServiceException;
 import com.musinsa.sys.common.util.DateUtil;
+import com.musinsa.sys.member.component.MemberConcurrencyControl;
 import com.musinsa.sys.member.entity.Member;
 import com.musinsa.sys.member.repository.MemberRepository;
 import com.musinsa.sys.order.component.OrderNoGenerator;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointLogQueryRouter;
+import com.musinsa.sys.point.component.PointLogWriter;
+import com.musinsa.sys.point.component.PointMetrics;
+import com.musinsa.sys.point.component.PointPolicyCache;
 import com.musinsa.sys.point.dto.*;
 import com.musinsa.sys.point.entity.PointLog;
-import com.musinsa.sys.point.entity.PointPolicy;
-import com.musinsa.sys.point.entity.PointUseDetail;
 import com.musinsa.sys.point.entity.PointWallet;
 import com.musinsa.sys.point.enums.PointLogType;
 import com.musinsa.sys.point.enums.PointPolicyKey;
-import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
 import com.musinsa.sys.point.repository.PointLogRepository;
-import com.musinsa.sys.point.repository.PointPolicyRepository;
-import com.musinsa.sys.point.repository.PointUseDetailRepository;
+import com.musinsa.sys.point.repository.PointWalletCompactionRepository;
 import com.musinsa.sys.point.repository.PointWalletRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +29,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 포인트 적립 / 적립취소 / 사용 / 사용취소에 대한
@@ -40,17 +46,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PointService {
 
-    private final PointLogRepository pointLogRepository;
-    private final PointPolicyRepository pointPolicyRepository;
+    private final PointPolicyCache pointPolicyCache;
     private final PointWalletRepository pointWalletRepository;
     private final OrderNoGenerator orderNoGenerator;
     private final MemberRepository memberRepository;
-    private final PointUseDetailRepository pointUseDetailRepository;
+    private final MemberConcurrencyControl memberConcurrencyControl;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointMetrics pointMetrics;
+    private final PointLogWriter pointLogWriter;
+    private final PointLogQueryRouter pointLogQueryRouter;
+    private final PointLogRepository pointLogRepository;
+    private final PointWalletCompactionRepository pointWalletCompactionRepository;
+    private final PointUseStrategy pointUseStrategy;
 
     /**
      * 포인트 적립 승인
      * <p>
-     * 정책 검증 → 로그 생성 → 회원 잔액 증가 → 포인트 지갑 생성
+     * 보유 한도 검증 → 로그 생성 → 회원 잔액 증가 → 포인트 지갑 생성
      */
     @Transactional
     public PointResp savingApproval(PointSavingApprovalReq pointSavingApprovalReq) {
@@ -64,30 +77,29 @@ public class PointService {
         //거래구분코드 확인
         pointLog.setLogType(PointLogType.SAVING_APPROVAL.getCode());
 
-        //만료일 미입력시 기본 1년 셋팅
-        LocalDate expireDate =
-                DateUtil.resolveExpireDate(pointSavingApprovalReq.getExpireDate(), pointSavingApprovalReq.getLogAt());
-
         // 회원 조회 + 락 (동시성 제어)
+        // 1회 적립 금액 / 만료일 범위는 PointFacade 에서 트랜잭션 시작 전에 검증 (PointRequestValidator)
         Member member = getMember(memberId);
-        // 적립 정책 검증 ( 1회 충전금액, 총보유금액, 만료일)
-        validateSavingAmount(amount);                 // 1회 적립 금액 제한
         validateBalanceLimit(member.getPointBalance(), amount); // 총 보유 한도
-        validateExpireDate(expireDate); // 만료일 범위 검증
 
         pointLog.setAmount(amount);
         pointLog.setLogAt(logAt);
 
-        // 적립승인 로그 기록 (원장성 로그)
-        pointLogRepository.save(PointLog.from(memberId, amount, PointLogType.SAVING_APPROVAL.getCode(), pointSavingApprovalReq.getLogAt()));
+        // 포인트 지갑 생성 (만료일 단위 관리)
+        PointWallet pointWallet = PointWallet.from(memberId, pointSavingApprovalReq);
+        pointWalletRepository.save(pointWallet);
+
+        // 적립승인 로그 기록 (원장성 로그, 생성된 wallet_id 포함)
+        PointLog savingLog = PointLog.from(memberId, amount, PointLogType.SAVING_APPROVAL.getCode(), pointSavingApprovalReq.getLogAt());
+        savingLog.setWalletId(pointWallet.getWalletId());
+        pointLogWriter.write(savingLog);
 
         // 회원 잔액 증가
         member.addPointBalance(amount);
         memberRepository.save(member);
 
-        // 포인트 지갑 생성 (만료일 단위 관리)
-        PointWallet pointWallet = PointWallet.from(memberId, pointSavingApprovalReq);
-        pointWalletRepository.save(pointWallet);
+        // 만료일별 잔액 요약 반영
+        updateExpiryBuckets(memberId, Map.of(pointWallet.getExpireDate(), amount));
 
         PointResp pointResp = new PointResp();
         pointResp.setMemberId(memberId);
@@ -100,6 +112,7 @@ public class PointService {
      * <p>
      * - 특정 wallet 단위 취소
      * - 이미 사용된 포인트는 취소 불가
+     * - 병합된 wallet 은 병합 wallet 의 미사용 잔여에서 지급 금액만큼 차감
      */
     @Transactional
     public PointResp savingCancel(PointSavingCancelReq pointSavingCancelReq) {
@@ -119,7 +132,9 @@ public class PointService {
         validatePointBalance(member, amount);
 
         // 취소 로그 기록
-        pointLogRepository.save(PointLog.from(memberId, amount, PointLogType.SAVING_CANCEL.getCode(), pointSavingCancelReq.getLogAt()));
+        PointLog cancelLog = PointLog.from(memberId, amount, PointLogType.SAVING_CANCEL.getCode(), pointSavingCancelReq.getLogAt());
+        cancelLog.setWalletId(walletId);
+        pointLogWriter.write(cancelLog);
 
         // 회원 잔액 차감
         member.subsPointBalance(amount);
@@ -127,11 +142,18 @@ public class PointService {
 
         // 취소 대상 wallet 조회
         PointWallet cancelWallet = getCancelWallet(memberId, walletId);
+        if (Val.MERGED.equals(cancelWallet.getWalletStatus())) {
+            cancelMergedWallet(memberId, cancelWallet);
+        }
 
         // 헤딩 wallet 비활성화 구분코드 취소로 변경
         cancelWallet.setWalletStatus(Val.CANCEL);
         pointWalletRepository.save(cancelWallet);
 
+        // 만료일별 잔액 요약 반영 (취소 wallet 의 잔여 금액 차감)
+        updateExpiryBuckets(memberId, Map.of(cancelWallet.getExpireDate(),
+                -(cancelWallet.getIssuedAmount() - cancelWallet.getUsedAmount())));
+
         return new PointResp(memberId, amount);
     }
 
@@ -146,24 +168,21 @@ public class PointService {
         Long memberId = pointUseApprovalReq.getMemberId();
         Long amount = pointUseApprovalReq.getAmount();
 
-        // 회원 조회 + 잔액 검증
-        Member member = getMember(memberId);
-        validatePointBalance(member, amount);
+        // 회원 잔액 차감 + Lock (잔액 부족 MP010), 차감 방식은 point.use.mode
+        pointUseStrategy.debitBalance(memberId, amount);
 
         // 주문번호 생성
+        long orderNoStartedAt = System.nanoTime();
         String orderNo = orderNoGenerator.generateOrderNo();
+        pointMetrics.recordOrderNoGenerate(orderNoStartedAt);
 
         // 사용승인 로그 생성
         PointLog pointLog = PointLog.from(memberId, amount, PointLogType.USE_APPROVAL.getCode(), pointUseApprovalReq.getLogAt());
         pointLog.setOrderNo(orderNo);
 
         // 포인트 사용승인 처리 (wallet 차감 로직)
-        usePoint(pointLog);
-        pointLogRepository.save(pointLog);
-
-        // 회원 잔액 차감
-        member.subsPointBalance(amount);
-        memberRepository.save(member);
+        pointUseStrategy.deductWallets(pointLog);
+        pointLogWriter.write(pointLog);
 
         return new PointUseApprovalResp(memberId, orderNo, amount);
     }
@@ -181,20 +200,25 @@ public class PointService {
         String orderNo = pointUseCancelReq.getOrderNo();
         Long cancelAmount = pointUseCancelReq.getAmount();
 
-        // 회원 조회 + 잔액 검증
-        Member member = getMember(memberId);
+        // 회원 잔액 복원 + 회원 Row Lock (point.use.mode 경로)
+        pointUseStrategy.creditBalance(memberId, cancelAmount);
 
-        // 해당 주문번호에 대한 사용 로그 조회
-        PointLog useLogs = pointLogRepository.findUseLogsByOrderNoForUpdate(orderNo, PointLogType.USE_APPROVAL.getCode());
+        // 주문의 wallet 단위 사용 상세 기준 복원 (차감 역순, 취소 가능 잔여 금액 초과 시 MP013)
+        // 사용 로그(point_log)를 읽지 않으므로 저널 모드에서 로그 적재 전이어도 취소 가능
+        if (!pointUseStrategy.restoreWallets(memberId, orderNo, cancelAmount)) {
+            // wallet 단위 기록 이전 주문 → 사용 로그 기준 취소
+            // 보관 기간이 지난 주문은 아카이브 파일에서 조회
+            PointLog useLogs = pointLogQueryRouter.findUseLogForUpdate(orderNo, PointLogType.USE_APPROVAL.getCode());
 
-        if (useLogs == null) {
-            throw new ServiceException("MP006");
-        } else if (useLogs.getAmount() < cancelAmount) {
-            throw new ServiceException("MP013");
-        }
+            if (useLogs == null) {
+                throw new ServiceException("MP006");
+            } else if (useLogs.getAmount() < cancelAmount) {
+                throw new ServiceException("MP013");
+            }
 
-        // 실제 wallet 취소 처리
-        useCancel(useLogs, cancelAmount);
+            // 실제 wallet 취소 처리
+            useCancel(useLogs, cancelAmount);
+        }
 
         // 취소 로그 기록
         PointLog cancelLog = new PointLog();
@@ -203,19 +227,22 @@ public class PointService {
         cancelLog.setLogType(PointLogType.USE_CANCEL.getCode());
         cancelLog.setAmount(cancelAmount);
         cancelLog.setLogAt(pointUseCancelReq.getLogAt());
-        cancelLog.setCreatedAt(DateUtil.getLocalDateTimeWithNano());
+        cancelLog.setCreatedAt(DateUtil.getLocalDateTimeWithMicro());
 
-        pointLogRepository.save(cancelLog);
+        pointLogWriter.write(cancelLog);
 
-        // 회원 잔액 복원
-        member.setPointBalance(member.getPointBalance() + cancelAmount);
-        memberRepository.save(member);
+        return new PointResp(memberId, cancelAmount);
+    }
 
-        PointResp pointResp = new PointResp();
-        pointResp.setMemberId(memberId);
-        pointResp.setAmount(member.getPointBalance());
+    /**
+     * 만료일별 잔액 요약(point_expiry_bucket) 증감 + 잔액 조회 캐시 삭제 (커밋 후)
+     */
+    private void updateExpiryBuckets(Long memberId, Map<LocalDate, Long> remainDeltas) {
+        List<PointExpiryBucketDelta> deltas = new ArrayList<>(remainDeltas.size());
+        remainDeltas.forEach((expireDate, amount) -> deltas.add(new PointExpiryBucketDelta(memberId, expireDate, amount)));
 
-        return new PointResp(memberId, cancelAmount);
+        pointExpiryBucketRepository.addRemainAmounts(deltas);
+        pointBalanceCache.evict(memberId);
     }
 
     /**
@@ -223,9 +250,15 @@ public class PointService {
      * <p>
      * - 포인트 증감은 동시성 이슈에 민감하므로
      * 반드시 SELECT FOR UPDATE 로 회원을 조회
+     * - Lock 대기 시간은 point.member.lock.wait 로 기록
      */
     private Member getMember(Long memberId) {
-        Member member = memberRepository.findByMemberIdForUpdate(memberId);
+        long startedAt = System.nanoTime();
+        // 낙관적 모드 : Lock 없이 조회, 커밋 시 version 비교 (충돌 재시도는 PointFacade)
+        Member member = memberConcurrencyControl.isOptimistic()
+                ? memberRepository.findById(memberId).orElse(null)
+                : memberRepository.findByMemberIdForUpdate(memberId);
+        pointMetrics.recordMemberLockWait(startedAt);
         if (member == null) throw new ServiceException(ProcessCode.HB001.getProcCd());
         return member;
     }
@@ -236,7 +269,7 @@ public class PointService {
      * 정책:
      * - 존재하지 않는 wallet 취소 불가
      * - 이미 사용된 wallet은 적립 취소 불가
-     * - 활성 상태(wallet_status = '00')만 취소 가능
+     * - 활성 상태(wallet_status = '00') / 병합 상태('30')만 취소 가능
      */
     private PointWallet getCancelWallet(Long memberId, Long walletId) {
         PointWallet cancelWallet = pointWalletRepository.findByMemberIdAndWalletId(memberId, walletId);
@@ -244,42 +277,40 @@ public class PointService {
             throw new ServiceException("MP006");
         } else if (cancelWallet.getUsedAmount() > 0) {
             throw new ServiceException("MP008");
-        } else if (!cancelWallet.getWalletStatus().equals(Val.NORMAL)) {
+        } else if (!cancelWallet.getWalletStatus().equals(Val.NORMAL) && !cancelWallet.getWalletStatus().equals(Val.MERGED)) {
             throw new ServiceException("MP009");
         }
         return cancelWallet;
     }
 
     /**
-     * 회원 잔액 검증
+     * 병합된 wallet 적립 취소 : 병합 wallet 지급 금액에서 원 wallet 지급 금액 차감
      * <p>
-     * - 사용 / 취소 공통으로 사용
-     * - 잔액 부족 시 즉시 실패 처리
+     * - 같은 만료일 / 출처의 포인트는 구분되지 않으므로 병합 wallet 의 미사용 잔여가 원 wallet 지급 금액 이상이면 취소 가능
+     * - 병합 wallet 이 만료 / 취소되었거나 잔여가 부족하면 MP009
      */
-    private void validatePointBalance(Member member, Long amount) {
-        if (member.getPointBalance() < amount) {
-            throw new ServiceException("MP010");
+    private void cancelMergedWallet(Long memberId, PointWallet cancelWallet) {
+        Long mergedWalletId = pointWalletCompactionRepository.findMergedWalletId(cancelWallet.getWalletId());
+        PointWallet mergedWallet = mergedWalletId == null ? null
+                : pointWalletRepository.findByMemberIdAndWalletId(memberId, mergedWalletId);
+        if (mergedWallet == null || !mergedWallet.getWalletStatus().equals(Val.NORMAL)
+                || mergedWallet.getIssuedAmount() - mergedWallet.getUsedAmount() < cancelWallet.getIssuedAmount()) {
+            throw new ServiceException("MP009");
         }
+
+        mergedWallet.setIssuedAmount(mergedWallet.getIssuedAmount() - cancelWallet.getIssuedAmount());
+        pointWalletRepository.save(mergedWallet);
     }
 
     /**
-     * 적립 금액 검증
+     * 회원 잔액 검증
      * <p>
-     * - 정책 테이블 기준 최소/최대 적립 금액 확인
+     * - 사용 / 취소 공통으로 사용
+     * - 잔액 부족 시 즉시 실패 처리
      */
-    private void validateSavingAmount(long amount) {
-
-        //null값 체크하기
-        PointPolicy minPolicy = pointPolicyRepository.findByPolicyKey(PointPolicyKey.POINT_SAVING_MIN.name());
-        PointPolicy maxPolicy = pointPolicyRepository.findByPolicyKey(PointPolicyKey.POINT_SAVING_MAX.name());
-
-        long min = minPolicy.getPolicyValue();
-        long max = maxPolicy.getPolicyValue();
-
-        if (amount < min ) {
-            throw new ServiceException("MP002"); // 1원 이상 충전 가능
-        }else if (amount > max) {
-            throw new ServiceException("MP003"); // 적립금액 범위 초과
+    private void validatePointBalance(Member member, Long amount) {
+        if (member.getPointBalance() < amount) {
+            throw new ServiceException("MP010");
         }
     }
 
@@ -290,8 +321,7 @@ public class PointService {
      * 정책 최대치를 초과하는지 확인
      */
     private void validateBalanceLimit(long currentBalance, long earnAmount) {
-        PointPolicy maxBalancePolicy = pointPolicyRepository.findByPolicyKey(PointPolicyKey.POINT_BALANCE_MAX.name());
-        long maxBalance = maxBalancePolicy.getPolicyValue();
+        long maxBalance = pointPolicyCache.getValue(PointPolicyKey.POINT_BALANCE_MAX);
 
         if (currentBalance + earnAmount > maxBalance) {
             throw new ServiceException("MP003"); // 보유한도 초과
@@ -299,143 +329,59 @@ public class PointService {
     }
 
     /**
-     * 포인트 만료일 검증
-     * <p>
-     * 정책:
-     * - 최소 1일 이상
-     * - 최대 5년 미만
-     */
-    private LocalDate validateExpireDate(LocalDate expireDate) {
-        LocalDate today = LocalDate.now();
-
-        if (expireDate.isBefore(today.plusDays(1))) {
-            throw new ServiceException("MP004");
-        }
-        if (!expireDate.isBefore(today.plusYears(5))) {
-            throw new ServiceException("MP005");
-        }
-        return expireDate;
-    }
-
-    /**
-     * 포인트 사용 처리 로직
-     * <p>
-     * 정책:
-     * - 만료 임박 포인트 우선 사용 (FIFO)
-     * - 실제 사용 가능 금액 = issued - used - expired
-     * - 여러 wallet에 걸쳐 분할 차감 가능
-     */
-    public void usePoint(PointLog pointLog) {
-
-        Long remainUseAmount = pointLog.getAmount(); // 남은 사용 금액
-
-        // 사용 가능한 wallet 목록 조회 (만료일 오름차순)
-        List<PointWallet> usablePointList = pointWalletRepository.findUsableWallets(pointLog.getMemberId());
-
-        for (PointWallet pointWallet : usablePointList) {
-
-            if (remainUseAmount <= 0) break;
-
-            Long issuedAmount = pointWallet.getIssuedAmount();
-            Long usedAmount = pointWallet.getUsedAmount();
-
-            // 실제 사용 가능한 금액
-            Long usableAmount = issuedAmount - usedAmount;
-
-            if (usableAmount <= 0) continue;
-
-            // 이번 wallet에서 사용할 금액
-            Long useTarget = Math.min(usableAmount, remainUseAmount);
-
-            // 사용 금액 누적
-            pointWallet.setUsedAmount(pointWallet.getUsedAmount() + useTarget);
-            pointWalletRepository.save(pointWallet);
-
-            remainUseAmount -= useTarget;
-        }
-
-        // 모든 wallet을 사용해도 부족한 경우
-        if (remainUseAmount > 0) {
-            throw new ServiceException(ProcessCode.MP010.getProcCd());
-        }
-
-        // 주문 단위 사용 상세 로그 기록
-        PointUseDetail pointUseDetail = new PointUseDetail();
-        pointUseDetail.setOrderNo(pointLog.getOrderNo());
-        pointUseDetail.setUsedAmount(pointLog.getAmount());
-        pointUseDetail.setCreatedAt(DateUtil.getLocalDateTimeWithNano());
-
-        pointUseDetailRepository.save(pointUseDetail);
-    }
-
-    /**
-     * 포인트 사용 취소 처리
+     * 포인트 사용 취소 처리 (wallet 단위 기록 이전 주문)
      * <p>
      * 정책:
      * - 취소 가능 금액은 "usedAmount 기준"
      * - 만료 여부는 취소 가능 여부가 아닌 "복구 방식"의 차이
      * - 만료된 포인트는 신규 wallet으로 재적립
-     * - 사용 순서 역순(LIFO)으로 취소
+     * - 회원의 사용 wallet 전체를 만료일 역순(LIFO)으로 복원
      */
 
     @Transactional
     public void useCancel(PointLog useLogs, Long cancelAmount) {
 
-        long remainCancelAmount = cancelAmount;
         long memberId = useLogs.getMemberId();
-        long totalUsedAmount = useLogs.getAmount();
-
-        // 1. 사전 검증
-        long canceledAmount =
-                pointLogRepository.getCanceledAmount(
-                        useLogs.getOrderNo(),
-                        PointLogType.USE_CANCEL.getCode()
-                );
 
-        long cancelableAmount = totalUsedAmount - canceledAmount;
+        // 1. 취소 가능 잔여 금액 차감 (초과 시 MP013)
+        deductCancelableAmount(useLogs, cancelAmount);
 
-        if (canceledAmount > cancelableAmount) {
-            throw new ServiceException(ProcessCode.MP013.getProcCd());
-        }
+        Map<LocalDate, Long> remainDeltas = new HashMap<>();
 
-        // 2. 사용 역순 wallet 조회 (LIFO)
+        // 2. 사용 역순 wallet 조회 (LIFO) 후 복원 / 만료분 재적립
         List<PointWallet> cancelTargetList =
                 pointWalletRepository.findCancelWallets(memberId);
 
-        for (PointWallet wallet : cancelTargetList) {
-
-            if (remainCancelAmount <= 0) break;
+        pointWalletRepository.saveAll(
+                WalletAllocator.restore(cancelTargetList, cancelAmount, memberId, LocalDateTime.now(),
+                        (wallet, restoredAmount) -> remainDeltas.merge(wallet.getExpireDate(), restoredAmount, Long::sum)));
 
-            long usedAmount = wallet.getUsedAmount();
-            if (usedAmount <= 0) continue;
-
-            // 이번 wallet에서 실제 취소할 금액
-            long cancelTarget =
-                    Math.min(usedAmount, remainCancelAmount);
-
-            // 만료 wallet → 신규 적립
-            if (Val.EXPIRED.equals(wallet.getWalletStatus())) {
-
-                PointWallet newWallet = PointWallet.builder()
-                        .memberId(memberId)
-                        .issuedAmount(cancelTarget)
-                        .usedAmount(0L)
-                        .walletStatus(Val.NORMAL)
-                        .expireDate(LocalDate.now().plusYears(1))
-                        .sourceType(WalletSourceType.RESAVING)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-
-                pointWalletRepository.save(newWallet);
+        // 만료일별 잔액 요약 반영 (재적립 wallet 은 신규 만료일로 가산)
+        updateExpiryBuckets(memberId, remainDeltas);
+    }
 
+    /**
+     * 사용 승인 로그의 취소 가능 잔여 금액 차감
+     * <p>
+     * - 잔여 금액은 Row Lock 잡은 사용 승인 로그에 누적 관리하여 취소 누적 합계(SUM) 조회 없이 O(1) 검증
+     * - 잔여 금액이 없는 로그(backfill 이전)는 최초 취소 시 누적 합계로 한 번만 초기화
+     * - 아카이브된 로그는 갱신할 수 없으므로 매번 누적 합계(DB + 아카이브)로 검증
+     */
+    private void deductCancelableAmount(PointLog useLog, long cancelAmount) {
+        if (useLog.getCancelableAmount() == null) {
+            long cancelableAmount = useLog.getAmount() - pointLogQueryRouter.getCanceledAmount(
+                    useLog.getOrderNo(), PointLogType.USE_CANCEL.getCode());
+
+            if (pointLogRepository.initCancelableAmount(useLog.getLogId(), cancelableAmount) == 0) {
+                if (cancelAmount > cancelableAmount) {
+                    throw new ServiceException(ProcessCode.MP013.getProcCd());
+                }
+                return;
             }
-            // 정상 wallet → 기존 wallet 복원
-            else {
-                wallet.setUsedAmount(usedAmount - cancelTarget);
-                pointWalletRepository.save(wallet);
-            }
+        }
 
-            remainCancelAmount -= cancelTarget;
+        if (pointLogRepository.deductCancelableAmount(useLog.getLogId(), cancelAmount) == 0) {
+            throw new ServiceException(ProcessCode.MP013.getProcCd());
         }
     }
 }
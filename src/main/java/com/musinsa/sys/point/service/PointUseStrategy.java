@@ -0,0 +1,51 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.point.entity.PointLog;
+
+/**
+ * 포인트 사용 승인의 회원 잔액 / wallet 차감 방식 (point.use.mode)
+ * <p>
+ * - jpa : 회원 / wallet 엔티티를 조회해 변경, 커밋 시 dirty checking 으로 UPDATE (JpaPointUseStrategy, 기본)
+ * - sql : 엔티티 조회 없이 조건부 UPDATE + window 함수 조회로 차감 (SqlPointUseStrategy)
+ * - 두 방식은 같은 결과(회원 잔액 / wallet 사용 금액 / 사용 상세 / 만료일별 요약)를 남김 (PointUseStrategyTest)
+ * - 호출은 사용 승인 트랜잭션 안에서 debitBalance → deductWallets, 사용 취소 트랜잭션 안에서 creditBalance → restoreWallets 순서
+ */
+public interface PointUseStrategy {
+
+    enum Mode {
+        JPA,
+        SQL
+    }
+
+    /**
+     * 회원 잔액 차감 + 회원 Row Lock
+     * <p>
+     * - 회원이 없으면 HB001, 잔액 부족 시 MP010
+     */
+    void debitBalance(Long memberId, long amount);
+
+    /**
+     * 사용 가능 wallet 을 우선순위(수기지급 → 만료일 오름차순) 순으로 차감
+     * <p>
+     * - wallet 별 사용 상세(point_use_detail) / 만료일별 잔액 요약 반영
+     * - wallet 부족 시 MP010
+     */
+    void deductWallets(PointLog pointLog);
+
+    /**
+     * 회원 잔액 가산 + 회원 Row Lock
+     * <p>
+     * - 회원이 없으면 HB001
+     */
+    void creditBalance(Long memberId, long amount);
+
+    /**
+     * 주문의 wallet 단위 사용 상세 기준 복원 (차감 역순)
+     * <p>
+     * - 상세별 취소 가능 잔여 금액만큼 해당 wallet 에 복원, 만료 wallet 은 재적립 wallet 생성
+     * - 만료일별 잔액 요약 반영, 상세 합계를 넘는 취소는 MP013
+     *
+     * @return 사용 상세가 없으면(wallet 단위 기록 이전 주문) false
+     */
+    boolean restoreWallets(Long memberId, String orderNo, long cancelAmount);
+}
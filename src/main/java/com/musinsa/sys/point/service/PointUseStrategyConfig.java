@@ -0,0 +1,28 @@
+package com.musinsa.sys.point.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.Locale;
+
+/**
+ * 사용 승인 차감 방식 선택 (point.use.mode=jpa|sql)
+ * <p>
+ * - 두 구현은 모두 Bean 으로 등록 (테스트 / 벤치마크에서 교차 비교), PointService 는 선택된 구현을 주입받음
+ */
+@Configuration
+public class PointUseStrategyConfig {
+
+    @Bean
+    @Primary
+    public PointUseStrategy pointUseStrategy(@Value("${point.use.mode:jpa}") String mode,
+                                             JpaPointUseStrategy jpaPointUseStrategy,
+                                             SqlPointUseStrategy sqlPointUseStrategy) {
+        return switch (PointUseStrategy.Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT))) {
+            case JPA -> jpaPointUseStrategy;
+            case SQL -> sqlPointUseStrategy;
+        };
+    }
+}
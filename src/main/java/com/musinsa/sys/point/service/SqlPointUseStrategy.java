@@ -0,0 +1,160 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.member.repository.MemberRepository;
+import com.musinsa.sys.point.component.PointBalanceCache;
+import com.musinsa.sys.point.component.PointMetrics;
+import com.musinsa.sys.point.dto.PointExpiryBucketDelta;
+import com.musinsa.sys.point.dto.PointUseCancelTarget;
+import com.musinsa.sys.point.dto.PointWalletDeduction;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.entity.PointUseDetail;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import com.musinsa.sys.point.repository.PointUseSqlRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용 승인 차감 / 사용 취소 복원 : SQL 경로 (point.use.mode=sql)
+ * <p>
+ * - 회원 / wallet / 사용 상세 엔티티를 조회하지 않음 (영속성 컨텍스트 / dirty checking 없음)
+ * - 회원 잔액 : 조건부 UPDATE 1회로 검증 + 차감 / 가산 + Row Lock (낙관적 모드여도 이 UPDATE 가 Row Lock 을 잡고 version 증가)
+ * - wallet : window 함수 조회 1회로 wallet 별 차감 금액 계산 → 조건부 UPDATE 1회 (반영 건수로 검증)
+ * - 사용 상세 : JDBC batch INSERT 1회
+ * - 조회 window 는 USABLE_WALLET_WINDOW 부터 두 배씩 (앞쪽 window 건으로 충당되지 않을 때만 다시 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlPointUseStrategy implements PointUseStrategy {
+
+    private static final int USABLE_WALLET_WINDOW = 8;
+
+    private final MemberRepository memberRepository;
+    private final PointUseSqlRepository pointUseSqlRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointMetrics pointMetrics;
+
+    @Override
+    public void debitBalance(Long memberId, long amount) {
+        long startedAt = System.nanoTime();
+        int updated = pointUseSqlRepository.debitBalance(memberId, amount);
+        pointMetrics.recordMemberLockWait(startedAt);
+        if (updated == 0) {
+            // 실패 경로에서만 회원 존재 여부 확인
+            throw new ServiceException(memberRepository.existsById(memberId)
+                    ? ProcessCode.MP010.getProcCd() : ProcessCode.HB001.getProcCd());
+        }
+    }
+
+    @Override
+    public void deductWallets(PointLog pointLog) {
+        Long memberId = pointLog.getMemberId();
+        long amount = pointLog.getAmount();
+
+        List<PointWalletDeduction> deductions;
+        int window = USABLE_WALLET_WINDOW;
+        while (true) {
+            deductions = pointUseSqlRepository.findDeductions(memberId, amount, window);
+            long deducted = deductions.stream().mapToLong(PointWalletDeduction::getAmount).sum();
+            if (deducted >= amount) break;
+            // 충당되지 않으면 window 안의 wallet 을 모두 반환하므로 반환 건수 < window 면 wallet 부족
+            if (deductions.size() < window) throw new ServiceException(ProcessCode.MP010.getProcCd());
+            window *= 2;
+        }
+
+        // 조회 이후 wallet 이 바뀌었으면 (회원 Row Lock 밖의 변경) 트랜잭션 롤백
+        if (pointUseSqlRepository.deductWallets(deductions) != deductions.size()) {
+            throw new ConcurrencyFailureException("point wallet changed during use : member " + memberId);
+        }
+
+        pointMetrics.recordUsedWallets(deductions.size(), deductions.size());
+
+        // 만료일별 잔액 요약 반영 + 잔액 조회 캐시 삭제 (커밋 후)
+        Map<LocalDate, Long> remainDeltas = new HashMap<>();
+        List<PointUseDetail> pointUseDetails = new ArrayList<>(deductions.size());
+        for (PointWalletDeduction deduction : deductions) {
+            remainDeltas.merge(deduction.getExpireDate(), -deduction.getAmount(), Long::sum);
+            pointUseDetails.add(PointUseDetail.of(pointLog.getOrderNo(), deduction.getWalletId(), deduction.getAmount()));
+        }
+        List<PointExpiryBucketDelta> deltas = new ArrayList<>(remainDeltas.size());
+        remainDeltas.forEach((expireDate, delta) -> deltas.add(new PointExpiryBucketDelta(memberId, expireDate, delta)));
+        pointExpiryBucketRepository.addRemainAmounts(deltas);
+        pointBalanceCache.evict(memberId);
+
+        // 주문 / wallet 단위 사용 상세 기록 (사용 취소 시 해당 wallet 만 복원)
+        pointBatchRepository.batchInsertUseDetails(pointUseDetails);
+    }
+
+    @Override
+    public void creditBalance(Long memberId, long amount) {
+        long startedAt = System.nanoTime();
+        int updated = pointUseSqlRepository.creditBalance(memberId, amount);
+        pointMetrics.recordMemberLockWait(startedAt);
+        if (updated == 0) throw new ServiceException(ProcessCode.HB001.getProcCd());
+    }
+
+    /**
+     * 사용 상세 + wallet 상태 조회 1회 → 상세 / wallet 조건부 UPDATE 각 1회 + 재적립 wallet batch INSERT
+     * <p>
+     * - 복원 순서 / 금액은 WalletAllocator.restore 와 같음 (차감 역순, 상세별 취소 가능 잔여 금액까지)
+     */
+    @Override
+    public boolean restoreWallets(Long memberId, String orderNo, long cancelAmount) {
+        List<PointUseCancelTarget> targets = pointUseSqlRepository.findCancelTargetsForUpdate(orderNo);
+        if (targets.isEmpty()) return false;
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> detailAmounts = new LinkedHashMap<>();
+        Map<Long, Long> walletAmounts = new LinkedHashMap<>();
+        List<PointWallet> resavings = new ArrayList<>();
+        Map<LocalDate, Long> remainDeltas = new HashMap<>();
+
+        long remainCancelAmount = cancelAmount;
+        for (PointUseCancelTarget target : targets) {
+            if (remainCancelAmount <= 0) break;
+            if (target.getCancelableAmount() <= 0) continue;
+
+            long cancelTarget = Math.min(target.getCancelableAmount(), remainCancelAmount);
+            detailAmounts.put(target.getUseId(), cancelTarget);
+            if (Val.EXPIRED.equals(target.getWalletStatus())) {
+                PointWallet resaving = WalletAllocator.resaving(memberId, cancelTarget, now);
+                resavings.add(resaving);
+                remainDeltas.merge(resaving.getExpireDate(), cancelTarget, Long::sum);
+            } else {
+                walletAmounts.merge(target.getWalletId(), cancelTarget, Long::sum);
+                remainDeltas.merge(target.getExpireDate(), cancelTarget, Long::sum);
+            }
+            remainCancelAmount -= cancelTarget;
+        }
+        if (remainCancelAmount > 0) throw new ServiceException(ProcessCode.MP013.getProcCd());
+
+        // 조회 이후 상세 / wallet 이 바뀌었으면 (회원 Row Lock 밖의 변경) 트랜잭션 롤백
+        if (pointUseSqlRepository.deductCancelableAmounts(detailAmounts) != detailAmounts.size()
+                || (!walletAmounts.isEmpty() && pointUseSqlRepository.restoreWallets(walletAmounts) != walletAmounts.size())) {
+            throw new ConcurrencyFailureException("point use detail changed during cancel : order " + orderNo);
+        }
+        pointBatchRepository.batchInsertWallets(resavings);
+
+        // 만료일별 잔액 요약 반영 (재적립 wallet 은 신규 만료일로 가산) + 잔액 조회 캐시 삭제 (커밋 후)
+        List<PointExpiryBucketDelta> deltas = new ArrayList<>(remainDeltas.size());
+        remainDeltas.forEach((expireDate, delta) -> deltas.add(new PointExpiryBucketDelta(memberId, expireDate, delta)));
+        pointExpiryBucketRepository.addRemainAmounts(deltas);
+        pointBalanceCache.evict(memberId);
+        return true;
+    }
+}
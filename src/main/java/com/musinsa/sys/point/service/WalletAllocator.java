@@ -0,0 +1,192 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.entity.PointUseDetail;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * wallet 차감 / 복원 알고리즘
+ * <p>
+ * - DB / Spring 의존 없이 메모리상의 wallet 목록만 변경 (PointService, JMH 벤치마크 공용)
+ * - 반환값은 저장이 필요한 wallet 목록 (변경된 기존 wallet + 신규 wallet)
+ * - listener 로 wallet 별 변경 금액을 전달 (만료일별 잔액 요약 갱신용)
+ */
+public final class WalletAllocator {
+
+    private static final ObjLongConsumer<PointWallet> NO_OP = (wallet, amount) -> {
+    };
+
+    private WalletAllocator() {
+    }
+
+    /**
+     * 포인트 사용 차감
+     * <p>
+     * - wallets 는 사용 우선순위 순 (수기지급 → 만료 임박 → wallet_id)
+     * - 여러 wallet 에 걸쳐 분할 차감, 모든 wallet 을 사용해도 부족하면 MP010
+     *
+     * @return usedAmount 가 변경된 wallet 목록
+     */
+    public static List<PointWallet> allocate(List<PointWallet> wallets, long amount) {
+        return allocate(wallets, amount, NO_OP);
+    }
+
+    /**
+     * 포인트 사용 차감
+     *
+     * @param listener (wallet, 차감 금액)
+     */
+    public static List<PointWallet> allocate(List<PointWallet> wallets, long amount,
+                                             ObjLongConsumer<PointWallet> listener) {
+        List<PointWallet> touched = new ArrayList<>();
+        if (allocatePage(wallets, amount, touched, listener) > 0) {
+            throw new ServiceException(ProcessCode.MP010.getProcCd());
+        }
+        return touched;
+    }
+
+    /**
+     * 포인트 사용 차감 (사용 가능 wallet 의 일부 구간)
+     * <p>
+     * - 구간 wallet 으로 부족해도 예외 없이 남은 금액 반환 (다음 구간에서 이어서 차감)
+     *
+     * @param touched usedAmount 가 변경된 wallet 을 추가할 목록
+     * @return 남은 차감 금액
+     */
+    public static long allocatePage(List<PointWallet> wallets, long amount, List<PointWallet> touched,
+                                    ObjLongConsumer<PointWallet> listener) {
+        long remainUseAmount = amount;
+
+        for (PointWallet wallet : wallets) {
+            if (remainUseAmount <= 0) break;
+
+            long usedAmount = wallet.getUsedAmount();
+            long usableAmount = wallet.getIssuedAmount() - usedAmount;
+            if (usableAmount <= 0) continue;
+
+            long useTarget = Math.min(usableAmount, remainUseAmount);
+            wallet.setUsedAmount(usedAmount + useTarget);
+            touched.add(wallet);
+            listener.accept(wallet, useTarget);
+
+            remainUseAmount -= useTarget;
+        }
+        return remainUseAmount;
+    }
+
+    /**
+     * 포인트 사용 취소 복원
+     * <p>
+     * - wallets 는 취소 순서 (사용 역순, LIFO)
+     * - 정상 wallet 은 usedAmount 복원, 만료 wallet 은 취소 금액만큼 신규 wallet(RE) 재적립
+     *
+     * @return usedAmount 가 변경된 wallet + 재적립 wallet 목록
+     */
+    public static List<PointWallet> restore(List<PointWallet> wallets, long cancelAmount,
+                                            Long memberId, LocalDateTime now) {
+        return restore(wallets, cancelAmount, memberId, now, NO_OP);
+    }
+
+    /**
+     * 포인트 사용 취소 복원
+     *
+     * @param listener (복원된 wallet 또는 재적립 wallet, 복원 금액)
+     */
+    public static List<PointWallet> restore(List<PointWallet> wallets, long cancelAmount,
+                                            Long memberId, LocalDateTime now,
+                                            ObjLongConsumer<PointWallet> listener) {
+        List<PointWallet> touched = new ArrayList<>();
+        long remainCancelAmount = cancelAmount;
+
+        for (PointWallet wallet : wallets) {
+            if (remainCancelAmount <= 0) break;
+
+            long usedAmount = wallet.getUsedAmount();
+            if (usedAmount <= 0) continue;
+
+            long cancelTarget = Math.min(usedAmount, remainCancelAmount);
+
+            PointWallet restored;
+            if (Val.EXPIRED.equals(wallet.getWalletStatus())) {
+                restored = resaving(memberId, cancelTarget, now);
+            } else {
+                wallet.setUsedAmount(usedAmount - cancelTarget);
+                restored = wallet;
+            }
+            touched.add(restored);
+            listener.accept(restored, cancelTarget);
+
+            remainCancelAmount -= cancelTarget;
+        }
+        return touched;
+    }
+
+    /**
+     * 포인트 사용 취소 복원 (주문이 실제로 차감한 wallet 단위)
+     * <p>
+     * - details 는 주문의 wallet 별 사용 상세 (차감 역순, LIFO)
+     * - 상세별 취소 가능 금액(cancelableAmount)만큼만 해당 wallet 에 복원, 만료 wallet 은 재적립
+     * - 상세의 cancelableAmount 를 차감하며, 상세 합계를 넘는 취소는 MP013
+     *
+     * @param walletsById details 가 가리키는 wallet (wallet_id → wallet)
+     * @return usedAmount 가 변경된 wallet + 재적립 wallet 목록
+     */
+    public static List<PointWallet> restore(List<PointUseDetail> details, Map<Long, PointWallet> walletsById,
+                                            long cancelAmount, Long memberId, LocalDateTime now,
+                                            ObjLongConsumer<PointWallet> listener) {
+        List<PointWallet> touched = new ArrayList<>();
+        long remainCancelAmount = cancelAmount;
+
+        for (PointUseDetail detail : details) {
+            if (remainCancelAmount <= 0) break;
+
+            long cancelableAmount = detail.getCancelableAmount();
+            if (cancelableAmount <= 0) continue;
+
+            PointWallet wallet = walletsById.get(detail.getWalletId());
+            long cancelTarget = Math.min(cancelableAmount, remainCancelAmount);
+
+            PointWallet restored;
+            if (Val.EXPIRED.equals(wallet.getWalletStatus())) {
+                restored = resaving(memberId, cancelTarget, now);
+            } else {
+                wallet.setUsedAmount(wallet.getUsedAmount() - cancelTarget);
+                restored = wallet;
+            }
+            detail.setCancelableAmount(cancelableAmount - cancelTarget);
+            touched.add(restored);
+            listener.accept(restored, cancelTarget);
+
+            remainCancelAmount -= cancelTarget;
+        }
+
+        if (remainCancelAmount > 0) {
+            throw new ServiceException(ProcessCode.MP013.getProcCd());
+        }
+        return touched;
+    }
+
+    /**
+     * 만료 wallet 의 사용 취소분 재적립 wallet (취소 시점 + 1년 만료)
+     */
+    public static PointWallet resaving(Long memberId, long amount, LocalDateTime now) {
+        return PointWallet.builder()
+                .memberId(memberId)
+                .issuedAmount(amount)
+                .usedAmount(0L)
+                .walletStatus(Val.NORMAL)
+                .expireDate(now.toLocalDate().plusYears(1))
+                .sourceType(WalletSourceType.RESAVING)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -1,4 +1,4 @@
-INSERT INTO point_policy VALUES
+INSERT INTO point_policy (policy_key, policy_value, description) VALUES
                              ('POINT_SAVING_MIN', 1, '1회 최소 적립 포인트'),
                              ('POINT_SAVING_MAX', 100000, '1회 최대 적립 포인트'),
                              ('POINT_BALANCE_MAX', 500000, '회원 보유 최대 무료 포인트');
@@ -43,6 +43,7 @@ INSERT INTO point_log
     log_type,
     log_at,
     order_no,
+    wallet_id,
     amount,
     created_at
 )
@@ -52,6 +53,7 @@ VALUES
         'SA',
         FORMATDATETIME(CURRENT_TIMESTAMP, 'yyyy-MM-dd''T''HH:mm:ss'),
         NULL,
+        1,
         10000,
         CURRENT_TIMESTAMP
     );
@@ -69,4 +71,11 @@ VALUES
         CURRENT_TIMESTAMP
     );
 
+-- 만료일별 잔여 포인트 요약 (초기 wallet 기준)
+INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+SELECT member_id, expire_date, SUM(issued_amount - used_amount)
+FROM point_wallet
+WHERE wallet_status = '00'
+GROUP BY member_id, expire_date;
+
 COMMIT;
\ No newline at end of file
@@ -0,0 +1,34 @@
+-- point_log / point_use_detail / point_wallet ID 채번 IDENTITY -> 시퀀스(pooled, 50개 단위) 전환 (MySQL 운영 DB 1회 적용)
+--
+-- 적용 순서
+-- 1. 구 버전 인스턴스 중지 (AUTO_INCREMENT 로 INSERT 하는 인스턴스가 없어야 함)
+-- 2. 아래 스크립트 실행
+--    - MySQL 은 시퀀스가 없어 Hibernate 가 같은 이름의 테이블(next_val 1행)로 대체
+--    - next_val 은 MAX(id) + 51 로 초기화 (pooled optimizer 는 next_val - 49 부터 할당하므로 기존 ID 와 겹치지 않음)
+--    - AUTO_INCREMENT 제거 : 모든 INSERT 가 ID 를 명시 (엔티티 / JDBC batch 모두 EntityIdAllocator 와 같은 generator 사용)
+-- 3. 신 버전 배포
+
+CREATE TABLE point_log_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO point_log_seq (next_val)
+SELECT COALESCE(MAX(log_id), 0) + 51 FROM point_log;
+
+CREATE TABLE point_use_detail_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO point_use_detail_seq (next_val)
+SELECT COALESCE(MAX(use_id), 0) + 51 FROM point_use_detail;
+
+CREATE TABLE point_wallet_seq
+(
+    next_val BIGINT NOT NULL
+);
+INSERT INTO point_wallet_seq (next_val)
+SELECT COALESCE(MAX(wallet_id), 0) + 51 FROM point_wallet;
+
+ALTER TABLE point_log MODIFY log_id BIGINT NOT NULL COMMENT '거래 ID';
+ALTER TABLE point_use_detail MODIFY use_id BIGINT NOT NULL COMMENT '거래 ID';
+ALTER TABLE point_wallet MODIFY wallet_id BIGINT NOT NULL COMMENT '포인트 지갑 ID';
@@ -0,0 +1,35 @@
+-- 사용승인 로그 취소 가능 잔여 금액 (MySQL 운영 DB 1회 적용)
+--
+-- 적용 순서
+-- 1. 컬럼 추가 (NULL 허용, 기존 로그는 NULL)
+-- 2. 애플리케이션 배포 : 잔여 금액이 NULL 인 사용승인은 최초 취소 시 Row Lock 상태에서 누적 합계로 초기화
+-- 3. 구 버전 인스턴스가 모두 내려간 뒤 backfill 실행
+--    - 신 버전은 취소 로그 기록 전에 항상 잔여 금액을 먼저 초기화하므로
+--      backfill 시점에 NULL 인 로그는 신 버전 취소가 없었던 로그 (IS NULL 조건으로 덮어쓰기 방지)
+--    - 사용 상세(point_use_detail.wallet_id)가 있는 주문은 상세별 잔여 금액으로 취소하므로 대상에서 제외
+--    - 대량 테이블은 log_id 구간(:fromLogId ~ :toLogId)을 나누어 반복 실행
+--      (취소 합계도 구간 내 사용승인 주문만 idx_point_log_order 로 집계, MySQL 은 UPDATE 대상 테이블의 상관 서브쿼리 불가)
+
+ALTER TABLE point_log
+    ADD COLUMN cancelable_amount BIGINT NULL
+        COMMENT '사용 취소 가능 잔여 금액 (사용 상세 없는 사용승인만, 그 외 / 미초기화 NULL)'
+        AFTER amount;
+
+UPDATE point_log ua
+    LEFT JOIN (SELECT c.order_no, SUM(c.amount) AS canceled_amount
+               FROM point_log a
+                        JOIN point_log c
+                             ON c.order_no = a.order_no
+                                 AND c.log_type = 'UC'
+               WHERE a.log_type = 'UA'
+                 AND a.log_id BETWEEN :fromLogId AND :toLogId
+               GROUP BY c.order_no) uc
+    ON uc.order_no = ua.order_no
+SET ua.cancelable_amount = ua.amount - COALESCE(uc.canceled_amount, 0)
+WHERE ua.log_type = 'UA'
+  AND ua.log_id BETWEEN :fromLogId AND :toLogId
+  AND ua.cancelable_amount IS NULL
+  AND NOT EXISTS (SELECT 1
+                  FROM point_use_detail d
+                  WHERE d.order_no = ua.order_no
+                    AND d.wallet_id IS NOT NULL);
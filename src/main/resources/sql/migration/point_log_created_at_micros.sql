@@ -0,0 +1,13 @@
+-- point_log 처리 순서 기준 (MySQL 운영 DB 1회 적용)
+--
+-- log_id 는 노드별 pooled 시퀀스 할당(저널 모드는 drain 시점 할당)이라 노드 간 시간 순서가 아니므로
+-- 재계산 / 아카이브는 (created_at, log_id) 순으로 읽음
+--
+-- 적용 순서
+-- 1. created_at 마이크로초 확장 + 순서 인덱스 추가 (기존 로그는 초 단위 값 유지, 같은 초 안에서는 log_id 순)
+-- 2. 애플리케이션 배포 : 신규 로그는 회원 Lock 보유 중 마이크로초 시각으로 기록
+-- 3. 노드 간 시계 동기화(NTP) 필수 : 시계 차이가 같은 회원의 연속 요청 간격보다 작아야 순서가 보장됨
+
+ALTER TABLE point_log
+    MODIFY COLUMN created_at DATETIME(6) NOT NULL COMMENT '등록일시 (마이크로초, 로그 처리 순서 기준)',
+    ADD INDEX idx_point_log_created (created_at, log_id);
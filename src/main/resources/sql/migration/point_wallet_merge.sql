@@ -0,0 +1,20 @@
+-- 자동지급 wallet 병합 이력 (MySQL 운영 DB 1회 적용)
+--
+-- 적용 순서
+-- 1. 아래 스크립트 실행 (신규 테이블 / 코멘트만 변경, 기존 데이터 변경 없음)
+-- 2. 신 버전 배포 (point.wallet-compaction.enabled=true 인 인스턴스에서 병합 배치 실행)
+--    - 구 버전 인스턴스는 병합 상태('30') wallet 을 적립 취소하지 못함(MP009) → 구 버전이 모두 내려간 뒤 배치 활성화
+
+ALTER TABLE point_wallet
+    MODIFY wallet_status CHAR(2) DEFAULT '00' NOT NULL COMMENT '지갑 상태 (00:보관, 10:취소 , 20:만료, 30:병합)';
+
+CREATE TABLE point_wallet_merge
+(
+    source_wallet_id BIGINT      NOT NULL COMMENT '원 wallet ID',
+    merged_wallet_id BIGINT      NOT NULL COMMENT '병합 wallet ID',
+    member_id        BIGINT      NOT NULL COMMENT '회원 ID',
+    amount           BIGINT      NOT NULL COMMENT '병합 금액 (원 wallet 지급 금액)',
+    created_at       DATETIME(0) NOT NULL COMMENT '병합일시',
+    PRIMARY KEY (source_wallet_id),
+    INDEX idx_point_wallet_merge_merged (merged_wallet_id)
+);
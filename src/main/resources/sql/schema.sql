@@ -4,50 +4,122 @@ CREATE TABLE member
     member_name   VARCHAR(50) COMMENT '회원명',
     point_balance BIGINT DEFAULT 0 COMMENT '보유 포인트',
     created_at    DATETIME(0) NOT NULL COMMENT '등록일시',
+    version       BIGINT DEFAULT 0 NOT NULL COMMENT '낙관적 잠금 버전 (잔액 / wallet 변경 시 증가)',
     PRIMARY KEY (member_id)
 );
 CREATE TABLE order_sequence_log
 (
-    order_date CHAR(15)  NOT NULL COMMENT '주문일자 YYYYMMdd',
-    seq        INT       NOT NULL COMMENT '주문번호 시퀀스',
+    order_date CHAR(16)  NOT NULL COMMENT '주문일시 yyyyMMddHHmmss + 노드ID(2)',
+    seq        INT       NOT NULL COMMENT '마지막으로 임대(lease)된 주문번호 시퀀스',
     created_at TIMESTAMP NOT NULL COMMENT '작성일자',
     PRIMARY KEY (order_date)
 );
+-- point_log / point_use_detail / point_wallet ID 시퀀스 (Hibernate pooled optimizer, INCREMENT = allocationSize)
+-- 시퀀스 값 1개당 ID 50개 구간을 한 번에 할당, SQL 로 직접 INSERT 하는 행은 DEFAULT 로 시퀀스 값 1개를 사용
+CREATE SEQUENCE point_log_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE point_use_detail_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE point_wallet_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE point_log
 (
-    log_id     BIGINT AUTO_INCREMENT COMMENT '거래 ID',
+    log_id     BIGINT DEFAULT NEXT VALUE FOR point_log_seq COMMENT '거래 ID',
     member_id  BIGINT      NOT NULL COMMENT '회원 ID',
     log_type   CHAR(2)     NOT NULL COMMENT '거래 구분 코드',
     log_at     CHAR(20)    NOT NULL COMMENT '거래일시',
     order_no   VARCHAR(20) COMMENT '주문 번호',
+    wallet_id  BIGINT COMMENT '대상 wallet ID (적립승인 / 적립취소, 그 외 NULL)',
     amount     BIGINT      NOT NULL COMMENT '요청 금액',
-    created_at DATETIME(0) NOT NULL COMMENT '등록일시',
+    cancelable_amount BIGINT COMMENT '사용 취소 가능 잔여 금액 (사용 상세 없는 사용승인만, 그 외 / 미초기화 NULL)',
+    created_at DATETIME(6) NOT NULL COMMENT '등록일시 (마이크로초, 로그 처리 순서 기준)',
     PRIMARY KEY (log_id)
 );
+-- 처리 순서 조회 (재계산 keyset / 아카이브 월 조회) : log_id 는 노드별 pooled 할당이라 시간 순서가 아님
+CREATE INDEX idx_point_log_created ON point_log (created_at, log_id);
+-- 주문번호 기준 사용승인 조회 / 사용취소 누적금액 합계 (amount 포함 커버링)
+CREATE INDEX idx_point_log_order ON point_log (order_no, log_type, amount);
+-- 저널 모드 커밋 표시 : 업무 트랜잭션과 같이 커밋되어야 drainer 가 저널 레코드를 point_log 로 옮김 (옮긴 뒤 삭제)
+CREATE TABLE point_log_journal_commit
+(
+    node_id     INT    NOT NULL COMMENT '저널 노드 ID (order.node-id)',
+    journal_seq BIGINT NOT NULL COMMENT '저널 레코드 seq',
+    PRIMARY KEY (node_id, journal_seq)
+);
 CREATE TABLE point_use_detail
 (
-    use_id      BIGINT AUTO_INCREMENT COMMENT '거래 ID',
-    order_no    VARCHAR(20) NOT NULL COMMENT '주문 번호',
-    used_amount BIGINT      NOT NULL COMMENT '사용 금액',
-    created_at  DATETIME(0) NOT NULL,
+    use_id            BIGINT DEFAULT NEXT VALUE FOR point_use_detail_seq COMMENT '거래 ID',
+    order_no          VARCHAR(20) NOT NULL COMMENT '주문 번호',
+    wallet_id         BIGINT COMMENT '차감 wallet ID (wallet 단위 기록 이전 데이터는 NULL)',
+    used_amount       BIGINT      NOT NULL COMMENT '사용 금액',
+    cancelable_amount BIGINT DEFAULT 0 NOT NULL COMMENT '사용 취소 가능 잔여 금액',
+    created_at        DATETIME(0) NOT NULL,
     PRIMARY KEY (use_id)
 );
+-- 주문번호 기준 wallet 단위 사용 상세 조회 (사용 취소)
+CREATE INDEX idx_point_use_detail_order ON point_use_detail (order_no, use_id);
 CREATE TABLE point_wallet
 (
-    wallet_id     BIGINT AUTO_INCREMENT COMMENT '포인트 지갑 ID',
+    wallet_id     BIGINT DEFAULT NEXT VALUE FOR point_wallet_seq COMMENT '포인트 지갑 ID',
     member_id     BIGINT               NOT NULL COMMENT '회원 ID',
     issued_amount BIGINT               NOT NULL COMMENT '지급 금액',
     used_amount   BIGINT  DEFAULT 0 COMMENT '사용 금액',
-    wallet_status CHAR(2) DEFAULT '00' NOT NULL COMMENT '지갑 상태 (00:보관, 10:취소 , 20:만료)',
+    wallet_status CHAR(2) DEFAULT '00' NOT NULL COMMENT '지갑 상태 (00:보관, 10:취소 , 20:만료, 30:병합)',
     expire_date   DATE                 NOT NULL COMMENT '만료 일자',
     source_type   CHAR(2)              NOT NULL COMMENT '지급 출처',
     created_at    DATETIME(0)          NOT NULL COMMENT '등록일시',
+    use_priority  TINYINT GENERATED ALWAYS AS (CASE WHEN source_type = 'MA' THEN 0 ELSE 1 END) COMMENT '사용 우선순위 (0:관리자 수기지급, 1:그 외)',
     PRIMARY KEY (wallet_id)
 );
+-- 사용 가능 wallet 조회 (member_id, wallet_status 필터 + 수기지급 우선 → 만료일 순 정렬을 인덱스 순서로 처리)
+CREATE INDEX idx_point_wallet_usable ON point_wallet (member_id, wallet_status, use_priority, expire_date, wallet_id);
+-- 만료 배치 keyset 조회 (wallet_status = '00' AND expire_date < ? ORDER BY expire_date, wallet_id)
+CREATE INDEX idx_point_wallet_status_expire ON point_wallet (wallet_status, expire_date, wallet_id);
+-- wallet 병합 이력 (원 wallet → 병합 wallet, 원 wallet 은 wallet_status = '30' 으로 보존)
+CREATE TABLE point_wallet_merge
+(
+    source_wallet_id BIGINT      NOT NULL COMMENT '원 wallet ID',
+    merged_wallet_id BIGINT      NOT NULL COMMENT '병합 wallet ID',
+    member_id        BIGINT      NOT NULL COMMENT '회원 ID',
+    amount           BIGINT      NOT NULL COMMENT '병합 금액 (원 wallet 지급 금액)',
+    created_at       DATETIME(0) NOT NULL COMMENT '병합일시',
+    PRIMARY KEY (source_wallet_id)
+);
+CREATE INDEX idx_point_wallet_merge_merged ON point_wallet_merge (merged_wallet_id);
+-- 회원 / 만료일별 잔여 포인트 요약 (정상 wallet 의 issued_amount - used_amount 합계, 포인트 변경 트랜잭션에서 증감)
+CREATE TABLE point_expiry_bucket
+(
+    member_id     BIGINT NOT NULL COMMENT '회원 ID',
+    expire_date   DATE   NOT NULL COMMENT '만료 일자',
+    remain_amount BIGINT NOT NULL COMMENT '잔여 포인트',
+    PRIMARY KEY (member_id, expire_date)
+);
 
 CREATE TABLE point_policy
 (
-    policy_key   VARCHAR(50) PRIMARY KEY COMMENT '정책 키',
-    policy_value BIGINT NOT NULL COMMENT '정책 값',
-    description  VARCHAR(200) COMMENT '설명'
+    policy_key     VARCHAR(50) PRIMARY KEY COMMENT '정책 키',
+    policy_value   BIGINT NOT NULL COMMENT '정책 값',
+    description    VARCHAR(200) COMMENT '설명',
+    policy_version BIGINT DEFAULT 1 NOT NULL COMMENT '정책 버전 (값 변경 시 증가)'
+);
+
+CREATE TABLE idempotency_key
+(
+    idem_key      VARCHAR(100) NOT NULL COMMENT 'Idempotency-Key 헤더 값',
+    request_hash  CHAR(64)     NOT NULL COMMENT '요청 해시 (method + URI + body, SHA-256)',
+    key_status    CHAR(1)      NOT NULL COMMENT '처리 상태 (P:처리중, A:반영(응답 보관 전), C:완료)',
+    http_status   INT COMMENT '최초 응답 HTTP 상태',
+    response_body MEDIUMTEXT COMMENT '최초 응답 (ProcessResult JSON)',
+    created_at    DATETIME(0)  NOT NULL COMMENT '등록일시',
+    expires_at    DATETIME(0)  NOT NULL COMMENT '만료일시 (TTL)',
+    PRIMARY KEY (idem_key)
+);
+CREATE INDEX idx_idempotency_key_expires ON idempotency_key (expires_at);
+
+CREATE TABLE batch_checkpoint
+(
+    job_name        VARCHAR(50) NOT NULL COMMENT '배치 작업명',
+    run_status      CHAR(1)     NOT NULL COMMENT '실행 상태 (R:진행중, C:완료)',
+    last_key_date   DATE COMMENT '마지막 처리 키 (일자)',
+    last_key_id     BIGINT COMMENT '마지막 처리 키 (ID)',
+    processed_count BIGINT DEFAULT 0 NOT NULL COMMENT '현재 실행에서 처리한 건수',
+    updated_at      DATETIME(0) NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (job_name)
 );
@@ -0,0 +1,72 @@
+package com.musinsa.sys.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 결과 기록
+ * <p>
+ * - bench.output 디렉터리(기본 benchmark-results)의 history.csv 에 누적 기록
+ * - 같은 suite/metric 의 직전 기록과 비교한 변화율을 함께 출력하여 회귀를 확인
+ */
+public final class BenchmarkRecorder {
+
+    private static final Path HISTORY = Path.of(System.getProperty("bench.output", "benchmark-results"), "history.csv");
+    private static final String HEADER = "recorded_at,suite,metric,value,unit";
+
+    private final String suite;
+    private final String recordedAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    private final Map<String, Double> previous = new HashMap<>();
+
+    public BenchmarkRecorder(String suite) {
+        this.suite = suite;
+        loadPrevious();
+    }
+
+    public void record(String metric, double value, String unit) {
+        Double before = previous.get(metric);
+        String change = before == null || before == 0
+                ? "first run"
+                : String.format("prev %.1f, %+.1f%%", before, (value - before) / before * 100);
+        System.out.printf("[%s] %-45s %12.1f %-6s (%s)%n", suite, metric, value, unit, change);
+
+        append(String.join(",", recordedAt, suite, metric, String.format("%.3f", value), unit));
+        previous.put(metric, value);
+    }
+
+    private void loadPrevious() {
+        if (!Files.exists(HISTORY)) return;
+        try {
+            List<String> lines = Files.readAllLines(HISTORY, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] columns = line.split(",");
+                if (columns.length == 5 && columns[1].equals(suite)) {
+                    previous.put(columns[2], Double.parseDouble(columns[3]));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(String line) {
+        try {
+            Files.createDirectories(HISTORY.getParent());
+            if (!Files.exists(HISTORY)) {
+                Files.writeString(HISTORY, HEADER + System.lineSeparator(), StandardCharsets.UTF_8);
+            }
+            Files.writeString(HISTORY, line + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
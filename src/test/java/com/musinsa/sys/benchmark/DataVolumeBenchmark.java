@@ -0,0 +1,258 @@
+package com.musinsa.sys.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.sys.member.repository.MemberRepository;
+import com.musinsa.sys.point.enums.PointLogType;
+import com.musinsa.sys.point.repository.PointExpirationRepository;
+import com.musinsa.sys.point.repository.PointExpiryBucketRepository;
+import com.musinsa.sys.point.repository.PointLogRepository;
+import com.musinsa.sys.point.repository.PointWalletRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 데이터 규모별 Repository 쿼리 / API 응답시간 측정
+ * <p>
+ * - bench.members / bench.wallets / bench.logs 만큼 seed 후 쿼리별 p50, p99 측정
+ * - bench.dropIndexes=true 이면 point 인덱스를 제거한 상태로 측정 (인덱스 효과 비교용)
+ * - bench.datasource.url 로 파일 DB 등 다른 로컬 DB 지정 가능
+ * ./gradlew benchmark --tests '*DataVolumeBenchmark' -Dbench.logs=10000000 -Dbench.wallets=10000000 -Dbench.heap=8g
+ */
+@Tag("benchmark")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false"
+})
+class DataVolumeBenchmark {
+
+    private static final int MEMBERS = Integer.getInteger("bench.members", 10_000);
+    private static final int WALLETS = Integer.getInteger("bench.wallets", 200_000);
+    private static final int LOGS = Integer.getInteger("bench.logs", 1_000_000);
+    private static final int SAMPLES = Integer.getInteger("bench.samples", 300);
+    private static final boolean DROP_INDEXES = Boolean.getBoolean("bench.dropIndexes");
+    private static final String[] POINT_INDEXES = {
+            "idx_point_wallet_usable", "idx_point_wallet_status_expire", "idx_point_log_order"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PointWalletRepository pointWalletRepository;
+    @Autowired
+    private PointLogRepository pointLogRepository;
+    @Autowired
+    private PointExpirationRepository pointExpirationRepository;
+    @Autowired
+    private PointExpiryBucketRepository pointExpiryBucketRepository;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private BenchmarkRecorder recorder;
+    private long firstMemberId;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String url = System.getProperty("bench.datasource.url");
+        if (url != null) {
+            registry.add("spring.datasource.url", () -> url);
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        String suite = String.format("volume(m=%d,w=%d,l=%d%s)", MEMBERS, WALLETS, LOGS, DROP_INDEXES ? ",no-index" : "");
+        recorder = new BenchmarkRecorder(suite);
+
+        if (DROP_INDEXES) {
+            for (String index : POINT_INDEXES) {
+                jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('bench-', X), 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS);
+        // 회원별 wallet 순번(N = X / members) 기준으로 사용량 / 상태 / 지급출처를 섞는다
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ? + MOD(X, ?),
+                       1000,
+                       CASE MOD(N, 3) WHEN 0 THEN 1000 WHEN 1 THEN 300 ELSE 0 END,
+                       CASE WHEN MOD(N, 10) = 9 THEN '20' ELSE '00' END,
+                       DATEADD('DAY', 1 + MOD(X, 700), CURRENT_DATE),
+                       CASE WHEN MOD(N, 5) = 0 THEN 'MA' ELSE 'AU' END,
+                       CURRENT_TIMESTAMP
+                FROM (SELECT X, X / ? AS N FROM SYSTEM_RANGE(1, ?))
+                """, firstMemberId, MEMBERS, MEMBERS, WALLETS);
+        jdbcTemplate.update("""
+                MERGE INTO member (member_id, point_balance) KEY (member_id)
+                SELECT member_id, SUM(issued_amount - used_amount)
+                FROM point_wallet
+                WHERE member_id >= ? AND wallet_status = '00'
+                GROUP BY member_id
+                """, firstMemberId);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT member_id, expire_date, SUM(issued_amount - used_amount)
+                FROM point_wallet
+                WHERE member_id >= ? AND wallet_status = '00'
+                GROUP BY member_id, expire_date
+                """, firstMemberId);
+        // 4건 단위로 SA, UA, UC, SC 반복 (UA/UC 는 같은 주문번호)
+        jdbcTemplate.update("""
+                INSERT INTO point_log (member_id, log_type, log_at, order_no, amount, created_at)
+                SELECT ? + MOD(X, ?),
+                       CASE MOD(X, 4) WHEN 0 THEN 'SA' WHEN 1 THEN 'UA' WHEN 2 THEN 'UC' ELSE 'SC' END,
+                       FORMATDATETIME(CURRENT_TIMESTAMP, 'yyyy-MM-dd HH:mm:ss'),
+                       CASE WHEN MOD(X, 4) IN (1, 2) THEN CONCAT('B', LPAD(CAST(X / 4 AS VARCHAR), 19, '0')) END,
+                       100,
+                       CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, MEMBERS, LOGS);
+        jdbcTemplate.execute("ANALYZE");
+
+        recorder.record("seed.seconds", (System.nanoTime() - startedAt) / 1_000_000_000.0, "s");
+    }
+
+    @Test
+    void repositoryQueries() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        measure("query.findByMemberIdForUpdate", memberId ->
+                tx.executeWithoutResult(status -> memberRepository.findByMemberIdForUpdate(memberId)));
+        measure("query.findUsableWallets", memberId ->
+                pointWalletRepository.findUsableWallets(memberId));
+        measure("query.findCancelWallets", memberId ->
+                pointWalletRepository.findCancelWallets(memberId));
+        measure("query.findUseLogsByOrderNoForUpdate", memberId ->
+                tx.executeWithoutResult(status -> pointLogRepository.findUseLogsByOrderNoForUpdate(
+                        randomOrderNo(), PointLogType.USE_APPROVAL.getCode())));
+        measure("query.getCanceledAmount", memberId ->
+                pointLogRepository.getCanceledAmount(randomOrderNo(), PointLogType.USE_CANCEL.getCode()));
+        measure("query.findBalance", memberId ->
+                pointExpiryBucketRepository.findBalance(memberId, LocalDate.now(), LocalDate.now().plusDays(30)));
+        measure("query.findExpiringWallets", memberId ->
+                pointExpirationRepository.findExpiringWallets(LocalDate.now(), null, null, 1_000));
+    }
+
+    @Test
+    void endpoints() {
+        DateTimeFormatter logAtFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+        String expireDate = LocalDate.now().plusDays(30).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        measure("api.saving.approval", memberId -> postJson("/point/saving/approval", """
+                {"memberId": %d, "sourceType": "AU", "amount": 10, "logAt": "%s", "expireDate": "%s"}
+                """.formatted(memberId, LocalDateTime.now().format(logAtFormat), expireDate)));
+
+        measure("api.saving.approval+cancel", memberId -> {
+            postJson("/point/saving/approval", """
+                    {"memberId": %d, "sourceType": "AU", "amount": 10, "logAt": "%s", "expireDate": "%s"}
+                    """.formatted(memberId, LocalDateTime.now().format(logAtFormat), expireDate));
+            Long walletId = jdbcTemplate.queryForObject(
+                    "SELECT MAX(wallet_id) FROM point_wallet WHERE member_id = ?", Long.class, memberId);
+            postJson("/point/saving/cancel", """
+                    {"memberId": %d, "amount": 10, "walletId": %d, "logAt": "%s"}
+                    """.formatted(memberId, walletId, LocalDateTime.now().format(logAtFormat)));
+        });
+
+        measure("api.use.approval+cancel", memberId -> {
+            JsonNode approval = postJson("/point/use/approval", """
+                    {"memberId": %d, "amount": 10, "logAt": "%s"}
+                    """.formatted(memberId, LocalDateTime.now().format(logAtFormat)));
+            postJson("/point/use/cancel", """
+                    {"memberId": %d, "amount": 10, "orderNo": "%s", "logAt": "%s"}
+                    """.formatted(memberId, approval.path("rsltObj").path("orderNo").asText(),
+                    LocalDateTime.now().format(logAtFormat)));
+        });
+    }
+
+    @Test
+    void balanceEndpoint() {
+        measure("api.balance", memberId -> {
+            try {
+                mockMvc.perform(get("/point/balance/" + memberId)).andExpect(status().isOk());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 무작위 회원 대상으로 SAMPLES 회 실행 후 p50 / p99 기록
+     */
+    private void measure(String metric, LongConsumer action) {
+        for (int i = 0; i < Math.min(20, SAMPLES); i++) {
+            action.accept(randomMemberId());
+        }
+
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long memberId = randomMemberId();
+            long startedAt = System.nanoTime();
+            action.accept(memberId);
+            nanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(nanos);
+
+        recorder.record(metric + ".p50", nanos[SAMPLES / 2] / 1_000.0, "us");
+        recorder.record(metric + ".p99", nanos[(int) (SAMPLES * 0.99)] / 1_000.0, "us");
+    }
+
+    private JsonNode postJson(String uri, String body) {
+        try {
+            String response = mockMvc.perform(post(uri)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            return objectMapper.readTree(response);
+        } catch (Exception e) {
+            throw new IllegalStateException(uri + " failed : " + body, e);
+        }
+    }
+
+    private long randomMemberId() {
+        return firstMemberId + random.nextInt(MEMBERS);
+    }
+
+    private String randomOrderNo() {
+        return "B" + String.format("%019d", random.nextInt(Math.max(1, LOGS / 4)));
+    }
+}
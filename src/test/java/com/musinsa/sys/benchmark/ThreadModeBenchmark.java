@@ -0,0 +1,218 @@
+package com.musinsa.sys.benchmark;
+
+import com.musinsa.sys.PointSysApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 처리 스레드 모드별 처리량 / 응답시간 비교 (인기 회원 경합)
+ * <p>
+ * - platform         : Tomcat 기본 스레드 풀 (max 200)
+ * - virtual          : Virtual Thread, 동시 처리 제한 없음 (커넥션 풀 대기로 몰림)
+ * - virtual+limiter  : Virtual Thread + ConcurrencyLimitFilter (커넥션 풀 크기 기준)
+ * - 전체 클라이언트 중 bench.hotRatio 비율은 인기 회원 1명에게 사용승인, 나머지는 일반 회원 적립승인
+ * - 모드마다 별도 H2 DB 로 애플리케이션을 띄워 실제 HTTP 로 측정
+ * ./gradlew benchmark --tests '*ThreadModeBenchmark' -Dbench.clients=200 -Dbench.durationMillis=20000
+ */
+@Tag("benchmark")
+class ThreadModeBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 32);
+    private static final double HOT_RATIO = Double.parseDouble(System.getProperty("bench.hotRatio", "0.25"));
+    private static final int COLD_MEMBERS = Integer.getInteger("bench.coldMembers", 200);
+    private static final int POOL_SIZE = Integer.getInteger("bench.poolSize", 10);
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmupMillis", 5_000);
+    private static final long DURATION_MILLIS = Long.getLong("bench.durationMillis", 10_000);
+    private static final DateTimeFormatter LOG_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        BenchmarkRecorder recorder = new BenchmarkRecorder(
+                String.format("thread-mode(c=%d,hot=%.2f,pool=%d)", CLIENTS, HOT_RATIO, POOL_SIZE));
+
+        run("platform", false, false, recorder);
+        run("virtual", true, false, recorder);
+        run("virtual+limiter", true, true, recorder);
+    }
+
+    private void run(String mode, boolean virtualThreads, boolean limiter, BenchmarkRecorder recorder) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PointSysApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:thread-mode-" + mode.replace('+', '-') + ";MODE=MYSQL;LOCK_TIMEOUT=10000",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.hikari.connection-timeout=3000",
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                        "logging.level.com.musinsa.sys.common.handler=WARN",
+                        "point.expiration.enabled=false",
+                        "point.member-lock.enabled=true",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "point.concurrency-limit.enabled=" + limiter,
+                        "point.concurrency-limit.wait-ms=10000",
+                        "point.virtual-thread.pinning-monitor.enabled=" + virtualThreads)
+                .run();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            long[] members = seed(context.getBean(JdbcTemplate.class));
+            Result result = load(client, "http://localhost:" + port, members);
+
+            System.out.printf("[thread-mode] %-16s hot %6.0f ops/s, cold %6.0f ops/s, cold p50 %6.1fms p99 %7.1fms, errors=%d%n",
+                    mode, result.hotOpsPerSec(), result.coldOpsPerSec(), result.coldPercentile(0.5), result.coldPercentile(0.99),
+                    result.errors.get());
+            recorder.record(mode + ".hot.ops", result.hotOpsPerSec(), "ops/s");
+            recorder.record(mode + ".cold.ops", result.coldOpsPerSec(), "ops/s");
+            recorder.record(mode + ".cold.p99", result.coldPercentile(0.99), "ms");
+            recorder.record(mode + ".errors", result.errors.get(), "count");
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * @return [0] 인기 회원, [1..] 일반 회원
+     */
+    private long[] seed(JdbcTemplate jdbcTemplate) {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('thread-', X), 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(0, ?)
+                """, COLD_MEMBERS);
+
+        // 인기 회원은 사용승인만 받으므로 충분한 잔액을 wallet 1건으로 지급
+        long hotBalance = 1_000_000_000L;
+        jdbcTemplate.update("UPDATE member SET point_balance = ? WHERE member_id = ?", hotBalance, firstMemberId);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, ?, 0, '00', ?, 'MA', CURRENT_TIMESTAMP)
+                """, firstMemberId, hotBalance, LocalDate.now().plusYears(1));
+        jdbcTemplate.update("INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount) VALUES (?, ?, ?)",
+                firstMemberId, LocalDate.now().plusYears(1), hotBalance);
+
+        long[] members = new long[COLD_MEMBERS + 1];
+        for (int i = 0; i <= COLD_MEMBERS; i++) {
+            members[i] = firstMemberId + i;
+        }
+        return members;
+    }
+
+    private Result load(HttpClient client, String baseUrl, long[] members) throws Exception {
+        int hotClients = (int) Math.round(CLIENTS * HOT_RATIO);
+        String expireDate = LocalDate.now().plusDays(30).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        Result result = new Result();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                boolean hot = c < hotClients;
+                futures.add(executor.submit(() -> {
+                    while (running.get()) {
+                        HttpRequest request = hot
+                                ? post(baseUrl + "/point/use/approval", """
+                                {"memberId": %d, "amount": 1, "logAt": "%s"}
+                                """.formatted(members[0], LocalDateTime.now().format(LOG_AT)))
+                                : post(baseUrl + "/point/saving/approval", """
+                                {"memberId": %d, "sourceType": "AU", "amount": 1, "logAt": "%s", "expireDate": "%s"}
+                                """.formatted(members[1 + ThreadLocalRandom.current().nextInt(COLD_MEMBERS)],
+                                LocalDateTime.now().format(LOG_AT), expireDate));
+
+                        long startedAt = System.nanoTime();
+                        boolean success;
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            success = response.statusCode() == 200 && response.body().contains("\"MP000\"");
+                        } catch (Exception e) {
+                            success = false;
+                        }
+                        long elapsed = System.nanoTime() - startedAt;
+
+                        if (!measuring.get()) continue;
+                        if (!success) {
+                            result.errors.incrementAndGet();
+                        } else if (hot) {
+                            result.hotOps.incrementAndGet();
+                        } else {
+                            result.coldOps.incrementAndGet();
+                            result.coldLatencies.add(elapsed);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            Thread.sleep(WARMUP_MILLIS);
+            measuring.set(true);
+            Thread.sleep(DURATION_MILLIS);
+            measuring.set(false);
+            running.set(false);
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return result;
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static class Result {
+        final AtomicLong hotOps = new AtomicLong();
+        final AtomicLong coldOps = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final ConcurrentLinkedQueue<Long> coldLatencies = new ConcurrentLinkedQueue<>();
+
+        double hotOpsPerSec() {
+            return hotOps.get() * 1000.0 / DURATION_MILLIS;
+        }
+
+        double coldOpsPerSec() {
+            return coldOps.get() * 1000.0 / DURATION_MILLIS;
+        }
+
+        double coldPercentile(double percentile) {
+            long[] nanos = coldLatencies.stream().mapToLong(Long::longValue).toArray();
+            if (nanos.length == 0) return 0;
+            Arrays.sort(nanos);
+            return nanos[Math.min(nanos.length - 1, (int) (nanos.length * percentile))] / 1_000_000.0;
+        }
+    }
+}
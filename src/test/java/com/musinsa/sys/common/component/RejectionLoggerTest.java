@@ -0,0 +1,94 @@
+package com.musinsa.sys.common.component;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RejectionLoggerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RejectionLogger.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final RejectionLogger rejectionLogger = new RejectionLogger(3, clock);
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void logsUpToPermitsPerSecondAndReportsSuppressedCountInTheNextSecond() {
+        for (int i = 0; i < 5; i++) {
+            rejectionLogger.log("MP010", "POST", "/point/use/approval");
+        }
+
+        // 초당 3건까지만 기록
+        assertThat(messages()).containsExactly(
+                "rejected procCd=MP010 method=POST uri=/point/use/approval",
+                "rejected procCd=MP010 method=POST uri=/point/use/approval",
+                "rejected procCd=MP010 method=POST uri=/point/use/approval");
+
+        // 다음 구간 첫 로그 전에 생략 건수 1줄
+        clock.plusMillis(1_000);
+        rejectionLogger.log("MP002", "POST", "/point/saving/approval");
+
+        assertThat(messages()).hasSize(5).endsWith(
+                "rejected logs suppressed=2",
+                "rejected procCd=MP002 method=POST uri=/point/saving/approval");
+
+        // 생략이 없던 구간은 생략 건수를 남기지 않음
+        clock.plusMillis(1_000);
+        rejectionLogger.log("MP004", "POST", "/point/saving/approval");
+
+        assertThat(messages()).hasSize(6).last().isEqualTo("rejected procCd=MP004 method=POST uri=/point/saving/approval");
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plusMillis(long millis) {
+            instant = instant.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.musinsa.sys.common.datasource;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * primary / replica 라우팅 확인 (H2 2개, 복제 없음)
+ * <p>
+ * - 쓰기는 primary 에만 반영되고, readOnly 조회는 replica 에서 읽음
+ * - 거래 직후 sticky-ms 동안은 같은 회원 조회를 primary 에서 읽음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MYSQL",
+        "point.datasource.replica.enabled=true",
+        "point.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "point.datasource.replica.sticky-ms=300",
+        "point.balance.cache.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.expiration.enabled=false"
+})
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replicaJdbcTemplate;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('routing-test', 0, CURRENT_TIMESTAMP)");
+        memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    @Test
+    void readOnlyQueriesGoToReplica() {
+        // primary 에만 있는 회원
+        assertThatThrownBy(() -> pointFacade.getBalance(memberId))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("HB001");
+
+        replicateMember(300);
+        assertThat(pointFacade.getBalance(memberId).getAvailableAmount()).isEqualTo(300L);
+    }
+
+    @Test
+    void readsOwnWritesFromPrimaryWithinStickyWindow() throws InterruptedException {
+        replicateMember(300);
+        saving(1_000);
+
+        assertThat(replicaJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_wallet WHERE member_id = ?", Long.class, memberId)).isZero();
+        assertThat(pointFacade.getBalance(memberId).getAvailableAmount()).isEqualTo(1_000L);
+
+        Thread.sleep(400);
+        assertThat(pointFacade.getBalance(memberId).getAvailableAmount()).isEqualTo(300L);
+    }
+
+    /**
+     * 복제가 지연된 상태를 흉내내어 replica 에 회원 / 만료 버킷을 직접 기록
+     */
+    private void replicateMember(long remainAmount) {
+        replicaJdbcTemplate.update("INSERT INTO member (member_id, member_name, point_balance, created_at) VALUES (?, 'routing-test', ?, CURRENT_TIMESTAMP)",
+                memberId, remainAmount);
+        replicaJdbcTemplate.update("INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount) VALUES (?, ?, ?)",
+                memberId, LocalDate.now().plusYears(1), remainAmount);
+    }
+
+    private void saving(long amount) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(LocalDate.now().plusYears(1));
+        pointFacade.savingApproval(req);
+    }
+}
@@ -0,0 +1,109 @@
+package com.musinsa.sys.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 처리 제한 (허용 1개 = pool 3 - reserved 2)
+ */
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new ObjectMapper(), meterRegistry, true, 3, 2, 50);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejectsWithMp015AfterWaitWhenPermitsRunOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<MockHttpServletResponse> holder = hold("/point/use/approval", release);
+
+        MockHttpServletResponse response = perform("/point/saving/approval", (request, resp) -> {
+            throw new IllegalStateException("must not run");
+        });
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("\"rsltCd\":\"MP015\"");
+        assertThat(meterRegistry.get("point.concurrency.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void releasesThePermitWhenTheChainThrows() throws Exception {
+        assertThatThrownBy(() -> perform("/point/use/approval", (request, response) -> {
+            throw new IllegalStateException("chain failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        AtomicInteger calls = new AtomicInteger();
+        MockHttpServletResponse response = perform("/point/use/approval", (request, resp) -> calls.incrementAndGet());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("point.concurrency.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    void doesNotLimitOtherPathsOrLongRunningAdminJobs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<MockHttpServletResponse> holder = hold("/point/use/approval", release);
+
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain counting = (request, response) -> calls.incrementAndGet();
+        assertThat(perform("/actuator/health", counting).getStatus()).isEqualTo(200);
+        assertThat(perform("/admin/point/replay", counting).getStatus()).isEqualTo(200);
+        assertThat(perform("/admin/point/reconciliation", counting).getStatus()).isEqualTo(200);
+        assertThat(perform("/admin/point/wallet-compaction", counting).getStatus()).isEqualTo(200);
+        assertThat(calls).hasValue(4);
+
+        // 그 밖의 /admin/** 은 제한
+        assertThat(perform("/admin/point/policy/refresh", counting).getStatus()).isEqualTo(503);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 다른 스레드의 요청이 허용 1개를 잡고 release 까지 대기 (chain 진입 후 반환)
+     */
+    private Future<MockHttpServletResponse> hold(String uri, CountDownLatch release) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        Future<MockHttpServletResponse> holder = executor.submit(() -> perform(uri, (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        return holder;
+    }
+
+    private MockHttpServletResponse perform(String uri, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,227 @@
+package com.musinsa.sys.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.sys.common.component.IdempotencyStore;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.service.PointFacade;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class IdempotencyFilterTest {
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(idempotencyFilter).build();
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('idempotency-test', 0, CURRENT_TIMESTAMP)");
+        memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    @Test
+    void replaysTheFirstResponseWithoutWritingAgain() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = savingBody(1_000);
+        double localHitsBefore = localHits();
+
+        mockMvc.perform(post("/point/saving/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rsltCd").value("MP000"));
+
+        mockMvc.perform(post("/point/saving/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.rsltCd").value("MP000"))
+                .andExpect(jsonPath("$.rsltObj.amount").value(1_000));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(1_000);
+        assertThat(localHits()).isEqualTo(localHitsBefore + 1);
+    }
+
+    @Test
+    void rejectsADifferentRequestWithTheSameKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(post("/point/saving/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(savingBody(1_000)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/point/saving/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(savingBody(2_000)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.rsltCd").value("MP017"));
+    }
+
+    @Test
+    void releasesTheKeyWhenTheRequestFails() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String useBody = """
+                {"memberId": %d, "amount": 500, "logAt": "%s"}
+                """.formatted(memberId, LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")));
+
+        // 잔액 부족 → 키 해제
+        mockMvc.perform(post("/point/use/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(useBody))
+                .andExpect(jsonPath("$.rsltCd").value("MP010"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_key WHERE idem_key = ?", Long.class, key))
+                .isZero();
+
+        // 적립 후 같은 키로 재시도 → 정상 처리
+        mockMvc.perform(post("/point/saving/approval")
+                        .contentType(MediaType.APPLICATION_JSON).content(savingBody(1_000)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/point/use/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(useBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rsltCd").value("MP000"));
+    }
+
+    @Test
+    void keepsTheResponseCommittedWithTheChangeWhenTheNodeStopsBeforeResponding() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = savingBody(1_000);
+        String requestHash = hash("/point/saving/approval", body);
+
+        // 필터 선점 → 업무 처리 커밋 → 필터 후처리(응답 보관 / 해제) 전에 노드 종료
+        assertThat(idempotencyStore.begin(key, requestHash)).isNull();
+        idempotencyStore.bind(key, requestHash);
+        try {
+            pointFacade.savingApproval(objectMapper.readValue(body, PointSavingApprovalReq.class));
+        } finally {
+            idempotencyStore.unbind();
+        }
+
+        // 응답이 업무 변경과 함께 커밋되어 처리중 시간 초과로 회수되지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT key_status FROM idempotency_key WHERE idem_key = ?", String.class, key))
+                .isEqualTo("C");
+
+        mockMvc.perform(post("/point/saving/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.rsltCd").value("MP000"))
+                .andExpect(jsonPath("$.rsltObj.amount").value(1_000));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(1_000);
+    }
+
+    /**
+     * 비동기(ReadListener) 방식으로 본문을 읽는 하위 필터도 보관된 본문 전체를 읽고 완료 통지를 받음
+     */
+    @Test
+    void notifiesReadListenersWithTheCachedBody() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = savingBody(300);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        Filter listenerReader = (request, response, chain) -> {
+            ServletInputStream inputStream = request.getInputStream();
+            inputStream.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[64];
+                    while (inputStream.isReady() && !inputStream.isFinished()) {
+                        int read = inputStream.read(buffer);
+                        if (read < 0) break;
+                        received.write(buffer, 0, read);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            });
+            chain.doFilter(request, response);
+        };
+        MockMvc listenerMockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(idempotencyFilter, listenerReader).build();
+
+        listenerMockMvc.perform(post("/point/saving/approval").header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rsltCd").value("MP000"));
+
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(allDataRead).isTrue();
+    }
+
+    private String savingBody(long amount) {
+        return """
+                {"memberId": %d, "sourceType": "AU", "amount": %d, "logAt": "%s", "expireDate": "%s"}
+                """.formatted(memberId, amount,
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")),
+                LocalDate.now().plusDays(30).format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+
+    private double localHits() {
+        return meterRegistry.get("point.idempotency.requests").tag("result", "local_hit").counter().count();
+    }
+
+    // IdempotencyFilter 와 같은 요청 해시 (method + URI + body)
+    private static String hash(String uri, String body) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update("POST".getBytes(StandardCharsets.UTF_8));
+        digest.update(uri.getBytes(StandardCharsets.UTF_8));
+        digest.update(body.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,205 @@
+package com.musinsa.sys.member.component;
+
+import com.musinsa.sys.PointSysApplication;
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.common.enums.ProcessCode;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.batch.PointReconciliationJob;
+import com.musinsa.sys.point.dto.PointReconciliationReport;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointFacade;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 동시성 제어 방식(pessimistic / optimistic) 별 처리량 비교
+ * <p>
+ * - bench.threads 개 스레드가 bench.memberCounts 명 중 무작위 회원에게 적립 / 사용을 반복 (회원 수가 적을수록 경합 증가, 1 = 인기 회원 1명)
+ * - 모드마다 별도 H2 DB 로 애플리케이션을 띄워 PointFacade 로 호출 (낙관적 모드 재시도 포함)
+ * - 구간마다 회원 잔액 = 정상 wallet 잔여 합계, 총 잔액 = 초기 잔액 + 성공 적립 - 성공 사용 인지 확인
+ * ./gradlew benchmark --tests '*MemberConcurrencyBenchmark' -Dbench.threads=16 -Dbench.memberCounts=10000,100,10,1
+ */
+@Tag("benchmark")
+class MemberConcurrencyBenchmark {
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 8);
+    private static final int[] MEMBER_COUNTS = Arrays.stream(System.getProperty("bench.memberCounts", "1000,16,4,1").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmupMillis", 3_000);
+    private static final long DURATION_MILLIS = Long.getLong("bench.durationMillis", 3_000);
+    private static final long INITIAL_BALANCE = 100_000L;      // 보유 한도(POINT_BALANCE_MAX) 이내
+
+    @Test
+    void pessimisticVersusOptimistic() {
+        BenchmarkRecorder recorder = new BenchmarkRecorder(String.format("member-concurrency(threads=%d)", THREADS));
+        for (String mode : List.of("pessimistic", "optimistic")) {
+            run(mode, recorder);
+        }
+    }
+
+    private void run(String mode, BenchmarkRecorder recorder) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PointSysApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:member-concurrency-" + mode + ";MODE=MYSQL;LOCK_TIMEOUT=10000",
+                        "--spring.datasource.hikari.maximum-pool-size=" + (THREADS + 2),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                        "--point.expiration.enabled=false",
+                        "--point.reconciliation.enabled=false",
+                        "--point.balance.cache.enabled=false",
+                        "--point.member-concurrency.mode=" + mode);
+
+        try {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            PointFacade pointFacade = context.getBean(PointFacade.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            // JIT / 커넥션 warm-up (경합 없는 회원 구간)
+            load(pointFacade, seed(jdbcTemplate, 1000), 1000, WARMUP_MILLIS);
+
+            for (int memberCount : MEMBER_COUNTS) {
+                long firstMemberId = seed(jdbcTemplate, memberCount);
+                double retriesBefore = meterRegistry.counter("point.member.optimistic.retry").count();
+
+                Result result = load(pointFacade, firstMemberId, memberCount, DURATION_MILLIS);
+                double retries = meterRegistry.counter("point.member.optimistic.retry").count() - retriesBefore;
+
+                System.out.printf("[member-concurrency] %-11s members=%-5d %7.0f ops/s, retries=%.0f, MP015=%d, errors=%d%n",
+                        mode, memberCount, result.opsPerSec(), retries, result.exhausted.get(), result.errors.get());
+                String key = mode + ".members-" + memberCount;
+                recorder.record(key + ".ops", result.opsPerSec(), "ops/s");
+                recorder.record(key + ".retries", retries, "count");
+
+                PointReconciliationReport report = context.getBean(PointReconciliationJob.class)
+                        .run(firstMemberId, firstMemberId + memberCount - 1);
+                assertThat(report.getMismatchCount()).isZero();
+                Long totalBalance = jdbcTemplate.queryForObject(
+                        "SELECT SUM(point_balance) FROM member WHERE member_id BETWEEN ? AND ?",
+                        Long.class, firstMemberId, firstMemberId + memberCount - 1);
+                assertThat(totalBalance).isEqualTo(INITIAL_BALANCE * memberCount + result.saved.get() - result.used.get());
+                assertThat(result.errors.get()).isZero();
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private Result load(PointFacade pointFacade, long firstMemberId, int memberCount, long durationMillis) {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Result result = new Result();
+        String expireDate = LocalDate.now().plusDays(30).toString();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (running.get()) {
+                        long memberId = firstMemberId + random.nextInt(memberCount);
+                        boolean saving = random.nextBoolean();
+                        try {
+                            if (saving) {
+                                pointFacade.savingApproval(savingReq(memberId, expireDate));
+                                result.saved.incrementAndGet();
+                            } else {
+                                pointFacade.useApproval(useReq(memberId));
+                                result.used.incrementAndGet();
+                            }
+                        } catch (ServiceException e) {
+                            if (ProcessCode.MP015.getProcCd().equals(e.getProcCd())) {
+                                result.exhausted.incrementAndGet();
+                            } else {
+                                result.errors.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            result.errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            Thread.sleep(durationMillis);
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdown();
+        }
+        return result;
+    }
+
+    /**
+     * 회원마다 충분한 잔액을 수기지급 wallet 1건으로 지급 (사용은 항상 이 wallet 부터 차감)
+     */
+    private long seed(JdbcTemplate jdbcTemplate, int memberCount) {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('concurrency-', X), ?, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, INITIAL_BALANCE, memberCount);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ? + X - 1, ?, 0, '00', ?, 'MA', CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, INITIAL_BALANCE, LocalDate.now().plusYears(1), memberCount);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT ? + X - 1, ?, ? FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, LocalDate.now().plusYears(1), INITIAL_BALANCE, memberCount);
+        return firstMemberId;
+    }
+
+    private static PointSavingApprovalReq savingReq(long memberId, String expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(1L);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(LocalDate.parse(expireDate));
+        return req;
+    }
+
+    private static PointUseApprovalReq useReq(long memberId) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(1L);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    private static class Result {
+        final AtomicLong saved = new AtomicLong();
+        final AtomicLong used = new AtomicLong();
+        final AtomicLong exhausted = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+
+        double opsPerSec() {
+            return (saved.get() + used.get()) * 1000.0 / DURATION_MILLIS;
+        }
+    }
+}
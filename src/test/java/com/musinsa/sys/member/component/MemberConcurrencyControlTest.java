@@ -0,0 +1,55 @@
+package com.musinsa.sys.member.component;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberConcurrencyControlTest {
+
+    @Test
+    void retriesOptimisticConflictsUntilSuccess() {
+        MemberConcurrencyControl control = new MemberConcurrencyControl("optimistic", 3, 1, 2);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+
+        String result = control.executeWithRetry(() -> {
+            if (attempts.incrementAndGet() < 3) throw conflict();
+            return "ok";
+        }, retries::incrementAndGet);
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(retries).hasValue(2);
+    }
+
+    @Test
+    void failsWithMp015WhenAttemptsAreExhausted() {
+        MemberConcurrencyControl control = new MemberConcurrencyControl("optimistic", 2, 1, 2);
+
+        assertThatThrownBy(() -> control.executeWithRetry(() -> {
+            throw conflict();
+        }, () -> { }))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP015");
+    }
+
+    @Test
+    void pessimisticModeDoesNotRetry() {
+        MemberConcurrencyControl control = new MemberConcurrencyControl("pessimistic", 5, 1, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> control.executeWithRetry(() -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        }, () -> { })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("member", 1L);
+    }
+}
@@ -0,0 +1,157 @@
+package com.musinsa.sys.member.component;
+
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 회원 1명 + 일반 회원 다수 경합 시 일반 회원 처리량 비교
+ * <p>
+ * - 인기 회원 트랜잭션은 Row Lock 을 잡은 채 hold-ms 만큼 추가 작업을 한다고 가정
+ * - JVM Lock 비활성화 : 인기 회원 대기 스레드가 커넥션을 잡고 DB Lock 대기
+ * - JVM Lock 활성화   : 인기 회원 대기 스레드는 커넥션 없이 JVM Lock 대기
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=8"
+})
+class MemberLockManagerBenchmark {
+
+    private static final int HOT_THREADS = Integer.getInteger("bench.hotThreads", 32);
+    private static final int COLD_THREADS = Integer.getInteger("bench.coldThreads", 8);
+    private static final int COLD_MEMBERS = Integer.getInteger("bench.coldMembers", 64);
+    private static final long HOLD_MILLIS = Long.getLong("bench.holdMillis", 5);
+    private static final long DURATION_MILLIS = Long.getLong("bench.durationMillis", 5_000);
+
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long hotMemberId;
+    private long firstColdMemberId;
+
+    @BeforeEach
+    void seedMembers() {
+        hotMemberId = insertMember("hot");
+        firstColdMemberId = insertMember("cold-0");
+        for (int i = 1; i < COLD_MEMBERS; i++) {
+            insertMember("cold-" + i);
+        }
+    }
+
+    @Test
+    void coldMemberThroughputUnderHotMemberContention() throws Exception {
+        Result withoutLock = run(new MemberLockManager(false, 1024, 3_000));
+        Result withLock = run(new MemberLockManager(true, 1024, 3_000));
+
+        System.out.printf("[member-lock] hot=%d threads (hold %dms), cold=%d threads/%d members, pool=8%n",
+                HOT_THREADS, HOLD_MILLIS, COLD_THREADS, COLD_MEMBERS);
+        System.out.printf("[member-lock] jvm lock off : cold %.0f ops/s, hot %.0f ops/s, errors=%d%n",
+                withoutLock.coldOpsPerSec(), withoutLock.hotOpsPerSec(), withoutLock.errors);
+        System.out.printf("[member-lock] jvm lock on  : cold %.0f ops/s, hot %.0f ops/s, errors=%d (fail-fast MP015 included)%n",
+                withLock.coldOpsPerSec(), withLock.hotOpsPerSec(), withLock.errors);
+    }
+
+    private Result run(MemberLockManager memberLockManager) throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong hotOps = new AtomicLong();
+        AtomicLong coldOps = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(HOT_THREADS + COLD_THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < HOT_THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    try {
+                        memberLockManager.executeWithLock(hotMemberId, () -> tx.execute(status -> {
+                            pointService.savingApproval(savingReq(hotMemberId));
+                            sleep(HOLD_MILLIS);
+                            return null;
+                        }));
+                        hotOps.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (int t = 0; t < COLD_THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                long i = thread;
+                while (running.get()) {
+                    long memberId = firstColdMemberId + (i++ % COLD_MEMBERS);
+                    try {
+                        memberLockManager.executeWithLock(memberId, () -> pointService.savingApproval(savingReq(memberId)));
+                        coldOps.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        Thread.sleep(DURATION_MILLIS);
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+
+        return new Result(hotOps.get() / seconds, coldOps.get() / seconds, errors.get());
+    }
+
+    private PointSavingApprovalReq savingReq(long memberId) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(1L);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(LocalDate.now().plusDays(30));
+        return req;
+    }
+
+    private long insertMember(String name) {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES (?, 0, CURRENT_TIMESTAMP)", name);
+        return jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double hotOpsPerSec, double coldOpsPerSec, long errors) {
+    }
+}
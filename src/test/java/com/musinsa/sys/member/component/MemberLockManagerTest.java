@@ -0,0 +1,109 @@
+package com.musinsa.sys.member.component;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 JVM Lock 대기 제한 (stripe 1개 → 모든 회원이 같은 stripe)
+ */
+class MemberLockManagerTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void failsFastWithMp015WhileAnotherCallerHoldsTheStripe() throws Exception {
+        MemberLockManager memberLockManager = new MemberLockManager(true, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> holder = hold(memberLockManager, 1L, release);
+
+        long startedAt = System.nanoTime();
+        assertMp015(() -> memberLockManager.executeWithLock(2L, () -> "second"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(50);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(memberLockManager.executeWithLock(2L, () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void interruptedWaiterGetsMp015AndKeepsItsInterruptFlag() throws Exception {
+        MemberLockManager memberLockManager = new MemberLockManager(true, 1, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> holder = hold(memberLockManager, 1L, release);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertMp015(() -> memberLockManager.executeWithLock(1L, () -> "waiter"));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+        }
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    @Test
+    void releasesTheLockWhenTheActionThrows() throws Exception {
+        MemberLockManager memberLockManager = new MemberLockManager(true, 1, 50);
+
+        assertThatThrownBy(() -> memberLockManager.executeWithLock(1L, () -> {
+            throw new IllegalStateException("action failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 다른 스레드에서 바로 획득 가능
+        assertThat(executor.submit(() -> memberLockManager.executeWithLock(1L, () -> "next")).get(5, TimeUnit.SECONDS))
+                .isEqualTo("next");
+    }
+
+    @Test
+    void runsWithoutLockingWhenDisabled() throws Exception {
+        MemberLockManager memberLockManager = new MemberLockManager(false, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> holder = hold(memberLockManager, 1L, release);
+
+        // 같은 회원이 action 실행 중이어도 대기 없이 실행
+        assertThat(memberLockManager.executeWithLock(1L, () -> "second")).isEqualTo("second");
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    /**
+     * 다른 스레드가 memberId 의 action 안에서 release 까지 대기 (action 진입 후 반환)
+     */
+    private Future<String> hold(MemberLockManager memberLockManager, long memberId, CountDownLatch release) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        Future<String> holder = executor.submit(() -> memberLockManager.executeWithLock(memberId, () -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        return holder;
+    }
+
+    private void assertMp015(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP015");
+    }
+}
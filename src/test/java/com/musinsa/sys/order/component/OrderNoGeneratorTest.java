@@ -0,0 +1,158 @@
+package com.musinsa.sys.order.component;
+
+import com.musinsa.sys.order.dto.OrderSequenceBlock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderNoGeneratorTest {
+
+    @Test
+    void generatesUniqueOrderNosAcrossThreadsAndNodes() throws Exception {
+        InMemoryLeaser leaser = new InMemoryLeaser();
+        List<OrderNoGenerator> nodes = List.of(
+                new OrderNoGenerator(leaser, 1, 100, Clock.systemDefaultZone()),
+                new OrderNoGenerator(leaser, 2, 100, Clock.systemDefaultZone()));
+
+        int threadsPerNode = 8;
+        int ordersPerThread = 5_000;
+        Set<String> orderNos = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadsPerNode * nodes.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (OrderNoGenerator node : nodes) {
+            for (int t = 0; t < threadsPerNode; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        String orderNo = node.generateOrderNo();
+                        assertThat(orderNo).hasSize(20);
+                        assertThat(orderNos.add(orderNo)).as("duplicated order no %s", orderNo).isTrue();
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        int total = threadsPerNode * nodes.size() * ordersPerThread;
+        assertThat(orderNos).hasSize(total);
+        System.out.printf("[order-no] %d order nos, %d leases, %.0f orders/sec%n",
+                total, leaser.leaseCount.get(), total / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    @Test
+    void waitsForNextSecondWhenSequenceIsExhausted() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        OrderNoGenerator generator = new OrderNoGenerator(new InMemoryLeaser(), 7, 1_000, clock);
+
+        String last = null;
+        for (int i = 0; i < OrderNoGenerator.MAX_SEQ; i++) {
+            last = generator.generateOrderNo();
+        }
+        assertThat(last).isEqualTo("20260101000000" + "07" + "9999");
+
+        Thread ticker = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            clock.plusSeconds(1);
+        });
+        ticker.start();
+
+        assertThat(generator.generateOrderNo()).isEqualTo("20260101000001" + "07" + "0001");
+        ticker.join();
+    }
+
+    @Test
+    void leasesNewBlockOnSecondRollover() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        InMemoryLeaser leaser = new InMemoryLeaser();
+        OrderNoGenerator generator = new OrderNoGenerator(leaser, 0, 100, clock);
+
+        assertThat(generator.generateOrderNo()).isEqualTo("20260101000000" + "00" + "0001");
+        assertThat(generator.generateOrderNo()).isEqualTo("20260101000000" + "00" + "0002");
+        clock.plusSeconds(1);
+        assertThat(generator.generateOrderNo()).isEqualTo("20260101000001" + "00" + "0001");
+        assertThat(leaser.leaseCount.get()).isEqualTo(2);
+    }
+
+    /**
+     * order_sequence_log 대신 메모리에서 블록을 임대
+     */
+    private static class InMemoryLeaser extends OrderSequenceLeaser {
+        private final Map<String, Integer> lastSeq = new ConcurrentHashMap<>();
+        private final AtomicInteger leaseCount = new AtomicInteger();
+
+        InMemoryLeaser() {
+            super(null);
+        }
+
+        @Override
+        public OrderSequenceBlock lease(String leaseKey, int blockSize, int maxSeq) {
+            AtomicReference<OrderSequenceBlock> block = new AtomicReference<>();
+            lastSeq.compute(leaseKey, (key, seq) -> {
+                int current = seq == null ? 0 : seq;
+                if (current >= maxSeq) return current;
+                int end = Math.min(current + blockSize, maxSeq);
+                block.set(new OrderSequenceBlock(leaseKey, current + 1, end));
+                return end;
+            });
+            if (block.get() != null) leaseCount.incrementAndGet();
+            return block.get();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plusSeconds(long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 만료 wallet 처리 시간 측정
+ * <p>
+ * - bench.members 명에게 bench.wallets 개의 만료 wallet 을 seed (절반은 일부 사용)
+ * - 만료 배치 1회 실행 후 처리량 및 회원 잔액 0 여부 확인
+ * ./gradlew benchmark --tests '*PointExpirationJobBenchmark' -Dbench.wallets=2000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false"
+})
+class PointExpirationJobBenchmark {
+
+    private static final int MEMBERS = Integer.getInteger("bench.members", 10_000);
+    private static final int WALLETS = Integer.getInteger("bench.wallets", 200_000);
+
+    @Autowired
+    private PointExpirationJob pointExpirationJob;
+    @Autowired
+    private BatchCheckpointRepository batchCheckpointRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void expireMillionsOfWallets() {
+        long firstMemberId = seed();
+
+        long startedAt = System.nanoTime();
+        long processed = pointExpirationJob.run(LocalDate.now());
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf("[expiration] members=%d, wallets=%d, processed=%d in %.2fs (%.0f wallets/s)%n",
+                MEMBERS, WALLETS, processed, seconds, processed / seconds);
+
+        assertThat(processed).isEqualTo(WALLETS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member WHERE member_id >= ? AND point_balance <> 0", Long.class, firstMemberId))
+                .isZero();
+        assertThat(batchCheckpointRepository.findByJobName(PointExpirationJob.JOB_NAME))
+                .get().extracting(BatchCheckpoint::getRunStatus).isEqualTo(BatchCheckpoint.COMPLETED);
+    }
+
+    private long seed() {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('bench-', X), 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ? + MOD(X, ?), 1000, MOD(X, 2) * 300, '00', DATEADD('DAY', -1 - MOD(X, 30), CURRENT_DATE), 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, MEMBERS, WALLETS);
+        jdbcTemplate.update("""
+                MERGE INTO member (member_id, point_balance) KEY (member_id)
+                SELECT member_id, SUM(issued_amount - used_amount) FROM point_wallet WHERE member_id >= ? GROUP BY member_id
+                """, firstMemberId);
+        return firstMemberId;
+    }
+}
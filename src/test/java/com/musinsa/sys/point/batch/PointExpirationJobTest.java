@@ -0,0 +1,122 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.common.dto.BatchCheckpoint;
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import com.musinsa.sys.point.repository.PointExpirationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 만료 배치 worker 실패 처리
+ * <p>
+ * - 실패한 worker 의 다른 회원은 회원별 트랜잭션으로 다시 처리되어 만료
+ * - 그래도 실패한 회원이 있으면 checkpoint 는 그 chunk 이전 위치에서 진행 중(R)으로 남고, 다음 실행이 다시 처리
+ * - 처리 건수는 wallet 마다 1번만 집계 (실패 wallet 은 다시 처리될 때 집계)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:point-expiration;MODE=MYSQL",
+        "point.expiration.enabled=false",
+        "point.expiration.chunk-size=2",
+        "point.expiration.workers=2",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointExpirationJobTest {
+
+    @Autowired
+    private PointExpirationJob pointExpirationJob;
+    @MockitoSpyBean
+    private PointExpirationRepository pointExpirationRepository;
+    @Autowired
+    private BatchCheckpointRepository batchCheckpointRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        doAnswer(invocation -> invocation.callRealMethod()).when(pointExpirationRepository).expireWallets(anyCollection());
+    }
+
+    @Test
+    void keepsTheCheckpointBeforeChunksWithFailedMembers() {
+        LocalDate today = LocalDate.now();
+        long failing = insertMember();
+        long sameWorker = insertMember();
+        // 같은 worker (workers=2)
+        while (Math.floorMod(sameWorker - failing, 2L) != 0) {
+            sameWorker = insertMember();
+        }
+        long otherWorker = insertMember();
+
+        // chunk 1 : [failing, sameWorker] → chunk 2 : [otherWorker]
+        long failingWallet = insertExpiredWallet(failing, today.minusDays(3));
+        long sameWorkerWallet = insertExpiredWallet(sameWorker, today.minusDays(3));
+        long otherWorkerWallet = insertExpiredWallet(otherWorker, today.minusDays(2));
+
+        doAnswer(invocation -> {
+            Collection<Long> walletIds = invocation.getArgument(0);
+            if (walletIds.contains(failingWallet)) throw new IllegalStateException("expiration failure");
+            return invocation.callRealMethod();
+        }).when(pointExpirationRepository).expireWallets(anyCollection());
+
+        // 실패 회원 wallet 은 집계하지 않음
+        assertThat(pointExpirationJob.run(today)).isEqualTo(2);
+
+        // 같은 worker 의 다른 회원은 회원별로 다시 처리되어 만료, 다음 chunk 도 처리
+        assertThat(walletStatus(sameWorkerWallet)).isEqualTo("20");
+        assertThat(walletStatus(otherWorkerWallet)).isEqualTo("20");
+        assertThat(balance(sameWorker)).isZero();
+        assertThat(balance(otherWorker)).isZero();
+        assertThat(walletStatus(failingWallet)).isEqualTo("00");
+        assertThat(balance(failing)).isEqualTo(100);
+
+        // 실패 회원이 있는 chunk 이전 위치에서 진행 중으로 남음
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findByJobName(PointExpirationJob.JOB_NAME).orElseThrow();
+        assertThat(checkpoint.isRunning()).isTrue();
+        assertThat(checkpoint.getLastKeyDate()).isNull();
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(2);
+
+        // 다음 실행에서 실패했던 회원 처리 후 완료
+        doAnswer(invocation -> invocation.callRealMethod()).when(pointExpirationRepository).expireWallets(anyCollection());
+        // 다시 조회된 실패 wallet 만 더해짐 (wallet 마다 1번 집계)
+        assertThat(pointExpirationJob.run(today)).isEqualTo(3);
+
+        assertThat(walletStatus(failingWallet)).isEqualTo("20");
+        assertThat(balance(failing)).isZero();
+        assertThat(batchCheckpointRepository.findByJobName(PointExpirationJob.JOB_NAME).orElseThrow().isRunning()).isFalse();
+    }
+
+    private long insertMember() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('expiration', 100, CURRENT_TIMESTAMP)");
+        return jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    private long insertExpiredWallet(long memberId, LocalDate expireDate) {
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, 100, 0, '00', ?, 'AU', CURRENT_TIMESTAMP)
+                """, memberId, expireDate);
+        jdbcTemplate.update("INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount) VALUES (?, ?, 100)",
+                memberId, expireDate);
+        return jdbcTemplate.queryForObject("SELECT MAX(wallet_id) FROM point_wallet WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private String walletStatus(long walletId) {
+        return jdbcTemplate.queryForObject("SELECT wallet_status FROM point_wallet WHERE wallet_id = ?", String.class, walletId);
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+}
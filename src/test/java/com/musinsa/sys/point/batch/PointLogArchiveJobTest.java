@@ -0,0 +1,82 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.component.PointLogArchive;
+import com.musinsa.sys.point.component.PointLogQueryRouter;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 기간이 지난 월의 point_log 를 아카이브한 뒤에도 주문번호로 사용취소가 되는지 확인
+ */
+@SpringBootTest
+class PointLogArchiveJobTest {
+
+    private static final String ORDER_NO = "20200115103000000001";
+
+    @Autowired
+    private PointLogArchiveJob pointLogArchiveJob;
+    @Autowired
+    private PointLogArchive pointLogArchive;
+    @Autowired
+    private PointLogQueryRouter pointLogQueryRouter;
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 아카이브 완료 월은 공유 컨텍스트의 다른 테스트(재계산 등)에 영향을 주므로 원복
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM batch_checkpoint WHERE job_name = ?", PointLogArchive.JOB_NAME);
+        pointLogArchive.refresh();
+    }
+
+    @Test
+    void cancelsAnArchivedOrderThroughTheRouter() {
+        // 2020-01 주문 (wallet 단위 사용 상세 이전 데이터) : 사용 500, 취소 100
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('archive-test', 600, CURRENT_TIMESTAMP)");
+        Long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, 1000, 400, '00', ?, 'MA', CURRENT_TIMESTAMP)
+                """, memberId, LocalDate.now().plusYears(1));
+        insertLog(memberId, "UA", 500);
+        insertLog(memberId, "UC", 100);
+
+        long archived = pointLogArchiveJob.run(LocalDate.of(2020, 8, 1));
+
+        assertThat(archived).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log WHERE order_no = ?", Long.class, ORDER_NO))
+                .isZero();
+        assertThat(pointLogQueryRouter.getCanceledAmount(ORDER_NO, "UC")).isEqualTo(100);
+
+        // 아카이브된 사용승인 로그 기준으로 취소, 신규 취소 로그는 point_log 에 기록되어 합산
+        PointUseCancelReq req = new PointUseCancelReq();
+        req.setMemberId(memberId);
+        req.setOrderNo(ORDER_NO);
+        req.setAmount(300L);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.useCancel(req);
+
+        assertThat(pointLogQueryRouter.getCanceledAmount(ORDER_NO, "UC")).isEqualTo(400);
+        assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(900);
+    }
+
+    private void insertLog(Long memberId, String logType, long amount) {
+        jdbcTemplate.update("""
+                INSERT INTO point_log (member_id, log_type, log_at, order_no, amount, created_at)
+                VALUES (?, ?, '2020-01-15T10:30:00', ?, ?, TIMESTAMP '2020-01-15 10:30:00')
+                """, memberId, logType, ORDER_NO, amount);
+    }
+}
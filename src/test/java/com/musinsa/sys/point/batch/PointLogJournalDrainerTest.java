@@ -0,0 +1,131 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.component.PointLogWriter;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.enums.PointLogType;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저널 모드 PointLogWriter → PointLogJournalDrainer
+ * <p>
+ * - 커밋된 요청의 로그는 커밋 표시와 함께 남고 drain 후 point_log 로 1번만 적재
+ * - 저널 fsync 후 롤백된 트랜잭션의 로그는 커밋 표시가 없어 적재하지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:point-log-journal;MODE=MYSQL",
+        "point.log-journal.enabled=true",
+        "point.log-journal.segment-size-mb=1",
+        // 자동 drain 은 기동 직후 1회만 (테스트에서 직접 호출)
+        "point.log-journal.drain-interval-ms=3600000",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointLogJournalDrainerTest {
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        try {
+            String directory = Files.createTempDirectory("point-log-journal").toString();
+            registry.add("point.log-journal.dir", () -> directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private PointLogWriter pointLogWriter;
+    @Autowired
+    private PointLogJournalDrainer pointLogJournalDrainer;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void committedLogsAreDrainedOnceAndRolledBackLogsAreDiscarded() {
+        long memberId = insertMember();
+
+        pointFacade.savingApproval(savingReq(memberId, 100L));
+        pointFacade.savingApproval(savingReq(memberId, 50L));
+
+        // 커밋 시점에는 잔액 / wallet 과 커밋 표시만 있고 point_log 는 drain 전
+        assertThat(balance(memberId)).isEqualTo(150L);
+        assertThat(logCount(memberId)).isZero();
+        assertThat(pendingMarks()).isEqualTo(2);
+
+        // 저널 fsync(beforeCommit) 후 커밋 실패 → 업무 변경 / 커밋 표시 롤백
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE member SET point_balance = point_balance + 999 WHERE member_id = ?", memberId);
+            pointLogWriter.write(PointLog.from(memberId, 999L, PointLogType.SAVING_APPROVAL.getCode(), LocalDateTime.now().withNano(0)));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("commit failed after journal fsync");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(balance(memberId)).isEqualTo(150L);
+
+        pointFacade.savingApproval(savingReq(memberId, 25L));
+
+        assertThat(pointLogJournalDrainer.drain()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT amount FROM point_log WHERE member_id = ? ORDER BY log_id", Long.class, memberId))
+                .containsExactly(100L, 50L, 25L);
+        assertThat(pendingMarks()).isZero();
+
+        // 다시 drain 해도 중복 적재 없음
+        assertThat(pointLogJournalDrainer.drain()).isZero();
+        assertThat(logCount(memberId)).isEqualTo(3);
+    }
+
+    private PointSavingApprovalReq savingReq(long memberId, long amount) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setExpireDate(LocalDate.now().plusDays(30));
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    private long insertMember() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('journal', 0, CURRENT_TIMESTAMP)");
+        return jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private int logCount(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    private int pendingMarks() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log_journal_commit", Integer.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.dto.PointReconciliationReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 잔액 / wallet 대사 처리량 측정
+ * <p>
+ * - bench.members 명에게 wallet bench.walletsPerMember 개 seed (잔액 일치), bench.drifted 명만 잔액 훼손
+ * ./gradlew benchmark --tests '*PointReconciliationJobBenchmark' -Dbench.members=10000000 -Dbench.workers=8
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false",
+        "point.reconciliation.workers=${bench.workers:4}",
+        "point.reconciliation.ranges=${bench.ranges:16}"
+})
+class PointReconciliationJobBenchmark {
+
+    private static final int MEMBERS = Integer.getInteger("bench.members", 1_000_000);
+    private static final int WALLETS_PER_MEMBER = Integer.getInteger("bench.walletsPerMember", 2);
+    private static final int DRIFTED = Integer.getInteger("bench.drifted", 100);
+
+    @Autowired
+    private PointReconciliationJob pointReconciliationJob;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reconcileMillionsOfMembers() {
+        long firstMemberId = seed();
+        long lastMemberId = firstMemberId + MEMBERS - 1;
+
+        long startedAt = System.nanoTime();
+        PointReconciliationReport report = pointReconciliationJob.run(firstMemberId, lastMemberId);
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf("[reconciliation] members=%d, wallets=%d in %.2fs (%.0f members/s), ranges=%d, mismatches=%d%n",
+                report.getMemberCount(), (long) MEMBERS * WALLETS_PER_MEMBER, seconds,
+                report.getMemberCount() / seconds, report.getRangeCount(), report.getMismatchCount());
+
+        BenchmarkRecorder recorder = new BenchmarkRecorder(String.format("point-reconciliation(members=%d,workers=%s)",
+                MEMBERS, System.getProperty("bench.workers", "4")));
+        recorder.record("members.per.sec", report.getMemberCount() / seconds, "ops/s");
+
+        assertThat(report.getMemberCount()).isEqualTo(MEMBERS);
+        assertThat(report.getMismatchCount()).isEqualTo(DRIFTED);
+    }
+
+    private long seed() {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('reconciliation-', X), ?, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, WALLETS_PER_MEMBER * 900L, MEMBERS);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ? + MOD(X - 1, ?), 1000, 100, '00', ?, 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, MEMBERS, LocalDate.now().plusYears(1), (long) MEMBERS * WALLETS_PER_MEMBER);
+        jdbcTemplate.update("UPDATE member SET point_balance = point_balance + 1 WHERE member_id BETWEEN ? AND ?",
+                firstMemberId, firstMemberId + DRIFTED - 1);
+        return firstMemberId;
+    }
+}
@@ -0,0 +1,59 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.dto.PointReconciliationMismatch;
+import com.musinsa.sys.point.dto.PointReconciliationReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 잔액과 정상 wallet 잔여 합계의 불일치를 찾는지 확인
+ */
+@SpringBootTest
+class PointReconciliationJobTest {
+
+    @Autowired
+    private PointReconciliationJob pointReconciliationJob;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reportsDriftedBalancesAndOrphanWallets() {
+        long first = insertMember(700);
+        long drifted = insertMember(300);
+        insertWallet(first, 1_000, 300, "00");
+        insertWallet(first, 500, 0, "10");                  // 취소 wallet 은 합계 제외
+        insertWallet(drifted, 500, 100, "00");              // 잔액 300 ≠ 400
+        long orphanMemberId = drifted + 1;
+        insertWallet(orphanMemberId, 200, 0, "00");         // member 행 없음 (FK 없음)
+
+        try {
+            PointReconciliationReport report = pointReconciliationJob.run(first, orphanMemberId);
+
+            assertThat(report.getMemberCount()).isEqualTo(2);
+            assertThat(report.getMismatchCount()).isEqualTo(2);
+            assertThat(report.getMismatches()).containsExactlyInAnyOrder(
+                    new PointReconciliationMismatch(drifted, 300L, 400),
+                    new PointReconciliationMismatch(orphanMemberId, null, 200));
+        } finally {
+            jdbcTemplate.update("DELETE FROM point_wallet WHERE member_id = ?", orphanMemberId);
+        }
+    }
+
+    private long insertMember(long balance) {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('reconciliation', ?, CURRENT_TIMESTAMP)", balance);
+        return jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    private void insertWallet(long memberId, long issued, long used, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, ?, ?, ?, ?, 'AU', CURRENT_TIMESTAMP)
+                """, memberId, issued, used, status, LocalDate.now().plusYears(1));
+    }
+}
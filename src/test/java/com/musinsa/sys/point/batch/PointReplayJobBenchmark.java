@@ -0,0 +1,115 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.dto.PointReplayReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * point_log 재계산 처리량 / 힙 사용량 측정
+ * <p>
+ * - bench.members 명에게 wallet bench.walletsPerMember 개(적립 로그 포함) + 사용 로그 bench.usesPerMember 건 seed
+ * - 재계산 중 힙 사용량 최대값을 샘플링 (member-partitions 를 늘리면 상태 보관 메모리 감소)
+ * ./gradlew benchmark --tests '*PointReplayJobBenchmark' -Dbench.members=1000000 -Dbench.partitions=4
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false",
+        "point.replay.member-partitions=${bench.partitions:1}",
+        "point.replay.workers=${bench.workers:4}"
+})
+class PointReplayJobBenchmark {
+
+    private static final int MEMBERS = Integer.getInteger("bench.members", 100_000);
+    private static final int WALLETS_PER_MEMBER = Integer.getInteger("bench.walletsPerMember", 2);
+    private static final int USES_PER_MEMBER = Integer.getInteger("bench.usesPerMember", 8);
+
+    @Autowired
+    private PointReplayJob pointReplayJob;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void replayMillionsOfLogs() throws Exception {
+        long firstMemberId = seed();
+        long lastMemberId = firstMemberId + MEMBERS - 1;
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseHeap = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peakHeap = new AtomicLong(baseHeap);
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (sampling.get()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        PointReplayReport report = pointReplayJob.run(firstMemberId, lastMemberId, false);
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        sampling.set(false);
+        sampler.join();
+
+        double peakMb = (peakHeap.get() - baseHeap) / 1024.0 / 1024.0;
+        System.out.printf("[replay] logs=%d, members=%d, wallets=%d in %.2fs (%.0f logs/s), peak heap +%.0fMB, diffs=%d%n",
+                report.getLogCount(), report.getMemberCount(), report.getWalletCount(), seconds,
+                report.getLogCount() / seconds, peakMb, report.getDiffs().size());
+
+        BenchmarkRecorder recorder = new BenchmarkRecorder(
+                String.format("point-replay(logs=%d,partitions=%s)", report.getLogCount(), System.getProperty("bench.partitions", "1")));
+        recorder.record("logs.per.sec", report.getLogCount() / seconds, "ops/s");
+        recorder.record("peak.heap", peakMb, "MB");
+
+        assertThat(report.getLogCount()).isEqualTo((long) MEMBERS * (WALLETS_PER_MEMBER + USES_PER_MEMBER));
+        assertThat(report.getBalanceDiffCount()).isZero();
+        assertThat(report.getWalletDiffCount()).isZero();
+    }
+
+    /**
+     * 적립 로그(wallet_id 포함) → 사용 로그 순으로 기록, 사용은 회원의 첫 wallet 에서만 차감되도록 만료일 동일
+     */
+    private long seed() {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        long firstWalletId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(wallet_id), 0) + 1 FROM point_wallet", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('replay-', X), ?, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, WALLETS_PER_MEMBER * 1000L - USES_PER_MEMBER, MEMBERS);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ? + MOD(X - 1, ?), 1000, CASE WHEN X <= ? THEN ? ELSE 0 END, '00', ?, 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, MEMBERS, MEMBERS, USES_PER_MEMBER, LocalDate.now().plusYears(1),
+                (long) MEMBERS * WALLETS_PER_MEMBER);
+        jdbcTemplate.update("""
+                INSERT INTO point_log (member_id, log_type, log_at, order_no, wallet_id, amount, created_at)
+                SELECT member_id, 'SA', '2026-01-01T00:00:00', NULL, wallet_id, issued_amount, CURRENT_TIMESTAMP
+                FROM point_wallet WHERE wallet_id >= ? ORDER BY wallet_id
+                """, firstWalletId);
+        jdbcTemplate.update("""
+                INSERT INTO point_log (member_id, log_type, log_at, order_no, amount, created_at)
+                SELECT ? + MOD(X - 1, ?), 'UA', '2026-01-01T00:00:00', NULL, 1, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, firstMemberId, MEMBERS, (long) MEMBERS * USES_PER_MEMBER);
+        return firstMemberId;
+    }
+}
@@ -0,0 +1,206 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.component.PointLogArchive;
+import com.musinsa.sys.point.dto.PointReplayDiff;
+import com.musinsa.sys.point.dto.PointReplayReport;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointSavingCancelReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * point_log 재계산으로 훼손된 회원 잔액 / wallet 을 찾아 보정하는지 확인
+ * <p>
+ * - 아카이브 완료 월의 로그도 point_log 앞에 포함하여 재계산
+ * - 저널에 적재 전 커밋 로그가 있으면 보정하지 않음
+ */
+@SpringBootTest
+class PointReplayJobTest {
+
+    @Autowired
+    private PointReplayJob pointReplayJob;
+    @Autowired
+    private PointLogArchiveJob pointLogArchiveJob;
+    @Autowired
+    private PointLogArchive pointLogArchive;
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 아카이브 완료 월은 공유 컨텍스트의 다른 테스트에 영향을 주므로 원복
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM batch_checkpoint WHERE job_name = ?", PointLogArchive.JOB_NAME);
+        pointLogArchive.refresh();
+    }
+
+    @Test
+    void detectsAndRepairsCorruptedBalanceAndWallet() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('replay-test', 0, CURRENT_TIMESTAMP)");
+        Long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+
+        saving(memberId, WalletSourceType.AUTOMATIC, 1_000, LocalDate.now().plusDays(30));
+        saving(memberId, WalletSourceType.MANUAL, 500, LocalDate.now().plusYears(1));
+        saving(memberId, WalletSourceType.AUTOMATIC, 300, LocalDate.now().plusDays(60));
+        String orderNo = use(memberId, 900);                     // 수기지급 500 → 만료 임박 400
+        useCancel(memberId, orderNo, 200);                       // 만료 임박 wallet 200 복원
+        List<Long> wallets = jdbcTemplate.queryForList(
+                "SELECT wallet_id FROM point_wallet WHERE member_id = ? ORDER BY wallet_id", Long.class, memberId);
+        savingCancel(memberId, wallets.get(2), 300);
+
+        PointReplayReport clean = pointReplayJob.run(memberId, memberId, false);
+        assertThat(clean.getLogCount()).isEqualTo(6);
+        assertThat(clean.getDiffs()).isEmpty();
+        assertThat(clean.getUnverifiableMemberCount()).isZero();
+
+        // 잔액 / wallet 훼손
+        jdbcTemplate.update("UPDATE member SET point_balance = 1 WHERE member_id = ?", memberId);
+        jdbcTemplate.update("UPDATE point_wallet SET used_amount = 0 WHERE wallet_id = ?", wallets.get(0));
+
+        PointReplayReport repaired = pointReplayJob.run(memberId, memberId, true);
+        assertThat(repaired.getDiffs()).extracting(PointReplayDiff::getType)
+                .containsExactlyInAnyOrder(PointReplayDiff.Type.BALANCE, PointReplayDiff.Type.WALLET_USED);
+        assertThat(repaired.isApplied()).isTrue();
+        assertThat(repaired.getCorrectedCount()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(800);
+        assertThat(jdbcTemplate.queryForObject("SELECT used_amount FROM point_wallet WHERE wallet_id = ?", Long.class, wallets.get(0)))
+                .isEqualTo(200);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(remain_amount) FROM point_expiry_bucket WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(800);
+        assertThat(pointReplayJob.run(memberId, memberId, false).getDiffs()).isEmpty();
+    }
+
+    @Test
+    void replaysLogsInCreatedOrderEvenWhenLogIdsAreNot() {
+        // 다른 노드의 pooled ID 블록 : 나중에 처리된 사용승인의 log_id 가 적립승인보다 작음
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('replay-order-test', 700, CURRENT_TIMESTAMP)");
+        Long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, 1000, 300, '00', ?, 'AU', CURRENT_TIMESTAMP)
+                """, memberId, LocalDate.now().plusDays(30));
+        Long walletId = jdbcTemplate.queryForObject("SELECT MAX(wallet_id) FROM point_wallet WHERE member_id = ?", Long.class, memberId);
+
+        LocalDateTime savedAt = LocalDateTime.now().minusHours(1).withNano(1_000);
+        insertLog(900_000_050L, memberId, "SA", null, walletId, 1_000, savedAt);
+        insertLog(900_000_001L, memberId, "UA", "REPLAY-ORDER-1", null, 300, savedAt.plusNanos(1_000));
+
+        PointReplayReport report = pointReplayJob.run(memberId, memberId, false);
+        assertThat(report.getLogCount()).isEqualTo(2);
+        assertThat(report.getDiffs()).isEmpty();
+        assertThat(report.getUnverifiableMemberCount()).isZero();
+    }
+
+    @Test
+    void replaysArchivedMonthsAndSkipsApplyWhileTheJournalHasUndrainedRecords() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('replay-archive-test', 1300, CURRENT_TIMESTAMP)");
+        Long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        Long january = insertWallet(memberId, 1_000, 200);
+        Long february = insertWallet(memberId, 500, 0);
+
+        // 2020-01 주문의 사용 / 취소 : 취소는 2020-02 적립 이후에 처리되어 아카이브 파일에서 이월 후 point_log 와 병합
+        String orderNo = "20200115103000000777";
+        insertLog(null, memberId, "SA", null, january, 1_000, LocalDateTime.of(2020, 1, 10, 9, 0));
+        insertLog(null, memberId, "UA", orderNo, null, 300, LocalDateTime.of(2020, 1, 15, 10, 30));
+        insertLog(null, memberId, "SA", null, february, 500, LocalDateTime.of(2020, 2, 20, 9, 0));
+        insertLog(null, memberId, "UC", orderNo, null, 100, LocalDateTime.of(2020, 3, 1, 9, 0));
+        assertThat(pointLogArchiveJob.run(LocalDate.of(2020, 8, 1))).isGreaterThanOrEqualTo(3);
+
+        PointReplayReport clean = pointReplayJob.run(memberId, memberId, false);
+        assertThat(clean.getArchivedLogCount()).isEqualTo(3);
+        assertThat(clean.getLogCount()).isEqualTo(4);
+        assertThat(clean.getDiffs()).isEmpty();
+        assertThat(clean.getUnverifiableMemberCount()).isZero();
+
+        // 커밋되었지만 point_log 에 아직 없는 저널 로그가 있으면 보정하지 않음
+        jdbcTemplate.update("UPDATE member SET point_balance = 1 WHERE member_id = ?", memberId);
+        jdbcTemplate.update("INSERT INTO point_log_journal_commit (node_id, journal_seq) VALUES (99, 1)");
+        try {
+            PointReplayReport skipped = pointReplayJob.run(memberId, memberId, true);
+            assertThat(skipped.isApplied()).isFalse();
+            assertThat(skipped.getSkippedCorrectionCount()).isEqualTo(1);
+            assertThat(balance(memberId)).isEqualTo(1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM point_log_journal_commit WHERE node_id = 99");
+        }
+
+        PointReplayReport repaired = pointReplayJob.run(memberId, memberId, true);
+        assertThat(repaired.isApplied()).isTrue();
+        assertThat(repaired.getCorrectedCount()).isEqualTo(1);
+        assertThat(balance(memberId)).isEqualTo(1_300);
+    }
+
+    private void saving(Long memberId, WalletSourceType sourceType, long amount, LocalDate expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setSourceType(sourceType);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(expireDate);
+        pointFacade.savingApproval(req);
+    }
+
+    private void savingCancel(Long memberId, Long walletId, long amount) {
+        PointSavingCancelReq req = new PointSavingCancelReq();
+        req.setMemberId(memberId);
+        req.setWalletId(walletId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.savingCancel(req);
+    }
+
+    private String use(Long memberId, long amount) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return pointFacade.useApproval(req).getOrderNo();
+    }
+
+    private void useCancel(Long memberId, String orderNo, long amount) {
+        PointUseCancelReq req = new PointUseCancelReq();
+        req.setMemberId(memberId);
+        req.setOrderNo(orderNo);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.useCancel(req);
+    }
+
+    private Long insertWallet(Long memberId, long issuedAmount, long usedAmount) {
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, ?, ?, '00', ?, 'AU', CURRENT_TIMESTAMP)
+                """, memberId, issuedAmount, usedAmount, LocalDate.now().plusYears(1));
+        return jdbcTemplate.queryForObject("SELECT MAX(wallet_id) FROM point_wallet WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private long balance(Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+
+    private void insertLog(Long logId, Long memberId, String logType, String orderNo, Long walletId, long amount, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO point_log (log_id, member_id, log_type, log_at, order_no, wallet_id, amount, created_at)
+                VALUES (COALESCE(?, NEXT VALUE FOR point_log_seq), ?, ?, ?, ?, ?, ?, ?)
+                """, logId, memberId, logType, createdAt.withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), orderNo, walletId, amount, Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,125 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointWalletCompactionReport;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소액 자동지급 wallet 이 쌓인 회원의 wallet 병합 전후 사용 처리 시간
+ * <p>
+ * - 회원 1명에게 bench.wallets 개(각 10P)의 자동지급 wallet 을 bench.expireDates 개 만료일로 나누어 지급
+ * - 병합 전 / 후 각각 10P 사용을 bench.iterations 회 반복 (사용마다 사용 가능 wallet 전체 조회)
+ * ./gradlew benchmark --tests '*PointWalletCompactionBenchmark' -Dbench.wallets=5000 -Dbench.expireDates=50
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointWalletCompactionBenchmark {
+
+    private static final int WALLETS = Integer.getInteger("bench.wallets", 5000);
+    private static final int EXPIRE_DATES = Integer.getInteger("bench.expireDates", 50);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 50);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 20);
+    private static final long WALLET_AMOUNT = 10L;
+
+    @Autowired
+    private PointWalletCompactionJob pointWalletCompactionJob;
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void useLatencyBeforeAndAfterCompaction() {
+        long memberId = seed();
+
+        long walletsBefore = usableWallets(memberId);
+        use(memberId, WARMUP);
+        double beforeMicros = use(memberId, ITERATIONS);
+
+        long startedAt = System.nanoTime();
+        PointWalletCompactionReport report = new PointWalletCompactionReport();
+        pointWalletCompactionJob.compactMember(memberId, LocalDate.now(), report);
+        double compactionMillis = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+        long walletsAfter = usableWallets(memberId);
+        use(memberId, WARMUP);
+        double afterMicros = use(memberId, ITERATIONS);
+
+        System.out.printf("[wallet-compaction] usable wallets %d -> %d, use %.0fus -> %.0fus, compaction %.0fms (%d chunks)%n",
+                walletsBefore, walletsAfter, beforeMicros, afterMicros, compactionMillis, report.getChunkCount());
+
+        BenchmarkRecorder recorder = new BenchmarkRecorder(
+                String.format("wallet-compaction(wallets=%d,expireDates=%d)", WALLETS, EXPIRE_DATES));
+        recorder.record("usable-wallets.before", walletsBefore, "count");
+        recorder.record("usable-wallets.after", walletsAfter, "count");
+        recorder.record("use.latency.before", beforeMicros, "us");
+        recorder.record("use.latency.after", afterMicros, "us");
+        recorder.record("compaction.elapsed", compactionMillis, "ms");
+
+        assertThat(walletsAfter).isLessThan(walletsBefore);
+        assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(jdbcTemplate.queryForObject(
+                        "SELECT SUM(issued_amount - used_amount) FROM point_wallet WHERE member_id = ? AND wallet_status = '00'",
+                        Long.class, memberId));
+    }
+
+    /**
+     * @return 사용 1건 평균 처리 시간 (us)
+     */
+    private double use(long memberId, int iterations) {
+        long nanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            PointUseApprovalReq req = new PointUseApprovalReq();
+            req.setMemberId(memberId);
+            req.setAmount(WALLET_AMOUNT);
+            req.setLogAt(LocalDateTime.now().withNano(0));
+
+            long startedAt = System.nanoTime();
+            pointFacade.useApproval(req);
+            nanos += System.nanoTime() - startedAt;
+        }
+        return nanos / 1000.0 / iterations;
+    }
+
+    private long usableWallets(long memberId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM point_wallet
+                WHERE member_id = ? AND wallet_status = '00' AND issued_amount > used_amount
+                """, Long.class, memberId);
+    }
+
+    private long seed() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('compaction-bench', ?, CURRENT_TIMESTAMP)",
+                WALLET_AMOUNT * WALLETS);
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ?, ?, 0, '00', DATEADD('DAY', 30 + MOD(X, ?), CAST(? AS DATE)), 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, memberId, WALLET_AMOUNT, EXPIRE_DATES, LocalDate.now(), WALLETS);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT member_id, expire_date, SUM(issued_amount)
+                FROM point_wallet
+                WHERE member_id = ?
+                GROUP BY member_id, expire_date
+                """, memberId);
+        return memberId;
+    }
+}
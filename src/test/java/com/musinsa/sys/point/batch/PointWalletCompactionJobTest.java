@@ -0,0 +1,120 @@
+package com.musinsa.sys.point.batch;
+
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointSavingCancelReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointWalletCompactionReport;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미사용 자동지급 wallet 이 만료일별로 병합되고 잔액 / 적립 취소 / 사용이 그대로 동작하는지 확인
+ * <p>
+ * - chunk-size 4 로 같은 만료일 wallet 이 chunk 경계에 걸쳐도 병합 wallet 1개로 모이는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wallet-compaction;MODE=MYSQL",
+        "point.wallet-compaction.min-wallets=2",
+        "point.wallet-compaction.chunk-size=4"
+})
+class PointWalletCompactionJobTest {
+
+    @Autowired
+    private PointWalletCompactionJob pointWalletCompactionJob;
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void mergesFreshAutomaticWalletsPerExpireDate() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('compaction-test', 0, CURRENT_TIMESTAMP)");
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        LocalDate first = LocalDate.now().plusDays(10);
+        LocalDate second = LocalDate.now().plusDays(20);
+
+        for (int i = 0; i < 5; i++) saving(memberId, 10, first, WalletSourceType.AUTOMATIC);
+        saving(memberId, 30, first, WalletSourceType.MANUAL);               // 수기지급은 병합 제외
+        saving(memberId, 20, second, WalletSourceType.AUTOMATIC);
+        use(memberId, 35);                                                  // 수기지급 30 + 첫 자동지급 5 → 사용된 wallet 병합 제외
+        for (int i = 0; i < 3; i++) saving(memberId, 20, second, WalletSourceType.AUTOMATIC);
+        saving(memberId, 7, LocalDate.now().plusDays(30), WalletSourceType.AUTOMATIC);
+        List<Long> walletIds = jdbcTemplate.queryForList(
+                "SELECT wallet_id FROM point_wallet WHERE member_id = ? ORDER BY wallet_id", Long.class, memberId);
+
+        PointWalletCompactionReport report = new PointWalletCompactionReport();
+        pointWalletCompactionJob.compactMember(memberId, LocalDate.now(), report);
+
+        assertThat(report.getMergedWalletCount()).isEqualTo(8);             // first 4 + second 4
+        assertThat(report.getCreatedWalletCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT issued_amount - used_amount FROM point_wallet
+                WHERE member_id = ? AND wallet_status = '00' AND source_type = 'AU' AND used_amount = 0
+                ORDER BY expire_date
+                """, Long.class, memberId)).containsExactly(40L, 80L, 7L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT merged_wallet_id) FROM point_wallet_merge WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(2);
+        assertBalanceMatchesWallets(memberId, 132);
+
+        // 병합된 wallet 적립 취소 → 병합 wallet 지급 금액에서 차감
+        Long mergedSource = walletIds.get(1);
+        savingCancel(memberId, mergedSource, 10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT wallet_status FROM point_wallet WHERE wallet_id = ?", String.class, mergedSource)).isEqualTo("10");
+        assertBalanceMatchesWallets(memberId, 122);
+
+        // 남은 잔액 전부 사용 가능
+        use(memberId, 122);
+        assertBalanceMatchesWallets(memberId, 0);
+    }
+
+    private void assertBalanceMatchesWallets(long memberId, long expected) {
+        assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(issued_amount - used_amount), 0) FROM point_wallet
+                WHERE member_id = ? AND wallet_status = '00'
+                """, Long.class, memberId)).isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remain_amount), 0) FROM point_expiry_bucket WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(expected);
+    }
+
+    private void saving(long memberId, long amount, LocalDate expireDate, WalletSourceType sourceType) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setSourceType(sourceType);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(expireDate);
+        pointFacade.savingApproval(req);
+    }
+
+    private void savingCancel(long memberId, long walletId, long amount) {
+        PointSavingCancelReq req = new PointSavingCancelReq();
+        req.setMemberId(memberId);
+        req.setWalletId(walletId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.savingCancel(req);
+    }
+
+    private void use(long memberId, long amount) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.useApproval(req);
+    }
+}
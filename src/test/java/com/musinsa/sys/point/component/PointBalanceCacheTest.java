@@ -0,0 +1,70 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.dto.PointBalanceResp;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 요약 캐시 : 조회 결과 복사 반환 / ttl 재조회 / LRU 제거
+ */
+class PointBalanceCacheTest {
+
+    @Test
+    void returnsACopyThatCallersCannotChange() {
+        PointBalanceCache cache = new PointBalanceCache(true, 100, 60_000);
+        AtomicLong loads = new AtomicLong();
+
+        PointBalanceResp first = cache.get(1L, loader(1L, 500, loads));
+        first.setAvailableAmount(0L);
+
+        PointBalanceResp second = cache.get(1L, loader(1L, 999, loads));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getAvailableAmount()).isEqualTo(500);
+    }
+
+    @Test
+    void reloadsAfterTheTtl() throws InterruptedException {
+        PointBalanceCache cache = new PointBalanceCache(true, 100, 20);
+        AtomicLong loads = new AtomicLong();
+
+        cache.get(1L, loader(1L, 500, loads));
+        cache.get(1L, loader(1L, 500, loads));
+        assertThat(loads.get()).isEqualTo(1);
+
+        // 다른 노드의 변경 (evict 없음) 은 ttl 이후 조회에 반영
+        Thread.sleep(50);
+        assertThat(cache.get(1L, loader(1L, 700, loads)).getAvailableAmount()).isEqualTo(700);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsRecentlyReadMembersWhenFull() {
+        PointBalanceCache cache = new PointBalanceCache(true, 64, 60_000);
+        AtomicLong hotLoads = new AtomicLong();
+        AtomicLong otherLoads = new AtomicLong();
+
+        // 최대 건수를 여러 번 넘겨도 계속 조회되는 회원은 제거되지 않음 (전체 비움 없음)
+        cache.get(1L, loader(1L, 100, hotLoads));
+        for (long memberId = 2; memberId <= 1_000; memberId++) {
+            cache.get(memberId, loader(memberId, memberId, otherLoads));
+            cache.get(1L, loader(1L, 100, hotLoads));
+        }
+        assertThat(hotLoads.get()).isEqualTo(1);
+
+        // 오래전에 조회한 회원은 제거되어 다시 조회
+        cache.get(2L, loader(2L, 2, otherLoads));
+        assertThat(otherLoads.get()).isEqualTo(1_000);
+    }
+
+    private Supplier<PointBalanceResp> loader(long memberId, long amount, AtomicLong loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return new PointBalanceResp(memberId, amount, 0L, null, 0L);
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.common.repository.BatchCheckpointRepository;
+import com.musinsa.sys.point.entity.PointLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PointLogArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2020, 1);
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 1, 15, 10, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsOrderLogsAcrossBlockBoundaries() {
+        PointLogArchive archive = new PointLogArchive(mock(BatchCheckpointRepository.class), directory.toString(), 4);
+
+        // 주문 없는 적립 로그 3건 + 주문별 사용승인 / 취소 로그 (block 4건 단위로 주문이 걸치도록)
+        List<PointLog> pointLogs = new ArrayList<>();
+        long logId = 1;
+        for (int i = 0; i < 3; i++) pointLogs.add(log(logId++, "SA", null, 1_000));
+        for (int order = 0; order < 10; order++) {
+            String orderNo = orderNo(order);
+            pointLogs.add(log(logId++, "UA", orderNo, 500));
+            pointLogs.add(log(logId++, "UC", orderNo, 100));
+            pointLogs.add(log(logId++, "UC", orderNo, 50));
+        }
+
+        long written = archive.write(MONTH, consumer -> pointLogs.forEach(consumer));
+
+        assertThat(written).isEqualTo(33);
+        for (int order = 0; order < 10; order++) {
+            List<PointLog> found = archive.findByOrderNo(MONTH, orderNo(order));
+            assertThat(found).extracting(PointLog::getLogType).containsExactly("UA", "UC", "UC");
+            assertThat(found).extracting(PointLog::getAmount).containsExactly(500L, 100L, 50L);
+        }
+        PointLog useLog = archive.findByOrderNo(MONTH, orderNo(3)).get(0);
+        assertThat(useLog.getLogAt()).isEqualTo(AT);
+        assertThat(useLog.getMemberId()).isEqualTo(7L);
+
+        assertThat(archive.findByOrderNo(MONTH, "20200115999999009999")).isEmpty();
+        assertThat(archive.findByOrderNo(YearMonth.of(2020, 2), orderNo(0))).isEmpty();
+    }
+
+    @Test
+    void monthOfUsesOrderNoPrefix() {
+        assertThat(PointLogArchive.monthOf("20200115100000000001")).isEqualTo(MONTH);
+        assertThat(PointLogArchive.monthOf("ABC")).isNull();
+        assertThat(PointLogArchive.monthOf(null)).isNull();
+    }
+
+    private static String orderNo(int order) {
+        return String.format("20200115100000%02d%04d", 0, order);
+    }
+
+    private static PointLog log(long logId, String logType, String orderNo, long amount) {
+        return PointLog.builder()
+                .logId(logId)
+                .memberId(7L)
+                .logType(logType)
+                .logAt(AT)
+                .orderNo(orderNo)
+                .amount(amount)
+                .createdAt(AT)
+                .build();
+    }
+}
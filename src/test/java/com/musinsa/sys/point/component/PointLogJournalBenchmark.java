@@ -0,0 +1,193 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.PointSysApplication;
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.batch.PointLogJournalDrainer;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.service.PointFacade;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * point_log 동기 INSERT vs 저널(write-behind) 처리량 비교
+ * <p>
+ * - hot  : 인기 회원 1명에게 hot-threads 가 사용승인 → 회원 Row Lock 으로 직렬화되므로 처리량 ≒ 1 / Lock 보유 시간
+ * - cold : 일반 회원 다수에게 cold-threads 가 적립승인 → 전체 처리량
+ * - hot / cold 는 CPU 를 나눠 쓰지 않도록 따로 측정
+ * - 저널 모드는 종료 후 drain 하여 point_log 건수가 성공 건수와 같은지 확인
+ * ./gradlew benchmark --tests '*PointLogJournalBenchmark' -Dbench.durationMillis=20000
+ */
+@Tag("benchmark")
+class PointLogJournalBenchmark {
+
+    private static final int HOT_THREADS = Integer.getInteger("bench.hotThreads", 8);
+    private static final int COLD_THREADS = Integer.getInteger("bench.coldThreads", 8);
+    private static final int COLD_MEMBERS = Integer.getInteger("bench.coldMembers", 1_000);
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmupMillis", 3_000);
+    private static final long DURATION_MILLIS = Long.getLong("bench.durationMillis", 10_000);
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void synchronousInsertVersusJournal() throws Exception {
+        BenchmarkRecorder recorder = new BenchmarkRecorder(
+                String.format("point-log-journal(hot=%d,cold=%d)", HOT_THREADS, COLD_THREADS));
+
+        // JIT 예열 겸 1회 버림
+        run("warmup", false, null);
+        run("sync", false, recorder);
+        run("journal", true, recorder);
+    }
+
+    private void run(String mode, boolean journal, BenchmarkRecorder recorder) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PointSysApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:log-journal-" + mode + ";MODE=MYSQL;LOCK_TIMEOUT=10000",
+                        "spring.datasource.hikari.maximum-pool-size=" + (HOT_THREADS + COLD_THREADS + 2),
+                        "spring.jpa.show-sql=false",
+                        "point.expiration.enabled=false",
+                        "point.log-journal.enabled=" + journal,
+                        "point.log-journal.dir=" + journalDirectory.resolve(mode),
+                        "point.log-journal.drain-interval-ms=100",
+                        "point.log-journal.drain-batch-size=2000")
+                .run();
+
+        try {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            PointFacade pointFacade = context.getBean(PointFacade.class);
+            long[] members = seed(jdbcTemplate);
+            long logsBefore = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log", Long.class);
+
+            Result hot = load(pointFacade, members, HOT_THREADS, 0);
+            Result cold = load(pointFacade, members, 0, COLD_THREADS);
+
+            if (journal) {
+                context.getBean(PointLogJournalDrainer.class).drain();
+            }
+            long logsAfter = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log", Long.class);
+            assertThat(logsAfter - logsBefore).isEqualTo(hot.total.get() + cold.total.get());
+
+            if (recorder == null) return;
+            double hotOps = hot.hotOps.get() * 1000.0 / DURATION_MILLIS;
+            double coldOps = cold.coldOps.get() * 1000.0 / DURATION_MILLIS;
+            System.out.printf("[point-log-journal] %-8s hot %7.0f ops/s (lock hold ~%.3fms), cold %7.0f ops/s, errors=%d%n",
+                    mode, hotOps, hotOps == 0 ? 0 : 1000.0 / hotOps, coldOps, hot.errors.get() + cold.errors.get());
+            recorder.record(mode + ".hot.ops", hotOps, "ops/s");
+            recorder.record(mode + ".hot.lock-hold", hotOps == 0 ? 0 : 1000.0 / hotOps, "ms");
+            recorder.record(mode + ".cold.ops", coldOps, "ops/s");
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * @return [0] 인기 회원, [1..] 일반 회원
+     */
+    private long[] seed(JdbcTemplate jdbcTemplate) {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('journal-', X), 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(0, ?)
+                """, COLD_MEMBERS);
+
+        long hotBalance = 1_000_000_000L;
+        LocalDate expireDate = LocalDate.now().plusYears(1);
+        jdbcTemplate.update("UPDATE member SET point_balance = ? WHERE member_id = ?", hotBalance, firstMemberId);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, ?, 0, '00', ?, 'MA', CURRENT_TIMESTAMP)
+                """, firstMemberId, hotBalance, expireDate);
+        jdbcTemplate.update("INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount) VALUES (?, ?, ?)",
+                firstMemberId, expireDate, hotBalance);
+
+        long[] members = new long[COLD_MEMBERS + 1];
+        for (int i = 0; i <= COLD_MEMBERS; i++) {
+            members[i] = firstMemberId + i;
+        }
+        return members;
+    }
+
+    private Result load(PointFacade pointFacade, long[] members, int hotThreads, int coldThreads) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        Result result = new Result();
+        LocalDate expireDate = LocalDate.now().plusDays(30);
+
+        ExecutorService executor = Executors.newFixedThreadPool(hotThreads + coldThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < hotThreads + coldThreads; t++) {
+                boolean hot = t < hotThreads;
+                futures.add(executor.submit(() -> {
+                    while (running.get()) {
+                        try {
+                            if (hot) {
+                                PointUseApprovalReq req = new PointUseApprovalReq();
+                                req.setMemberId(members[0]);
+                                req.setAmount(1L);
+                                req.setLogAt(LocalDateTime.now().withNano(0));
+                                pointFacade.useApproval(req);
+                            } else {
+                                PointSavingApprovalReq req = new PointSavingApprovalReq();
+                                req.setMemberId(members[1 + ThreadLocalRandom.current().nextInt(COLD_MEMBERS)]);
+                                req.setSourceType(WalletSourceType.AUTOMATIC);
+                                req.setAmount(1L);
+                                req.setLogAt(LocalDateTime.now().withNano(0));
+                                req.setExpireDate(expireDate);
+                                pointFacade.savingApproval(req);
+                            }
+                            result.total.incrementAndGet();
+                            if (measuring.get()) (hot ? result.hotOps : result.coldOps).incrementAndGet();
+                        } catch (RuntimeException e) {
+                            if (measuring.get()) result.errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            Thread.sleep(WARMUP_MILLIS);
+            measuring.set(true);
+            Thread.sleep(DURATION_MILLIS);
+            measuring.set(false);
+            running.set(false);
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return result;
+    }
+
+    private static class Result {
+        final AtomicLong total = new AtomicLong();
+        final AtomicLong hotOps = new AtomicLong();
+        final AtomicLong coldOps = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+    }
+}
@@ -0,0 +1,138 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.entity.PointLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointLogJournalTest {
+
+    private static final LocalDateTime LOG_AT = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsOnlySyncedRecordsInOrder() {
+        PointLogJournal journal = open();
+
+        long seq = journal.append(List.of(log(1L, "SA", null), log(2L, "UA", "20260102030405000001")));
+        assertThat(journal.read(0, 10)).isEmpty();
+
+        journal.sync(seq);
+        List<PointLogJournal.Entry> entries = journal.read(0, 10);
+
+        assertThat(entries).extracting(PointLogJournal.Entry::seq).containsExactly(1L, 2L);
+        PointLog useLog = entries.get(1).pointLog();
+        assertThat(useLog.getMemberId()).isEqualTo(2L);
+        assertThat(useLog.getLogType()).isEqualTo("UA");
+        assertThat(useLog.getOrderNo()).isEqualTo("20260102030405000001");
+        assertThat(useLog.getLogAt()).isEqualTo(LOG_AT);
+        assertThat(entries.get(0).pointLog().getOrderNo()).isNull();
+        assertThat(journal.read(2, 10)).isEmpty();
+        journal.close();
+    }
+
+    @Test
+    void holdsBackReadsUntilInFlightRecordsComplete() {
+        PointLogJournal journal = open();
+
+        journal.sync(journal.append(List.of(log(1L, "SA", null))));
+        long inFlight = journal.appendInFlight(List.of(log(2L, "UA", null)));
+        journal.sync(journal.append(List.of(log(3L, "SA", null))));
+        journal.sync(inFlight);
+
+        // 트랜잭션이 끝나지 않은 seq 2 앞까지만 조회
+        assertThat(journal.read(0, 10)).extracting(PointLogJournal.Entry::seq).containsExactly(1L);
+
+        journal.completeInFlight(inFlight, inFlight);
+        assertThat(journal.read(1, 10)).extracting(PointLogJournal.Entry::seq).containsExactly(2L, 3L);
+        journal.close();
+    }
+
+    @Test
+    void rollsSegmentsAndDeletesDrainedOnes() throws IOException {
+        PointLogJournal journal = open();
+
+        // 1MB segment 를 넘도록 기록
+        List<PointLog> pointLogs = new ArrayList<>();
+        for (long i = 1; i <= 30_000; i++) pointLogs.add(log(i, "SA", null));
+        journal.sync(journal.append(pointLogs));
+
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        long drained = 0;
+        List<PointLogJournal.Entry> entries;
+        while (!(entries = journal.read(drained, 1_000)).isEmpty()) {
+            assertThat(entries.get(0).seq()).isEqualTo(drained + 1);
+            drained = entries.get(entries.size() - 1).seq();
+        }
+        assertThat(drained).isEqualTo(30_000);
+
+        journal.deleteThrough(drained);
+        assertThat(segmentCount()).isEqualTo(1);
+        journal.close();
+    }
+
+    @Test
+    void truncatesATornTailOnReopen() throws IOException {
+        PointLogJournal journal = open();
+        journal.sync(journal.append(List.of(log(1L, "SA", null), log(2L, "SA", null), log(3L, "SA", null))));
+        journal.close();
+
+        // 3번째 레코드 payload 일부 손상
+        Path segment = segments().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long recordBytes = 16 + 8 + 2 + 8 + 8 + 8 + 4 + 2;
+            file.seek(recordBytes * 2 + 20);
+            file.writeLong(-1L);
+        }
+
+        PointLogJournal reopened = open();
+        assertThat(reopened.read(0, 10)).extracting(PointLogJournal.Entry::seq).containsExactly(1L, 2L);
+
+        // 잘린 위치부터 이어서 seq 3 으로 기록
+        reopened.sync(reopened.append(List.of(log(30L, "SA", null))));
+        List<PointLogJournal.Entry> entries = reopened.read(2, 10);
+        assertThat(entries).extracting(PointLogJournal.Entry::seq).containsExactly(3L);
+        assertThat(entries.get(0).pointLog().getMemberId()).isEqualTo(30L);
+        reopened.close();
+    }
+
+    private PointLogJournal open() {
+        PointLogJournal journal = new PointLogJournal(true, directory.toString(), 1);
+        journal.open();
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        return segments().size();
+    }
+
+    private static PointLog log(Long memberId, String logType, String orderNo) {
+        return PointLog.builder()
+                .memberId(memberId)
+                .logType(logType)
+                .amount(100L)
+                .logAt(LOG_AT)
+                .orderNo(orderNo)
+                .createdAt(LOG_AT)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.point.component.PointMetrics.Operation;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    void recordsOperationByResultCode() {
+        pointMetrics.recordOperation(Operation.USE_APPROVAL, "MP000", System.nanoTime());
+        pointMetrics.recordOperation(Operation.USE_APPROVAL, "MP010", System.nanoTime());
+        pointMetrics.recordOperation(Operation.USE_APPROVAL, "XX999", System.nanoTime());
+
+        assertThat(count("use", "MP000")).isEqualTo(1);
+        assertThat(count("use", "MP010")).isEqualTo(1);
+        // 정의되지 않은 코드는 MP999 로 기록
+        assertThat(count("use", "MP999")).isEqualTo(1);
+        assertThat(meterRegistry.find("point.operation").tag("operation", "saving").timer()).isNull();
+    }
+
+    @Test
+    void registersOperationTimersLazilyWithHistogramOnlyForSuccess() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Map<String, Boolean> histograms = new HashMap<>();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals("point.operation")) {
+                    histograms.put(id.getTag("result"), Boolean.TRUE.equals(config.isPercentileHistogram()));
+                }
+                return config;
+            }
+        });
+        PointMetrics metrics = new PointMetrics(registry);
+        assertThat(registry.find("point.operation").timers()).isEmpty();
+
+        metrics.recordOperation(Operation.SAVING_APPROVAL, "MP000", System.nanoTime());
+        metrics.recordOperation(Operation.SAVING_APPROVAL, "MP000", System.nanoTime());
+        metrics.recordOperation(Operation.SAVING_APPROVAL, "MP003", System.nanoTime());
+
+        assertThat(registry.find("point.operation").timers()).hasSize(2);
+        assertThat(registry.get("point.operation").tag("result", "MP000").timer().count()).isEqualTo(2);
+        assertThat(histograms).containsEntry("MP000", true).containsEntry("MP003", false);
+    }
+
+    @Test
+    void countsRejectionsPerCode() {
+        pointMetrics.recordRejected("MP010");
+        pointMetrics.recordRejected("MP010");
+        pointMetrics.recordRejected("XX999");
+
+        assertThat(meterRegistry.get("point.rejected").tag("code", "MP010").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("point.rejected").tag("code", "unknown").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsWalletsLoadedAndTouched() {
+        pointMetrics.recordUsedWallets(120, 3);
+
+        assertThat(meterRegistry.get("point.use.wallets.loaded").summary().totalAmount()).isEqualTo(120);
+        assertThat(meterRegistry.get("point.use.wallets.touched").summary().totalAmount()).isEqualTo(3);
+    }
+
+    private long count(String operation, String result) {
+        return meterRegistry.get("point.operation").tag("operation", operation).tag("result", result).timer().count();
+    }
+}
@@ -0,0 +1,76 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.member.repository.MemberRepository;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import com.musinsa.sys.point.repository.PointPolicyRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 적립 1건당 회원 Row Lock 보유 시간 비교
+ * <p>
+ * - before : Lock 보유 중 정책 테이블 3회 조회 (기존 validateSavingAmount / validateBalanceLimit)
+ * - after  : Lock 보유 중 정책 캐시 3회 조회
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class PointPolicyCacheBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5_000);
+    private static final long MEMBER_ID = 1L;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PointPolicyRepository pointPolicyRepository;
+    @Autowired
+    private PointPolicyCache pointPolicyCache;
+
+    @Test
+    void lockHoldTimePerSaving() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Runnable repositoryLookup = () -> {
+            pointPolicyRepository.findByPolicyKey(PointPolicyKey.POINT_SAVING_MIN.name()).getPolicyValue();
+            pointPolicyRepository.findByPolicyKey(PointPolicyKey.POINT_SAVING_MAX.name()).getPolicyValue();
+            pointPolicyRepository.findByPolicyKey(PointPolicyKey.POINT_BALANCE_MAX.name()).getPolicyValue();
+        };
+        Runnable cacheLookup = () -> {
+            pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MIN);
+            pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MAX);
+            pointPolicyCache.getValue(PointPolicyKey.POINT_BALANCE_MAX);
+        };
+
+        // warm-up
+        measureLockHold(tx, repositoryLookup, ITERATIONS / 10);
+        measureLockHold(tx, cacheLookup, ITERATIONS / 10);
+
+        double before = measureLockHold(tx, repositoryLookup, ITERATIONS);
+        double after = measureLockHold(tx, cacheLookup, ITERATIONS);
+
+        System.out.printf("[policy-cache] iterations=%d, lock-hold policy lookups: repository=%.1fus, cache=%.1fus (-%.1fus/saving)%n",
+                ITERATIONS, before, after, before - after);
+    }
+
+    /**
+     * 회원 Lock 획득 직후부터 정책 조회 종료까지의 평균 시간(us)
+     */
+    private double measureLockHold(TransactionTemplate tx, Runnable policyLookup, int iterations) {
+        long totalNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            totalNanos += tx.execute(status -> {
+                memberRepository.findByMemberIdForUpdate(MEMBER_ID);
+                long start = System.nanoTime();
+                policyLookup.run();
+                return System.nanoTime() - start;
+            });
+        }
+        return totalNanos / 1_000.0 / iterations;
+    }
+}
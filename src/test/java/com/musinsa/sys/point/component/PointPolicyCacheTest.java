@@ -0,0 +1,94 @@
+package com.musinsa.sys.point.component;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.controller.PointPolicyAdminController;
+import com.musinsa.sys.point.dto.PointPolicyRevision;
+import com.musinsa.sys.point.entity.PointPolicy;
+import com.musinsa.sys.point.enums.PointPolicyKey;
+import com.musinsa.sys.point.repository.PointPolicyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PointPolicyCacheTest {
+
+    private final PointPolicyRepository pointPolicyRepository = mock(PointPolicyRepository.class);
+    private final PointPolicyCache pointPolicyCache = new PointPolicyCache(pointPolicyRepository);
+
+    @Test
+    void failsClosedWithMp014WhenAPolicyIsMissing() {
+        stub(1L, 1L, policy(PointPolicyKey.POINT_SAVING_MIN, 1L, 1L));
+
+        assertThat(pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MIN)).isEqualTo(1L);
+        assertThatThrownBy(() -> pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MAX))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP014");
+    }
+
+    @Test
+    void reloadsOnlyWhenTheRevisionChanges() {
+        stub(2L, 2L, policy(PointPolicyKey.POINT_SAVING_MIN, 1L, 1L), policy(PointPolicyKey.POINT_SAVING_MAX, 100_000L, 1L));
+        pointPolicyCache.getSnapshot();
+
+        // 변경 없음 → 건수 / 합계만 조회
+        pointPolicyCache.refreshIfChanged();
+        verify(pointPolicyRepository, times(1)).findAll();
+
+        // 버전 증가 → 재적재
+        stub(2L, 3L, policy(PointPolicyKey.POINT_SAVING_MIN, 1L, 1L), policy(PointPolicyKey.POINT_SAVING_MAX, 200_000L, 2L));
+        pointPolicyCache.refreshIfChanged();
+        assertThat(pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MAX)).isEqualTo(200_000L);
+        verify(pointPolicyRepository, times(2)).findAll();
+    }
+
+    @Test
+    void reloadsWhenADeleteOffsetsAVersionBump() {
+        stub(2L, 2L, policy(PointPolicyKey.POINT_SAVING_MIN, 1L, 1L), policy(PointPolicyKey.POINT_SAVING_MAX, 100_000L, 1L));
+        pointPolicyCache.getSnapshot();
+
+        // POINT_SAVING_MIN 삭제 + POINT_SAVING_MAX 버전 증가 → 합계는 그대로 2
+        stub(1L, 2L, policy(PointPolicyKey.POINT_SAVING_MAX, 200_000L, 2L));
+        pointPolicyCache.refreshIfChanged();
+
+        assertThat(pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MAX)).isEqualTo(200_000L);
+        assertThatThrownBy(() -> pointPolicyCache.getValue(PointPolicyKey.POINT_SAVING_MIN))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP014");
+    }
+
+    @Test
+    void adminRefreshSwapsTheSnapshot() throws Exception {
+        stub(1L, 1L, policy(PointPolicyKey.POINT_BALANCE_MAX, 500_000L, 1L));
+        pointPolicyCache.getSnapshot();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PointPolicyAdminController(pointPolicyCache)).build();
+
+        stub(1L, 1L, policy(PointPolicyKey.POINT_BALANCE_MAX, 700_000L, 1L));
+        mockMvc.perform(post("/admin/point/policy/refresh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rsltCd").value("MP000"))
+                .andExpect(jsonPath("$.rsltObj.values.POINT_BALANCE_MAX").value(700_000));
+
+        assertThat(pointPolicyCache.getValue(PointPolicyKey.POINT_BALANCE_MAX)).isEqualTo(700_000L);
+    }
+
+    private void stub(long count, long versionSum, PointPolicy... policies) {
+        when(pointPolicyRepository.findRevision()).thenReturn(new PointPolicyRevision(count, versionSum));
+        when(pointPolicyRepository.findAll()).thenReturn(List.of(policies));
+    }
+
+    private PointPolicy policy(PointPolicyKey policyKey, long value, long version) {
+        return PointPolicy.builder().policyKey(policyKey.name()).policyValue(value).policyVersion(version).build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.point.dto.PointBalanceResp;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalResp;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료일별 잔액 요약(point_expiry_bucket) 증분 반영 / 조회 캐시 삭제 확인
+ */
+@SpringBootTest
+class PointBalanceServiceTest {
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('balance-test', 0, CURRENT_TIMESTAMP)");
+        memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    @Test
+    void summaryFollowsSavingUseAndCancel() {
+        LocalDate today = LocalDate.now();
+        LocalDate soon = today.plusDays(10);
+        LocalDate later = today.plusYears(1);
+
+        saving(1_000, soon);
+        saving(500, later);
+
+        PointBalanceResp balance = pointFacade.getBalance(memberId);
+        assertThat(balance.getAvailableAmount()).isEqualTo(1_500);
+        assertThat(balance.getNextExpireDate()).isEqualTo(soon);
+        assertThat(balance.getNextExpireAmount()).isEqualTo(1_000);
+        assertThat(balance.getExpiringThisMonthAmount())
+                .isEqualTo(soon.getMonth() == today.getMonth() ? 1_000 : 0);
+
+        // 사용 → 캐시가 커밋 후 삭제되어 바로 반영
+        PointUseApprovalResp use = use(1_200);
+        balance = pointFacade.getBalance(memberId);
+        assertThat(balance.getAvailableAmount()).isEqualTo(300);
+        assertThat(balance.getNextExpireDate()).isEqualTo(later);
+        assertThat(balance.getNextExpireAmount()).isEqualTo(300);
+        assertSummaryMatchesWallets();
+
+        // 사용 취소 → 원래 만료일로 복원
+        useCancel(use.getOrderNo(), 1_200);
+        balance = pointFacade.getBalance(memberId);
+        assertThat(balance.getAvailableAmount()).isEqualTo(1_500);
+        assertThat(balance.getNextExpireDate()).isEqualTo(soon);
+        assertSummaryMatchesWallets();
+    }
+
+    private void assertSummaryMatchesWallets() {
+        Long walletRemain = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(issued_amount - used_amount), 0)
+                FROM point_wallet
+                WHERE member_id = ? AND wallet_status = '00'
+                """, Long.class, memberId);
+        Long bucketRemain = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remain_amount), 0) FROM point_expiry_bucket WHERE member_id = ?", Long.class, memberId);
+        assertThat(bucketRemain).isEqualTo(walletRemain);
+    }
+
+    private void saving(long amount, LocalDate expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(expireDate);
+        pointFacade.savingApproval(req);
+    }
+
+    private PointUseApprovalResp use(long amount) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return pointFacade.useApproval(req);
+    }
+
+    private void useCancel(String orderNo, long amount) {
+        PointUseCancelReq req = new PointUseCancelReq();
+        req.setMemberId(memberId);
+        req.setOrderNo(orderNo);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.useCancel(req);
+    }
+}
@@ -0,0 +1,208 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.point.dto.PointBulkSavingApprovalResp;
+import com.musinsa.sys.point.dto.PointBulkSavingItemResp;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.repository.PointBatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 포인트 대량 적립 (POST /point/saving/bulk-approval)
+ * <p>
+ * - 요청 순번별 결과 (검증 실패 / 회원 없음 / 보유 한도 초과 / 정상)
+ * - chunk 단위 커밋 : 뒤 chunk 가 실패해도 앞 chunk 적립은 유지
+ * - chunk 내 회원은 member_id 순으로 Lock, 같은 회원은 chunk 경계에서 나뉘지 않음
+ * - 잔액 = 정상 wallet 잔여 합계 = 만료일별 요약 합계 = 적립 로그 합계
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:point-bulk-saving;MODE=MYSQL",
+        "point.bulk.chunk-size=2",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointBulkSavingServiceTest {
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private PointBulkSavingService pointBulkSavingService;
+    @MockitoSpyBean
+    private PointBatchRepository pointBatchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // 다른 테스트의 spy 동작 원복
+        doAnswer(invocation -> invocation.callRealMethod()).when(pointBatchRepository).batchAddBalances(anyMap());
+        clearInvocations(pointBatchRepository);
+    }
+
+    @Test
+    void returnsAResultPerItemForMixedItems() throws Exception {
+        long member = insertMember(0);
+        long nearLimit = insertMember(499_990);
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        String body = """
+                {"items": [%s, %s, %s, %s, %s, %s]}
+                """.formatted(
+                item(member, 100, LocalDate.now().plusDays(30)),
+                item(member, 0, LocalDate.now().plusDays(30)),           // 1회 최소 적립 금액 미만
+                item(Long.MAX_VALUE, 100, LocalDate.now().plusDays(30)), // 회원 없음
+                item(nearLimit, 100, LocalDate.now().plusDays(30)),      // 보유 한도 초과
+                item(member, 100, LocalDate.now()),                       // 만료일 1일 미만
+                item(nearLimit, 5, LocalDate.now().plusDays(30)));
+
+        mockMvc.perform(post("/point/saving/bulk-approval").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rsltCd").value("MP000"))
+                .andExpect(jsonPath("$.rsltObj.totalCount").value(6))
+                .andExpect(jsonPath("$.rsltObj.successCount").value(2))
+                .andExpect(jsonPath("$.rsltObj.failCount").value(4))
+                .andExpect(jsonPath("$.rsltObj.items[*].index").value(contains(0, 1, 2, 3, 4, 5)))
+                .andExpect(jsonPath("$.rsltObj.items[*].rsltCd")
+                        .value(contains("MP000", "MP002", "HB001", "MP003", "MP004", "MP000")));
+
+        assertConsistent(member, 100);
+        // 보유 한도 초과 건은 기록 없이 같은 회원의 다음 건만 적립
+        assertThat(balance(nearLimit)).isEqualTo(499_995);
+        assertThat(jdbcTemplate.queryForList("SELECT issued_amount FROM point_wallet WHERE member_id = ?", Long.class, nearLimit))
+                .containsExactly(5L);
+    }
+
+    @Test
+    void keepsEarlierChunksCommittedWhenALaterChunkFails() {
+        long first = insertMember(0);
+        long second = insertMember(0);
+        long failing = insertMember(0);
+        doAnswer(invocation -> {
+            Map<Long, Long> amounts = invocation.getArgument(0);
+            if (amounts.containsKey(failing)) throw new IllegalStateException("chunk failure");
+            return invocation.callRealMethod();
+        }).when(pointBatchRepository).batchAddBalances(anyMap());
+
+        // 회원ID 순 chunk : [first, second] → [failing]
+        PointBulkSavingApprovalResp resp = pointBulkSavingService.savingApproval(List.of(
+                req(failing, 300), req(second, 200), req(first, 100)));
+
+        assertThat(resp.getItems()).extracting(PointBulkSavingItemResp::getRsltCd)
+                .containsExactly("MP999", "MP000", "MP000");
+        assertThat(balance(first)).isEqualTo(100);
+        assertThat(balance(second)).isEqualTo(200);
+        assertConsistent(first, 100);
+        assertConsistent(second, 200);
+        // 실패 chunk 는 wallet / 로그 / 요약 모두 롤백
+        assertThat(balance(failing)).isZero();
+        assertConsistent(failing, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void locksMembersInIdOrderAndKeepsDuplicateMembersInOneChunk() {
+        long first = insertMember(0);
+        long second = insertMember(0);
+        long third = insertMember(0);
+        clearInvocations(pointBatchRepository);
+
+        PointBulkSavingApprovalResp resp = pointBulkSavingService.savingApproval(List.of(
+                req(second, 10), req(third, 30), req(second, 20), req(first, 40), req(second, 50)));
+
+        assertThat(resp.getItems()).extracting(PointBulkSavingItemResp::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(resp.getSuccessCount()).isEqualTo(5);
+
+        // chunk 크기 2 이지만 second 3건은 한 chunk : [first, second x3] → [third]
+        ArgumentCaptor<Collection<Long>> locked = ArgumentCaptor.forClass(Collection.class);
+        verify(pointBatchRepository, times(2)).findBalancesForUpdate(locked.capture());
+        assertThat(locked.getAllValues()).extracting(ArrayList::new)
+                .containsExactly(new ArrayList<>(List.of(first, second)), new ArrayList<>(List.of(third)));
+
+        assertConsistent(first, 40);
+        assertConsistent(second, 80);
+        assertConsistent(third, 30);
+        // 같은 회원의 적립 로그는 요청 순서
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT amount FROM point_log WHERE member_id = ? ORDER BY created_at, log_id", Long.class, second))
+                .containsExactly(10L, 20L, 50L);
+    }
+
+    /**
+     * 잔액 = 정상 wallet 잔여 합계 = 만료일별 요약 합계 = 적립 로그 합계, 로그마다 같은 금액의 wallet 참조
+     */
+    private void assertConsistent(long memberId, long expected) {
+        assertThat(balance(memberId)).isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(issued_amount - used_amount), 0) FROM point_wallet WHERE member_id = ? AND wallet_status = '00'",
+                Long.class, memberId)).isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remain_amount), 0) FROM point_expiry_bucket WHERE member_id = ?", Long.class, memberId))
+                .isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_log WHERE member_id = ? AND log_type = 'SA'", Long.class, memberId))
+                .isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM point_log l
+                LEFT JOIN point_wallet w ON w.wallet_id = l.wallet_id AND w.member_id = l.member_id AND w.issued_amount = l.amount
+                WHERE l.member_id = ? AND w.wallet_id IS NULL
+                """, Long.class, memberId)).isZero();
+    }
+
+    private PointSavingApprovalReq req(long memberId, long amount) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setExpireDate(LocalDate.now().plusDays(30));
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    private String item(long memberId, long amount, LocalDate expireDate) {
+        return """
+                {"memberId": %d, "sourceType": "AU", "amount": %d, "logAt": "%s", "expireDate": "%s"}
+                """.formatted(memberId, amount,
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")),
+                expireDate.format(DateTimeFormatter.BASIC_ISO_DATE)).strip();
+    }
+
+    private long insertMember(long balance) {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('bulk-saving', ?, CURRENT_TIMESTAMP)", balance);
+        return jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.member.component.MemberLockManager;
+import com.musinsa.sys.point.component.PointPolicyCache;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 회원 상태와 무관한 적립 요청 검증은 회원 Lock / 트랜잭션 전에 거절
+ * <p>
+ * - 1회 최소 적립 금액 미만(MP002), 만료일 1일 미만(MP004), 만료일 5년 이상(MP005)
+ * - JVM Lock, PointService, 트랜잭션 모두 시작하지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:point-facade-validation;MODE=MYSQL",
+        "point.member-lock.enabled=true",
+        // 정책 캐시 주기 갱신(다른 스레드의 조회 트랜잭션) 제외
+        "point.policy.refresh-interval-ms=3600000",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointFacadeValidationTest {
+
+    @Autowired
+    private PointFacade pointFacade;
+    @MockitoSpyBean
+    private MemberLockManager memberLockManager;
+    @MockitoSpyBean
+    private PointService pointService;
+    @MockitoSpyBean
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private PointPolicyCache pointPolicyCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rejectsInvalidSavingRequestsBeforeLockOrTransaction() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('validation', 0, CURRENT_TIMESTAMP)");
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        LocalDate today = LocalDate.now();
+        // 정책은 캐시에서 조회 (최초 적재 후)
+        pointPolicyCache.getSnapshot();
+        clearInvocations(memberLockManager, pointService, transactionManager);
+
+        assertRejected(savingReq(memberId, 0, today.plusDays(30)), "MP002");
+        assertRejected(savingReq(memberId, 100, today), "MP004");
+        assertRejected(savingReq(memberId, 100, today.plusYears(5)), "MP005");
+
+        verify(memberLockManager, never()).executeWithLock(anyLong(), any());
+        verify(pointService, never()).savingApproval(any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private void assertRejected(PointSavingApprovalReq req, String procCd) {
+        assertThatThrownBy(() -> pointFacade.savingApproval(req))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo(procCd);
+    }
+
+    private PointSavingApprovalReq savingReq(long memberId, long amount, LocalDate expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setExpireDate(expireDate);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+}
@@ -0,0 +1,159 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.member.component.MemberLockManager;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 회원 동시 사용 승인 처리량 : PointService(JVM Lock + 회원 Row Lock) / 메모리 원장
+ * <p>
+ * - bench.threads 개 스레드가 bench.members 명에게 1P 사용 승인을 bench.durationMillis 동안 반복
+ * - PointService 경로는 PointFacade 와 같이 회원 JVM Lock 안에서 트랜잭션 1회 / 명령
+ * - 메모리 원장 경로는 shard 스레드가 대기 중인 명령을 묶어 트랜잭션 1회 / 묶음
+ * ./gradlew benchmark --tests '*PointLedgerEngineBenchmark' -Dbench.members=1,8
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:point-ledger-bench;MODE=MYSQL;LOCK_TIMEOUT=10000",
+        "point.member-lock.enabled=true",
+        "point.ledger.enabled=true",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointLedgerEngineBenchmark {
+
+    private static final int[] MEMBERS = Arrays.stream(System.getProperty("bench.members", "1,8").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private static final int THREADS = Integer.getInteger("bench.threads", 32);
+    private static final int WALLETS = Integer.getInteger("bench.wallets", 200);
+    private static final long DURATION_MILLIS = Long.getLong("bench.durationMillis", 3_000);
+    private static final long WALLET_AMOUNT = 1_000L;
+
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private PointLedgerEngine pointLedgerEngine;
+    @Autowired
+    private MemberLockManager memberLockManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void hotMemberUseThroughput() throws Exception {
+        BenchmarkRecorder recorder = new BenchmarkRecorder("point-ledger(threads=" + THREADS + ")");
+
+        for (int members : MEMBERS) {
+            long serviceFirst = seed(members);
+            Result service = run(members, memberId ->
+                    memberLockManager.executeWithLock(memberId, () -> pointService.useApproval(useReq(memberId))), serviceFirst);
+            long ledgerFirst = seed(members);
+            Result ledger = run(members, memberId -> pointLedgerEngine.useApproval(useReq(memberId)), ledgerFirst);
+
+            System.out.printf("[point-ledger] members=%-3d service %8.0f ops/s (errors=%d), ledger %8.0f ops/s (errors=%d)%n",
+                    members, service.opsPerSec(), service.errors(), ledger.opsPerSec(), ledger.errors());
+            recorder.record("members-" + members + ".service.throughput", service.opsPerSec(), "ops/s");
+            recorder.record("members-" + members + ".ledger.throughput", ledger.opsPerSec(), "ops/s");
+
+            // 원장 경로도 DB 잔액 = 정상 wallet 잔여 합계
+            for (long memberId = ledgerFirst; memberId < ledgerFirst + members; memberId++) {
+                assertThat(jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId))
+                        .isEqualTo(jdbcTemplate.queryForObject(
+                                "SELECT SUM(issued_amount - used_amount) FROM point_wallet WHERE member_id = ? AND wallet_status = '00'",
+                                Long.class, memberId));
+            }
+        }
+    }
+
+    /**
+     * 실패(Lock 대기 초과 / MP015 등)는 처리 건수에서 제외하고 별도 집계
+     */
+    private Result run(int members, LongConsumer use, long firstMemberId) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong ops = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long memberId = firstMemberId + t % members;
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    try {
+                        use.accept(memberId);
+                        ops.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        Thread.sleep(DURATION_MILLIS);
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+        return new Result(ops.get() / seconds, errors.get());
+    }
+
+    private PointUseApprovalReq useReq(long memberId) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(1L);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    /**
+     * 회원 members 명에게 만료일이 서로 다른 자동지급 wallet WALLETS 개 지급
+     *
+     * @return 첫 회원 ID (연속 ID)
+     */
+    private long seed(int members) {
+        long firstMemberId = 0;
+        for (int i = 0; i < members; i++) {
+            jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('point-ledger', ?, CURRENT_TIMESTAMP)",
+                    WALLET_AMOUNT * WALLETS);
+            long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+            if (i == 0) firstMemberId = memberId;
+            jdbcTemplate.update("""
+                    INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                    SELECT ?, ?, 0, '00', DATEADD('DAY', X, CAST(? AS DATE)), 'AU', CURRENT_TIMESTAMP
+                    FROM SYSTEM_RANGE(1, ?)
+                    """, memberId, WALLET_AMOUNT, LocalDate.now(), WALLETS);
+            jdbcTemplate.update("""
+                    INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                    SELECT ?, DATEADD('DAY', X, CAST(? AS DATE)), ?
+                    FROM SYSTEM_RANGE(1, ?)
+                    """, memberId, LocalDate.now(), WALLET_AMOUNT, WALLETS);
+        }
+        return firstMemberId;
+    }
+
+    private record Result(double opsPerSec, long errors) {
+    }
+}
@@ -0,0 +1,374 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointSavingCancelReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalResp;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import com.musinsa.sys.point.repository.PointLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * PointService / 메모리 원장(PointLedgerEngine) 차등 검증
+ * <p>
+ * - 같은 wallet 구성의 회원 2명에게 같은 명령 순서(seed 고정 난수)를 각 경로로 처리하고
+ * 명령별 결과(응답 금액 / 거절 코드)와 최종 잔액 / wallet / 사용 상세 / 만료일별 요약 / 로그 순서가 같은지 비교
+ * - 중간에 만료 배치처럼 DB 를 직접 바꿔 원장의 version 감지 → 재적재 → 만료분 재적립 경로 확인
+ * - wallet 단위 사용 상세가 없는 주문 취소는 원장이 PointService 로 위임
+ * - 기록 시 version 충돌이 반복되는 회원의 명령만 MP015, 같은 묶음의 다른 회원 명령은 기록
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:point-ledger;MODE=MYSQL",
+        "point.ledger.enabled=true",
+        "point.ledger.shards=2",
+        "point.ledger.batch-size=16",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointLedgerEngineTest {
+
+    private static final int COMMANDS = 400;
+    private static final int EXPIRE_AT = 200;
+
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private PointLedgerEngine pointLedgerEngine;
+    @MockitoSpyBean
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        doAnswer(invocation -> invocation.callRealMethod()).when(pointLedgerRepository).updateBalances(anyMap());
+    }
+
+    @Test
+    void ledgerAndServiceProduceTheSameResults() {
+        long dbMember = seed();
+        long ledgerMember = seed();
+        List<String> dbOrders = new ArrayList<>(List.of("LEGACY-" + dbMember));
+        List<String> ledgerOrders = new ArrayList<>(List.of("LEGACY-" + ledgerMember));
+
+        Random random = new Random(25);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < COMMANDS; i++) {
+            if (i == EXPIRE_AT) {
+                expire(dbMember, today.plusDays(60));
+                expire(ledgerMember, today.plusDays(60));
+            }
+
+            int kind = random.nextInt(10);
+            long amount;
+            String db;
+            String ledger;
+            if (kind < 3) {
+                // 적립 승인 (가끔 보유 한도 초과)
+                amount = random.nextInt(100) < 3 ? 600_000 : 1 + random.nextInt(50);
+                WalletSourceType sourceType = random.nextBoolean() ? WalletSourceType.MANUAL : WalletSourceType.AUTOMATIC;
+                LocalDate expireDate = today.plusDays(1 + random.nextInt(400));
+                db = outcome(() -> pointService.savingApproval(savingApproval(dbMember, amount, sourceType, expireDate)).getAmount());
+                ledger = outcome(() -> pointLedgerEngine.savingApproval(savingApproval(ledgerMember, amount, sourceType, expireDate)).getAmount());
+            } else if (kind < 4) {
+                // 적립 취소 (wallet 생성 순번, 범위 밖이면 없는 wallet)
+                int ordinal = random.nextInt(walletCount(dbMember) + 1);
+                db = outcome(() -> pointService.savingCancel(savingCancel(dbMember, ordinal)).getAmount());
+                ledger = outcome(() -> pointLedgerEngine.savingCancel(savingCancel(ledgerMember, ordinal)).getAmount());
+            } else if (kind < 8) {
+                // 사용 승인 (가끔 잔액 부족)
+                amount = 1 + random.nextInt(120);
+                db = outcome(() -> use(pointService.useApproval(useApproval(dbMember, amount)), dbOrders));
+                ledger = outcome(() -> use(pointLedgerEngine.useApproval(useApproval(ledgerMember, amount)), ledgerOrders));
+            } else {
+                // 사용 취소 (주문 순번, 부분 취소 / 초과 취소)
+                int ordinal = random.nextInt(dbOrders.size());
+                amount = 1 + random.nextInt(60);
+                db = outcome(() -> pointService.useCancel(useCancel(dbMember, dbOrders.get(ordinal), amount)).getAmount());
+                ledger = outcome(() -> pointLedgerEngine.useCancel(useCancel(ledgerMember, ledgerOrders.get(ordinal), amount)).getAmount());
+            }
+            assertThat(ledger).as("command %d (kind %d)", i, kind).isEqualTo(db);
+        }
+
+        assertThat(balance(ledgerMember)).isEqualTo(balance(dbMember));
+        assertThat(state(ledgerMember, ledgerOrders)).isEqualTo(state(dbMember, dbOrders));
+    }
+
+    /**
+     * 같은 shard 로 동시에 들어온 사용 / 사용 취소가 묶음으로 처리되어도 잔액 / wallet / 사용 상세가 맞는지 확인
+     */
+    @Test
+    void concurrentCommandsAreAppliedInBatches() throws Exception {
+        long memberId = seed();
+        long initial = balance(memberId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10; i++) {
+                    PointUseApprovalResp resp = pointLedgerEngine.useApproval(useApproval(memberId, 3));
+                    pointLedgerEngine.useCancel(useCancel(memberId, resp.getOrderNo(), 1));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(balance(memberId)).isEqualTo(initial - 80 * 2)
+                .isEqualTo(jdbcTemplate.queryForObject("""
+                        SELECT SUM(issued_amount - used_amount) FROM point_wallet
+                        WHERE member_id = ? AND wallet_status = '00' AND expire_date >= CURRENT_DATE
+                        """, Long.class, memberId));
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT SUM(d.cancelable_amount) FROM point_use_detail d JOIN point_wallet w ON w.wallet_id = d.wallet_id
+                WHERE w.member_id = ?
+                """, Long.class, memberId)).isEqualTo(80 * 2);
+    }
+
+    /**
+     * 다른 경로가 기록 때마다 한 회원의 version 을 바꾸면 그 회원 명령만 MP015, 같은 묶음의 다른 회원 명령은 기록
+     */
+    @Test
+    void versionConflictsFailOnlyTheConflictingMembersCommands() throws Exception {
+        long conflicting = seed();
+        long other = seed();
+        // 같은 shard (shards=2)
+        while (Math.floorMod(other - conflicting, 2L) != 0) {
+            other = seed();
+        }
+        long conflictingInitial = balance(conflicting);
+        long otherInitial = balance(other);
+        long otherMember = other;
+        int conflictingLogs = logCount(conflicting);
+        int otherLogs = logCount(otherMember);
+
+        CountDownLatch queued = new CountDownLatch(1);
+        AtomicBoolean holding = new AtomicBoolean(true);
+        List<Set<Long>> persisted = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Map<Long, long[]> balances = invocation.getArgument(0);
+            persisted.add(Set.copyOf(balances.keySet()));
+            // 첫 기록 동안 다음 명령들이 큐에 쌓여 한 묶음으로 처리되도록 대기
+            if (holding.getAndSet(false)) queued.await(10, TimeUnit.SECONDS);
+            if (balances.containsKey(conflicting)) {
+                jdbcTemplate.update("UPDATE member SET version = version + 1 WHERE member_id = ?", conflicting);
+            }
+            return invocation.callRealMethod();
+        }).when(pointLedgerRepository).updateBalances(anyMap());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Future<String> first = executor.submit(() -> outcome(() -> pointLedgerEngine.useApproval(useApproval(conflicting, 1)).getAmount()));
+        while (persisted.isEmpty()) {
+            Thread.sleep(10);
+        }
+        Future<String> second = executor.submit(() -> outcome(() -> pointLedgerEngine.useApproval(useApproval(otherMember, 1)).getAmount()));
+        Future<String> third = executor.submit(() -> outcome(() -> pointLedgerEngine.useApproval(useApproval(conflicting, 1)).getAmount()));
+        Thread.sleep(300);
+        queued.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("MP015");
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("ok 1");
+        assertThat(third.get(10, TimeUnit.SECONDS)).isEqualTo("MP015");
+        executor.shutdown();
+
+        assertThat(persisted).contains(Set.of(conflicting, otherMember), Set.of(otherMember));
+        assertThat(balance(conflicting)).isEqualTo(conflictingInitial);
+        assertThat(balance(otherMember)).isEqualTo(otherInitial - 1);
+        assertThat(logCount(conflicting)).isEqualTo(conflictingLogs);
+        assertThat(logCount(otherMember)).isEqualTo(otherLogs + 1);
+    }
+
+    private int logCount(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    private String outcome(Supplier<Object> command) {
+        try {
+            return "ok " + command.get();
+        } catch (ServiceException e) {
+            return e.getProcCd();
+        }
+    }
+
+    private long use(PointUseApprovalResp resp, List<String> orders) {
+        orders.add(resp.getOrderNo());
+        return resp.getAmount();
+    }
+
+    private PointSavingApprovalReq savingApproval(long memberId, long amount, WalletSourceType sourceType, LocalDate expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setSourceType(sourceType);
+        req.setExpireDate(expireDate);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    private PointSavingCancelReq savingCancel(long memberId, int ordinal) {
+        List<long[]> wallets = jdbcTemplate.query(
+                "SELECT wallet_id, issued_amount FROM point_wallet WHERE member_id = ? ORDER BY wallet_id",
+                (rs, rowNum) -> new long[]{rs.getLong("wallet_id"), rs.getLong("issued_amount")}, memberId);
+        PointSavingCancelReq req = new PointSavingCancelReq();
+        req.setMemberId(memberId);
+        req.setWalletId(ordinal < wallets.size() ? wallets.get(ordinal)[0] : -1L);
+        req.setAmount(ordinal < wallets.size() ? wallets.get(ordinal)[1] : 1L);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    private PointUseApprovalReq useApproval(long memberId, long amount) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    private PointUseCancelReq useCancel(long memberId, String orderNo, long amount) {
+        PointUseCancelReq req = new PointUseCancelReq();
+        req.setMemberId(memberId);
+        req.setOrderNo(orderNo);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return req;
+    }
+
+    /**
+     * 만료 배치처럼 before 이전 만료일의 정상 wallet 을 만료 처리 (잔액 / 만료일별 요약 차감, version 증가)
+     */
+    private void expire(long memberId, LocalDate before) {
+        jdbcTemplate.update("""
+                UPDATE member
+                SET point_balance = point_balance - (SELECT COALESCE(SUM(issued_amount - used_amount), 0)
+                                                     FROM point_wallet
+                                                     WHERE member_id = ? AND wallet_status = '00' AND expire_date < ?),
+                    version = version + 1
+                WHERE member_id = ?
+                """, memberId, before, memberId);
+        jdbcTemplate.update("UPDATE point_wallet SET wallet_status = '20' WHERE member_id = ? AND wallet_status = '00' AND expire_date < ?",
+                memberId, before);
+        jdbcTemplate.update("UPDATE point_expiry_bucket SET remain_amount = 0 WHERE member_id = ? AND expire_date < ?",
+                memberId, before);
+    }
+
+    /**
+     * 수기지급 / 자동지급 / 일부 사용 / 취소 wallet + wallet 단위 사용 상세 이전 주문 1건 (사용 30P)
+     */
+    private long seed() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('point-ledger', 0, CURRENT_TIMESTAMP)");
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        LocalDate today = LocalDate.now();
+
+        wallet(memberId, 100, 30, "00", today.plusDays(40), "AU");
+        wallet(memberId, 80, 0, "00", today.plusDays(300), "MA");
+        for (int i = 1; i <= 6; i++) {
+            wallet(memberId, 40, 0, "00", today.plusDays(20 * i), "AU");
+        }
+        wallet(memberId, 60, 0, "10", today.plusDays(5), "AU");
+        wallet(memberId, 50, 0, "00", today.minusDays(1), "AU");
+        jdbcTemplate.update("""
+                UPDATE member
+                SET point_balance = (SELECT SUM(issued_amount - used_amount) FROM point_wallet
+                                     WHERE member_id = ? AND wallet_status = '00' AND expire_date >= CURRENT_DATE)
+                WHERE member_id = ?
+                """, memberId, memberId);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT member_id, expire_date, SUM(issued_amount - used_amount)
+                FROM point_wallet
+                WHERE member_id = ? AND wallet_status = '00' AND expire_date >= CURRENT_DATE
+                GROUP BY member_id, expire_date
+                """, memberId);
+        jdbcTemplate.update("""
+                INSERT INTO point_log (member_id, log_type, log_at, order_no, amount, created_at)
+                VALUES (?, 'UA', ?, ?, 30, CURRENT_TIMESTAMP)
+                """, memberId, LocalDateTime.now().withNano(0), "LEGACY-" + memberId);
+        return memberId;
+    }
+
+    private void wallet(long memberId, long issued, long used, String status, LocalDate expireDate, String sourceType) {
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+                """, memberId, issued, used, status, expireDate, sourceType);
+    }
+
+    private int walletCount(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_wallet WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+
+    /**
+     * wallet 은 생성 순번, 주문은 orders 순번으로 비교 (회원마다 wallet_id / 주문번호가 다름)
+     */
+    private List<String> state(long memberId, List<String> orders) {
+        List<String> state = new ArrayList<>();
+        List<Long> walletIds = jdbcTemplate.queryForList(
+                "SELECT wallet_id FROM point_wallet WHERE member_id = ? ORDER BY wallet_id", Long.class, memberId);
+        state.addAll(jdbcTemplate.query("""
+                        SELECT issued_amount, used_amount, wallet_status, expire_date, source_type
+                        FROM point_wallet WHERE member_id = ? ORDER BY wallet_id
+                        """,
+                (rs, rowNum) -> "wallet#" + rowNum + " issued=" + rs.getLong("issued_amount") + " used=" + rs.getLong("used_amount")
+                        + " status=" + rs.getString("wallet_status") + " expire=" + rs.getDate("expire_date")
+                        + " source=" + rs.getString("source_type"),
+                memberId));
+        state.addAll(jdbcTemplate.query("""
+                        SELECT d.order_no, d.wallet_id, d.used_amount, d.cancelable_amount
+                        FROM point_use_detail d JOIN point_wallet w ON w.wallet_id = d.wallet_id
+                        WHERE w.member_id = ?
+                        ORDER BY d.use_id
+                        """,
+                (rs, rowNum) -> "detail order#" + orders.indexOf(rs.getString("order_no"))
+                        + " wallet#" + walletIds.indexOf(rs.getLong("wallet_id"))
+                        + " used=" + rs.getLong("used_amount") + " cancelable=" + rs.getLong("cancelable_amount"),
+                memberId));
+        state.addAll(jdbcTemplate.query("""
+                        SELECT expire_date, remain_amount FROM point_expiry_bucket
+                        WHERE member_id = ? AND remain_amount <> 0 ORDER BY expire_date
+                        """,
+                (rs, rowNum) -> "bucket " + rs.getDate("expire_date") + " remain=" + rs.getLong("remain_amount"), memberId));
+        state.addAll(jdbcTemplate.query(
+                "SELECT log_type, amount, wallet_id, order_no FROM point_log WHERE member_id = ? ORDER BY log_id",
+                (rs, rowNum) -> "log " + rs.getString("log_type") + " amount=" + rs.getLong("amount")
+                        + " wallet#" + walletIds.indexOf(rs.getObject("wallet_id", Long.class))
+                        + " order#" + orders.indexOf(rs.getString("order_no")),
+                memberId));
+        return state;
+    }
+}
@@ -0,0 +1,174 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.common.handler.GlobalExceptionHandler;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거절 요청이 섞인 적립 트래픽 처리량
+ * <p>
+ * - bench.rejectPercent(기본 30%) 요청은 금액(MP002) / 만료일(MP004) 오류, 나머지는 정상 적립
+ * - 소수 회원에게 몰리도록 하여 거절 요청이 회원 Lock / 커넥션을 기다리지 않는지 확인 (커넥션 획득 수 ≒ 정상 건수)
+ * - 거절은 GlobalExceptionHandler 까지 거쳐 응답 생성 / 로그 비용 포함
+ * ./gradlew benchmark --tests '*PointRejectionBenchmark' -Dbench.threads=16 -Dbench.rejectPercent=30
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=8",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false"
+})
+class PointRejectionBenchmark {
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 16);
+    private static final int MEMBERS = Integer.getInteger("bench.members", 8);
+    private static final int REJECT_PERCENT = Integer.getInteger("bench.rejectPercent", 30);
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmupMillis", 2_000);
+    private static final long DURATION_MILLIS = Long.getLong("bench.durationMillis", 5_000);
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private GlobalExceptionHandler globalExceptionHandler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void savingWithRejections() {
+        long firstMemberId = seed();
+        load(firstMemberId, WARMUP_MILLIS);
+
+        long acquiredBefore = connectionAcquisitions();
+        Result result = load(firstMemberId, DURATION_MILLIS);
+        long acquired = connectionAcquisitions() - acquiredBefore;
+
+        double opsPerSec = (result.accepted.get() + result.rejected.get()) * 1000.0 / DURATION_MILLIS;
+        double acceptedMicros = result.acceptedNanos.get() / 1000.0 / Math.max(1, result.accepted.get());
+        double rejectedMicros = result.rejectedNanos.get() / 1000.0 / Math.max(1, result.rejected.get());
+        double connectionsPerAccepted = (double) acquired / Math.max(1, result.accepted.get());
+
+        System.out.printf("[rejection] threads=%d members=%d reject=%d%% : %.0f ops/s, accepted %.0fus, rejected %.1fus, "
+                        + "connections/accepted=%.2f, errors=%d%n",
+                THREADS, MEMBERS, REJECT_PERCENT, opsPerSec, acceptedMicros, rejectedMicros, connectionsPerAccepted,
+                result.errors.get());
+
+        BenchmarkRecorder recorder = new BenchmarkRecorder(
+                String.format("point-rejection(threads=%d,members=%d,reject=%d%%)", THREADS, MEMBERS, REJECT_PERCENT));
+        recorder.record("ops", opsPerSec, "ops/s");
+        recorder.record("accepted.latency", acceptedMicros, "us");
+        recorder.record("rejected.latency", rejectedMicros, "us");
+        recorder.record("connections.per.accepted", connectionsPerAccepted, "count");
+
+        assertThat(result.errors.get()).isZero();
+    }
+
+    private Result load(long firstMemberId, long durationMillis) {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Result result = new Result();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/point/saving/approval");
+                    while (running.get()) {
+                        long memberId = firstMemberId + random.nextInt(MEMBERS);
+                        boolean reject = random.nextInt(100) < REJECT_PERCENT;
+                        PointSavingApprovalReq req = reject
+                                ? (random.nextBoolean() ? savingReq(memberId, 0, LocalDate.now().plusDays(30))
+                                : savingReq(memberId, 1, LocalDate.now()))
+                                : savingReq(memberId, 1, LocalDate.now().plusDays(30));
+
+                        long startedAt = System.nanoTime();
+                        try {
+                            pointFacade.savingApproval(req);
+                            result.acceptedNanos.addAndGet(System.nanoTime() - startedAt);
+                            result.accepted.incrementAndGet();
+                        } catch (ServiceException e) {
+                            globalExceptionHandler.handleException(e, request);
+                            result.rejectedNanos.addAndGet(System.nanoTime() - startedAt);
+                            if (reject) {
+                                result.rejected.incrementAndGet();
+                            } else {
+                                result.errors.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            result.errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            Thread.sleep(durationMillis);
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdown();
+        }
+        return result;
+    }
+
+    private long seed() {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('rejection-', X), 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS);
+        return firstMemberId;
+    }
+
+    private long connectionAcquisitions() {
+        return meterRegistry.find("hikaricp.connections.acquire").timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private static PointSavingApprovalReq savingReq(long memberId, long amount, LocalDate expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(expireDate);
+        return req;
+    }
+
+    private static class Result {
+        final AtomicLong accepted = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong acceptedNanos = new AtomicLong();
+        final AtomicLong rejectedNanos = new AtomicLong();
+    }
+}
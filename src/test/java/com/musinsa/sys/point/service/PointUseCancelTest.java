@@ -0,0 +1,139 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.dto.PointSavingApprovalReq;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import com.musinsa.sys.point.dto.PointUseCancelReq;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용 취소 시 주문이 차감한 wallet 으로만 복원되는지 확인
+ * <p>
+ * - 사용 상세 없는 주문은 사용승인 로그의 취소 가능 잔여 금액 기준으로 초과 취소 거절
+ */
+@SpringBootTest
+class PointUseCancelTest {
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('use-cancel-test', 0, CURRENT_TIMESTAMP)");
+        memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+    }
+
+    @Test
+    void restoresOnlyWalletsConsumedByTheOrder() {
+        saving(1_000, LocalDate.now().plusDays(10));                // wallet A
+        String firstOrder = use(600);                               // A 600
+        saving(1_000, LocalDate.now().plusYears(1));                // wallet B
+        String secondOrder = use(1_000);                            // A 400, B 600
+
+        List<Long> wallets = walletIds();
+        assertThat(usedAmounts(wallets)).containsExactly(1_000L, 600L);
+
+        // 첫 주문 취소 → 만료일이 늦은 B 가 아니라 A 로 복원
+        useCancel(firstOrder, 600);
+        assertThat(usedAmounts(wallets)).containsExactly(400L, 600L);
+
+        // 두 번째 주문 부분 취소 → 마지막에 차감한 B 부터 복원
+        useCancel(secondOrder, 700);
+        assertThat(usedAmounts(wallets)).containsExactly(300L, 0L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT cancelable_amount FROM point_use_detail WHERE order_no = ? ORDER BY use_id", Long.class, secondOrder))
+                .containsExactly(300L, 0L);
+    }
+
+    @Test
+    void rejectsCancelBeyondTheOrderSlices() {
+        saving(1_000, LocalDate.now().plusDays(10));
+        String orderNo = use(500);
+
+        useCancel(orderNo, 300);
+        assertThatThrownBy(() -> useCancel(orderNo, 300))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP013");
+        assertThat(usedAmounts(walletIds())).containsExactly(200L);
+    }
+
+    @Test
+    void legacyOrderKeepsCancelableAmountOnTheUseLog() {
+        saving(1_000, LocalDate.now().plusDays(10));
+        String orderNo = use(1_000);
+        // wallet 단위 사용 상세 이전 주문 (backfill 이전이라 잔여 금액 NULL)
+        jdbcTemplate.update("DELETE FROM point_use_detail WHERE order_no = ?", orderNo);
+
+        useCancel(orderNo, 400);
+        assertThat(cancelableAmountOfUseLog(orderNo)).isEqualTo(600L);
+
+        // 취소 누적 400 < 잔여 600 이지만 요청 700 은 잔여 금액 초과
+        assertThatThrownBy(() -> useCancel(orderNo, 700))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP013");
+
+        useCancel(orderNo, 600);
+        assertThat(cancelableAmountOfUseLog(orderNo)).isZero();
+        assertThat(usedAmounts(walletIds())).containsExactly(0L);
+    }
+
+    private Long cancelableAmountOfUseLog(String orderNo) {
+        return jdbcTemplate.queryForObject(
+                "SELECT cancelable_amount FROM point_log WHERE order_no = ? AND log_type = 'UA'", Long.class, orderNo);
+    }
+
+    private List<Long> walletIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT wallet_id FROM point_wallet WHERE member_id = ? ORDER BY wallet_id", Long.class, memberId);
+    }
+
+    private List<Long> usedAmounts(List<Long> walletIds) {
+        return walletIds.stream()
+                .map(walletId -> jdbcTemplate.queryForObject(
+                        "SELECT used_amount FROM point_wallet WHERE wallet_id = ?", Long.class, walletId))
+                .toList();
+    }
+
+    private void saving(long amount, LocalDate expireDate) {
+        PointSavingApprovalReq req = new PointSavingApprovalReq();
+        req.setMemberId(memberId);
+        req.setSourceType(WalletSourceType.AUTOMATIC);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        req.setExpireDate(expireDate);
+        pointFacade.savingApproval(req);
+    }
+
+    private String use(long amount) {
+        PointUseApprovalReq req = new PointUseApprovalReq();
+        req.setMemberId(memberId);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        return pointFacade.useApproval(req).getOrderNo();
+    }
+
+    private void useCancel(String orderNo, long amount) {
+        PointUseCancelReq req = new PointUseCancelReq();
+        req.setMemberId(memberId);
+        req.setOrderNo(orderNo);
+        req.setAmount(amount);
+        req.setLogAt(LocalDateTime.now().withNano(0));
+        pointFacade.useCancel(req);
+    }
+}
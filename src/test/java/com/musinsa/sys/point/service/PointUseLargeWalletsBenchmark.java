@@ -0,0 +1,103 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용 가능 wallet 이 많은 회원의 사용 처리 시간 (앞쪽 wallet 몇 개로 충당되는 사용)
+ * <p>
+ * - 회원 1명에게 wallet N 개(각 10P, 만료일 모두 다름)를 지급하고 bench.coveredWallets 개 분량을 반복 사용
+ * ./gradlew benchmark --tests '*PointUseLargeWalletsBenchmark' -Dbench.walletCounts=1000,10000,100000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointUseLargeWalletsBenchmark {
+
+    private static final int[] WALLET_COUNTS = Arrays.stream(System.getProperty("bench.walletCounts", "1000,10000,100000").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private static final int COVERED_WALLETS = Integer.getInteger("bench.coveredWallets", 3);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 20);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 5);
+    private static final long WALLET_AMOUNT = 10L;
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void useLatencyByUsableWalletCount() {
+        BenchmarkRecorder recorder = new BenchmarkRecorder("point-use-large-wallets(covered=" + COVERED_WALLETS + ")");
+
+        // JIT / 커넥션 warm-up
+        use(seed(1000), WARMUP * 4);
+
+        for (int walletCount : WALLET_COUNTS) {
+            long memberId = seed(walletCount);
+            use(memberId, WARMUP);
+            double micros = use(memberId, ITERATIONS);
+
+            System.out.printf("[use-large-wallets] wallets=%-6d %10.0f us/use%n", walletCount, micros);
+            recorder.record("wallets-" + walletCount + ".latency", micros, "us");
+
+            long usedWallets = (long) (WARMUP + ITERATIONS) * COVERED_WALLETS;
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM point_wallet WHERE member_id = ? AND used_amount = issued_amount", Long.class, memberId))
+                    .isEqualTo(usedWallets);
+        }
+    }
+
+    /**
+     * @return 사용 1건 평균 처리 시간 (us)
+     */
+    private double use(long memberId, int iterations) {
+        long nanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            PointUseApprovalReq req = new PointUseApprovalReq();
+            req.setMemberId(memberId);
+            req.setAmount(WALLET_AMOUNT * COVERED_WALLETS);
+            req.setLogAt(LocalDateTime.now().withNano(0));
+
+            long startedAt = System.nanoTime();
+            pointFacade.useApproval(req);
+            nanos += System.nanoTime() - startedAt;
+        }
+        return nanos / 1000.0 / iterations;
+    }
+
+    /**
+     * 회원 1명에게 만료일이 서로 다른 자동지급 wallet walletCount 개 지급
+     */
+    private long seed(int walletCount) {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('use-large-wallets', ?, CURRENT_TIMESTAMP)",
+                WALLET_AMOUNT * walletCount);
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ?, ?, 0, '00', DATEADD('DAY', X, CAST(? AS DATE)), 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, memberId, WALLET_AMOUNT, LocalDate.now(), walletCount);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT ?, DATEADD('DAY', X, CAST(? AS DATE)), ?
+                FROM SYSTEM_RANGE(1, ?)
+                """, memberId, LocalDate.now(), WALLET_AMOUNT, walletCount);
+        return memberId;
+    }
+}
@@ -0,0 +1,115 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.enums.PointLogType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA / SQL 차감 경로의 사용 승인 차감(회원 잔액 + wallet) 처리 시간
+ * <p>
+ * - 경로별로 회원 1명에게 wallet bench.wallets 개(각 10P)를 지급하고 bench.coveredWallets 개 분량 사용을 반복
+ * - 트랜잭션 1회 = debitBalance + deductWallets (주문번호 / 로그 기록 제외)
+ * ./gradlew benchmark --tests '*PointUseStrategyBenchmark' -Dbench.coveredWallets=1,10,100
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false",
+        "point.wallet-compaction.enabled=false"
+})
+class PointUseStrategyBenchmark {
+
+    private static final int[] COVERED_WALLETS = Arrays.stream(System.getProperty("bench.coveredWallets", "1,10,100").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private static final int WALLETS = Integer.getInteger("bench.wallets", 20000);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 100);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 30);
+    private static final long WALLET_AMOUNT = 10L;
+
+    @Autowired
+    private JpaPointUseStrategy jpaPointUseStrategy;
+    @Autowired
+    private SqlPointUseStrategy sqlPointUseStrategy;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void useLatencyByStrategy() {
+        BenchmarkRecorder recorder = new BenchmarkRecorder("point-use-strategy(wallets=" + WALLETS + ")");
+
+        for (int covered : COVERED_WALLETS) {
+            long jpaMember = seed();
+            long sqlMember = seed();
+            use(jpaPointUseStrategy, jpaMember, covered, WARMUP);
+            use(sqlPointUseStrategy, sqlMember, covered, WARMUP);
+            double jpaMicros = use(jpaPointUseStrategy, jpaMember, covered, ITERATIONS);
+            double sqlMicros = use(sqlPointUseStrategy, sqlMember, covered, ITERATIONS);
+
+            System.out.printf("[use-strategy] covered=%-4d jpa %8.0f us/use, sql %8.0f us/use%n", covered, jpaMicros, sqlMicros);
+            recorder.record("covered-" + covered + ".jpa.latency", jpaMicros, "us");
+            recorder.record("covered-" + covered + ".sql.latency", sqlMicros, "us");
+
+            assertThat(balance(sqlMember)).isEqualTo(balance(jpaMember))
+                    .isEqualTo(WALLET_AMOUNT * (WALLETS - (long) (WARMUP + ITERATIONS) * covered));
+        }
+    }
+
+    /**
+     * @return 사용 1건 평균 처리 시간 (us)
+     */
+    private double use(PointUseStrategy strategy, long memberId, int covered, int iterations) {
+        long amount = WALLET_AMOUNT * covered;
+        long nanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            PointLog pointLog = PointLog.from(memberId, amount, PointLogType.USE_APPROVAL.getCode(), LocalDateTime.now().withNano(0));
+            pointLog.setOrderNo("B" + memberId + "-" + i);
+
+            long startedAt = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                strategy.debitBalance(memberId, amount);
+                strategy.deductWallets(pointLog);
+            });
+            nanos += System.nanoTime() - startedAt;
+        }
+        return nanos / 1000.0 / iterations;
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+
+    /**
+     * 회원 1명에게 만료일이 서로 다른 자동지급 wallet WALLETS 개 지급
+     */
+    private long seed() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('use-strategy', ?, CURRENT_TIMESTAMP)",
+                WALLET_AMOUNT * WALLETS);
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ?, ?, 0, '00', DATEADD('DAY', X, CAST(? AS DATE)), 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, memberId, WALLET_AMOUNT, LocalDate.now(), WALLETS);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT ?, DATEADD('DAY', X, CAST(? AS DATE)), ?
+                FROM SYSTEM_RANGE(1, ?)
+                """, memberId, LocalDate.now(), WALLET_AMOUNT, WALLETS);
+        return memberId;
+    }
+}
@@ -0,0 +1,173 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.entity.PointLog;
+import com.musinsa.sys.point.enums.PointLogType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JPA / SQL 차감 경로 교차 검증
+ * <p>
+ * - 같은 wallet 구성의 회원 2명에게 같은 사용 / 사용 취소 순서를 각 경로로 처리하고
+ * 잔액 / wallet 사용 금액 / 사용 상세 / 만료일별 요약이 같은지 비교
+ */
+@SpringBootTest
+class PointUseStrategyTest {
+
+    private static final long[] USES = {15, 1, 120, 40, 7};
+    // {USES 순번, 취소 금액}
+    private static final long[][] CANCELS = {{2, 100}, {0, 10}, {2, 20}};
+
+    @Autowired
+    private JpaPointUseStrategy jpaPointUseStrategy;
+    @Autowired
+    private SqlPointUseStrategy sqlPointUseStrategy;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void jpaAndSqlPathsLeaveTheSameState() {
+        long jpaMember = seed();
+        long sqlMember = seed();
+
+        for (int i = 0; i < USES.length; i++) {
+            use(jpaPointUseStrategy, jpaMember, USES[i], "JPA" + i);
+            use(sqlPointUseStrategy, sqlMember, USES[i], "SQL" + i);
+        }
+
+        // 잔액 / wallet 부족은 두 경로 모두 MP010, 상태 변경 없음
+        assertThatThrownBy(() -> use(jpaPointUseStrategy, jpaMember, 1_000, "JPA-X"))
+                .isInstanceOf(ServiceException.class).extracting("procCd").isEqualTo("MP010");
+        assertThatThrownBy(() -> use(sqlPointUseStrategy, sqlMember, 1_000, "SQL-X"))
+                .isInstanceOf(ServiceException.class).extracting("procCd").isEqualTo("MP010");
+
+        assertThat(state(sqlMember)).isEqualTo(state(jpaMember));
+        assertThat(balance(sqlMember)).isEqualTo(balance(jpaMember)).isEqualTo(250 - 183);
+    }
+
+    @Test
+    void jpaAndSqlPathsCancelToTheSameState() {
+        long jpaMember = seed();
+        long sqlMember = seed();
+        for (int i = 0; i < USES.length; i++) {
+            use(jpaPointUseStrategy, jpaMember, USES[i], "JPA" + i);
+            use(sqlPointUseStrategy, sqlMember, USES[i], "SQL" + i);
+        }
+        // 수기지급 wallet 만료 → 해당 wallet 취소분은 재적립 wallet 생성
+        jdbcTemplate.update("UPDATE point_wallet SET wallet_status = '20' WHERE member_id IN (?, ?) AND source_type = 'MA'",
+                jpaMember, sqlMember);
+
+        for (long[] cancel : CANCELS) {
+            assertThat(cancel(jpaPointUseStrategy, jpaMember, cancel[1], "JPA" + cancel[0])).isTrue();
+            assertThat(cancel(sqlPointUseStrategy, sqlMember, cancel[1], "SQL" + cancel[0])).isTrue();
+        }
+
+        // 취소 가능 잔여 초과는 두 경로 모두 MP013, 상태 변경 없음 / 사용 상세가 없는 주문은 false
+        assertThatThrownBy(() -> cancel(jpaPointUseStrategy, jpaMember, 8, "JPA4"))
+                .isInstanceOf(ServiceException.class).extracting("procCd").isEqualTo("MP013");
+        assertThatThrownBy(() -> cancel(sqlPointUseStrategy, sqlMember, 8, "SQL4"))
+                .isInstanceOf(ServiceException.class).extracting("procCd").isEqualTo("MP013");
+        assertThat(cancel(jpaPointUseStrategy, jpaMember, 1, "JPA-NONE")).isFalse();
+        assertThat(cancel(sqlPointUseStrategy, sqlMember, 1, "SQL-NONE")).isFalse();
+
+        assertThat(state(sqlMember)).isEqualTo(state(jpaMember));
+        assertThat(balance(sqlMember)).isEqualTo(balance(jpaMember)).isEqualTo(250 - 183 + 120 + 10);
+    }
+
+    private void use(PointUseStrategy strategy, long memberId, long amount, String orderNo) {
+        transactionTemplate.executeWithoutResult(status -> {
+            PointLog pointLog = PointLog.from(memberId, amount, PointLogType.USE_APPROVAL.getCode(), LocalDateTime.now().withNano(0));
+            pointLog.setOrderNo(orderNo);
+            strategy.debitBalance(memberId, amount);
+            strategy.deductWallets(pointLog);
+        });
+    }
+
+    private boolean cancel(PointUseStrategy strategy, long memberId, long amount, String orderNo) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            strategy.creditBalance(memberId, amount);
+            boolean restored = strategy.restoreWallets(memberId, orderNo, amount);
+            if (!restored) status.setRollbackOnly();
+            return restored;
+        }));
+    }
+
+    /**
+     * 수기지급 1개 + 만료일이 다른 자동지급 여러 개 + 만료일 지난 / 취소 / 일부 사용 wallet (사용 가능 잔여 합계 250)
+     */
+    private long seed() {
+        jdbcTemplate.update("INSERT INTO member (member_name, point_balance, created_at) VALUES ('use-strategy', 250, CURRENT_TIMESTAMP)");
+        long memberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        LocalDate today = LocalDate.now();
+
+        wallet(memberId, 50, 0, "00", today.plusDays(90), "AU");
+        wallet(memberId, 20, 0, "00", today.plusDays(200), "MA");
+        for (int i = 1; i <= 12; i++) {
+            wallet(memberId, 10, 0, "00", today.plusDays(10 + i % 4), "AU");
+        }
+        wallet(memberId, 100, 40, "00", today.plusDays(30), "AU");
+        wallet(memberId, 60, 0, "10", today.plusDays(5), "AU");
+        wallet(memberId, 70, 0, "00", today.minusDays(1), "AU");
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT member_id, expire_date, SUM(issued_amount - used_amount)
+                FROM point_wallet
+                WHERE member_id = ? AND wallet_status = '00' AND expire_date >= CURRENT_DATE
+                GROUP BY member_id, expire_date
+                """, memberId);
+        return memberId;
+    }
+
+    private void wallet(long memberId, long issued, long used, String status, LocalDate expireDate, String sourceType) {
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+                """, memberId, issued, used, status, expireDate, sourceType);
+    }
+
+    private long balance(long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point_balance FROM member WHERE member_id = ?", Long.class, memberId);
+    }
+
+    /**
+     * wallet 은 생성 순서(wallet_id 순) 번호로 비교 (회원마다 wallet_id 가 다름)
+     */
+    private List<String> state(long memberId) {
+        List<String> state = new ArrayList<>();
+        List<Long> walletIds = jdbcTemplate.queryForList(
+                "SELECT wallet_id FROM point_wallet WHERE member_id = ? ORDER BY wallet_id", Long.class, memberId);
+        state.addAll(jdbcTemplate.query(
+                "SELECT * FROM point_wallet WHERE member_id = ? ORDER BY wallet_id",
+                (rs, rowNum) -> "wallet#" + rowNum + " issued=" + rs.getLong("issued_amount") + " used=" + rs.getLong("used_amount")
+                        + " status=" + rs.getString("wallet_status") + " expire=" + rs.getDate("expire_date")
+                        + " source=" + rs.getString("source_type"), memberId));
+        state.addAll(jdbcTemplate.query("""
+                        SELECT d.order_no, d.wallet_id, d.used_amount, d.cancelable_amount
+                        FROM point_use_detail d JOIN point_wallet w ON w.wallet_id = d.wallet_id
+                        WHERE w.member_id = ?
+                        ORDER BY d.use_id
+                        """,
+                (rs, rowNum) -> "detail order=" + rs.getString("order_no").substring(3)
+                        + " wallet#" + walletIds.indexOf(rs.getLong("wallet_id"))
+                        + " used=" + rs.getLong("used_amount") + " cancelable=" + rs.getLong("cancelable_amount"),
+                memberId));
+        state.addAll(jdbcTemplate.query(
+                "SELECT expire_date, remain_amount FROM point_expiry_bucket WHERE member_id = ? ORDER BY expire_date",
+                (rs, rowNum) -> "bucket " + rs.getDate("expire_date") + " remain=" + rs.getLong("remain_amount"), memberId));
+        return state;
+    }
+}
@@ -0,0 +1,118 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.benchmark.BenchmarkRecorder;
+import com.musinsa.sys.point.dto.PointUseApprovalReq;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용 1건이 차감하는 wallet 수별 Hibernate SQL 실행 수 / 처리 시간
+ * <p>
+ * - 회원마다 wallet N 개(각 10P)를 만들고 N * 10P 를 사용하여 wallet N 개 차감 + 사용 상세 N 건 기록
+ * - SQL 실행 수는 Hibernate statistics 의 PreparedStatement 수 (JDBC batch 는 batch 1회당 1건)
+ * ./gradlew benchmark --tests '*PointUseWalletsBenchmark' -Dbench.walletCounts=1,20,200 -Dbench.iterations=100
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "point.expiration.enabled=false",
+        "point.reconciliation.enabled=false"
+})
+class PointUseWalletsBenchmark {
+
+    private static final int[] WALLET_COUNTS = Arrays.stream(System.getProperty("bench.walletCounts", "1,20,200").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 100);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 50);
+    private static final long WALLET_AMOUNT = 10L;
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statementsAndLatencyByWalletCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        BenchmarkRecorder recorder = new BenchmarkRecorder("point-use-wallets");
+
+        // JIT / 커넥션 warm-up
+        use(seed(WARMUP, 20), WARMUP, 20, statistics);
+
+        for (int walletCount : WALLET_COUNTS) {
+            long firstMemberId = seed(ITERATIONS, walletCount);
+            Result result = use(firstMemberId, ITERATIONS, walletCount, statistics);
+
+            double statements = (double) result.statements / ITERATIONS;
+            double micros = result.nanos / 1000.0 / ITERATIONS;
+            System.out.printf("[use-wallets] wallets=%-4d %6.1f statements/use, %8.0f us/use%n", walletCount, statements, micros);
+            recorder.record("wallets-" + walletCount + ".statements", statements, "count");
+            recorder.record("wallets-" + walletCount + ".latency", micros, "us");
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM point_use_detail d JOIN point_wallet w ON w.wallet_id = d.wallet_id WHERE w.member_id = ?",
+                    Long.class, firstMemberId)).isEqualTo(walletCount);
+        }
+    }
+
+    private Result use(long firstMemberId, int members, int walletCount, Statistics statistics) {
+        Result result = new Result();
+        for (int i = 0; i < members; i++) {
+            PointUseApprovalReq req = new PointUseApprovalReq();
+            req.setMemberId(firstMemberId + i);
+            req.setAmount(WALLET_AMOUNT * walletCount);
+            req.setLogAt(LocalDateTime.now().withNano(0));
+
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            pointFacade.useApproval(req);
+            result.nanos += System.nanoTime() - startedAt;
+            result.statements += statistics.getPrepareStatementCount();
+        }
+        return result;
+    }
+
+    /**
+     * 회원 members 명에게 만료일이 서로 다른 wallet walletCount 개씩 지급
+     */
+    private long seed(int members, int walletCount) {
+        long firstMemberId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) + 1 FROM member", Long.class);
+        long balance = WALLET_AMOUNT * walletCount;
+        jdbcTemplate.update("""
+                INSERT INTO member (member_name, point_balance, created_at)
+                SELECT CONCAT('use-wallets-', X), ?, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)
+                """, balance, members);
+        jdbcTemplate.update("""
+                INSERT INTO point_wallet (member_id, issued_amount, used_amount, wallet_status, expire_date, source_type, created_at)
+                SELECT ? + m.X - 1, ?, 0, '00', DATEADD('DAY', w.X, CAST(? AS DATE)), 'AU', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?) m, SYSTEM_RANGE(1, ?) w
+                """, firstMemberId, WALLET_AMOUNT, LocalDate.now().plusDays(30), members, walletCount);
+        jdbcTemplate.update("""
+                INSERT INTO point_expiry_bucket (member_id, expire_date, remain_amount)
+                SELECT ? + m.X - 1, DATEADD('DAY', w.X, CAST(? AS DATE)), ?
+                FROM SYSTEM_RANGE(1, ?) m, SYSTEM_RANGE(1, ?) w
+                """, firstMemberId, LocalDate.now().plusDays(30), WALLET_AMOUNT, members, walletCount);
+        return firstMemberId;
+    }
+
+    private static class Result {
+        long statements;
+        long nanos;
+    }
+}
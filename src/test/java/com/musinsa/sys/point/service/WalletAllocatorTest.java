@@ -0,0 +1,93 @@
+package com.musinsa.sys.point.service;
+
+import com.musinsa.sys.common.constants.Val;
+import com.musinsa.sys.common.exception.ServiceException;
+import com.musinsa.sys.point.entity.PointWallet;
+import com.musinsa.sys.point.enums.WalletSourceType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WalletAllocatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 10, 12, 0, 0);
+
+    @Test
+    void allocatesInGivenOrderAcrossWallets() {
+        PointWallet first = wallet(1L, 1_000, 800, Val.NORMAL);
+        PointWallet empty = wallet(2L, 500, 500, Val.NORMAL);
+        PointWallet second = wallet(3L, 1_000, 0, Val.NORMAL);
+        PointWallet untouched = wallet(4L, 1_000, 0, Val.NORMAL);
+
+        List<PointWallet> touched = WalletAllocator.allocate(List.of(first, empty, second, untouched), 700);
+
+        assertThat(touched).containsExactly(first, second);
+        assertThat(first.getUsedAmount()).isEqualTo(1_000);
+        assertThat(second.getUsedAmount()).isEqualTo(500);
+        assertThat(untouched.getUsedAmount()).isZero();
+    }
+
+    @Test
+    void failsWithMp010WhenWalletsAreInsufficient() {
+        List<PointWallet> wallets = List.of(wallet(1L, 100, 0, Val.NORMAL));
+
+        assertThatThrownBy(() -> WalletAllocator.allocate(wallets, 101))
+                .isInstanceOf(ServiceException.class)
+                .extracting("procCd").isEqualTo("MP010");
+    }
+
+    @Test
+    void continuesAllocationAcrossPages() {
+        PointWallet first = wallet(1L, 100, 0, Val.NORMAL);
+        PointWallet second = wallet(2L, 100, 0, Val.NORMAL);
+        List<PointWallet> touched = new ArrayList<>();
+
+        long remain = WalletAllocator.allocatePage(List.of(first), 150, touched, (wallet, amount) -> {
+        });
+        assertThat(remain).isEqualTo(50);
+
+        remain = WalletAllocator.allocatePage(List.of(second), remain, touched, (wallet, amount) -> {
+        });
+        assertThat(remain).isZero();
+        assertThat(touched).containsExactly(first, second);
+        assertThat(second.getUsedAmount()).isEqualTo(50);
+    }
+
+    @Test
+    void restoresNormalWalletsAndResavesExpiredOnes() {
+        PointWallet normal = wallet(1L, 1_000, 300, Val.NORMAL);
+        PointWallet expired = wallet(2L, 1_000, 1_000, Val.EXPIRED);
+
+        List<PointWallet> touched = WalletAllocator.restore(List.of(normal, expired), 500, 7L, NOW);
+
+        assertThat(touched).hasSize(2);
+        assertThat(normal.getUsedAmount()).isZero();
+        assertThat(expired.getUsedAmount()).isEqualTo(1_000);
+
+        PointWallet resaved = touched.get(1);
+        assertThat(resaved.getWalletId()).isNull();
+        assertThat(resaved.getMemberId()).isEqualTo(7L);
+        assertThat(resaved.getIssuedAmount()).isEqualTo(200);
+        assertThat(resaved.getSourceType()).isEqualTo(WalletSourceType.RESAVING);
+        assertThat(resaved.getExpireDate()).isEqualTo(LocalDate.of(2027, 1, 10));
+    }
+
+    private PointWallet wallet(Long walletId, long issuedAmount, long usedAmount, String walletStatus) {
+        return PointWallet.builder()
+                .walletId(walletId)
+                .memberId(7L)
+                .issuedAmount(issuedAmount)
+                .usedAmount(usedAmount)
+                .walletStatus(walletStatus)
+                .expireDate(LocalDate.of(2026, 6, 30))
+                .sourceType(WalletSourceType.AUTOMATIC)
+                .createdAt(NOW)
+                .build();
+    }
+}